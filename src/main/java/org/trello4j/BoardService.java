@@ -20,20 +20,46 @@ public interface BoardService {
 
 	Board getBoard(String boardId);
 
+	/**
+	 * Gets a board with only the fields and nested resources of the options,
+	 * e.g. its open cards and lists. Null options read the defaults.
+	 */
+	Board getBoard(String boardId, ReadOptions options);
+
 	List<Action> getActionsByBoard(String boardId, String... filter);
 
+	List<Action> getActionsByBoard(String boardId, ReadOptions options);
+
 	Organization getOrganizationByBoard(String boardId, String... filter);
 
+	Organization getOrganizationByBoard(String boardId, ReadOptions options);
+
 	List<Member> getMembersInvitedByBoard(String boardId, String... filter);
 
+	List<Member> getMembersInvitedByBoard(String boardId, ReadOptions options);
+
 	List<Member> getMembersByBoard(String boardId, String... filter);
 
+	List<Member> getMembersByBoard(String boardId, ReadOptions options);
+
 	List<org.trello4j.model.List> getListByBoard(String boardId,
 			String... filter);
 
+	List<org.trello4j.model.List> getListByBoard(String boardId,
+			ReadOptions options);
+
 	List<Checklist> getChecklistByBoard(String boardId);
 
+	List<Checklist> getChecklistByBoard(String boardId, ReadOptions options);
+
 	List<Card> getCardsByBoard(String boardId, Map<String, String> keyValueMap, String... filter);
+
+	/**
+	 * Gets the cards of a board with only the fields of the options, e.g.
+	 * <code>ReadOptions.fields("id", "name", "idList", "pos")</code>. Null
+	 * options read the defaults.
+	 */
+	List<Card> getCardsByBoard(String boardId, ReadOptions options);
 	
 	List<Label> getLabelsByBoard(String boardId, Integer limit, String... filter);
 
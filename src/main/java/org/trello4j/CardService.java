@@ -21,20 +21,36 @@ public interface CardService {
 
 	Card getCard(String cardId);
 
+	/**
+	 * Gets a card with only the fields and nested resources of the options,
+	 * e.g. its members and checklists. Null options read the defaults.
+	 */
+	Card getCard(String cardId, ReadOptions options);
+
 	List<Action> getActionsByCard(String cardId, List<String> actions);
 
 	List<Attachment> getAttachmentsByCard(String cardId);
 
+	List<Attachment> getAttachmentsByCard(String cardId, ReadOptions options);
+
 	Board getBoardByCard(String cardId, String... filter);
 
+	Board getBoardByCard(String cardId, ReadOptions options);
+
 	List<CheckItem> getCheckItemStatesByCard(String cardId);
 
 	List<Checklist> getChecklistByCard(String cardId);
 
+	List<Checklist> getChecklistByCard(String cardId, ReadOptions options);
+
 	org.trello4j.model.List getListByCard(String cardId, String... filter);
 
+	org.trello4j.model.List getListByCard(String cardId, ReadOptions options);
+
 	List<Member> getMembersByCard(String cardId);
 
+	List<Member> getMembersByCard(String cardId, ReadOptions options);
+
 	/**
 	 * Add a new {@link Card} with the optional keyValue pairs.
 	 * @param idList Id of the {@link org.trello4j.model.List}
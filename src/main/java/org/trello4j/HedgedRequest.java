@@ -0,0 +1,167 @@
+package org.trello4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.trello4j.http.CancellationToken;
+import org.trello4j.http.HedgePolicy;
+import org.trello4j.http.TrelloRequest;
+import org.trello4j.http.TrelloResponse;
+import org.trello4j.http.TrelloTransport;
+import org.trello4j.ratelimit.RateLimiter;
+
+/**
+ * Sends a GET and, when it is not answered within the hedge delay, a second
+ * copy of it. The first response is used and the other request is cancelled,
+ * closing its connection.
+ */
+final class HedgedRequest {
+
+	private HedgedRequest() {
+	}
+
+	/**
+	 * @param limiter
+	 *            the hedge is only sent if this limiter has a permit
+	 *            available right away, may be null
+	 */
+	static TrelloResponse execute(TrelloTransport transport,
+			TrelloRequest request, HedgePolicy policy, RateLimiter limiter)
+			throws IOException {
+		policy.onRequest();
+		long delay = policy.getDelayMillis();
+		if (delay < 0 || delay >= request.getRemainingMillis()) {
+			long start = System.nanoTime();
+			TrelloResponse response = transport.execute(request);
+			policy.recordLatency(System.nanoTime() - start);
+			return response;
+		}
+
+		CompletionService<Attempt> completion = new ExecutorCompletionService<Attempt>(policy.getExecutor());
+		List<Attempt> attempts = new ArrayList<Attempt>(2);
+		boolean hedged = false;
+		try {
+			submit(completion, attempts, new Attempt(transport, request));
+			Future<Attempt> done = completion.poll(delay, TimeUnit.MILLISECONDS);
+			if (done == null && !request.isCancelled() && policy.tryHedge()
+					&& (limiter == null || limiter.tryAcquire())) {
+				hedged = true;
+				submit(completion, attempts, new Attempt(transport, request));
+			}
+			IOException failure = null;
+			for (int pending = attempts.size(); pending > 0; pending--) {
+				Future<Attempt> next = done != null ? done : completion.take();
+				done = null;
+				try {
+					Attempt winner = next.get();
+					for (Attempt attempt : attempts) {
+						if (attempt != winner) {
+							attempt.abandon();
+						}
+					}
+					policy.recordLatency(winner.latencyNanos);
+					return winner.response;
+				} catch (ExecutionException e) {
+					failure = toIOException(e.getCause());
+				}
+			}
+			throw failure;
+		} catch (InterruptedException e) {
+			for (Attempt attempt : attempts) {
+				attempt.abandon();
+			}
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted waiting for response");
+		} finally {
+			if (hedged && limiter != null) {
+				// the caller completes the permit of one request only
+				limiter.complete(null, null);
+			}
+		}
+	}
+
+	private static void submit(CompletionService<Attempt> completion,
+			List<Attempt> attempts, Attempt attempt) {
+		attempts.add(attempt);
+		completion.submit(attempt);
+	}
+
+	private static IOException toIOException(Throwable cause) {
+		if (cause instanceof IOException) {
+			return (IOException) cause;
+		}
+		if (cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		}
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		return new IOException(cause);
+	}
+
+	/**
+	 * One of the requests of a hedged call, cancelled on its own or together
+	 * with the call.
+	 */
+	private static final class Attempt implements Callable<Attempt> {
+
+		private final TrelloTransport transport;
+
+		private final TrelloRequest request;
+
+		private TrelloResponse response = null;
+
+		private long latencyNanos = 0;
+
+		private boolean abandoned = false;
+
+		Attempt(TrelloTransport transport, TrelloRequest request) {
+			this.transport = transport;
+			this.request = request.copy().cancellation(new CancellationToken(request.getCancellation()));
+		}
+
+		@Override
+		public Attempt call() throws IOException {
+			long start = System.nanoTime();
+			TrelloResponse result = transport.execute(request);
+			synchronized (this) {
+				if (!abandoned) {
+					response = result;
+					latencyNanos = System.nanoTime() - start;
+					return this;
+				}
+			}
+			closeQuietly(result);
+			throw new InterruptedIOException("Hedged request abandoned");
+		}
+
+		void abandon() {
+			TrelloResponse result;
+			synchronized (this) {
+				abandoned = true;
+				result = response;
+				response = null;
+			}
+			request.getCancellation().cancel();
+			if (result != null) {
+				closeQuietly(result);
+			}
+		}
+
+		private static void closeQuietly(TrelloResponse response) {
+			try {
+				response.close();
+			} catch (IOException e) {
+				// connection is discarded
+			}
+		}
+	}
+}
@@ -25,6 +25,17 @@ public interface MemberService {
 	 */
 	Member getMember(String usernameOrId, String... filter);
 
+	/**
+	 * Get member of given username, with only the fields and nested resources of the options.
+	 * 
+	 * @param usernameOrId
+	 *            the username or id
+	 * @param options
+	 *            the fields to read, null for the defaults
+	 * @return the member
+	 */
+	Member getMember(String usernameOrId, ReadOptions options);
+
 	/**
 	 * Get list of boards that member is member of.
 	 * 
@@ -34,6 +45,17 @@ public interface MemberService {
 	 */
 	List<Board> getBoardsByMember(String usernameOrId, String... filter);
 
+	/**
+	 * Get list of boards that member is member of, with only the fields and nested resources of the options.
+	 * 
+	 * @param usernameOrId
+	 *            the username or id
+	 * @param options
+	 *            the fields to read, null for the defaults
+	 * @return the boards by member
+	 */
+	List<Board> getBoardsByMember(String usernameOrId, ReadOptions options);
+
 	/**
 	 * Gets the actions by member.
 	 * 
@@ -43,6 +65,17 @@ public interface MemberService {
 	 */
 	List<Action> getActionsByMember(String usernameOrId);
 
+	/**
+	 * Gets the actions by member, with only the fields and nested resources of the options.
+	 * 
+	 * @param usernameOrId
+	 *            the username or id
+	 * @param options
+	 *            the fields to read, null for the defaults
+	 * @return the actions by member
+	 */
+	List<Action> getActionsByMember(String usernameOrId, ReadOptions options);
+
 	/**
 	 * Gets the cards by member.
 	 * 
@@ -52,6 +85,17 @@ public interface MemberService {
 	 */
 	List<Card> getCardsByMember(String usernameOrId, String... filter);
 
+	/**
+	 * Gets the cards by member, with only the fields and nested resources of the options.
+	 * 
+	 * @param usernameOrId
+	 *            the username or id
+	 * @param options
+	 *            the fields to read, null for the defaults
+	 * @return the cards by member
+	 */
+	List<Card> getCardsByMember(String usernameOrId, ReadOptions options);
+
 	/**
 	 * Gets the notifications by member.
 	 * 
@@ -62,6 +106,17 @@ public interface MemberService {
 	List<Notification> getNotificationsByMember(String usernameOrId,
 			String... filter);
 
+	/**
+	 * Gets the notifications by member, with only the fields and nested resources of the options.
+	 * 
+	 * @param usernameOrId
+	 *            the username or id
+	 * @param options
+	 *            the fields to read, null for the defaults
+	 * @return the notifications by member
+	 */
+	List<Notification> getNotificationsByMember(String usernameOrId, ReadOptions options);
+
 	/**
 	 * Gets the organizations by member.
 	 * 
@@ -72,6 +127,17 @@ public interface MemberService {
 	List<Organization> getOrganizationsByMember(String usernameOrId,
 			String... filter);
 
+	/**
+	 * Gets the organizations by member, with only the fields and nested resources of the options.
+	 * 
+	 * @param usernameOrId
+	 *            the username or id
+	 * @param options
+	 *            the fields to read, null for the defaults
+	 * @return the organizations by member
+	 */
+	List<Organization> getOrganizationsByMember(String usernameOrId, ReadOptions options);
+
 	/**
 	 * Gets the organizations invited by member.
 	 * 
@@ -82,4 +148,15 @@ public interface MemberService {
 	List<Organization> getOrganizationsInvitedByMember(String usernameOrId,
 			String... filter);
 
+	/**
+	 * Gets the organizations invited by member, with only the fields and nested resources of the options.
+	 * 
+	 * @param usernameOrId
+	 *            the username or id
+	 * @param options
+	 *            the fields to read, null for the defaults
+	 * @return the organizations invited by member
+	 */
+	List<Organization> getOrganizationsInvitedByMember(String usernameOrId, ReadOptions options);
+
 }
\ No newline at end of file
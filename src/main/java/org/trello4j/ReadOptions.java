@@ -0,0 +1,196 @@
+package org.trello4j;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Selects the fields Trello returns for a read and the nested resources it
+ * embeds, instead of the default field set:
+ *
+ * <pre>
+ * ReadOptions options = ReadOptions.fields(&quot;id&quot;, &quot;name&quot;)
+ * 		.withCards(&quot;open&quot;, &quot;id&quot;, &quot;name&quot;, &quot;idList&quot;, &quot;pos&quot;)
+ * 		.withLists(&quot;open&quot;, &quot;id&quot;, &quot;name&quot;);
+ * Board board = trello.getBoard(boardId, options);
+ * </pre>
+ *
+ * Fields not asked for are left unset in the returned objects. Nested
+ * resources are read into the collections of the returned object, e.g.
+ * {@link org.trello4j.model.Board#getLists()}: a board holds cards, lists,
+ * members, checklists and actions, a card members, checklists and actions,
+ * and a member cards and actions.
+ * <p/>
+ * Instances are immutable, the <code>with</code> methods return modified
+ * copies. Options are encoded once, so the same instance can be passed to
+ * any number of calls.
+ */
+public final class ReadOptions {
+
+	/** Trello's default fields, no nested resources. */
+	public static final ReadOptions DEFAULT = new ReadOptions(null, new LinkedHashMap<String, String>());
+
+	private final String[] filter;
+
+	private final Map<String, String> query;
+
+	private ReadOptions(String[] filter, Map<String, String> query) {
+		this.filter = filter;
+		this.query = Collections.unmodifiableMap(query);
+	}
+
+	/**
+	 * @return options returning only the given fields of the requested
+	 *         objects
+	 */
+	public static ReadOptions fields(String... fields) {
+		return DEFAULT.withFields(fields);
+	}
+
+	/**
+	 * @param filter
+	 *            values of the <code>filter</code> parameter, as taken by the
+	 *            <code>filter</code> arguments of the service methods
+	 */
+	public ReadOptions withFilter(String... filter) {
+		return new ReadOptions(filter == null || filter.length == 0 ? null : filter.clone(), query);
+	}
+
+	/**
+	 * @param fields
+	 *            the fields of the requested objects to return, e.g.
+	 *            <code>id</code>, <code>name</code>; none for the default
+	 */
+	public ReadOptions withFields(String... fields) {
+		return with("fields", join(fields), null, null);
+	}
+
+	/**
+	 * Embeds cards in a board or member.
+	 *
+	 * @param filter
+	 *            which cards, e.g. <code>open</code>, <code>all</code> or
+	 *            <code>none</code>
+	 * @param fields
+	 *            the card fields to return, none for the default
+	 */
+	public ReadOptions withCards(String filter, String... fields) {
+		return with("cards", filter, "card_fields", join(fields));
+	}
+
+	/**
+	 * Embeds lists in a board.
+	 *
+	 * @param filter
+	 *            which lists, e.g. <code>open</code>, <code>all</code> or
+	 *            <code>none</code>
+	 * @param fields
+	 *            the list fields to return, none for the default
+	 */
+	public ReadOptions withLists(String filter, String... fields) {
+		return with("lists", filter, "list_fields", join(fields));
+	}
+
+	/**
+	 * Embeds members in a board or card.
+	 *
+	 * @param filter
+	 *            which members, e.g. <code>all</code>, <code>admins</code> or
+	 *            <code>none</code>
+	 * @param fields
+	 *            the member fields to return, none for the default
+	 */
+	public ReadOptions withMembers(String filter, String... fields) {
+		return with("members", filter, "member_fields", join(fields));
+	}
+
+	/**
+	 * Embeds checklists in a board or card.
+	 *
+	 * @param filter
+	 *            which checklists, <code>all</code> or <code>none</code>
+	 * @param fields
+	 *            the checklist fields to return, none for the default
+	 */
+	public ReadOptions withChecklists(String filter, String... fields) {
+		return with("checklists", filter, "checklist_fields", join(fields));
+	}
+
+	/**
+	 * Embeds actions in a board, card or member.
+	 *
+	 * @param filter
+	 *            the action types, comma separated, or <code>all</code>
+	 * @param fields
+	 *            the action fields to return, none for the default
+	 */
+	public ReadOptions withActions(String filter, String... fields) {
+		return with("actions", filter, "action_fields", join(fields));
+	}
+
+	/**
+	 * @return values of the <code>filter</code> parameter, null if not set
+	 */
+	public String[] getFilter() {
+		return filter == null ? null : filter.clone();
+	}
+
+	/**
+	 * @return the query parameters besides <code>filter</code>, unencoded
+	 */
+	public Map<String, String> getQuery() {
+		return query;
+	}
+
+	/**
+	 * @return the filter of the options, null if they are null
+	 */
+	static String[] filterOf(ReadOptions options) {
+		return options == null ? null : options.filter;
+	}
+
+	/**
+	 * @return the query parameters of the options, null if they are null or
+	 *         have none
+	 */
+	static Map<String, String> queryOf(ReadOptions options) {
+		return options == null || options.query.isEmpty() ? null : options.query;
+	}
+
+	/**
+	 * @return a copy with the resource parameter set, or removed if its value
+	 *         is null, and the fields parameter set or removed likewise
+	 */
+	private ReadOptions with(String name, String value, String fieldsName, String fields) {
+		Map<String, String> query = new LinkedHashMap<String, String>(this.query);
+		put(query, name, value);
+		if (fieldsName != null) {
+			put(query, fieldsName, value == null ? null : fields);
+		}
+		return new ReadOptions(filter, query);
+	}
+
+	private static void put(Map<String, String> query, String name, String value) {
+		if (value == null) {
+			query.remove(name);
+		} else {
+			query.put(name, value);
+		}
+	}
+
+	private static String join(String[] values) {
+		if (values == null || values.length == 0) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < values.length; i++) {
+			sb.append(i > 0 ? "," : "").append(values[i]);
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "ReadOptions [filter=" + (filter == null ? null : join(filter)) + ", query=" + query + "]";
+	}
+}
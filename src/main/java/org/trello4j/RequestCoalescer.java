@@ -0,0 +1,68 @@
+package org.trello4j;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight execution of identical concurrent calls: the first caller
+ * for a key runs the call, callers arriving while it is in flight wait for
+ * it and receive the same result (or exception).
+ * <p/>
+ * Nothing is cached, a call arriving after the previous one completed runs
+ * again.
+ */
+final class RequestCoalescer {
+
+	private final ConcurrentMap<String, FutureTask<?>> inFlight = new ConcurrentHashMap<String, FutureTask<?>>();
+
+	/**
+	 * @param timeoutNanos
+	 *            longest time to wait for a call in flight, 0 for no limit
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T execute(String key, Callable<T> call, long timeoutNanos) {
+		FutureTask<T> task = new FutureTask<T>(call);
+		FutureTask<T> existing = (FutureTask<T>) inFlight.putIfAbsent(key, task);
+		if (existing != null) {
+			return await(existing, timeoutNanos);
+		}
+		try {
+			task.run();
+		} finally {
+			inFlight.remove(key, task);
+		}
+		return await(task, 0);
+	}
+
+	int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	private static <T> T await(FutureTask<T> task, long timeoutNanos) {
+		try {
+			return timeoutNanos > 0 ? task.get(timeoutNanos, TimeUnit.NANOSECONDS) : task.get();
+		} catch (TimeoutException e) {
+			throw new TrelloTimeoutException("Timed out waiting for coalesced request", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new TrelloException(cause.getMessage(), cause);
+		} catch (CancellationException e) {
+			throw new TrelloException("Coalesced request was cancelled", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TrelloException("Interrupted waiting for coalesced request", e);
+		}
+	}
+}
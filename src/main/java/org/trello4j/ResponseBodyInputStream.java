@@ -0,0 +1,49 @@
+package org.trello4j;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.trello4j.http.TrelloRequest;
+
+/**
+ * Response body handed to the JSON decoder. Read failures are rethrown as
+ * unchecked {@link TrelloException}s so that timeouts and cancellation keep
+ * their type through the decoder, which wraps checked exceptions.
+ */
+final class ResponseBodyInputStream extends FilterInputStream {
+
+	private final TrelloRequest request;
+
+	ResponseBodyInputStream(InputStream in, TrelloRequest request) {
+		super(in);
+		this.request = request;
+	}
+
+	@Override
+	public int read() {
+		try {
+			return in.read();
+		} catch (IOException e) {
+			throw TrelloImpl.toTrelloException(request, e);
+		}
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) {
+		try {
+			return in.read(b, off, len);
+		} catch (IOException e) {
+			throw TrelloImpl.toTrelloException(request, e);
+		}
+	}
+
+	@Override
+	public long skip(long n) {
+		try {
+			return in.skip(n);
+		} catch (IOException e) {
+			throw TrelloImpl.toTrelloException(request, e);
+		}
+	}
+}
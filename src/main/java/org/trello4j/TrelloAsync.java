@@ -0,0 +1,235 @@
+package org.trello4j;
+
+import java.util.List;
+import java.util.Map;
+
+import org.trello4j.model.Action;
+import org.trello4j.model.Board;
+import org.trello4j.model.Board.Prefs;
+import org.trello4j.model.Card;
+import org.trello4j.model.Card.Attachment;
+import org.trello4j.model.Checklist;
+import org.trello4j.model.Checklist.CheckItem;
+import org.trello4j.model.Label;
+import org.trello4j.model.Member;
+import org.trello4j.model.Notification;
+import org.trello4j.model.Organization;
+import org.trello4j.model.Token;
+import org.trello4j.model.Type;
+import org.trello4j.model.Webhook;
+
+/**
+ * Non-blocking counterpart of {@link Trello}.
+ * <p/>
+ * Every method mirrors the method of the same name in the service interfaces
+ * and returns immediately with a {@link TrelloFuture} that completes with the
+ * decoded result, or fails with the {@link TrelloException} the blocking call
+ * would have thrown.
+ *
+ * @see TrelloAsyncImpl
+ */
+public interface TrelloAsync {
+
+	// organizations
+
+	TrelloFuture<Organization> getOrganization(String organizationName, String... filter);
+
+	TrelloFuture<List<Board>> getBoardsByOrganization(String organizationName, String... filter);
+
+	TrelloFuture<List<Action>> getActionsByOrganization(String organizationNameOrId);
+
+	TrelloFuture<List<Member>> getMembersByOrganization(String organizationNameOrId, String... filter);
+
+	// notifications
+
+	TrelloFuture<Notification> getNotification(String notificationId, String... filter);
+
+	TrelloFuture<Board> getBoardByNotification(String notificationId, String... filter);
+
+	TrelloFuture<Card> getCardByNotification(String notificationId, String... filter);
+
+	TrelloFuture<org.trello4j.model.List> getListByNotification(String notificationId, String... filter);
+
+	TrelloFuture<Member> getMemberByNotification(String notificationId, String... filter);
+
+	TrelloFuture<Member> getMemberCreatorByNotification(String notificationId, String... filter);
+
+	TrelloFuture<Member> getOrganizationCreatorByNotification(String notificationId, String... filter);
+
+	// boards
+
+	TrelloFuture<Board> getBoard(String boardId);
+
+	TrelloFuture<Board> getBoard(String boardId, ReadOptions options);
+
+	TrelloFuture<List<Action>> getActionsByBoard(String boardId, String... filter);
+
+	TrelloFuture<List<Action>> getActionsByBoard(String boardId, ReadOptions options);
+
+	TrelloFuture<Organization> getOrganizationByBoard(String boardId, String... filter);
+
+	TrelloFuture<Organization> getOrganizationByBoard(String boardId, ReadOptions options);
+
+	TrelloFuture<List<Member>> getMembersInvitedByBoard(String boardId, String... filter);
+
+	TrelloFuture<List<Member>> getMembersInvitedByBoard(String boardId, ReadOptions options);
+
+	TrelloFuture<List<Member>> getMembersByBoard(String boardId, String... filter);
+
+	TrelloFuture<List<Member>> getMembersByBoard(String boardId, ReadOptions options);
+
+	TrelloFuture<List<org.trello4j.model.List>> getListByBoard(String boardId, String... filter);
+
+	TrelloFuture<List<org.trello4j.model.List>> getListByBoard(String boardId, ReadOptions options);
+
+	TrelloFuture<List<Checklist>> getChecklistByBoard(String boardId);
+
+	TrelloFuture<List<Checklist>> getChecklistByBoard(String boardId, ReadOptions options);
+
+	TrelloFuture<List<Card>> getCardsByBoard(String boardId, Map<String, String> keyValueMap, String... filter);
+
+	TrelloFuture<List<Card>> getCardsByBoard(String boardId, ReadOptions options);
+
+	TrelloFuture<List<Label>> getLabelsByBoard(String boardId, Integer limit, String... filter);
+
+	TrelloFuture<Prefs> getPrefsByBoard(String boardId);
+
+	// cards
+
+	TrelloFuture<Card> getCard(String cardId);
+
+	TrelloFuture<Card> getCard(String cardId, ReadOptions options);
+
+	TrelloFuture<List<Action>> getActionsByCard(String cardId, List<String> actions);
+
+	TrelloFuture<List<Attachment>> getAttachmentsByCard(String cardId);
+
+	TrelloFuture<List<Attachment>> getAttachmentsByCard(String cardId, ReadOptions options);
+
+	TrelloFuture<Board> getBoardByCard(String cardId, String... filter);
+
+	TrelloFuture<Board> getBoardByCard(String cardId, ReadOptions options);
+
+	TrelloFuture<List<CheckItem>> getCheckItemStatesByCard(String cardId);
+
+	TrelloFuture<List<Checklist>> getChecklistByCard(String cardId);
+
+	TrelloFuture<List<Checklist>> getChecklistByCard(String cardId, ReadOptions options);
+
+	TrelloFuture<org.trello4j.model.List> getListByCard(String cardId, String... filter);
+
+	TrelloFuture<org.trello4j.model.List> getListByCard(String cardId, ReadOptions options);
+
+	TrelloFuture<List<Member>> getMembersByCard(String cardId);
+
+	TrelloFuture<List<Member>> getMembersByCard(String cardId, ReadOptions options);
+
+	TrelloFuture<Card> createCard(String idList, String name, Map<String, String> keyValueMap);
+
+	TrelloFuture<Void> deleteIdLabelByCard(String cardId, String idLabel);
+
+	TrelloFuture<Void> deleteCard(String cardId);
+
+	TrelloFuture<List<String>> addLabelToCard(String cardId, String idLabel);
+
+	TrelloFuture<Action> addCommentToCard(String cardId, String text);
+
+	TrelloFuture<Checklist> addChecklistToCard(String cardId, String name, String idChecklistSource);
+
+	TrelloFuture<Void> updateCard(String cardId, Map<String, String> keyValueMap);
+
+	// actions
+
+	TrelloFuture<Action> getAction(String actionId, String... filter);
+
+	TrelloFuture<Board> getBoardByAction(String actionId, String... filter);
+
+	TrelloFuture<Card> getCardByAction(String actionId, String... filter);
+
+	TrelloFuture<Member> getMemberByAction(String actionId, String... filter);
+
+	TrelloFuture<Member> getMemberCreatorByAction(String actionId, String... filter);
+
+	TrelloFuture<Organization> getOrganizationByAction(String actionId, String... filter);
+
+	TrelloFuture<org.trello4j.model.List> getListByAction(String actionId, String... filter);
+
+	// labels
+
+	TrelloFuture<Label> createLabel(String idBoard, String name, String color);
+
+	// lists
+
+	TrelloFuture<org.trello4j.model.List> getList(String listId);
+
+	TrelloFuture<List<Action>> getActionsByList(String listId);
+
+	TrelloFuture<Board> getBoardByList(String listId, String... filter);
+
+	TrelloFuture<List<Card>> getCardsByList(String listId, String... filter);
+
+	TrelloFuture<org.trello4j.model.List> createList(String idBoard, String name, Map<String, String> keyValueMap);
+
+	// members
+
+	TrelloFuture<Member> getMember(String usernameOrId, String... filter);
+
+	TrelloFuture<Member> getMember(String usernameOrId, ReadOptions options);
+
+	TrelloFuture<List<Board>> getBoardsByMember(String usernameOrId, String... filter);
+
+	TrelloFuture<List<Board>> getBoardsByMember(String usernameOrId, ReadOptions options);
+
+	TrelloFuture<List<Action>> getActionsByMember(String usernameOrId);
+
+	TrelloFuture<List<Action>> getActionsByMember(String usernameOrId, ReadOptions options);
+
+	TrelloFuture<List<Card>> getCardsByMember(String usernameOrId, String... filter);
+
+	TrelloFuture<List<Card>> getCardsByMember(String usernameOrId, ReadOptions options);
+
+	TrelloFuture<List<Notification>> getNotificationsByMember(String usernameOrId, String... filter);
+
+	TrelloFuture<List<Notification>> getNotificationsByMember(String usernameOrId, ReadOptions options);
+
+	TrelloFuture<List<Organization>> getOrganizationsByMember(String usernameOrId, String... filter);
+
+	TrelloFuture<List<Organization>> getOrganizationsByMember(String usernameOrId, ReadOptions options);
+
+	TrelloFuture<List<Organization>> getOrganizationsInvitedByMember(String usernameOrId, String... filter);
+
+	TrelloFuture<List<Organization>> getOrganizationsInvitedByMember(String usernameOrId, ReadOptions options);
+
+	// checklists
+
+	TrelloFuture<Checklist> getChecklist(String checklistId, String... filter);
+
+	TrelloFuture<Board> getBoardByChecklist(String checklistId, String... filter);
+
+	TrelloFuture<List<Card>> getCardByChecklist(String checklistId, String... filter);
+
+	TrelloFuture<List<CheckItem>> getCheckItemsByChecklist(String checklistId);
+
+	TrelloFuture<CheckItem> addCheckItemToChecklist(String checklistId, String name, Map<String, String> keyValueMap);
+
+	// tokens
+
+	TrelloFuture<Token> getToken(String tokenId, String... filter);
+
+	TrelloFuture<Member> getMemberByToken(String tokenId, String... filter);
+
+	// webhooks
+
+	TrelloFuture<List<Webhook>> getWebhooks();
+
+	TrelloFuture<Webhook> createWebhook(String description, String callbackUrl, String idModel);
+
+	TrelloFuture<Void> deleteWebhook(String idWebhook);
+
+	TrelloFuture<Webhook> getWebhook(String idWebhook);
+
+	// types
+
+	TrelloFuture<Type> getType(String idOrName);
+
+}
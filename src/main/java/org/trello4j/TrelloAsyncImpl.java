@@ -0,0 +1,990 @@
+package org.trello4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import org.trello4j.http.CancellationToken;
+import org.trello4j.model.Action;
+import org.trello4j.model.Board;
+import org.trello4j.model.Board.Prefs;
+import org.trello4j.model.Card;
+import org.trello4j.model.Card.Attachment;
+import org.trello4j.model.Checklist;
+import org.trello4j.model.Checklist.CheckItem;
+import org.trello4j.model.Label;
+import org.trello4j.model.Member;
+import org.trello4j.model.Notification;
+import org.trello4j.model.Organization;
+import org.trello4j.model.Token;
+import org.trello4j.model.Type;
+import org.trello4j.model.Webhook;
+
+/**
+ * {@link TrelloAsync} implementation that runs the calls of a blocking
+ * {@link Trello} client on an {@link Executor}.
+ * <p/>
+ * Requests, rate limiting and decoding are done by the wrapped client, so the
+ * results are identical to the blocking API. The executor bounds how many
+ * calls are in flight at once; it is owned by the caller and is not shut down
+ * by this class.
+ */
+public class TrelloAsyncImpl implements TrelloAsync {
+
+	private final Trello trello;
+
+	private final Executor executor;
+
+	public TrelloAsyncImpl(String apiKey, String token, Executor executor) {
+		this(new TrelloImpl(apiKey, token), executor);
+	}
+
+	/**
+	 * @param trello
+	 *            the client that performs the calls
+	 * @param executor
+	 *            the executor the calls run on
+	 */
+	public TrelloAsyncImpl(Trello trello, Executor executor) {
+		if (trello == null || executor == null) {
+			throw new NullPointerException("Trello client and executor must be set");
+		}
+		this.trello = trello;
+		this.executor = executor;
+	}
+
+	/**
+	 * @return the blocking client the calls are delegated to
+	 */
+	public Trello getTrello() {
+		return trello;
+	}
+
+	@Override
+	public TrelloFuture<Organization> getOrganization(final String organizationName, final String... filter) {
+		return submit(new Call<Organization>() {
+			@Override
+			public Organization call(Trello client) {
+				return client.getOrganization(organizationName, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Board>> getBoardsByOrganization(final String organizationName, final String... filter) {
+		return submit(new Call<List<Board>>() {
+			@Override
+			public List<Board> call(Trello client) {
+				return client.getBoardsByOrganization(organizationName, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Action>> getActionsByOrganization(final String organizationNameOrId) {
+		return submit(new Call<List<Action>>() {
+			@Override
+			public List<Action> call(Trello client) {
+				return client.getActionsByOrganization(organizationNameOrId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Member>> getMembersByOrganization(final String organizationNameOrId, final String... filter) {
+		return submit(new Call<List<Member>>() {
+			@Override
+			public List<Member> call(Trello client) {
+				return client.getMembersByOrganization(organizationNameOrId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Notification> getNotification(final String notificationId, final String... filter) {
+		return submit(new Call<Notification>() {
+			@Override
+			public Notification call(Trello client) {
+				return client.getNotification(notificationId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Board> getBoardByNotification(final String notificationId, final String... filter) {
+		return submit(new Call<Board>() {
+			@Override
+			public Board call(Trello client) {
+				return client.getBoardByNotification(notificationId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Card> getCardByNotification(final String notificationId, final String... filter) {
+		return submit(new Call<Card>() {
+			@Override
+			public Card call(Trello client) {
+				return client.getCardByNotification(notificationId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<org.trello4j.model.List> getListByNotification(final String notificationId, final String... filter) {
+		return submit(new Call<org.trello4j.model.List>() {
+			@Override
+			public org.trello4j.model.List call(Trello client) {
+				return client.getListByNotification(notificationId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Member> getMemberByNotification(final String notificationId, final String... filter) {
+		return submit(new Call<Member>() {
+			@Override
+			public Member call(Trello client) {
+				return client.getMemberByNotification(notificationId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Member> getMemberCreatorByNotification(final String notificationId, final String... filter) {
+		return submit(new Call<Member>() {
+			@Override
+			public Member call(Trello client) {
+				return client.getMemberCreatorByNotification(notificationId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Member> getOrganizationCreatorByNotification(final String notificationId, final String... filter) {
+		return submit(new Call<Member>() {
+			@Override
+			public Member call(Trello client) {
+				return client.getOrganizationCreatorByNotification(notificationId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Board> getBoard(final String boardId) {
+		return submit(new Call<Board>() {
+			@Override
+			public Board call(Trello client) {
+				return client.getBoard(boardId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Board> getBoard(final String boardId, final ReadOptions options) {
+		return submit(new Call<Board>() {
+			@Override
+			public Board call(Trello client) {
+				return client.getBoard(boardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Action>> getActionsByBoard(final String boardId, final String... filter) {
+		return submit(new Call<List<Action>>() {
+			@Override
+			public List<Action> call(Trello client) {
+				return client.getActionsByBoard(boardId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Action>> getActionsByBoard(final String boardId, final ReadOptions options) {
+		return submit(new Call<List<Action>>() {
+			@Override
+			public List<Action> call(Trello client) {
+				return client.getActionsByBoard(boardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Organization> getOrganizationByBoard(final String boardId, final String... filter) {
+		return submit(new Call<Organization>() {
+			@Override
+			public Organization call(Trello client) {
+				return client.getOrganizationByBoard(boardId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Organization> getOrganizationByBoard(final String boardId, final ReadOptions options) {
+		return submit(new Call<Organization>() {
+			@Override
+			public Organization call(Trello client) {
+				return client.getOrganizationByBoard(boardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Member>> getMembersInvitedByBoard(final String boardId, final String... filter) {
+		return submit(new Call<List<Member>>() {
+			@Override
+			public List<Member> call(Trello client) {
+				return client.getMembersInvitedByBoard(boardId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Member>> getMembersInvitedByBoard(final String boardId, final ReadOptions options) {
+		return submit(new Call<List<Member>>() {
+			@Override
+			public List<Member> call(Trello client) {
+				return client.getMembersInvitedByBoard(boardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Member>> getMembersByBoard(final String boardId, final String... filter) {
+		return submit(new Call<List<Member>>() {
+			@Override
+			public List<Member> call(Trello client) {
+				return client.getMembersByBoard(boardId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Member>> getMembersByBoard(final String boardId, final ReadOptions options) {
+		return submit(new Call<List<Member>>() {
+			@Override
+			public List<Member> call(Trello client) {
+				return client.getMembersByBoard(boardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<org.trello4j.model.List>> getListByBoard(final String boardId, final String... filter) {
+		return submit(new Call<List<org.trello4j.model.List>>() {
+			@Override
+			public List<org.trello4j.model.List> call(Trello client) {
+				return client.getListByBoard(boardId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<org.trello4j.model.List>> getListByBoard(final String boardId, final ReadOptions options) {
+		return submit(new Call<List<org.trello4j.model.List>>() {
+			@Override
+			public List<org.trello4j.model.List> call(Trello client) {
+				return client.getListByBoard(boardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Checklist>> getChecklistByBoard(final String boardId) {
+		return submit(new Call<List<Checklist>>() {
+			@Override
+			public List<Checklist> call(Trello client) {
+				return client.getChecklistByBoard(boardId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Checklist>> getChecklistByBoard(final String boardId, final ReadOptions options) {
+		return submit(new Call<List<Checklist>>() {
+			@Override
+			public List<Checklist> call(Trello client) {
+				return client.getChecklistByBoard(boardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Card>> getCardsByBoard(final String boardId, final Map<String, String> keyValueMap, final String... filter) {
+		return submit(new Call<List<Card>>() {
+			@Override
+			public List<Card> call(Trello client) {
+				return client.getCardsByBoard(boardId, keyValueMap, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Card>> getCardsByBoard(final String boardId, final ReadOptions options) {
+		return submit(new Call<List<Card>>() {
+			@Override
+			public List<Card> call(Trello client) {
+				return client.getCardsByBoard(boardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Label>> getLabelsByBoard(final String boardId, final Integer limit, final String... filter) {
+		return submit(new Call<List<Label>>() {
+			@Override
+			public List<Label> call(Trello client) {
+				return client.getLabelsByBoard(boardId, limit, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Prefs> getPrefsByBoard(final String boardId) {
+		return submit(new Call<Prefs>() {
+			@Override
+			public Prefs call(Trello client) {
+				return client.getPrefsByBoard(boardId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Card> getCard(final String cardId) {
+		return submit(new Call<Card>() {
+			@Override
+			public Card call(Trello client) {
+				return client.getCard(cardId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Card> getCard(final String cardId, final ReadOptions options) {
+		return submit(new Call<Card>() {
+			@Override
+			public Card call(Trello client) {
+				return client.getCard(cardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Action>> getActionsByCard(final String cardId, final List<String> actions) {
+		return submit(new Call<List<Action>>() {
+			@Override
+			public List<Action> call(Trello client) {
+				return client.getActionsByCard(cardId, actions);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Attachment>> getAttachmentsByCard(final String cardId) {
+		return submit(new Call<List<Attachment>>() {
+			@Override
+			public List<Attachment> call(Trello client) {
+				return client.getAttachmentsByCard(cardId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Attachment>> getAttachmentsByCard(final String cardId, final ReadOptions options) {
+		return submit(new Call<List<Attachment>>() {
+			@Override
+			public List<Attachment> call(Trello client) {
+				return client.getAttachmentsByCard(cardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Board> getBoardByCard(final String cardId, final String... filter) {
+		return submit(new Call<Board>() {
+			@Override
+			public Board call(Trello client) {
+				return client.getBoardByCard(cardId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Board> getBoardByCard(final String cardId, final ReadOptions options) {
+		return submit(new Call<Board>() {
+			@Override
+			public Board call(Trello client) {
+				return client.getBoardByCard(cardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<CheckItem>> getCheckItemStatesByCard(final String cardId) {
+		return submit(new Call<List<CheckItem>>() {
+			@Override
+			public List<CheckItem> call(Trello client) {
+				return client.getCheckItemStatesByCard(cardId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Checklist>> getChecklistByCard(final String cardId) {
+		return submit(new Call<List<Checklist>>() {
+			@Override
+			public List<Checklist> call(Trello client) {
+				return client.getChecklistByCard(cardId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Checklist>> getChecklistByCard(final String cardId, final ReadOptions options) {
+		return submit(new Call<List<Checklist>>() {
+			@Override
+			public List<Checklist> call(Trello client) {
+				return client.getChecklistByCard(cardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<org.trello4j.model.List> getListByCard(final String cardId, final String... filter) {
+		return submit(new Call<org.trello4j.model.List>() {
+			@Override
+			public org.trello4j.model.List call(Trello client) {
+				return client.getListByCard(cardId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<org.trello4j.model.List> getListByCard(final String cardId, final ReadOptions options) {
+		return submit(new Call<org.trello4j.model.List>() {
+			@Override
+			public org.trello4j.model.List call(Trello client) {
+				return client.getListByCard(cardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Member>> getMembersByCard(final String cardId) {
+		return submit(new Call<List<Member>>() {
+			@Override
+			public List<Member> call(Trello client) {
+				return client.getMembersByCard(cardId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Member>> getMembersByCard(final String cardId, final ReadOptions options) {
+		return submit(new Call<List<Member>>() {
+			@Override
+			public List<Member> call(Trello client) {
+				return client.getMembersByCard(cardId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Card> createCard(final String idList, final String name, final Map<String, String> keyValueMap) {
+		return submit(new Call<Card>() {
+			@Override
+			public Card call(Trello client) {
+				return client.createCard(idList, name, keyValueMap);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Void> deleteIdLabelByCard(final String cardId, final String idLabel) {
+		return submit(new Call<Void>() {
+			@Override
+			public Void call(Trello client) {
+				client.deleteIdLabelByCard(cardId, idLabel);
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Void> deleteCard(final String cardId) {
+		return submit(new Call<Void>() {
+			@Override
+			public Void call(Trello client) {
+				client.deleteCard(cardId);
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<String>> addLabelToCard(final String cardId, final String idLabel) {
+		return submit(new Call<List<String>>() {
+			@Override
+			public List<String> call(Trello client) {
+				return client.addLabelToCard(cardId, idLabel);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Action> addCommentToCard(final String cardId, final String text) {
+		return submit(new Call<Action>() {
+			@Override
+			public Action call(Trello client) {
+				return client.addCommentToCard(cardId, text);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Checklist> addChecklistToCard(final String cardId, final String name, final String idChecklistSource) {
+		return submit(new Call<Checklist>() {
+			@Override
+			public Checklist call(Trello client) {
+				return client.addChecklistToCard(cardId, name, idChecklistSource);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Void> updateCard(final String cardId, final Map<String, String> keyValueMap) {
+		return submit(new Call<Void>() {
+			@Override
+			public Void call(Trello client) {
+				client.updateCard(cardId, keyValueMap);
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Action> getAction(final String actionId, final String... filter) {
+		return submit(new Call<Action>() {
+			@Override
+			public Action call(Trello client) {
+				return client.getAction(actionId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Board> getBoardByAction(final String actionId, final String... filter) {
+		return submit(new Call<Board>() {
+			@Override
+			public Board call(Trello client) {
+				return client.getBoardByAction(actionId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Card> getCardByAction(final String actionId, final String... filter) {
+		return submit(new Call<Card>() {
+			@Override
+			public Card call(Trello client) {
+				return client.getCardByAction(actionId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Member> getMemberByAction(final String actionId, final String... filter) {
+		return submit(new Call<Member>() {
+			@Override
+			public Member call(Trello client) {
+				return client.getMemberByAction(actionId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Member> getMemberCreatorByAction(final String actionId, final String... filter) {
+		return submit(new Call<Member>() {
+			@Override
+			public Member call(Trello client) {
+				return client.getMemberCreatorByAction(actionId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Organization> getOrganizationByAction(final String actionId, final String... filter) {
+		return submit(new Call<Organization>() {
+			@Override
+			public Organization call(Trello client) {
+				return client.getOrganizationByAction(actionId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<org.trello4j.model.List> getListByAction(final String actionId, final String... filter) {
+		return submit(new Call<org.trello4j.model.List>() {
+			@Override
+			public org.trello4j.model.List call(Trello client) {
+				return client.getListByAction(actionId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Label> createLabel(final String idBoard, final String name, final String color) {
+		return submit(new Call<Label>() {
+			@Override
+			public Label call(Trello client) {
+				return client.createLabel(idBoard, name, color);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<org.trello4j.model.List> getList(final String listId) {
+		return submit(new Call<org.trello4j.model.List>() {
+			@Override
+			public org.trello4j.model.List call(Trello client) {
+				return client.getList(listId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Action>> getActionsByList(final String listId) {
+		return submit(new Call<List<Action>>() {
+			@Override
+			public List<Action> call(Trello client) {
+				return client.getActionsByList(listId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Board> getBoardByList(final String listId, final String... filter) {
+		return submit(new Call<Board>() {
+			@Override
+			public Board call(Trello client) {
+				return client.getBoardByList(listId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Card>> getCardsByList(final String listId, final String... filter) {
+		return submit(new Call<List<Card>>() {
+			@Override
+			public List<Card> call(Trello client) {
+				return client.getCardsByList(listId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<org.trello4j.model.List> createList(final String idBoard, final String name, final Map<String, String> keyValueMap) {
+		return submit(new Call<org.trello4j.model.List>() {
+			@Override
+			public org.trello4j.model.List call(Trello client) {
+				return client.createList(idBoard, name, keyValueMap);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Member> getMember(final String usernameOrId, final String... filter) {
+		return submit(new Call<Member>() {
+			@Override
+			public Member call(Trello client) {
+				return client.getMember(usernameOrId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Member> getMember(final String usernameOrId, final ReadOptions options) {
+		return submit(new Call<Member>() {
+			@Override
+			public Member call(Trello client) {
+				return client.getMember(usernameOrId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Board>> getBoardsByMember(final String usernameOrId, final String... filter) {
+		return submit(new Call<List<Board>>() {
+			@Override
+			public List<Board> call(Trello client) {
+				return client.getBoardsByMember(usernameOrId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Board>> getBoardsByMember(final String usernameOrId, final ReadOptions options) {
+		return submit(new Call<List<Board>>() {
+			@Override
+			public List<Board> call(Trello client) {
+				return client.getBoardsByMember(usernameOrId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Action>> getActionsByMember(final String usernameOrId) {
+		return submit(new Call<List<Action>>() {
+			@Override
+			public List<Action> call(Trello client) {
+				return client.getActionsByMember(usernameOrId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Action>> getActionsByMember(final String usernameOrId, final ReadOptions options) {
+		return submit(new Call<List<Action>>() {
+			@Override
+			public List<Action> call(Trello client) {
+				return client.getActionsByMember(usernameOrId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Card>> getCardsByMember(final String usernameOrId, final String... filter) {
+		return submit(new Call<List<Card>>() {
+			@Override
+			public List<Card> call(Trello client) {
+				return client.getCardsByMember(usernameOrId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Card>> getCardsByMember(final String usernameOrId, final ReadOptions options) {
+		return submit(new Call<List<Card>>() {
+			@Override
+			public List<Card> call(Trello client) {
+				return client.getCardsByMember(usernameOrId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Notification>> getNotificationsByMember(final String usernameOrId, final String... filter) {
+		return submit(new Call<List<Notification>>() {
+			@Override
+			public List<Notification> call(Trello client) {
+				return client.getNotificationsByMember(usernameOrId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Notification>> getNotificationsByMember(final String usernameOrId, final ReadOptions options) {
+		return submit(new Call<List<Notification>>() {
+			@Override
+			public List<Notification> call(Trello client) {
+				return client.getNotificationsByMember(usernameOrId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Organization>> getOrganizationsByMember(final String usernameOrId, final String... filter) {
+		return submit(new Call<List<Organization>>() {
+			@Override
+			public List<Organization> call(Trello client) {
+				return client.getOrganizationsByMember(usernameOrId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Organization>> getOrganizationsByMember(final String usernameOrId, final ReadOptions options) {
+		return submit(new Call<List<Organization>>() {
+			@Override
+			public List<Organization> call(Trello client) {
+				return client.getOrganizationsByMember(usernameOrId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Organization>> getOrganizationsInvitedByMember(final String usernameOrId, final String... filter) {
+		return submit(new Call<List<Organization>>() {
+			@Override
+			public List<Organization> call(Trello client) {
+				return client.getOrganizationsInvitedByMember(usernameOrId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Organization>> getOrganizationsInvitedByMember(final String usernameOrId, final ReadOptions options) {
+		return submit(new Call<List<Organization>>() {
+			@Override
+			public List<Organization> call(Trello client) {
+				return client.getOrganizationsInvitedByMember(usernameOrId, options);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Checklist> getChecklist(final String checklistId, final String... filter) {
+		return submit(new Call<Checklist>() {
+			@Override
+			public Checklist call(Trello client) {
+				return client.getChecklist(checklistId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Board> getBoardByChecklist(final String checklistId, final String... filter) {
+		return submit(new Call<Board>() {
+			@Override
+			public Board call(Trello client) {
+				return client.getBoardByChecklist(checklistId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Card>> getCardByChecklist(final String checklistId, final String... filter) {
+		return submit(new Call<List<Card>>() {
+			@Override
+			public List<Card> call(Trello client) {
+				return client.getCardByChecklist(checklistId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<CheckItem>> getCheckItemsByChecklist(final String checklistId) {
+		return submit(new Call<List<CheckItem>>() {
+			@Override
+			public List<CheckItem> call(Trello client) {
+				return client.getCheckItemsByChecklist(checklistId);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<CheckItem> addCheckItemToChecklist(final String checklistId, final String name, final Map<String, String> keyValueMap) {
+		return submit(new Call<CheckItem>() {
+			@Override
+			public CheckItem call(Trello client) {
+				return client.addCheckItemToChecklist(checklistId, name, keyValueMap);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Token> getToken(final String tokenId, final String... filter) {
+		return submit(new Call<Token>() {
+			@Override
+			public Token call(Trello client) {
+				return client.getToken(tokenId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Member> getMemberByToken(final String tokenId, final String... filter) {
+		return submit(new Call<Member>() {
+			@Override
+			public Member call(Trello client) {
+				return client.getMemberByToken(tokenId, filter);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<List<Webhook>> getWebhooks() {
+		return submit(new Call<List<Webhook>>() {
+			@Override
+			public List<Webhook> call(Trello client) {
+				return client.getWebhooks();
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Webhook> createWebhook(final String description, final String callbackUrl, final String idModel) {
+		return submit(new Call<Webhook>() {
+			@Override
+			public Webhook call(Trello client) {
+				return client.createWebhook(description, callbackUrl, idModel);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Void> deleteWebhook(final String idWebhook) {
+		return submit(new Call<Void>() {
+			@Override
+			public Void call(Trello client) {
+				client.deleteWebhook(idWebhook);
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Webhook> getWebhook(final String idWebhook) {
+		return submit(new Call<Webhook>() {
+			@Override
+			public Webhook call(Trello client) {
+				return client.getWebhook(idWebhook);
+			}
+		});
+	}
+
+	@Override
+	public TrelloFuture<Type> getType(final String idOrName) {
+		return submit(new Call<Type>() {
+			@Override
+			public Type call(Trello client) {
+				return client.getType(idOrName);
+			}
+		});
+	}
+
+	/**
+	 * Runs the call against a client view bound to the cancellation token of
+	 * the returned future, so that cancelling the future closes the
+	 * connection of the request in flight. The token is a child of the token
+	 * of the wrapped client, which still cancels the call as well.
+	 */
+	private <T> TrelloFuture<T> submit(final Call<T> call) {
+		CancellationToken cancellation;
+		final Trello client;
+		if (trello instanceof TrelloImpl) {
+			TrelloImpl impl = (TrelloImpl) trello;
+			cancellation = new CancellationToken(impl.getCancellation());
+			client = impl.withCancellation(cancellation);
+		} else {
+			cancellation = new CancellationToken();
+			client = trello;
+		}
+		TrelloFuture<T> future = new TrelloFuture<T>(new Callable<T>() {
+			@Override
+			public T call() {
+				return call.call(client);
+			}
+		}, cancellation);
+		executor.execute(future);
+		return future;
+	}
+
+	private abstract static class Call<T> {
+
+		abstract T call(Trello client);
+	}
+
+}
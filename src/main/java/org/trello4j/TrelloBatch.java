@@ -0,0 +1,241 @@
+package org.trello4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.trello4j.http.TrelloRequest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Collects GET requests and sends them through Trello's batch endpoint, up to
+ * {@link #MAX_URLS} per round trip.
+ * <p/>
+ * Every added request gets its own {@link Result}, which is filled in by
+ * {@link #execute()} with either the decoded object or the error status
+ * Trello returned for that request alone:
+ *
+ * <pre>
+ * TrelloBatch batch = trello.batch();
+ * List&lt;TrelloBatch.Result&lt;Card&gt;&gt; cards = new ArrayList&lt;TrelloBatch.Result&lt;Card&gt;&gt;();
+ * for (String id : cardIds) {
+ * 	cards.add(batch.add(TrelloEndpoints.GET_CARD, null, id));
+ * }
+ * batch.execute();
+ * </pre>
+ *
+ * A batch is not thread-safe.
+ */
+public class TrelloBatch {
+
+	/** Maximum number of URLs Trello accepts in one batch call. */
+	public static final int MAX_URLS = 10;
+
+	private final TrelloImpl trello;
+
+	private final List<Result<?>> pending = new ArrayList<Result<?>>();
+
+	TrelloBatch(TrelloImpl trello) {
+		this.trello = trello;
+	}
+
+	/**
+	 * Adds a GET request to the batch.
+	 *
+	 * @param url
+	 *            the request URL, its API key and token are not used
+	 * @param typeToken
+	 *            the type to decode the response to
+	 * @return the result, available once the batch is executed
+	 */
+	public <T> Result<T> add(TrelloURL url, TypeToken<T> typeToken) {
+		Result<T> result = new Result<T>(url.buildRoute(), typeToken);
+		pending.add(result);
+		return result;
+	}
+
+	/**
+	 * Adds a call of a GET endpoint to the batch.
+	 *
+	 * @param endpoint
+	 *            the endpoint, e.g. {@link TrelloEndpoints#GET_CARD}
+	 * @param filter
+	 *            values of the <code>filter</code> parameter, may be null
+	 * @param pathParams
+	 *            values of the path parameters
+	 * @return the result, available once the batch is executed
+	 */
+	public <T> Result<T> add(TrelloEndpoint<T> endpoint, String[] filter, String... pathParams) {
+		if (!TrelloRequest.METHOD_GET.equals(endpoint.getMethod())) {
+			throw new IllegalArgumentException("Only GET requests can be batched: " + endpoint);
+		}
+		Result<T> result = new Result<T>(endpoint.route(filter, pathParams), endpoint.getResponseType());
+		pending.add(result);
+		return result;
+	}
+
+	public int size() {
+		return pending.size();
+	}
+
+	/**
+	 * Sends all requests added since the last execution, in calls of at most
+	 * {@link #MAX_URLS} requests.
+	 *
+	 * @return the results in the order the requests were added
+	 * @throws TrelloException
+	 *             if a batch call as a whole fails; results of calls sent
+	 *             before remain set
+	 */
+	public List<Result<?>> execute() {
+		List<Result<?>> results = new ArrayList<Result<?>>(pending);
+		pending.clear();
+		for (int start = 0; start < results.size(); start += MAX_URLS) {
+			List<Result<?>> chunk = results.subList(start, Math.min(start + MAX_URLS, results.size()));
+			List<String> routes = new ArrayList<String>(chunk.size());
+			for (Result<?> result : chunk) {
+				routes.add(result.route);
+			}
+			JsonArray responses = trello.getBatch(routes);
+			if (responses == null || responses.size() != chunk.size()) {
+				throw new TrelloException("Unexpected batch response for " + routes);
+			}
+			for (int i = 0; i < chunk.size(); i++) {
+				chunk.get(i).complete(responses.get(i), trello.getObjectFactory());
+			}
+		}
+		return Collections.unmodifiableList(results);
+	}
+
+	/**
+	 * Outcome of a single request of a batch.
+	 */
+	public static final class Result<T> {
+
+		private final String route;
+
+		private final TypeToken<T> typeToken;
+
+		private boolean done = false;
+
+		private int statusCode = 0;
+
+		private T value = null;
+
+		private String errorMessage = null;
+
+		private Result(String route, TypeToken<T> typeToken) {
+			this.route = route;
+			this.typeToken = typeToken;
+		}
+
+		public String getRoute() {
+			return route;
+		}
+
+		public boolean isDone() {
+			return done;
+		}
+
+		/**
+		 * @return the HTTP status of this request, 0 until the batch is
+		 *         executed
+		 */
+		public int getStatusCode() {
+			return statusCode;
+		}
+
+		public boolean isSuccess() {
+			return done && errorMessage == null;
+		}
+
+		public String getErrorMessage() {
+			return errorMessage;
+		}
+
+		/**
+		 * @return the decoded response
+		 * @throws IllegalStateException
+		 *             if the batch was not executed yet
+		 * @throws TrelloException
+		 *             if this request failed
+		 */
+		public T get() {
+			if (!done) {
+				throw new IllegalStateException("Batch not executed: " + route);
+			}
+			if (errorMessage != null) {
+				throw new TrelloException("Batch request " + route + " failed with status "
+						+ statusCode + ": " + errorMessage);
+			}
+			return value;
+		}
+
+		/**
+		 * Responses are either <code>{"200": body}</code> keyed by status or
+		 * an error object carrying <code>statusCode</code> and
+		 * <code>message</code>.
+		 */
+		private void complete(JsonElement response, TrelloObjectFactoryImpl factory) {
+			done = true;
+			if (response == null || !response.isJsonObject()) {
+				errorMessage = "Unexpected response: " + response;
+				return;
+			}
+			JsonObject object = response.getAsJsonObject();
+			JsonElement body = null;
+			for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+				try {
+					statusCode = Integer.parseInt(entry.getKey());
+					body = entry.getValue();
+				} catch (NumberFormatException e) {
+					body = object;
+					statusCode = getInt(object, "statusCode");
+				}
+				break;
+			}
+			if (statusCode >= 200 && statusCode < 300) {
+				try {
+					value = factory.createObject(typeToken, body);
+				} catch (JsonParseException e) {
+					errorMessage = "Malformed response: " + e.getMessage();
+				}
+			} else {
+				errorMessage = getErrorMessage(body);
+			}
+		}
+
+		private static int getInt(JsonObject object, String name) {
+			JsonElement element = object.get(name);
+			try {
+				return element != null && element.isJsonPrimitive() ? element.getAsInt() : 0;
+			} catch (NumberFormatException e) {
+				return 0;
+			}
+		}
+
+		private static String getErrorMessage(JsonElement body) {
+			if (body == null || body.isJsonNull()) {
+				return "";
+			}
+			if (body.isJsonPrimitive()) {
+				return body.getAsString();
+			}
+			if (body.isJsonObject() && body.getAsJsonObject().has("message")) {
+				return body.getAsJsonObject().get("message").getAsString();
+			}
+			return body.toString();
+		}
+
+		@Override
+		public String toString() {
+			return route + " -> " + (done ? String.valueOf(statusCode) : "pending");
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package org.trello4j;
+
+/**
+ * Completion callback for a {@link TrelloFuture}.
+ *
+ * @param <T>
+ *            the result type
+ */
+public interface TrelloCallback<T> {
+
+	/**
+	 * Called with the result of a successful call.
+	 *
+	 * @param result
+	 *            the decoded result, may be null
+	 */
+	void onSuccess(T result);
+
+	/**
+	 * Called when the call failed or was cancelled.
+	 *
+	 * @param t
+	 *            the cause, usually a {@link TrelloException}
+	 */
+	void onFailure(Throwable t);
+
+}
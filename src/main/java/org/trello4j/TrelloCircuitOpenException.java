@@ -0,0 +1,36 @@
+package org.trello4j;
+
+/**
+ * Thrown without sending the request when the circuit breaker of the
+ * endpoint family is open because the Trello API failed or slowed down
+ * recently.
+ */
+public class TrelloCircuitOpenException extends TrelloException {
+
+	private static final long serialVersionUID = 4410389218409826157L;
+
+	private final String family;
+
+	private final long retryAfterMillis;
+
+	public TrelloCircuitOpenException(String family, long retryAfterMillis) {
+		super("Circuit breaker open for " + family + " endpoints, retry in " + retryAfterMillis + " ms");
+		this.family = family;
+		this.retryAfterMillis = retryAfterMillis;
+	}
+
+	/**
+	 * @return the endpoint family, e.g. <code>boards</code>
+	 */
+	public String getFamily() {
+		return family;
+	}
+
+	/**
+	 * @return milliseconds until the breaker lets trial calls through
+	 */
+	public long getRetryAfterMillis() {
+		return retryAfterMillis;
+	}
+
+}
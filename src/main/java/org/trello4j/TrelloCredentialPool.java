@@ -0,0 +1,222 @@
+package org.trello4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.trello4j.http.PooledTransport;
+import org.trello4j.http.TrelloTransport;
+import org.trello4j.model.Board;
+import org.trello4j.model.Organization;
+import org.trello4j.ratelimit.RateLimitBudget;
+
+/**
+ * Spreads calls over several API key and token pairs, so that the throughput
+ * of an integration grows with the number of credentials instead of being
+ * capped by the rate limit of one token.
+ * <p/>
+ * Every credential gets its own client with its own rate limiter; all of them
+ * share one transport and one {@link TrelloObjectFactoryImpl}. Pick the
+ * client for a call by the board or organization it targets:
+ *
+ * <pre>
+ * TrelloCredentialPool pool = new TrelloCredentialPool();
+ * pool.add(apiKey, tokenA);
+ * pool.add(apiKey, tokenB);
+ * pool.refreshAccess();
+ * List&lt;Card&gt; cards = pool.forBoard(boardId).getCardsByBoard(boardId, null);
+ * </pre>
+ *
+ * Among the credentials with access, the one with the largest remaining rate
+ * limit budget is chosen. Boards and organizations the pool knows nothing
+ * about, and calls on other objects, may go to any credential. Access is
+ * learned through {@link #refreshAccess()} or declared with
+ * {@link #grantBoard(Trello, String)} and
+ * {@link #grantOrganization(Trello, String)}.
+ */
+public class TrelloCredentialPool {
+
+	private final TrelloTransport transport;
+
+	private final TrelloObjectFactoryImpl trelloObjFactory = new TrelloObjectFactoryImpl();
+
+	private final List<TrelloImpl> clients = new CopyOnWriteArrayList<TrelloImpl>();
+
+	private final AtomicInteger rotation = new AtomicInteger();
+
+	/** Clients by the ids of the boards and organizations they can access. */
+	private volatile Map<String, List<TrelloImpl>> access = Collections.emptyMap();
+
+	public TrelloCredentialPool() {
+		this(new PooledTransport());
+	}
+
+	/**
+	 * @param transport
+	 *            the HTTP transport, shared by the clients of all credentials
+	 */
+	public TrelloCredentialPool(TrelloTransport transport) {
+		if (transport == null) {
+			throw new TrelloException("Transport must be set");
+		}
+		this.transport = transport;
+	}
+
+	/**
+	 * Adds a credential to the pool.
+	 *
+	 * @return the client for the credential, to configure or to call directly
+	 */
+	public TrelloImpl add(String apiKey, String token) {
+		TrelloImpl client = new TrelloImpl(apiKey, token, transport, trelloObjFactory);
+		clients.add(client);
+		return client;
+	}
+
+	public List<TrelloImpl> getClients() {
+		return Collections.unmodifiableList(clients);
+	}
+
+	public TrelloTransport getTransport() {
+		return transport;
+	}
+
+	/**
+	 * Looks up the boards and organizations each credential is a member of,
+	 * replacing what was learned or granted before. Costs two calls per
+	 * credential.
+	 */
+	public synchronized void refreshAccess() {
+		Map<String, List<TrelloImpl>> access = new HashMap<String, List<TrelloImpl>>();
+		for (TrelloImpl client : clients) {
+			List<Board> boards = client.getBoardsByMember("me");
+			if (boards != null) {
+				for (Board board : boards) {
+					put(access, board.getId(), client);
+				}
+			}
+			List<Organization> organizations = client.getOrganizationsByMember("me");
+			if (organizations != null) {
+				for (Organization organization : organizations) {
+					put(access, organization.getId(), client);
+					put(access, organization.getName(), client);
+				}
+			}
+		}
+		this.access = access;
+	}
+
+	/**
+	 * Declares that a client of this pool can access a board.
+	 */
+	public void grantBoard(Trello client, String boardId) {
+		grant(client, boardId);
+	}
+
+	/**
+	 * Declares that a client of this pool can access an organization.
+	 *
+	 * @param organizationNameOrId
+	 *            the id or name of the organization, grant both to route
+	 *            calls using either
+	 */
+	public void grantOrganization(Trello client, String organizationNameOrId) {
+		grant(client, organizationNameOrId);
+	}
+
+	/**
+	 * @return the client with the largest budget among those with access to
+	 *         the board, or among all if none is known to have access
+	 */
+	public Trello forBoard(String boardId) {
+		return select(boardId);
+	}
+
+	/**
+	 * @return the client with the largest budget among those with access to
+	 *         the organization, or among all if none is known to have access
+	 */
+	public Trello forOrganization(String organizationNameOrId) {
+		return select(organizationNameOrId);
+	}
+
+	/**
+	 * @return the client with the largest budget, for calls on objects any
+	 *         credential can access
+	 */
+	public Trello next() {
+		return select(null);
+	}
+
+	private synchronized void grant(Trello client, String id) {
+		if (!clients.contains(client)) {
+			throw new IllegalArgumentException("Client is not part of this pool");
+		}
+		Map<String, List<TrelloImpl>> access = new HashMap<String, List<TrelloImpl>>(this.access);
+		List<TrelloImpl> granted = access.get(id);
+		if (granted != null) {
+			// lists are shared with the previous map, which may be in use
+			access.put(id, new ArrayList<TrelloImpl>(granted));
+		}
+		put(access, id, (TrelloImpl) client);
+		this.access = access;
+	}
+
+	private static void put(Map<String, List<TrelloImpl>> access, String id, TrelloImpl client) {
+		if (id == null) {
+			return;
+		}
+		List<TrelloImpl> granted = access.get(id);
+		if (granted == null) {
+			access.put(id, granted = new ArrayList<TrelloImpl>(1));
+		}
+		if (!granted.contains(client)) {
+			granted.add(client);
+		}
+	}
+
+	/**
+	 * Picks the client with the largest budget, starting the scan at a
+	 * rotating offset so that ties are spread evenly.
+	 */
+	private TrelloImpl select(String id) {
+		List<TrelloImpl> candidates = id == null ? null : access.get(id);
+		if (candidates == null) {
+			candidates = clients;
+		}
+		int size = candidates.size();
+		if (size == 0) {
+			throw new TrelloException("No credentials in the pool");
+		}
+		int offset = (rotation.getAndIncrement() & Integer.MAX_VALUE) % size;
+		TrelloImpl best = null;
+		int bestBudget = Integer.MIN_VALUE;
+		for (int i = 0; i < size; i++) {
+			TrelloImpl client = candidates.get((offset + i) % size);
+			int budget = getBudget(client);
+			if (budget > bestBudget) {
+				best = client;
+				bestBudget = budget;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @return the requests the client can send right now, lowered to what
+	 *         Trello last reported as remaining
+	 */
+	private static int getBudget(TrelloImpl client) {
+		RateLimitBudget budget = client.getRateLimitBudget();
+		if (budget == null) {
+			return Integer.MAX_VALUE;
+		}
+		int available = budget.getAvailablePermits();
+		int remaining = budget.getRemaining();
+		return remaining >= 0 ? Math.min(available, remaining) : available;
+	}
+}
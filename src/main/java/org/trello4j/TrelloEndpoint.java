@@ -0,0 +1,264 @@
+package org.trello4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.trello4j.http.TrelloRequest;
+
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Immutable description of one call of the Trello API: its HTTP method, URL
+ * template, the type the response is decoded to and, for reference only, the
+ * parameters its client method sets.
+ * <p/>
+ * The template is parsed once, so building the URL of a call only appends
+ * strings, and the response type is resolved once instead of on every call.
+ * Endpoints are compared by identity; {@link #getPath()} and
+ * {@link #getFamily()} identify them to metrics, circuit breakers and error
+ * reports. The endpoints of {@link TrelloImpl} are listed in
+ * {@link TrelloEndpoints}.
+ *
+ * @param <T>
+ *            the type of the decoded response, {@link Void} if there is none
+ */
+public final class TrelloEndpoint<T> {
+
+	private static final String KEY_QUERY_PARAM = "?key=";
+	private static final String TOKEN_QUERY_PARAM = "&token=";
+	private static final String FILTER_QUERY_PARAM = "filter=";
+
+	private final String method;
+
+	private final String urlTemplate;
+
+	private final String path;
+
+	private final String family;
+
+	/** Literal parts of the URL, before each path parameter and after the last. */
+	private final String[] literals;
+
+	/** Index of the path parameter following each literal part. */
+	private final int[] pathParams;
+
+	private final int pathParamCount;
+
+	private final TypeToken<T> responseType;
+
+	private final Set<String> documentedParameters;
+
+	private final String key;
+
+	private TrelloEndpoint(String method, String urlTemplate,
+			TypeToken<T> responseType, String... documentedParameters) {
+		String baseUrl = TrelloURL.getBaseUrl();
+		if (urlTemplate == null || !urlTemplate.startsWith(baseUrl + "/")) {
+			throw new IllegalArgumentException("Not a Trello API URL: " + urlTemplate);
+		}
+		this.method = method;
+		this.urlTemplate = urlTemplate;
+		this.path = urlTemplate.substring(baseUrl.length());
+		this.family = TrelloURL.getEndpointFamily(urlTemplate);
+		this.responseType = responseType;
+		this.documentedParameters = Collections.unmodifiableSet(
+				new LinkedHashSet<String>(Arrays.asList(documentedParameters)));
+
+		List<String> literals = new ArrayList<String>();
+		List<Integer> pathParams = new ArrayList<Integer>();
+		int count = 0;
+		int start = 0;
+		int open;
+		while ((open = urlTemplate.indexOf('{', start)) != -1) {
+			int close = urlTemplate.indexOf('}', open);
+			if (close == -1) {
+				throw new IllegalArgumentException("Unclosed path parameter in " + urlTemplate);
+			}
+			int index = Integer.parseInt(urlTemplate.substring(open + 1, close));
+			literals.add(urlTemplate.substring(start, open));
+			pathParams.add(index);
+			count = Math.max(count, index + 1);
+			start = close + 1;
+		}
+		literals.add(urlTemplate.substring(start));
+		this.literals = literals.toArray(new String[literals.size()]);
+		this.pathParams = new int[pathParams.size()];
+		for (int i = 0; i < this.pathParams.length; i++) {
+			this.pathParams[i] = pathParams.get(i);
+		}
+		this.pathParamCount = count;
+		this.key = method + " " + path + " " + (responseType == null ? "void" : responseType.getType());
+	}
+
+	/**
+	 * @param urlTemplate
+	 *            one of the <code>*_URL</code> templates of {@link TrelloURL}
+	 * @param responseType
+	 *            the type to decode the response to
+	 * @param documentedParameters
+	 *            names of the parameters the client method sets besides key
+	 *            and token, not checked when the endpoint is called
+	 */
+	public static <T> TrelloEndpoint<T> get(String urlTemplate,
+			TypeToken<T> responseType, String... documentedParameters) {
+		return new TrelloEndpoint<T>(TrelloRequest.METHOD_GET, urlTemplate, responseType, documentedParameters);
+	}
+
+	/**
+	 * @see #get(String, TypeToken, String...)
+	 */
+	public static <T> TrelloEndpoint<T> post(String urlTemplate,
+			TypeToken<T> responseType, String... documentedParameters) {
+		return new TrelloEndpoint<T>(TrelloRequest.METHOD_POST, urlTemplate, responseType, documentedParameters);
+	}
+
+	/**
+	 * An endpoint whose response is not decoded.
+	 *
+	 * @see #get(String, TypeToken, String...)
+	 */
+	public static TrelloEndpoint<Void> put(String urlTemplate, String... documentedParameters) {
+		return new TrelloEndpoint<Void>(TrelloRequest.METHOD_PUT, urlTemplate, null, documentedParameters);
+	}
+
+	/**
+	 * An endpoint whose response is not decoded.
+	 *
+	 * @see #get(String, TypeToken, String...)
+	 */
+	public static TrelloEndpoint<Void> delete(String urlTemplate, String... documentedParameters) {
+		return new TrelloEndpoint<Void>(TrelloRequest.METHOD_DELETE, urlTemplate, null, documentedParameters);
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * @return the <code>*_URL</code> template of {@link TrelloURL}
+	 */
+	public String getUrlTemplate() {
+		return urlTemplate;
+	}
+
+	/**
+	 * @return the template below the API version, e.g.
+	 *         <code>/boards/{0}/cards</code>
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * @see TrelloURL#getEndpointFamily(String)
+	 */
+	public String getFamily() {
+		return family;
+	}
+
+	/**
+	 * @return the type the response is decoded to, null if it is not decoded
+	 */
+	public TypeToken<T> getResponseType() {
+		return responseType;
+	}
+
+	/**
+	 * Describes the endpoint only: requests are not checked against these
+	 * names, and calls taking a map of parameters send whatever it holds.
+	 * 
+	 * @return names of the parameters the client method sets besides key and
+	 *         token
+	 */
+	public Set<String> getDocumentedParameters() {
+		return documentedParameters;
+	}
+
+	/**
+	 * @return number of path parameters the template takes
+	 */
+	public int getPathParamCount() {
+		return pathParamCount;
+	}
+
+	/**
+	 * Builds the URL of a call, as {@link TrelloURL#build()} does.
+	 *
+	 * @param apiKey
+	 *            the API key
+	 * @param token
+	 *            the token, may be null
+	 * @param filter
+	 *            values of the <code>filter</code> parameter, may be null
+	 * @param pathParams
+	 *            values of the path parameters, in template order
+	 * @return the URL
+	 */
+	public String url(String apiKey, String token, String[] filter, String... pathParams) {
+		if (apiKey == null) {
+			throw new NullPointerException("Cannot build trello URL: API key and URL must be set");
+		}
+		StringBuilder sb = new StringBuilder(urlTemplate.length() + 128);
+		appendPath(sb, pathParams);
+		sb.append(KEY_QUERY_PARAM).append(apiKey);
+		if (token != null) {
+			sb.append(TOKEN_QUERY_PARAM).append(token);
+		}
+		if (filter != null && filter.length > 0) {
+			appendFilter(sb.append('&'), filter);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Builds the path of a call below the API version, without credentials,
+	 * as expected by the batch endpoint. Commas are percent-encoded.
+	 *
+	 * @see TrelloURL#buildRoute()
+	 */
+	public String route(String[] filter, String... pathParams) {
+		StringBuilder sb = new StringBuilder(urlTemplate.length() + 64);
+		appendPath(sb, pathParams);
+		sb.delete(0, TrelloURL.getBaseUrl().length());
+		if (filter != null && filter.length > 0) {
+			appendFilter(sb.append('?'), filter);
+		}
+		return TrelloURL.encodeRouteCommas(sb.toString());
+	}
+
+	private void appendPath(StringBuilder sb, String[] values) {
+		int count = values == null ? 0 : values.length;
+		if (count != pathParamCount) {
+			throw new IllegalArgumentException(this + " takes " + pathParamCount
+					+ " path parameters, got " + count);
+		}
+		for (int i = 0; i < pathParams.length; i++) {
+			sb.append(literals[i]).append(values[pathParams[i]]);
+		}
+		sb.append(literals[pathParams.length]);
+	}
+
+	private static void appendFilter(StringBuilder sb, String[] filter) {
+		sb.append(FILTER_QUERY_PARAM);
+		for (int i = 0; i < filter.length; i++) {
+			sb.append(i > 0 ? "," : "").append(filter[i]);
+		}
+	}
+
+	/**
+	 * @return a key unique to this endpoint, made of method, path and
+	 *         response type
+	 */
+	String getKey() {
+		return key;
+	}
+
+	@Override
+	public String toString() {
+		return method + " " + path;
+	}
+}
@@ -0,0 +1,354 @@
+package org.trello4j;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.trello4j.model.Action;
+import org.trello4j.model.Board;
+import org.trello4j.model.Board.Prefs;
+import org.trello4j.model.Card;
+import org.trello4j.model.Card.Attachment;
+import org.trello4j.model.Checklist;
+import org.trello4j.model.Checklist.CheckItem;
+import org.trello4j.model.Label;
+import org.trello4j.model.Member;
+import org.trello4j.model.Notification;
+import org.trello4j.model.Organization;
+import org.trello4j.model.Token;
+import org.trello4j.model.Type;
+import org.trello4j.model.Webhook;
+
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The endpoints {@link TrelloImpl} calls, one per client method and named
+ * after it.
+ */
+public final class TrelloEndpoints {
+
+	public static final TrelloEndpoint<JsonElement> BATCH = TrelloEndpoint.get(
+			TrelloURL.BATCH_URL, new TypeToken<JsonElement>() {
+			}, "urls");
+
+	// actions
+
+	public static final TrelloEndpoint<Action> GET_ACTION = TrelloEndpoint.get(
+			TrelloURL.ACTION_URL, new TypeToken<Action>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Board> GET_BOARD_BY_ACTION = TrelloEndpoint.get(
+			TrelloURL.ACTION_BOARD_URL, new TypeToken<Board>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Card> GET_CARD_BY_ACTION = TrelloEndpoint.get(
+			TrelloURL.ACTION_CARD_URL, new TypeToken<Card>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<org.trello4j.model.List> GET_LIST_BY_ACTION = TrelloEndpoint.get(
+			TrelloURL.ACTION_LIST_URL, new TypeToken<org.trello4j.model.List>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Member> GET_MEMBER_BY_ACTION = TrelloEndpoint.get(
+			TrelloURL.ACTION_MEMBER_URL, new TypeToken<Member>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Member> GET_MEMBER_CREATOR_BY_ACTION = TrelloEndpoint.get(
+			TrelloURL.ACTION_MEMBERCREATOR_URL, new TypeToken<Member>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Organization> GET_ORGANIZATION_BY_ACTION = TrelloEndpoint.get(
+			TrelloURL.ACTION_ORGANIZATION_URL, new TypeToken<Organization>() {
+			}, "filter");
+
+	// boards
+
+	public static final TrelloEndpoint<Board> GET_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_URL, new TypeToken<Board>() {
+			});
+
+	public static final TrelloEndpoint<List<Action>> GET_ACTIONS_BY_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_ACTIONS_URL, new TypeToken<List<Action>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Card>> GET_CARDS_BY_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_CARDS_URL, new TypeToken<List<Card>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Checklist>> GET_CHECKLIST_BY_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_CHECKLISTS_URL, new TypeToken<List<Checklist>>() {
+			});
+
+	public static final TrelloEndpoint<List<Label>> GET_LABELS_BY_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_LABELS_URL, new TypeToken<List<Label>>() {
+			}, "filter", "limit");
+
+	public static final TrelloEndpoint<List<org.trello4j.model.List>> GET_LIST_BY_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_LISTS_URL, new TypeToken<List<org.trello4j.model.List>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Member>> GET_MEMBERS_BY_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_MEMBERS_URL, new TypeToken<List<Member>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Member>> GET_MEMBERS_INVITED_BY_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_MEMBERS_INVITED_URL, new TypeToken<List<Member>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Prefs> GET_PREFS_BY_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_PREFS_URL, new TypeToken<Prefs>() {
+			});
+
+	public static final TrelloEndpoint<Organization> GET_ORGANIZATION_BY_BOARD = TrelloEndpoint.get(
+			TrelloURL.BOARD_ORGANIZAION_URL, new TypeToken<Organization>() {
+			}, "filter");
+
+	// cards
+
+	public static final TrelloEndpoint<Card> GET_CARD = TrelloEndpoint.get(
+			TrelloURL.CARD_URL, new TypeToken<Card>() {
+			});
+
+	public static final TrelloEndpoint<Card> CREATE_CARD = TrelloEndpoint.post(
+			TrelloURL.CARD_URL, new TypeToken<Card>() {
+			}, "name", "idList");
+
+	public static final TrelloEndpoint<Void> UPDATE_CARD = TrelloEndpoint.put(
+			TrelloURL.CARD_URL);
+
+	public static final TrelloEndpoint<Void> DELETE_CARD = TrelloEndpoint.delete(
+			TrelloURL.CARD_URL);
+
+	public static final TrelloEndpoint<List<Action>> GET_ACTIONS_BY_CARD = TrelloEndpoint.get(
+			TrelloURL.CARD_ACTION_URL, new TypeToken<List<Action>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Action> ADD_COMMENT_TO_CARD = TrelloEndpoint.post(
+			TrelloURL.CARD_ACTION_COMMENT_URL, new TypeToken<Action>() {
+			}, "text");
+
+	public static final TrelloEndpoint<List<Attachment>> GET_ATTACHMENTS_BY_CARD = TrelloEndpoint.get(
+			TrelloURL.CARD_ATTACHEMENT_URL, new TypeToken<List<Attachment>>() {
+			});
+
+	public static final TrelloEndpoint<Board> GET_BOARD_BY_CARD = TrelloEndpoint.get(
+			TrelloURL.CARD_BOARD_URL, new TypeToken<Board>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<CheckItem>> GET_CHECK_ITEM_STATES_BY_CARD = TrelloEndpoint.get(
+			TrelloURL.CARD_CHECK_ITEM_STATES_URL, new TypeToken<List<CheckItem>>() {
+			});
+
+	public static final TrelloEndpoint<List<Checklist>> GET_CHECKLIST_BY_CARD = TrelloEndpoint.get(
+			TrelloURL.CARD_CHECKLISTS_URL, new TypeToken<List<Checklist>>() {
+			});
+
+	public static final TrelloEndpoint<Checklist> ADD_CHECKLIST_TO_CARD = TrelloEndpoint.post(
+			TrelloURL.CARD_CHECKLISTS_URL, new TypeToken<Checklist>() {
+			}, "name", "idChecklistSource");
+
+	public static final TrelloEndpoint<List<String>> ADD_LABEL_TO_CARD = TrelloEndpoint.post(
+			TrelloURL.CARD_IDLABELS_URL, new TypeToken<List<String>>() {
+			}, "value");
+
+	public static final TrelloEndpoint<Void> DELETE_ID_LABEL_BY_CARD = TrelloEndpoint.delete(
+			TrelloURL.CARD_IDLABELS_URL);
+
+	public static final TrelloEndpoint<org.trello4j.model.List> GET_LIST_BY_CARD = TrelloEndpoint.get(
+			TrelloURL.CARD_LIST_URL, new TypeToken<org.trello4j.model.List>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Member>> GET_MEMBERS_BY_CARD = TrelloEndpoint.get(
+			TrelloURL.CARD_MEMBERS_URL, new TypeToken<List<Member>>() {
+			});
+
+	// checklists
+
+	public static final TrelloEndpoint<Checklist> GET_CHECKLIST = TrelloEndpoint.get(
+			TrelloURL.CHECKLIST_URL, new TypeToken<Checklist>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Board> GET_BOARD_BY_CHECKLIST = TrelloEndpoint.get(
+			TrelloURL.CHECKLIST_BOARD_URL, new TypeToken<Board>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Card>> GET_CARD_BY_CHECKLIST = TrelloEndpoint.get(
+			TrelloURL.CHECKLIST_CARDS_URL, new TypeToken<List<Card>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<CheckItem>> GET_CHECK_ITEMS_BY_CHECKLIST = TrelloEndpoint.get(
+			TrelloURL.CHECKLIST_CHECKITEMS_URL, new TypeToken<List<CheckItem>>() {
+			});
+
+	public static final TrelloEndpoint<CheckItem> ADD_CHECK_ITEM_TO_CHECKLIST = TrelloEndpoint.post(
+			TrelloURL.CHECKLIST_CHECKITEMS_URL, new TypeToken<CheckItem>() {
+			}, "name");
+
+	// labels
+
+	public static final TrelloEndpoint<Label> CREATE_LABEL = TrelloEndpoint.post(
+			TrelloURL.LABEL_URL, new TypeToken<Label>() {
+			}, "idBoard", "name", "color");
+
+	// lists
+
+	public static final TrelloEndpoint<org.trello4j.model.List> GET_LIST = TrelloEndpoint.get(
+			TrelloURL.LIST_URL, new TypeToken<org.trello4j.model.List>() {
+			});
+
+	public static final TrelloEndpoint<org.trello4j.model.List> CREATE_LIST = TrelloEndpoint.post(
+			TrelloURL.LIST_URL, new TypeToken<org.trello4j.model.List>() {
+			}, "name", "idBoard");
+
+	public static final TrelloEndpoint<List<Action>> GET_ACTIONS_BY_LIST = TrelloEndpoint.get(
+			TrelloURL.LIST_ACTIONS_URL, new TypeToken<List<Action>>() {
+			});
+
+	public static final TrelloEndpoint<Board> GET_BOARD_BY_LIST = TrelloEndpoint.get(
+			TrelloURL.LIST_BOARD_URL, new TypeToken<Board>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Card>> GET_CARDS_BY_LIST = TrelloEndpoint.get(
+			TrelloURL.LIST_CARDS_URL, new TypeToken<List<Card>>() {
+			}, "filter");
+
+	// members
+
+	public static final TrelloEndpoint<Member> GET_MEMBER = TrelloEndpoint.get(
+			TrelloURL.MEMBER_URL, new TypeToken<Member>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Action>> GET_ACTIONS_BY_MEMBER = TrelloEndpoint.get(
+			TrelloURL.MEMBER_ACTIONS_URL, new TypeToken<List<Action>>() {
+			});
+
+	public static final TrelloEndpoint<List<Board>> GET_BOARDS_BY_MEMBER = TrelloEndpoint.get(
+			TrelloURL.MEMBER_BOARDS_URL, new TypeToken<List<Board>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Card>> GET_CARDS_BY_MEMBER = TrelloEndpoint.get(
+			TrelloURL.MEMBER_CARDS_URL, new TypeToken<List<Card>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Notification>> GET_NOTIFICATIONS_BY_MEMBER = TrelloEndpoint.get(
+			TrelloURL.MEMBER_NOTIFIACTIONS_URL, new TypeToken<List<Notification>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Organization>> GET_ORGANIZATIONS_BY_MEMBER = TrelloEndpoint.get(
+			TrelloURL.MEMBER_ORGANIZATION_URL, new TypeToken<List<Organization>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Organization>> GET_ORGANIZATIONS_INVITED_BY_MEMBER = TrelloEndpoint.get(
+			TrelloURL.MEMBER_ORGANIZATION_INVITED_URL, new TypeToken<List<Organization>>() {
+			}, "filter");
+
+	// notifications
+
+	public static final TrelloEndpoint<Notification> GET_NOTIFICATION = TrelloEndpoint.get(
+			TrelloURL.NOTIFICATION_URL, new TypeToken<Notification>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Board> GET_BOARD_BY_NOTIFICATION = TrelloEndpoint.get(
+			TrelloURL.NOTIFICATION_BOARDS_URL, new TypeToken<Board>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Card> GET_CARD_BY_NOTIFICATION = TrelloEndpoint.get(
+			TrelloURL.NOTIFICATION_CARDS_URL, new TypeToken<Card>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<org.trello4j.model.List> GET_LIST_BY_NOTIFICATION = TrelloEndpoint.get(
+			TrelloURL.NOTIFICATION_LIST_URL, new TypeToken<org.trello4j.model.List>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Member> GET_MEMBER_BY_NOTIFICATION = TrelloEndpoint.get(
+			TrelloURL.NOTIFICATION_MEMBERS_URL, new TypeToken<Member>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Member> GET_MEMBER_CREATOR_BY_NOTIFICATION = TrelloEndpoint.get(
+			TrelloURL.NOTIFICATION_MEMBER_CREATOR_URL, new TypeToken<Member>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Member> GET_ORGANIZATION_CREATOR_BY_NOTIFICATION = TrelloEndpoint.get(
+			TrelloURL.NOTIFICATION_ORGANIZATION_URL, new TypeToken<Member>() {
+			}, "filter");
+
+	// organizations
+
+	public static final TrelloEndpoint<Organization> GET_ORGANIZATION = TrelloEndpoint.get(
+			TrelloURL.ORGANIZATION_URL, new TypeToken<Organization>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Action>> GET_ACTIONS_BY_ORGANIZATION = TrelloEndpoint.get(
+			TrelloURL.ORGANIZATION_ACTIONS_URL, new TypeToken<List<Action>>() {
+			});
+
+	public static final TrelloEndpoint<List<Board>> GET_BOARDS_BY_ORGANIZATION = TrelloEndpoint.get(
+			TrelloURL.ORGANIZATION_BOARDS_URL, new TypeToken<List<Board>>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Member>> GET_MEMBERS_BY_ORGANIZATION = TrelloEndpoint.get(
+			TrelloURL.ORGANIZATION_MEMBERS_URL, new TypeToken<List<Member>>() {
+			}, "filter");
+
+	// tokens
+
+	public static final TrelloEndpoint<Token> GET_TOKEN = TrelloEndpoint.get(
+			TrelloURL.TOKENS_URL, new TypeToken<Token>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<Member> GET_MEMBER_BY_TOKEN = TrelloEndpoint.get(
+			TrelloURL.TOKENS_MEMBER_URL, new TypeToken<Member>() {
+			}, "filter");
+
+	public static final TrelloEndpoint<List<Webhook>> GET_WEBHOOKS = TrelloEndpoint.get(
+			TrelloURL.TOKEN_WEBHOOKS_URL, new TypeToken<List<Webhook>>() {
+			});
+
+	// types
+
+	public static final TrelloEndpoint<Type> GET_TYPE = TrelloEndpoint.get(
+			TrelloURL.TYPE_URL, new TypeToken<Type>() {
+			});
+
+	// webhooks
+
+	public static final TrelloEndpoint<Webhook> GET_WEBHOOK = TrelloEndpoint.get(
+			TrelloURL.WEBHOOKS_ID_URL, new TypeToken<Webhook>() {
+			});
+
+	public static final TrelloEndpoint<Webhook> CREATE_WEBHOOK = TrelloEndpoint.post(
+			TrelloURL.WEBHOOKS_URL, new TypeToken<Webhook>() {
+			}, "description", "callbackURL", "idModel");
+
+	public static final TrelloEndpoint<Void> DELETE_WEBHOOK = TrelloEndpoint.delete(
+			TrelloURL.WEBHOOKS_ID_URL);
+
+	private static final List<TrelloEndpoint<?>> ALL = findAll();
+
+	private TrelloEndpoints() {
+	}
+
+	/**
+	 * @return all endpoints
+	 */
+	public static List<TrelloEndpoint<?>> getAll() {
+		return ALL;
+	}
+
+	private static List<TrelloEndpoint<?>> findAll() {
+		List<TrelloEndpoint<?>> endpoints = new ArrayList<TrelloEndpoint<?>>();
+		for (Field field : TrelloEndpoints.class.getDeclaredFields()) {
+			if (Modifier.isPublic(field.getModifiers()) && field.getType() == TrelloEndpoint.class) {
+				try {
+					endpoints.add((TrelloEndpoint<?>) field.get(null));
+				} catch (IllegalAccessException e) {
+					// public constant
+				}
+			}
+		}
+		return Collections.unmodifiableList(endpoints);
+	}
+}
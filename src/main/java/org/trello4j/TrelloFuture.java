@@ -0,0 +1,104 @@
+package org.trello4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.trello4j.http.CancellationToken;
+
+/**
+ * Pending result of a call made through {@link TrelloAsync}.
+ * <p/>
+ * Besides the blocking {@link #get()} methods, callbacks can be attached to
+ * chain work onto the result without holding a thread while the request is
+ * in flight. Callbacks run on the thread that completes the call, or on the
+ * calling thread if the call has already completed.
+ * <p/>
+ * Cancelling with <code>mayInterruptIfRunning</code> set also cancels the
+ * request in flight, closing its connection.
+ *
+ * @param <T>
+ *            the result type
+ */
+public class TrelloFuture<T> extends FutureTask<T> {
+
+	private final List<TrelloCallback<? super T>> callbacks = new ArrayList<TrelloCallback<? super T>>();
+
+	private final CancellationToken cancellation;
+
+	public TrelloFuture(Callable<T> callable) {
+		this(callable, null);
+	}
+
+	/**
+	 * @param callable
+	 *            the call
+	 * @param cancellation
+	 *            token of the requests made by the call, cancelled along with
+	 *            this future
+	 */
+	public TrelloFuture(Callable<T> callable, CancellationToken cancellation) {
+		super(callable);
+		this.cancellation = cancellation;
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		boolean cancelled = super.cancel(mayInterruptIfRunning);
+		if (cancelled && mayInterruptIfRunning && cancellation != null) {
+			cancellation.cancel();
+		}
+		return cancelled;
+	}
+
+	/**
+	 * Registers a callback to be notified when the call completes.
+	 *
+	 * @param callback
+	 *            the callback
+	 * @return this future
+	 */
+	public TrelloFuture<T> addCallback(TrelloCallback<? super T> callback) {
+		synchronized (callbacks) {
+			if (!isDone()) {
+				callbacks.add(callback);
+				return this;
+			}
+		}
+		notify(callback);
+		return this;
+	}
+
+	@Override
+	protected void done() {
+		List<TrelloCallback<? super T>> pending;
+		synchronized (callbacks) {
+			pending = new ArrayList<TrelloCallback<? super T>>(callbacks);
+			callbacks.clear();
+		}
+		for (TrelloCallback<? super T> callback : pending) {
+			notify(callback);
+		}
+	}
+
+	private void notify(TrelloCallback<? super T> callback) {
+		T result;
+		try {
+			result = get();
+		} catch (ExecutionException e) {
+			callback.onFailure(e.getCause());
+			return;
+		} catch (CancellationException e) {
+			callback.onFailure(e);
+			return;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			callback.onFailure(e);
+			return;
+		}
+		callback.onSuccess(result);
+	}
+}
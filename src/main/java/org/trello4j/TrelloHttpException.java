@@ -0,0 +1,50 @@
+package org.trello4j;
+
+/**
+ * Thrown when Trello answers a call with an HTTP error status, e.g. 404 for
+ * an unknown id or 401 for a token lacking access.
+ */
+public class TrelloHttpException extends TrelloException {
+
+	private static final long serialVersionUID = -6316907472431865208L;
+
+	private final int statusCode;
+
+	private final String method;
+
+	private final String endpoint;
+
+	private final String errorMessage;
+
+	public TrelloHttpException(int statusCode, String method, String endpoint, String errorMessage) {
+		super(method + " " + endpoint + " failed with HTTP " + statusCode
+				+ (errorMessage == null || errorMessage.length() == 0 ? "" : ": " + errorMessage));
+		this.statusCode = statusCode;
+		this.method = method;
+		this.endpoint = endpoint;
+		this.errorMessage = errorMessage;
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * @return the URL template of the call, e.g. <code>/boards/{0}/cards</code>
+	 */
+	public String getEndpoint() {
+		return endpoint;
+	}
+
+	/**
+	 * @return the message Trello sent, possibly truncated, empty if none
+	 */
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+}
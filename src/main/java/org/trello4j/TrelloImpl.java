@@ -1,23 +1,36 @@
 package org.trello4j;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.Authenticator;
+import java.io.InterruptedIOException;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.net.PasswordAuthentication;
 import java.net.Proxy;
+import java.net.SocketTimeoutException;
 import java.net.URL;
-import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.zip.GZIPInputStream;
-
-import javax.net.ssl.HttpsURLConnection;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.trello4j.circuitbreaker.CircuitBreaker;
+import org.trello4j.circuitbreaker.CircuitBreakerRegistry;
+import org.trello4j.http.CancellationToken;
+import org.trello4j.http.ConnectionPool;
+import org.trello4j.http.ContentDecoder;
+import org.trello4j.http.FormBody;
+import org.trello4j.http.HedgePolicy;
+import org.trello4j.http.PooledTransport;
+import org.trello4j.http.RetryPolicy;
+import org.trello4j.http.TrelloRequest;
+import org.trello4j.http.TrelloResponse;
+import org.trello4j.http.TrelloTransport;
+import org.trello4j.ratelimit.RateLimitBudget;
+import org.trello4j.ratelimit.RateLimitStatus;
+import org.trello4j.ratelimit.RateLimiter;
+import org.trello4j.ratelimit.RequestPriority;
+import org.trello4j.ratelimit.RequestScheduler;
 import org.trello4j.model.Action;
 import org.trello4j.model.Board;
 import org.trello4j.model.Board.Prefs;
@@ -33,27 +46,47 @@ import org.trello4j.model.Token;
 import org.trello4j.model.Type;
 import org.trello4j.model.Webhook;
 
-import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 
 /**
  * The Class TrelloImpl.
  */
 public class TrelloImpl implements Trello {
 
-    private static final String METHOD_DELETE   = "DELETE";
-    private static final String METHOD_GET      = "GET";
-    private static final String METHOD_POST     = "POST";
-    private static final String METHOD_PUT      = "PUT";
-	private static final String GZIP_ENCODING   = "gzip";
+	private static final String METHOD_POST     = TrelloRequest.METHOD_POST;
+	private static final String METHOD_PUT      = TrelloRequest.METHOD_PUT;
+	private static final int MAX_RATE_LIMIT_RETRIES = 3;
+	private static final long RATE_LIMIT_PAUSE_MILLIS = 1000;
+	private static final String RATE_LIMIT_API_KEY_HEADER = "x-rate-limit-api-key-";
+	private static final String RATE_LIMIT_TOKEN_HEADER = "x-rate-limit-api-token-";
+
+	/** Most bytes of an error response kept for the exception message. */
+	private static final int MAX_ERROR_BODY_BYTES = 4096;
+
+	public static final int DEFAULT_WARM_UP_CONNECTIONS = 4;
+	public static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 10000;
+	public static final int DEFAULT_READ_TIMEOUT_MILLIS = 60000;
 
 	private String apiKey = null;
 	private String token = null;
-	private String proxyHost = null;
-	private int proxyPort;
-	private String proxyUser = null;
-	private String proxyPassword = null;
-	private Proxy proxy = null;
-	private TrelloObjectFactoryImpl trelloObjFactory = new TrelloObjectFactoryImpl();
+	private final TrelloTransport transport;
+	private volatile RateLimiter rateLimiter;
+	private volatile RetryPolicy retryPolicy = new RetryPolicy();
+	private volatile RequestCoalescer coalescer = null;
+	private volatile CircuitBreakerRegistry circuitBreakers = null;
+	private volatile HedgePolicy hedgePolicy = null;
+	private volatile RequestScheduler requestScheduler = null;
+	private volatile ContentDecoder contentDecoder = ContentDecoder.getDefault();
+	private volatile int connectTimeoutMillis = DEFAULT_CONNECT_TIMEOUT_MILLIS;
+	private volatile int readTimeoutMillis = DEFAULT_READ_TIMEOUT_MILLIS;
+	/** Time limit of each call, 0 for none. */
+	private final long callTimeoutNanos;
+	private final CancellationToken cancellation;
+	private final RequestPriority priority;
+	private final TrelloObjectFactoryImpl trelloObjFactory;
 
 
 	public TrelloImpl(String apiKey) {
@@ -65,35 +98,409 @@ public class TrelloImpl implements Trello {
 	}
 	
 	public TrelloImpl(String apiKey, String token, String proxyHost, int proxyPort, String proxyUser, String proxyPassword) {
+		this(apiKey, token, createDefaultTransport(proxyHost, proxyPort, proxyUser, proxyPassword));
+	}
+
+	/**
+	 * Creates a client that sends all requests through the given transport.
+	 * 
+	 * @param apiKey
+	 *            the API key
+	 * @param token
+	 *            optional token, null when accessing public data
+	 * @param transport
+	 *            the HTTP transport, shared by every call of this client
+	 */
+	public TrelloImpl(String apiKey, String token, TrelloTransport transport) {
+		this(apiKey, token, transport, new TrelloObjectFactoryImpl());
+	}
+
+	/**
+	 * Creates a client decoding responses with the given factory, shared with
+	 * other clients.
+	 */
+	TrelloImpl(String apiKey, String token, TrelloTransport transport,
+			TrelloObjectFactoryImpl trelloObjFactory) {
 		this.apiKey = apiKey;
 		this.token = token;
-		this.proxyHost = proxyHost;
-		this.proxyPort = proxyPort;
-		this.proxyUser = proxyUser;
-		this.proxyPassword = proxyPassword;
+		this.transport = transport;
 
 		if (this.apiKey == null) {
 			throw new TrelloException(
 					"API key must be set, get one here: https://trello.com/1/appKey/generate");
 		}
-		
-		if (this.proxyHost != null && !this.proxyHost.trim().isEmpty()) {
-			this.proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(this.proxyHost, this.proxyPort == 0 ? 80 : this.proxyPort));
-			if (this.proxyUser != null && !this.proxyUser.trim().isEmpty()) {
-				Authenticator authenticator = new Authenticator() {
-					public PasswordAuthentication getPasswordAuthentication() {
-						if (getRequestorType() == Authenticator.RequestorType.PROXY) {
-							return (new PasswordAuthentication(TrelloImpl.this.proxyUser, TrelloImpl.this.proxyPassword.toCharArray()));
-						}
-						return null;
-					}
-				};
-				Authenticator.setDefault(authenticator);
-				
+		if (this.transport == null) {
+			throw new TrelloException("Transport must be set");
+		}
+		this.rateLimiter = RateLimiter.forCredentials(apiKey, token);
+		this.callTimeoutNanos = 0;
+		this.cancellation = null;
+		this.priority = RequestPriority.INTERACTIVE;
+		this.trelloObjFactory = trelloObjFactory;
+	}
+
+	/**
+	 * Creates a view of a client, sharing its transport and current settings.
+	 */
+	private TrelloImpl(TrelloImpl client, long callTimeoutNanos, CancellationToken cancellation,
+			RequestPriority priority) {
+		this.apiKey = client.apiKey;
+		this.token = client.token;
+		this.transport = client.transport;
+		this.rateLimiter = client.rateLimiter;
+		this.retryPolicy = client.retryPolicy;
+		this.coalescer = client.coalescer;
+		this.circuitBreakers = client.circuitBreakers;
+		this.hedgePolicy = client.hedgePolicy;
+		this.requestScheduler = client.requestScheduler;
+		this.contentDecoder = client.contentDecoder;
+		this.connectTimeoutMillis = client.connectTimeoutMillis;
+		this.readTimeoutMillis = client.readTimeoutMillis;
+		this.trelloObjFactory = client.trelloObjFactory;
+		this.callTimeoutNanos = callTimeoutNanos;
+		this.cancellation = cancellation;
+		this.priority = priority;
+	}
+
+	private static TrelloTransport createDefaultTransport(String proxyHost, int proxyPort, String proxyUser, String proxyPassword) {
+		Proxy proxy = null;
+		if (proxyHost != null && !proxyHost.trim().isEmpty()) {
+			proxy = new Proxy(Proxy.Type.HTTP, new InetSocketAddress(proxyHost, proxyPort == 0 ? 80 : proxyPort));
+		}
+		return new PooledTransport(new ConnectionPool(), proxy, proxyUser, proxyPassword);
+	}
+
+	public TrelloTransport getTransport() {
+		return transport;
+	}
+
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
+
+	/**
+	 * Sets the policy for retrying failed requests. The default policy makes
+	 * up to three attempts for idempotent requests only.
+	 * 
+	 * @param retryPolicy
+	 *            the policy, {@link RetryPolicy#NONE} to disable retries
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+		if (retryPolicy == null) {
+			throw new NullPointerException("Retry policy must be set, use RetryPolicy.NONE to disable retries");
+		}
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * Gets the request budget of this client. Trello reports the remaining
+	 * requests of the API key and token with every response, so the budget
+	 * reflects all traffic on these credentials, including other processes.
+	 * 
+	 * @return the budget, or null if rate limiting is disabled
+	 */
+	public RateLimitBudget getRateLimitBudget() {
+		RateLimiter limiter = rateLimiter;
+		return limiter == null ? null : limiter.getBudget();
+	}
+
+	/**
+	 * Sets the limiter throttling requests of this client. By default all
+	 * clients using the same API key and token share one limiter configured
+	 * with Trello's published limits.
+	 * 
+	 * @param rateLimiter
+	 *            the limiter, or null to disable client side throttling
+	 */
+	public void setRateLimiter(RateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+	}
+
+	public CircuitBreakerRegistry getCircuitBreakers() {
+		return circuitBreakers;
+	}
+
+	/**
+	 * Sets the circuit breakers guarding the endpoint families. While the
+	 * breaker of a family is open, calls to it fail right away with
+	 * {@link TrelloCircuitOpenException}. Connection failures, timeouts and
+	 * 5xx responses count as failures. Disabled by default.
+	 * 
+	 * @param circuitBreakers
+	 *            the breakers, or null to disable circuit breaking
+	 */
+	public void setCircuitBreakers(CircuitBreakerRegistry circuitBreakers) {
+		this.circuitBreakers = circuitBreakers;
+	}
+
+	public HedgePolicy getHedgePolicy() {
+		return hedgePolicy;
+	}
+
+	/**
+	 * Enables hedging of GET requests: a GET not answered within the delay
+	 * derived from recent response times is sent once more and the first
+	 * response is used. Hedges need a rate limit permit that is available
+	 * right away and are capped by the policy's budget. Disabled by default.
+	 * 
+	 * @param hedgePolicy
+	 *            the policy, or null to disable hedging
+	 */
+	public void setHedgePolicy(HedgePolicy hedgePolicy) {
+		this.hedgePolicy = hedgePolicy;
+	}
+
+	public RequestScheduler getRequestScheduler() {
+		return requestScheduler;
+	}
+
+	/**
+	 * Sets the scheduler handing out rate limit permits by priority. While
+	 * set, requests take their permits from the scheduler's limiter in the
+	 * order it decides, instead of from the limiter of this client. Share one
+	 * scheduler between the clients whose calls should be weighed against
+	 * each other. Disabled by default.
+	 * 
+	 * @param requestScheduler
+	 *            the scheduler, or null to take permits first come, first
+	 *            served
+	 * @see #withPriority(RequestPriority)
+	 */
+	public void setRequestScheduler(RequestScheduler requestScheduler) {
+		this.requestScheduler = requestScheduler;
+	}
+
+	public ContentDecoder getContentDecoder() {
+		return contentDecoder;
+	}
+
+	/**
+	 * Sets the decoder for compressed responses. By default all clients share
+	 * one decoder pooling buffers of
+	 * {@value org.trello4j.http.ContentDecoder#DEFAULT_BUFFER_SIZE} bytes;
+	 * set a decoder with larger buffers for clients reading big responses.
+	 * 
+	 * @param contentDecoder
+	 *            the decoder
+	 */
+	public void setContentDecoder(ContentDecoder contentDecoder) {
+		if (contentDecoder == null) {
+			throw new NullPointerException("Content decoder must be set");
+		}
+		this.contentDecoder = contentDecoder;
+	}
+
+	public RequestPriority getPriority() {
+		return priority;
+	}
+
+	public int getConnectTimeout() {
+		return connectTimeoutMillis;
+	}
+
+	/**
+	 * Sets the timeout for establishing connections, including the TLS
+	 * handshake. Defaults to {@value #DEFAULT_CONNECT_TIMEOUT_MILLIS} ms.
+	 * 
+	 * @param millis
+	 *            the timeout, 0 to wait indefinitely
+	 */
+	public void setConnectTimeout(int millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Timeout must not be negative");
+		}
+		this.connectTimeoutMillis = millis;
+	}
+
+	public int getReadTimeout() {
+		return readTimeoutMillis;
+	}
+
+	/**
+	 * Sets the longest time to wait for data from the server, either the
+	 * response headers or the next part of the body. Defaults to
+	 * {@value #DEFAULT_READ_TIMEOUT_MILLIS} ms.
+	 * 
+	 * @param millis
+	 *            the timeout, 0 to wait indefinitely
+	 */
+	public void setReadTimeout(int millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Timeout must not be negative");
+		}
+		this.readTimeoutMillis = millis;
+	}
+
+	/**
+	 * Returns a client whose calls each have to complete within the given
+	 * time, counted from the moment the call is made. The limit covers rate
+	 * limit waits, retries and reading the response; calls exceeding it throw
+	 * {@link TrelloTimeoutException}.
+	 * <p/>
+	 * The returned client shares the transport and rate limiter of this one
+	 * and starts out with its settings.
+	 * 
+	 * @param timeout
+	 *            the time limit of each call
+	 * @param unit
+	 *            the unit of the time limit
+	 * @return a client view with the deadline
+	 */
+	public TrelloImpl withDeadline(long timeout, TimeUnit unit) {
+		if (timeout <= 0) {
+			throw new IllegalArgumentException("Deadline must be positive");
+		}
+		return new TrelloImpl(this, unit.toNanos(timeout), cancellation, priority);
+	}
+
+	/**
+	 * Returns a client whose calls are cancelled by the given token.
+	 * Cancelling closes the connections of calls in flight, which then fail
+	 * with a {@link TrelloException}; later calls fail right away.
+	 * <p/>
+	 * The returned client shares the transport and rate limiter of this one
+	 * and starts out with its settings.
+	 * 
+	 * @param cancellation
+	 *            the token, replacing any token of this client
+	 * @return a client view cancelled by the token
+	 */
+	public TrelloImpl withCancellation(CancellationToken cancellation) {
+		return new TrelloImpl(this, callTimeoutNanos, cancellation, priority);
+	}
+
+	/**
+	 * @return the token cancelling the calls of this client, null if none
+	 */
+	CancellationToken getCancellation() {
+		return cancellation;
+	}
+
+	/**
+	 * Returns a client whose calls have the given priority with the
+	 * {@link RequestScheduler} of this client. Calls are
+	 * {@link RequestPriority#INTERACTIVE} unless made through such a view:
+	 *
+	 * <pre>
+	 * trello.withPriority(RequestPriority.BACKGROUND).getCardsByBoard(boardId);
+	 * </pre>
+	 * 
+	 * The returned client shares the transport and rate limiter of this one
+	 * and starts out with its settings. Without a scheduler the priority has
+	 * no effect.
+	 * 
+	 * @param priority
+	 *            the priority of the calls
+	 * @return a client view with the priority
+	 */
+	public TrelloImpl withPriority(RequestPriority priority) {
+		if (priority == null) {
+			throw new NullPointerException("Priority must be set");
+		}
+		return new TrelloImpl(this, callTimeoutNanos, cancellation, priority);
+	}
+
+	/**
+	 * Prepares this client for its first calls: resolves the API host, opens
+	 * {@value #DEFAULT_WARM_UP_CONNECTIONS} pooled connections including
+	 * their TLS sessions and sets up JSON decoding. Call it at startup, e.g.
+	 * before reporting ready to a health check.
+	 * 
+	 * @see #warmUp(int, boolean)
+	 */
+	public void warmUp() {
+		warmUp(DEFAULT_WARM_UP_CONNECTIONS, true);
+	}
+
+	/**
+	 * Prepares this client for its first calls. Connections are only opened
+	 * ahead by a {@link PooledTransport}, they stay pooled for the pool's
+	 * keep-alive time.
+	 * 
+	 * @param connections
+	 *            number of connections to open, 0 to only resolve the host
+	 * @param initObjectFactory
+	 *            whether to set up JSON decoding of all model classes
+	 * @throws TrelloException
+	 *             if the host cannot be resolved or a connection cannot be
+	 *             opened
+	 */
+	public void warmUp(int connections, boolean initObjectFactory) {
+		String url = TrelloURL.getBaseUrl();
+		try {
+			InetAddress.getAllByName(new URL(url).getHost());
+			if (connections > 0 && transport instanceof PooledTransport) {
+				((PooledTransport) transport).warmUp(url, connections, connectTimeoutMillis);
 			}
+		} catch (IOException e) {
+			throw new TrelloException("Warm-up failed: " + e.getMessage(), e);
+		}
+		if (initObjectFactory) {
+			trelloObjFactory.warmUp();
 		}
 	}
 
+	public boolean isCoalesceGets() {
+		return coalescer != null;
+	}
+
+	/**
+	 * Enables single-flight reads: identical GET calls issued while one of
+	 * them is in flight wait for that call instead of sending their own
+	 * request. Calls are identical when they ask for the same result type from
+	 * the same URL, including query parameters.
+	 * <p/>
+	 * Coalesced callers receive the same decoded instance, which therefore
+	 * must not be modified, and share the outcome of the call that was sent,
+	 * including its cancellation. Disabled by default.
+	 * 
+	 * @param coalesceGets
+	 *            true to coalesce concurrent identical GET calls
+	 */
+	public void setCoalesceGets(boolean coalesceGets) {
+		if (coalesceGets != isCoalesceGets()) {
+			this.coalescer = coalesceGets ? new RequestCoalescer() : null;
+		}
+	}
+
+	/**
+	 * Creates a batch for combining GET requests into calls to Trello's batch
+	 * endpoint.
+	 * 
+	 * @return a new, empty batch
+	 */
+	public TrelloBatch batch() {
+		return new TrelloBatch(this);
+	}
+
+	/**
+	 * Sends up to {@link TrelloBatch#MAX_URLS} routes in one batch call.
+	 * 
+	 * @return one response element per route, or null if the call failed
+	 */
+	JsonArray getBatch(List<String> routes) {
+		StringBuilder urls = new StringBuilder();
+		for (String route : routes) {
+			if (urls.length() > 0) {
+				urls.append(',');
+			}
+			urls.append(route);
+		}
+		final String url = TrelloEndpoints.BATCH.url(apiKey, token, null);
+		Map<String, String> params = new HashMap<String, String>();
+		params.put("urls", urls.toString());
+		JsonElement json = trelloObjFactory.createJson(doRequest(TrelloEndpoints.BATCH, url, params));
+		return json != null && json.isJsonArray() ? json.getAsJsonArray() : null;
+	}
+
+	TrelloObjectFactoryImpl getObjectFactory() {
+		return trelloObjFactory;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -102,13 +509,9 @@ public class TrelloImpl implements Trello {
 	@Override
 	public List<Webhook> getWebhooks() {
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.TOKEN_WEBHOOKS_URL, token)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_WEBHOOKS.url(apiKey, token, null, token);
 
-		return trelloObjFactory.createObject(new TypeToken<List<Webhook>>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_WEBHOOKS, url);
 	}
 	
 	/*
@@ -118,18 +521,14 @@ public class TrelloImpl implements Trello {
 	 */
 	@Override
 	public Webhook createWebhook(String description, String callbackUrl, String idModel) {
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.WEBHOOKS_URL)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.CREATE_WEBHOOK.url(apiKey, token, null);
 		HashMap<String, String> keyValueMap = new HashMap<String, String>();
 		//if (keyValueMap.containsKey("name")) keyValueMap.remove("name");
 		keyValueMap.put("description", description);
 		keyValueMap.put("callbackURL", callbackUrl);
 		keyValueMap.put("idModel", idModel);
 		
-		return trelloObjFactory.createObject(new TypeToken<Webhook>() {
-		}, doPost(url, keyValueMap));
+		return post(TrelloEndpoints.CREATE_WEBHOOK, url, keyValueMap);
 	}
 	
 	/*
@@ -139,12 +538,9 @@ public class TrelloImpl implements Trello {
 	 */
 	@Override
 	public void deleteWebhook(String idWebhook) {
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.WEBHOOKS_ID_URL, idWebhook)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.DELETE_WEBHOOK.url(apiKey, token, null, idWebhook);
 		
-		doDelete(url);
+		delete(TrelloEndpoints.DELETE_WEBHOOK, url);
 	}
 	
 	/*
@@ -154,13 +550,9 @@ public class TrelloImpl implements Trello {
 	 */
 	@Override
 	public Webhook getWebhook(String idWebhook) {
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.WEBHOOKS_ID_URL, idWebhook)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_WEBHOOK.url(apiKey, token, null, idWebhook);
 		
-		return trelloObjFactory.createObject(new TypeToken<Webhook>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_WEBHOOK, url);
 	}
 
 	/*
@@ -172,13 +564,23 @@ public class TrelloImpl implements Trello {
 	public Board getBoard(final String boardId) {
 		validateObjectId(boardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.BOARD_URL, boardId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_BOARD.url(apiKey, token, null, boardId);
 
-		return trelloObjFactory.createObject(new TypeToken<Board>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_BOARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.BoardService#getBoard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public Board getBoard(final String boardId, final ReadOptions options) {
+		validateObjectId(boardId);
+
+		final String url = TrelloEndpoints.GET_BOARD.url(apiKey, token, ReadOptions.filterOf(options), boardId);
+		return get(TrelloEndpoints.GET_BOARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -192,14 +594,23 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(boardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.BOARD_ACTIONS_URL, boardId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_ACTIONS_BY_BOARD.url(apiKey, token, filter, boardId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<Action>>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_ACTIONS_BY_BOARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.BoardService#getActionsByBoard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Action> getActionsByBoard(final String boardId, final ReadOptions options) {
+		validateObjectId(boardId);
+
+		final String url = TrelloEndpoints.GET_ACTIONS_BY_BOARD.url(apiKey, token, ReadOptions.filterOf(options), boardId);
+		return get(TrelloEndpoints.GET_ACTIONS_BY_BOARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -211,13 +622,22 @@ public class TrelloImpl implements Trello {
 	public List<Card> getCardsByBoard(String boardId, Map<String, String> keyValueMap, final String... filter) {
 		validateObjectId(boardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.BOARD_CARDS_URL, boardId)
-				.token(token)
-				.filter(filter)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<List<Card>>() {
-		}, doGet(url, keyValueMap));
+		final String url = TrelloEndpoints.GET_CARDS_BY_BOARD.url(apiKey, token, filter, boardId);
+		return get(TrelloEndpoints.GET_CARDS_BY_BOARD, url, keyValueMap);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.BoardService#getCardsByBoard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Card> getCardsByBoard(final String boardId, final ReadOptions options) {
+		validateObjectId(boardId);
+
+		final String url = TrelloEndpoints.GET_CARDS_BY_BOARD.url(apiKey, token, ReadOptions.filterOf(options), boardId);
+		return get(TrelloEndpoints.GET_CARDS_BY_BOARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -229,12 +649,22 @@ public class TrelloImpl implements Trello {
 	public List<Checklist> getChecklistByBoard(String boardId) {
 		validateObjectId(boardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.BOARD_CHECKLISTS_URL, boardId)
-				.token(token)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<List<Checklist>>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_CHECKLIST_BY_BOARD.url(apiKey, token, null, boardId);
+		return get(TrelloEndpoints.GET_CHECKLIST_BY_BOARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.BoardService#getChecklistByBoard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Checklist> getChecklistByBoard(final String boardId, final ReadOptions options) {
+		validateObjectId(boardId);
+
+		final String url = TrelloEndpoints.GET_CHECKLIST_BY_BOARD.url(apiKey, token, ReadOptions.filterOf(options), boardId);
+		return get(TrelloEndpoints.GET_CHECKLIST_BY_BOARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -247,15 +677,22 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(boardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.BOARD_LISTS_URL, boardId)
-				.token(token)
-				.filter(filter)
-				.build();
-		return trelloObjFactory.createObject(
-				new TypeToken<List<org.trello4j.model.List>>() {
-				},
-				doGet(url));
+		final String url = TrelloEndpoints.GET_LIST_BY_BOARD.url(apiKey, token, filter, boardId);
+		return get(TrelloEndpoints.GET_LIST_BY_BOARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.BoardService#getListByBoard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<org.trello4j.model.List> getListByBoard(final String boardId, final ReadOptions options) {
+		validateObjectId(boardId);
+
+		final String url = TrelloEndpoints.GET_LIST_BY_BOARD.url(apiKey, token, ReadOptions.filterOf(options), boardId);
+		return get(TrelloEndpoints.GET_LIST_BY_BOARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -268,13 +705,22 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(boardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.BOARD_MEMBERS_URL, boardId)
-				.token(token)
-				.filter(filter)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<List<Member>>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_MEMBERS_BY_BOARD.url(apiKey, token, filter, boardId);
+		return get(TrelloEndpoints.GET_MEMBERS_BY_BOARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.BoardService#getMembersByBoard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Member> getMembersByBoard(final String boardId, final ReadOptions options) {
+		validateObjectId(boardId);
+
+		final String url = TrelloEndpoints.GET_MEMBERS_BY_BOARD.url(apiKey, token, ReadOptions.filterOf(options), boardId);
+		return get(TrelloEndpoints.GET_MEMBERS_BY_BOARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -287,13 +733,22 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(boardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.BOARD_MEMBERS_INVITED_URL, boardId)
-				.token(token)
-				.filter(filter)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<List<Member>>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_MEMBERS_INVITED_BY_BOARD.url(apiKey, token, filter, boardId);
+		return get(TrelloEndpoints.GET_MEMBERS_INVITED_BY_BOARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.BoardService#getMembersInvitedByBoard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Member> getMembersInvitedByBoard(final String boardId, final ReadOptions options) {
+		validateObjectId(boardId);
+
+		final String url = TrelloEndpoints.GET_MEMBERS_INVITED_BY_BOARD.url(apiKey, token, ReadOptions.filterOf(options), boardId);
+		return get(TrelloEndpoints.GET_MEMBERS_INVITED_BY_BOARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -305,12 +760,8 @@ public class TrelloImpl implements Trello {
 	public Prefs getPrefsByBoard(String boardId) {
 		validateObjectId(boardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.BOARD_PREFS_URL, boardId)
-				.token(token)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<Prefs>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_PREFS_BY_BOARD.url(apiKey, token, null, boardId);
+		return get(TrelloEndpoints.GET_PREFS_BY_BOARD, url);
 	}
 
 	/*
@@ -323,13 +774,22 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(boardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.BOARD_ORGANIZAION_URL, boardId)
-				.token(token)
-				.filter(filter)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<Organization>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_ORGANIZATION_BY_BOARD.url(apiKey, token, filter, boardId);
+		return get(TrelloEndpoints.GET_ORGANIZATION_BY_BOARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.BoardService#getOrganizationByBoard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public Organization getOrganizationByBoard(final String boardId, final ReadOptions options) {
+		validateObjectId(boardId);
+
+		final String url = TrelloEndpoints.GET_ORGANIZATION_BY_BOARD.url(apiKey, token, ReadOptions.filterOf(options), boardId);
+		return get(TrelloEndpoints.GET_ORGANIZATION_BY_BOARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -341,14 +801,9 @@ public class TrelloImpl implements Trello {
 	public Action getAction(final String actionId, final String... filter) {
 		validateObjectId(actionId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.ACTION_URL, actionId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_ACTION.url(apiKey, token, filter, actionId);
 
-		return trelloObjFactory.createObject(new TypeToken<Action>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_ACTION, url);
 	}
 
 	/*
@@ -359,13 +814,8 @@ public class TrelloImpl implements Trello {
 	@Override
 	public Organization getOrganization(String organizationName,
 			final String... filter) {
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.ORGANIZATION_URL, organizationName)
-				.token(token)
-				.filter(filter)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<Organization>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_ORGANIZATION.url(apiKey, token, filter, organizationName);
+		return get(TrelloEndpoints.GET_ORGANIZATION, url);
 	}
 
 	/*
@@ -375,13 +825,20 @@ public class TrelloImpl implements Trello {
 	 */
 	@Override
 	public Member getMember(String usernameOrId, final String... filter) {
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.MEMBER_URL, usernameOrId)
-				.token(token)
-				.filter(filter)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<Member>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_MEMBER.url(apiKey, token, filter, usernameOrId);
+		return get(TrelloEndpoints.GET_MEMBER, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.MemberService#getMember(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public Member getMember(final String usernameOrId, final ReadOptions options) {
+		final String url = TrelloEndpoints.GET_MEMBER.url(apiKey, token, ReadOptions.filterOf(options), usernameOrId);
+		return get(TrelloEndpoints.GET_MEMBER, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -392,13 +849,20 @@ public class TrelloImpl implements Trello {
 	@Override
 	public List<Board> getBoardsByMember(String usernameOrId,
 			final String... filter) {
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.MEMBER_BOARDS_URL, usernameOrId)
-				.token(token)
-				.filter(filter)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<List<Board>>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_BOARDS_BY_MEMBER.url(apiKey, token, filter, usernameOrId);
+		return get(TrelloEndpoints.GET_BOARDS_BY_MEMBER, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.MemberService#getBoardsByMember(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Board> getBoardsByMember(final String usernameOrId, final ReadOptions options) {
+		final String url = TrelloEndpoints.GET_BOARDS_BY_MEMBER.url(apiKey, token, ReadOptions.filterOf(options), usernameOrId);
+		return get(TrelloEndpoints.GET_BOARDS_BY_MEMBER, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -411,16 +875,8 @@ public class TrelloImpl implements Trello {
 	@Override
 	public List<Board> getBoardsByOrganization(String organizationName,
 			final String... filter) {
-		final String url = TrelloURL
-				.create(
-						apiKey,
-						TrelloURL.ORGANIZATION_BOARDS_URL,
-						organizationName)
-				.token(token)
-				.filter(filter)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<List<Board>>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_BOARDS_BY_ORGANIZATION.url(apiKey, token, filter, organizationName);
+		return get(TrelloEndpoints.GET_BOARDS_BY_ORGANIZATION, url);
 	}
 
 	/*
@@ -432,15 +888,8 @@ public class TrelloImpl implements Trello {
 	 */
 	@Override
 	public List<Action> getActionsByOrganization(String organizationNameOrId) {
-		final String url = TrelloURL
-				.create(
-                        apiKey,
-                        TrelloURL.ORGANIZATION_ACTIONS_URL,
-                        organizationNameOrId)
-				.token(token)
-				.build();
-		return trelloObjFactory.createObject(new TypeToken<List<Action>>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_ACTIONS_BY_ORGANIZATION.url(apiKey, token, null, organizationNameOrId);
+		return get(TrelloEndpoints.GET_ACTIONS_BY_ORGANIZATION, url);
 	}
 
 	/*
@@ -452,13 +901,23 @@ public class TrelloImpl implements Trello {
 	public Card getCard(final String cardId) {
 		validateObjectId(cardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CARD_URL, cardId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_CARD.url(apiKey, token, null, cardId);
 
-		return trelloObjFactory.createObject(new TypeToken<Card>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_CARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.CardService#getCard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public Card getCard(final String cardId, final ReadOptions options) {
+		validateObjectId(cardId);
+
+		final String url = TrelloEndpoints.GET_CARD.url(apiKey, token, ReadOptions.filterOf(options), cardId);
+		return get(TrelloEndpoints.GET_CARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -470,10 +929,7 @@ public class TrelloImpl implements Trello {
 	public List<Action> getActionsByCard(final String cardId, List<String> actions) {
 		validateObjectId(cardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CARD_ACTION_URL, cardId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_ACTIONS_BY_CARD.url(apiKey, token, null, cardId);
 		Map<String, String> keyValueMap = new HashMap<String, String>();
 		if (actions != null && !actions.isEmpty()) {
 			StringBuilder sb = new StringBuilder(actions.get(0));
@@ -482,8 +938,7 @@ public class TrelloImpl implements Trello {
 			}
 			keyValueMap.put("filter", sb.toString());
 		}
-		return trelloObjFactory.createObject(new TypeToken<List<Action>>() {
-		}, doGet(url, keyValueMap));
+		return get(TrelloEndpoints.GET_ACTIONS_BY_CARD, url, keyValueMap);
 	}
 
 	/*
@@ -495,13 +950,23 @@ public class TrelloImpl implements Trello {
 	public List<Attachment> getAttachmentsByCard(final String cardId) {
 		validateObjectId(cardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CARD_ATTACHEMENT_URL, cardId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_ATTACHMENTS_BY_CARD.url(apiKey, token, null, cardId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<Attachment>>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_ATTACHMENTS_BY_CARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.CardService#getAttachmentsByCard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Attachment> getAttachmentsByCard(final String cardId, final ReadOptions options) {
+		validateObjectId(cardId);
+
+		final String url = TrelloEndpoints.GET_ATTACHMENTS_BY_CARD.url(apiKey, token, ReadOptions.filterOf(options), cardId);
+		return get(TrelloEndpoints.GET_ATTACHMENTS_BY_CARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -513,14 +978,23 @@ public class TrelloImpl implements Trello {
 	public Board getBoardByCard(final String cardId, final String... filter) {
 		validateObjectId(cardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CARD_BOARD_URL, cardId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_BOARD_BY_CARD.url(apiKey, token, filter, cardId);
 
-		return trelloObjFactory.createObject(new TypeToken<Board>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_BOARD_BY_CARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.CardService#getBoardByCard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public Board getBoardByCard(final String cardId, final ReadOptions options) {
+		validateObjectId(cardId);
+
+		final String url = TrelloEndpoints.GET_BOARD_BY_CARD.url(apiKey, token, ReadOptions.filterOf(options), cardId);
+		return get(TrelloEndpoints.GET_BOARD_BY_CARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -532,13 +1006,9 @@ public class TrelloImpl implements Trello {
 	public List<CheckItem> getCheckItemStatesByCard(final String cardId) {
 		validateObjectId(cardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CARD_CHECK_ITEM_STATES_URL, cardId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_CHECK_ITEM_STATES_BY_CARD.url(apiKey, token, null, cardId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<CheckItem>>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_CHECK_ITEM_STATES_BY_CARD, url);
 	}
 
 	/*
@@ -550,13 +1020,23 @@ public class TrelloImpl implements Trello {
 	public List<Checklist> getChecklistByCard(final String cardId) {
 		validateObjectId(cardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CARD_CHECKLISTS_URL, cardId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_CHECKLIST_BY_CARD.url(apiKey, token, null, cardId);
+
+		return get(TrelloEndpoints.GET_CHECKLIST_BY_CARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.CardService#getChecklistByCard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Checklist> getChecklistByCard(final String cardId, final ReadOptions options) {
+		validateObjectId(cardId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<Checklist>>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_CHECKLIST_BY_CARD.url(apiKey, token, ReadOptions.filterOf(options), cardId);
+		return get(TrelloEndpoints.GET_CHECKLIST_BY_CARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -569,16 +1049,23 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(cardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CARD_LIST_URL, cardId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_LIST_BY_CARD.url(apiKey, token, filter, cardId);
 
-		return trelloObjFactory.createObject(
-				new TypeToken<org.trello4j.model.List>() {
-				},
-				doGet(url));
+		return get(TrelloEndpoints.GET_LIST_BY_CARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.CardService#getListByCard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public org.trello4j.model.List getListByCard(final String cardId, final ReadOptions options) {
+		validateObjectId(cardId);
+
+		final String url = TrelloEndpoints.GET_LIST_BY_CARD.url(apiKey, token, ReadOptions.filterOf(options), cardId);
+		return get(TrelloEndpoints.GET_LIST_BY_CARD, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -590,30 +1077,36 @@ public class TrelloImpl implements Trello {
 	public List<Member> getMembersByCard(final String cardId) {
 		validateObjectId(cardId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CARD_MEMBERS_URL, cardId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_MEMBERS_BY_CARD.url(apiKey, token, null, cardId);
+
+		return get(TrelloEndpoints.GET_MEMBERS_BY_CARD, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.CardService#getMembersByCard(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Member> getMembersByCard(final String cardId, final ReadOptions options) {
+		validateObjectId(cardId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<Member>>() {
-		}, doGet(url));
+		final String url = TrelloEndpoints.GET_MEMBERS_BY_CARD.url(apiKey, token, ReadOptions.filterOf(options), cardId);
+		return get(TrelloEndpoints.GET_MEMBERS_BY_CARD, url, ReadOptions.queryOf(options));
 	}
 
 	@Override
 	public Card createCard(String idList, String name, Map<String, String> keyValueMap) {
 		validateObjectId(idList);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CARD_URL, "")
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.CREATE_CARD.url(apiKey, token, null, "");
 		if (keyValueMap == null) keyValueMap = new HashMap<String, String>();
 		//if (keyValueMap.containsKey("name")) keyValueMap.remove("name");
 		keyValueMap.put("name", name);
 		keyValueMap.put("idList", idList);
 
-		return trelloObjFactory.createObject(new TypeToken<Card>() {
-		}, doPost(url, keyValueMap));
+		return post(TrelloEndpoints.CREATE_CARD, url, keyValueMap);
 	}
 
 	/*
@@ -625,15 +1118,9 @@ public class TrelloImpl implements Trello {
 	public org.trello4j.model.List getList(final String listId) {
 		validateObjectId(listId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.LIST_URL, listId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_LIST.url(apiKey, token, null, listId);
 
-		return trelloObjFactory.createObject(
-				new TypeToken<org.trello4j.model.List>() {
-				},
-				doGet(url));
+		return get(TrelloEndpoints.GET_LIST, url);
 	}
 
 	/*
@@ -646,14 +1133,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(notificationId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.NOTIFICATION_URL, notificationId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_NOTIFICATION.url(apiKey, token, filter, notificationId);
 
-		return trelloObjFactory.createObject(new TypeToken<Notification>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_NOTIFICATION, url);
 	}
 
 	/*
@@ -665,14 +1147,9 @@ public class TrelloImpl implements Trello {
 	public Checklist getChecklist(String checklistId, final String... filter) {
 		validateObjectId(checklistId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CHECKLIST_URL, checklistId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_CHECKLIST.url(apiKey, token, filter, checklistId);
 
-		return trelloObjFactory.createObject(new TypeToken<Checklist>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_CHECKLIST, url);
 	}
 
 	/*
@@ -682,13 +1159,9 @@ public class TrelloImpl implements Trello {
 	 */
 	@Override
 	public Type getType(String idOrName) {
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.TYPE_URL, idOrName)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_TYPE.url(apiKey, token, null, idOrName);
 
-		return trelloObjFactory.createObject(new TypeToken<Type>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_TYPE, url);
 	}
 
 	/*
@@ -700,14 +1173,9 @@ public class TrelloImpl implements Trello {
 	public Board getBoardByAction(String actionId, final String... filter) {
 		validateObjectId(actionId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.ACTION_BOARD_URL, actionId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_BOARD_BY_ACTION.url(apiKey, token, filter, actionId);
 
-		return trelloObjFactory.createObject(new TypeToken<Board>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_BOARD_BY_ACTION, url);
 	}
 
 	/*
@@ -719,14 +1187,9 @@ public class TrelloImpl implements Trello {
 	public Card getCardByAction(String actionId, final String... filter) {
 		validateObjectId(actionId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.ACTION_CARD_URL, actionId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_CARD_BY_ACTION.url(apiKey, token, filter, actionId);
 
-		return trelloObjFactory.createObject(new TypeToken<Card>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_CARD_BY_ACTION, url);
 	}
 
 	/*
@@ -738,14 +1201,9 @@ public class TrelloImpl implements Trello {
 	public Member getMemberByAction(String actionId, final String... filter) {
 		validateObjectId(actionId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.ACTION_MEMBER_URL, actionId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_MEMBER_BY_ACTION.url(apiKey, token, filter, actionId);
 
-		return trelloObjFactory.createObject(new TypeToken<Member>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_MEMBER_BY_ACTION, url);
 	}
 
 	/*
@@ -758,16 +1216,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(actionId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.ACTION_LIST_URL, actionId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_LIST_BY_ACTION.url(apiKey, token, filter, actionId);
 
-		return trelloObjFactory.createObject(
-				new TypeToken<org.trello4j.model.List>() {
-				},
-				doGet(url));
+		return get(TrelloEndpoints.GET_LIST_BY_ACTION, url);
 	}
 
 	/*
@@ -781,14 +1232,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(actionId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.ACTION_MEMBERCREATOR_URL, actionId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_MEMBER_CREATOR_BY_ACTION.url(apiKey, token, filter, actionId);
 
-		return trelloObjFactory.createObject(new TypeToken<Member>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_MEMBER_CREATOR_BY_ACTION, url);
 	}
 
 	/*
@@ -801,14 +1247,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(actionId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.ACTION_ORGANIZATION_URL, actionId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_ORGANIZATION_BY_ACTION.url(apiKey, token, filter, actionId);
 
-		return trelloObjFactory.createObject(new TypeToken<Organization>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_ORGANIZATION_BY_ACTION, url);
 	}
 
 	/*
@@ -822,17 +1263,9 @@ public class TrelloImpl implements Trello {
 	public List<Member> getMembersByOrganization(String organizationNameOrId,
 			final String... filter) {
 
-		final String url = TrelloURL
-				.create(
-						apiKey,
-						TrelloURL.ORGANIZATION_MEMBERS_URL,
-						organizationNameOrId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_MEMBERS_BY_ORGANIZATION.url(apiKey, token, filter, organizationNameOrId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<Member>>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_MEMBERS_BY_ORGANIZATION, url);
 	}
 
 	/*
@@ -846,17 +1279,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(notificationId);
 
-		final String url = TrelloURL
-				.create(
-						apiKey,
-						TrelloURL.NOTIFICATION_BOARDS_URL,
-						notificationId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_BOARD_BY_NOTIFICATION.url(apiKey, token, filter, notificationId);
 
-		return trelloObjFactory.createObject(new TypeToken<Board>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_BOARD_BY_NOTIFICATION, url);
 	}
 
 	/*
@@ -870,17 +1295,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(notificationId);
 
-		final String url = TrelloURL
-				.create(
-						apiKey,
-						TrelloURL.NOTIFICATION_CARDS_URL,
-						notificationId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_CARD_BY_NOTIFICATION.url(apiKey, token, filter, notificationId);
 
-		return trelloObjFactory.createObject(new TypeToken<Card>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_CARD_BY_NOTIFICATION, url);
 	}
 
 	/*
@@ -894,16 +1311,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(notificationId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.NOTIFICATION_LIST_URL, notificationId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_LIST_BY_NOTIFICATION.url(apiKey, token, filter, notificationId);
 
-		return trelloObjFactory.createObject(
-				new TypeToken<org.trello4j.model.List>() {
-				},
-				doGet(url));
+		return get(TrelloEndpoints.GET_LIST_BY_NOTIFICATION, url);
 	}
 
 	/*
@@ -918,17 +1328,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(notificationId);
 
-		final String url = TrelloURL
-				.create(
-						apiKey,
-						TrelloURL.NOTIFICATION_MEMBERS_URL,
-						notificationId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_MEMBER_BY_NOTIFICATION.url(apiKey, token, filter, notificationId);
 
-		return trelloObjFactory.createObject(new TypeToken<Member>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_MEMBER_BY_NOTIFICATION, url);
 	}
 
 	/*
@@ -943,17 +1345,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(notificationId);
 
-		final String url = TrelloURL
-				.create(
-						apiKey,
-						TrelloURL.NOTIFICATION_MEMBER_CREATOR_URL,
-						notificationId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_MEMBER_CREATOR_BY_NOTIFICATION.url(apiKey, token, filter, notificationId);
 
-		return trelloObjFactory.createObject(new TypeToken<Member>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_MEMBER_CREATOR_BY_NOTIFICATION, url);
 	}
 
 	/*
@@ -968,17 +1362,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(notificationId);
 
-		final String url = TrelloURL
-				.create(
-						apiKey,
-						TrelloURL.NOTIFICATION_ORGANIZATION_URL,
-						notificationId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_ORGANIZATION_CREATOR_BY_NOTIFICATION.url(apiKey, token, filter, notificationId);
 
-		return trelloObjFactory.createObject(new TypeToken<Member>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_ORGANIZATION_CREATOR_BY_NOTIFICATION, url);
 	}
 
 	/*
@@ -990,13 +1376,9 @@ public class TrelloImpl implements Trello {
 	public List<Action> getActionsByList(String listId) {
 		validateObjectId(listId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.LIST_ACTIONS_URL, listId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_ACTIONS_BY_LIST.url(apiKey, token, null, listId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<Action>>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_ACTIONS_BY_LIST, url);
 	}
 
 	/*
@@ -1008,14 +1390,9 @@ public class TrelloImpl implements Trello {
 	public Board getBoardByList(String listId, final String... filter) {
 		validateObjectId(listId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.LIST_BOARD_URL, listId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_BOARD_BY_LIST.url(apiKey, token, filter, listId);
 
-		return trelloObjFactory.createObject(new TypeToken<Board>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_BOARD_BY_LIST, url);
 	}
 
 	/*
@@ -1027,14 +1404,9 @@ public class TrelloImpl implements Trello {
 	public List<Card> getCardsByList(String listId, final String... filter) {
 		validateObjectId(listId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.LIST_CARDS_URL, listId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_CARDS_BY_LIST.url(apiKey, token, filter, listId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<Card>>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_CARDS_BY_LIST, url);
 	}
 
 	/*
@@ -1045,13 +1417,21 @@ public class TrelloImpl implements Trello {
 	@Override
 	public List<Action> getActionsByMember(String usernameOrId) {
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.MEMBER_ACTIONS_URL, usernameOrId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_ACTIONS_BY_MEMBER.url(apiKey, token, null, usernameOrId);
+
+		return get(TrelloEndpoints.GET_ACTIONS_BY_MEMBER, url);
+	}
 
-		return trelloObjFactory.createObject(new TypeToken<List<Action>>() {
-		}, doGet(url));
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.MemberService#getActionsByMember(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Action> getActionsByMember(final String usernameOrId, final ReadOptions options) {
+		final String url = TrelloEndpoints.GET_ACTIONS_BY_MEMBER.url(apiKey, token, ReadOptions.filterOf(options), usernameOrId);
+		return get(TrelloEndpoints.GET_ACTIONS_BY_MEMBER, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -1063,14 +1443,21 @@ public class TrelloImpl implements Trello {
 	public List<Card> getCardsByMember(String usernameOrId,
 			final String... filter) {
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.MEMBER_CARDS_URL, usernameOrId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_CARDS_BY_MEMBER.url(apiKey, token, filter, usernameOrId);
+
+		return get(TrelloEndpoints.GET_CARDS_BY_MEMBER, url);
+	}
 
-		return trelloObjFactory.createObject(new TypeToken<List<Card>>() {
-		}, doGet(url));
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.MemberService#getCardsByMember(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Card> getCardsByMember(final String usernameOrId, final ReadOptions options) {
+		final String url = TrelloEndpoints.GET_CARDS_BY_MEMBER.url(apiKey, token, ReadOptions.filterOf(options), usernameOrId);
+		return get(TrelloEndpoints.GET_CARDS_BY_MEMBER, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -1083,19 +1470,21 @@ public class TrelloImpl implements Trello {
 	public List<Notification> getNotificationsByMember(String usernameOrId,
 			final String... filter) {
 
-		final String url = TrelloURL
-				.create(
-						apiKey,
-						TrelloURL.MEMBER_NOTIFIACTIONS_URL,
-						usernameOrId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_NOTIFICATIONS_BY_MEMBER.url(apiKey, token, filter, usernameOrId);
 
-		return trelloObjFactory.createObject(
-				new TypeToken<List<Notification>>() {
-				},
-				doGet(url));
+		return get(TrelloEndpoints.GET_NOTIFICATIONS_BY_MEMBER, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.MemberService#getNotificationsByMember(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Notification> getNotificationsByMember(final String usernameOrId, final ReadOptions options) {
+		final String url = TrelloEndpoints.GET_NOTIFICATIONS_BY_MEMBER.url(apiKey, token, ReadOptions.filterOf(options), usernameOrId);
+		return get(TrelloEndpoints.GET_NOTIFICATIONS_BY_MEMBER, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -1108,16 +1497,21 @@ public class TrelloImpl implements Trello {
 	public List<Organization> getOrganizationsByMember(String usernameOrId,
 			final String... filter) {
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.MEMBER_ORGANIZATION_URL, usernameOrId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_ORGANIZATIONS_BY_MEMBER.url(apiKey, token, filter, usernameOrId);
 
-		return trelloObjFactory.createObject(
-				new TypeToken<List<Organization>>() {
-				},
-				doGet(url));
+		return get(TrelloEndpoints.GET_ORGANIZATIONS_BY_MEMBER, url);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.MemberService#getOrganizationsByMember(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Organization> getOrganizationsByMember(final String usernameOrId, final ReadOptions options) {
+		final String url = TrelloEndpoints.GET_ORGANIZATIONS_BY_MEMBER.url(apiKey, token, ReadOptions.filterOf(options), usernameOrId);
+		return get(TrelloEndpoints.GET_ORGANIZATIONS_BY_MEMBER, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -1131,19 +1525,21 @@ public class TrelloImpl implements Trello {
 	public List<Organization> getOrganizationsInvitedByMember(
 			String usernameOrId, final String... filter) {
 
-		final String url = TrelloURL
-				.create(
-						apiKey,
-						TrelloURL.MEMBER_ORGANIZATION_INVITED_URL,
-						usernameOrId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_ORGANIZATIONS_INVITED_BY_MEMBER.url(apiKey, token, filter, usernameOrId);
+
+		return get(TrelloEndpoints.GET_ORGANIZATIONS_INVITED_BY_MEMBER, url);
+	}
 
-		return trelloObjFactory.createObject(
-				new TypeToken<List<Organization>>() {
-				},
-				doGet(url));
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.trello4j.MemberService#getOrganizationsInvitedByMember(java.lang.String,
+	 * org.trello4j.ReadOptions)
+	 */
+	@Override
+	public List<Organization> getOrganizationsInvitedByMember(final String usernameOrId, final ReadOptions options) {
+		final String url = TrelloEndpoints.GET_ORGANIZATIONS_INVITED_BY_MEMBER.url(apiKey, token, ReadOptions.filterOf(options), usernameOrId);
+		return get(TrelloEndpoints.GET_ORGANIZATIONS_INVITED_BY_MEMBER, url, ReadOptions.queryOf(options));
 	}
 
 	/*
@@ -1156,14 +1552,9 @@ public class TrelloImpl implements Trello {
 			getBoardByChecklist(String checklistId, final String... filter) {
 		validateObjectId(checklistId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CHECKLIST_BOARD_URL, checklistId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_BOARD_BY_CHECKLIST.url(apiKey, token, filter, checklistId);
 
-		return trelloObjFactory.createObject(new TypeToken<Board>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_BOARD_BY_CHECKLIST, url);
 	}
 
 	/*
@@ -1176,13 +1567,9 @@ public class TrelloImpl implements Trello {
 	public List<CheckItem> getCheckItemsByChecklist(String checklistId) {
 		validateObjectId(checklistId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CHECKLIST_CHECKITEMS_URL, checklistId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.GET_CHECK_ITEMS_BY_CHECKLIST.url(apiKey, token, null, checklistId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<CheckItem>>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_CHECK_ITEMS_BY_CHECKLIST, url);
 	}
 
 	/*
@@ -1195,14 +1582,9 @@ public class TrelloImpl implements Trello {
 			final String... filter) {
 		validateObjectId(checklistId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CHECKLIST_CARDS_URL, checklistId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_CARD_BY_CHECKLIST.url(apiKey, token, filter, checklistId);
 
-		return trelloObjFactory.createObject(new TypeToken<List<Card>>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_CARD_BY_CHECKLIST, url);
 	}
 
 	/*
@@ -1214,14 +1596,9 @@ public class TrelloImpl implements Trello {
 	public Token getToken(String tokenId, final String... filter) {
 		// validateObjectId(tokenId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.TOKENS_URL, tokenId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_TOKEN.url(apiKey, token, filter, tokenId);
 
-		return trelloObjFactory.createObject(new TypeToken<Token>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_TOKEN, url);
 	}
 
 	/*
@@ -1233,208 +1610,404 @@ public class TrelloImpl implements Trello {
 	public Member getMemberByToken(String tokenId, final String... filter) {
 		// validateObjectId(tokenId);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.TOKENS_MEMBER_URL, tokenId)
-				.token(token)
-				.filter(filter)
-				.build();
+		final String url = TrelloEndpoints.GET_MEMBER_BY_TOKEN.url(apiKey, token, filter, tokenId);
 
-		return trelloObjFactory.createObject(new TypeToken<Member>() {
-		}, doGet(url));
+		return get(TrelloEndpoints.GET_MEMBER_BY_TOKEN, url);
 	}
 	
 	@Override
 	public List<Label> getLabelsByBoard(String boardId, Integer limit, String... filter) {
-		String url = TrelloURL.create(apiKey, TrelloURL.BOARD_LABELS_URL, boardId).token(token).filter(filter).build();
+		String url = TrelloEndpoints.GET_LABELS_BY_BOARD.url(apiKey, token, filter, boardId);
 		HashMap<String, String> keyValueMap = new HashMap<String, String>();
 		if (limit != null) {
 			keyValueMap.put("limit", limit.toString());
 		}
-		return trelloObjFactory.createObject(new TypeToken<List<Label>>() {}, doGet(url, keyValueMap));
+		return get(TrelloEndpoints.GET_LABELS_BY_BOARD, url, keyValueMap);
 	}
 
 	@Override
 	public void deleteIdLabelByCard(String cardId, String idLabel) {
-		String url = TrelloURL.create(apiKey, TrelloURL.CARD_IDLABELS_URL, cardId, idLabel).token(token).build();
-		doDelete(url);
+		String url = TrelloEndpoints.DELETE_ID_LABEL_BY_CARD.url(apiKey, token, null, cardId, idLabel);
+		delete(TrelloEndpoints.DELETE_ID_LABEL_BY_CARD, url);
 	}
 
 	@Override
 	public void deleteCard(String cardId) {
-		String url = TrelloURL.create(apiKey, TrelloURL.CARD_URL, cardId).token(token).build();
-		doDelete(url);
+		String url = TrelloEndpoints.DELETE_CARD.url(apiKey, token, null, cardId);
+		delete(TrelloEndpoints.DELETE_CARD, url);
 	}
 
 	@Override
 	public List<String> addLabelToCard(String cardId, String idLabel) {
-		String url = TrelloURL.create(apiKey, TrelloURL.CARD_IDLABELS_URL, cardId, "").token(token).build();
+		String url = TrelloEndpoints.ADD_LABEL_TO_CARD.url(apiKey, token, null, cardId, "");
 		HashMap<String, String> keyValueMap = new HashMap<String, String>();
 		keyValueMap.put("value", idLabel);
-		return trelloObjFactory.createObject(new TypeToken<List<String>>() {}, doPost(url, keyValueMap));
+		return post(TrelloEndpoints.ADD_LABEL_TO_CARD, url, keyValueMap);
 	}
 
 	@Override
 	public Action addCommentToCard(String cardId, String text) {
-		String url = TrelloURL.create(apiKey, TrelloURL.CARD_ACTION_COMMENT_URL, cardId).token(token).build();
+		String url = TrelloEndpoints.ADD_COMMENT_TO_CARD.url(apiKey, token, null, cardId);
 		HashMap<String, String> keyValueMap = new HashMap<String, String>();
 		keyValueMap.put("text", text);
-		return trelloObjFactory.createObject(new TypeToken<Action>() {}, doPost(url, keyValueMap));
+		return post(TrelloEndpoints.ADD_COMMENT_TO_CARD, url, keyValueMap);
 	}
 
 	@Override
 	public Checklist addChecklistToCard(String cardId, String name, String idChecklistSource) {
-		String url = TrelloURL.create(apiKey, TrelloURL.CARD_CHECKLISTS_URL, cardId).token(token).build();
+		String url = TrelloEndpoints.ADD_CHECKLIST_TO_CARD.url(apiKey, token, null, cardId);
 		HashMap<String, String> keyValueMap = new HashMap<String, String>();
 		keyValueMap.put("name", name);
 		if (idChecklistSource != null && idChecklistSource.trim().isEmpty()) {
 			keyValueMap.put("idChecklistSource", idChecklistSource);
 		}
-		return trelloObjFactory.createObject(new TypeToken<Checklist>() {}, doPost(url, keyValueMap));
+		return post(TrelloEndpoints.ADD_CHECKLIST_TO_CARD, url, keyValueMap);
 	}
 
 	@Override
 	public void updateCard(String cardId, Map<String, String> keyValueMap) {
-		String url = TrelloURL.create(apiKey, TrelloURL.CARD_URL, cardId).token(token).build();
-		doPut(url, keyValueMap);
+		String url = TrelloEndpoints.UPDATE_CARD.url(apiKey, token, null, cardId);
+		put(TrelloEndpoints.UPDATE_CARD, url, keyValueMap);
 	}
 
 	@Override
 	public org.trello4j.model.List createList(String idBoard, String name, Map<String, String> keyValueMap) {
 		validateObjectId(idBoard);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.LIST_URL, "")
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.CREATE_LIST.url(apiKey, token, null, "");
 		if (keyValueMap == null) keyValueMap = new HashMap<String, String>();
 		//if (keyValueMap.containsKey("name")) keyValueMap.remove("name");
 		keyValueMap.put("name", name);
 		keyValueMap.put("idBoard", idBoard);
 
-		return trelloObjFactory.createObject(new TypeToken<org.trello4j.model.List>() {
-		}, doPost(url, keyValueMap));
+		return post(TrelloEndpoints.CREATE_LIST, url, keyValueMap);
 	}
 
 	@Override
 	public Label createLabel(String idBoard, String name, String color) {
 		validateObjectId(idBoard);
 
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.LABEL_URL, "")
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.CREATE_LABEL.url(apiKey, token, null, "");
 		Map<String, String> keyValueMap = new HashMap<String, String>();
 		keyValueMap.put("idBoard", idBoard);
 		keyValueMap.put("name", name);
 		if (color != null) {
 			keyValueMap.put("color", color);
 		}
-		return trelloObjFactory.createObject(new TypeToken<Label>() {
-		}, doPost(url, keyValueMap));
+		return post(TrelloEndpoints.CREATE_LABEL, url, keyValueMap);
 	}
 	
 	@Override
 	public CheckItem addCheckItemToChecklist(String checklistId, String name, Map<String, String> keyValueMap) {
-		final String url = TrelloURL
-				.create(apiKey, TrelloURL.CHECKLIST_CHECKITEMS_URL, checklistId)
-				.token(token)
-				.build();
+		final String url = TrelloEndpoints.ADD_CHECK_ITEM_TO_CHECKLIST.url(apiKey, token, null, checklistId);
 		if (keyValueMap == null) keyValueMap = new HashMap<String, String>();
 		keyValueMap.put("name", name);
-		return trelloObjFactory.createObject(new TypeToken<CheckItem>() {
-				}, doPost(url, keyValueMap));
+		return post(TrelloEndpoints.ADD_CHECK_ITEM_TO_CHECKLIST, url, keyValueMap);
 	}
 
-	private InputStream doGet(String url) {
-		return doGet(url, null);
-	}
-	
-	private InputStream doGet(String url, Map<String, String> map) {
-		return doRequest(url, METHOD_GET, map);
+	private <T> T get(TrelloEndpoint<T> endpoint, String url) {
+		return get(endpoint, url, null);
 	}
 
-	private InputStream doPut(String url, Map<String, String> map) {
-		return doRequest(url, METHOD_PUT, map);
+	/**
+	 * GET and decode a resource, sharing the call with identical ones in
+	 * flight when GET coalescing is enabled.
+	 */
+	private <T> T get(final TrelloEndpoint<T> endpoint, String url, Map<String, String> map) {
+		RequestCoalescer coalescer = this.coalescer;
+		if (coalescer == null) {
+			return trelloObjFactory.createObject(endpoint.getResponseType(), doRequest(endpoint, url, map));
+		}
+		final String fullUrl = appendQuery(url, map);
+		return coalescer.execute(endpoint.getKey() + " " + fullUrl, new Callable<T>() {
+			@Override
+			public T call() {
+				return trelloObjFactory.createObject(endpoint.getResponseType(), doRequest(endpoint, fullUrl, null));
+			}
+		}, callTimeoutNanos);
 	}
 
-	private InputStream doPost(String url, Map<String, String> map) {
-		return doRequest(url, METHOD_POST, map);
+	private <T> T post(TrelloEndpoint<T> endpoint, String url, Map<String, String> map) {
+		return trelloObjFactory.createObject(endpoint.getResponseType(), doRequest(endpoint, url, map));
 	}
 
-	private InputStream doDelete(String url) {
-		return doRequest(url, METHOD_DELETE);
+	private void put(TrelloEndpoint<?> endpoint, String url, Map<String, String> map) {
+		closeStream(doRequest(endpoint, url, map));
 	}
 
-	private InputStream doRequest(String url, String requestMethod) {
-        return doRequest(url, requestMethod, null);
+	private void delete(TrelloEndpoint<?> endpoint, String url) {
+		closeStream(doRequest(endpoint, url, null));
 	}
 
 	/**
-	 * Execute a POST request with URL-encoded key-value parameter pairs.
+	 * Execute a request with URL-encoded key-value parameter pairs, sent as
+	 * form body for POST and PUT and as query string otherwise.
+	 * @param endpoint the endpoint called.
 	 * @param url Trello API URL.
 	 * @param map Key-value map.
 	 * @return the response input stream.
 	 */
-	private InputStream doRequest(String url, String requestMethod, Map<String, String> map) {
+	private InputStream doRequest(TrelloEndpoint<?> endpoint, String url, Map<String, String> map) {
+		String requestMethod = endpoint.getMethod();
+		FormBody params = map == null ? null : new FormBody(map);
+		TrelloRequest request;
+		if (METHOD_POST.equals(requestMethod) || METHOD_PUT.equals(requestMethod)) {
+			request = new TrelloRequest(requestMethod, url);
+			if (params != null && !params.isEmpty()) {
+				request.body(params);
+			}
+		} else {
+			url = appendQuery(url, params);
+			request = new TrelloRequest(requestMethod, url);
+		}
+		request.endpoint(endpoint.getPath())
+				.family(endpoint.getFamily())
+				.header("Accept-Encoding", "gzip, deflate")
+				.connectTimeout(connectTimeoutMillis)
+				.readTimeout(readTimeoutMillis)
+				.cancellation(cancellation);
+		if (callTimeoutNanos > 0) {
+			request.deadline(callTimeoutNanos, TimeUnit.NANOSECONDS);
+		}
 		try {
-            StringBuilder sb = new StringBuilder();
-            if(map != null && !map.isEmpty()) {
-                for (String key : map.keySet()) {
-                    sb.append(sb.length() > 0 ? "&" : "")
-                        .append(key)
-                        .append("=")
-                        .append(URLEncoder.encode(map.get(key), "UTF-8"));
-                }
-            }
-            if (sb.length() > 0) {
-            	url = url + (url.contains("?") ? "&" : "?") + sb.toString();
-            }
-			HttpsURLConnection conn;
-			if (proxy == null) {
-				conn = (HttpsURLConnection) new URL(url).openConnection();
+
+			TrelloResponse response = execute(request);
+			if (response.getStatusCode() > 399) {
+				throw toHttpException(request, response);
 			} else {
-				conn = (HttpsURLConnection) new URL(url).openConnection(proxy);
+				return contentDecoder.decode(
+						new ResponseBodyInputStream(response.getBody(), request),
+						response.getContentEncoding());
 			}
-			conn.setRequestProperty("Accept-Encoding", "gzip, deflate");
-            conn.setDoOutput(requestMethod.equals(METHOD_POST) || requestMethod.equals(METHOD_PUT));
-            conn.setRequestMethod(requestMethod);
-
-            if(conn.getDoOutput()) {
-                conn.getOutputStream().write(sb.toString().getBytes());
-                conn.getOutputStream().close();
-            }
-
-            if (conn.getResponseCode() == 429) {
-            	try {
-            		System.out.println("Waiting for Trello API rate limits");
-            		Thread.sleep(10000); //10 seconds as the doc recomends
-            	} catch (Exception e) {
-            	}
-            	return doRequest(url, requestMethod, map);
-            } else if (conn.getResponseCode() > 399) {
-            	StringBuilder responseError = new StringBuilder();
-            	try {
-	            	if (conn.getErrorStream() != null) {
-	            		BufferedReader br = new BufferedReader(new InputStreamReader(getWrappedInputStream(conn.getErrorStream(), GZIP_ENCODING.equalsIgnoreCase(conn.getContentEncoding()))));
-	            		String data = null;
-	            		while ((data = br.readLine()) != null) {
-	            			responseError.append(data).append("\n");
-	            		}
-	            		br.close();
-	            	}
-            	} catch (Exception e) {
-            		
-            	}
-            	System.err.println("Response error: " + conn.getResponseCode() + " - " + url + " - " + requestMethod + " - " + map + " - "+ responseError.toString());
-				return null;
-			} else {
-				return getWrappedInputStream(
-                    conn.getInputStream(), GZIP_ENCODING.equalsIgnoreCase(conn.getContentEncoding())
-                );
+		} catch (IOException e) {
+			throw toTrelloException(request, e);
+		}
+	}
+
+	/**
+	 * Reads at most {@value #MAX_ERROR_BODY_BYTES} bytes of an error response
+	 * and closes it, which drains the rest so the connection can be reused.
+	 */
+	private TrelloHttpException toHttpException(TrelloRequest request, TrelloResponse response) {
+		String body = "";
+		InputStream in = null;
+		try {
+			in = contentDecoder.decode(response.getBody(), response.getContentEncoding());
+			byte[] buffer = new byte[MAX_ERROR_BODY_BYTES];
+			int length = 0;
+			int n;
+			while (length < buffer.length && (n = in.read(buffer, length, buffer.length - length)) != -1) {
+				length += n;
 			}
+			body = new String(buffer, 0, length, "UTF-8");
 		} catch (IOException e) {
-			throw new TrelloException(e.getMessage(), e);
+			// status alone is reported
+		} finally {
+			closeStream(in != null ? in : response.getBody());
 		}
+		return new TrelloHttpException(response.getStatusCode(), request.getMethod(),
+				request.getEndpoint(), parseErrorMessage(body));
+	}
+
+	/**
+	 * Trello sends errors either as plain text or as an object with a
+	 * <code>message</code> or <code>error</code> member.
+	 */
+	private static String parseErrorMessage(String body) {
+		body = body.trim();
+		if (body.startsWith("{")) {
+			try {
+				JsonElement json = new JsonParser().parse(body);
+				for (String name : new String[] { "message", "error" }) {
+					JsonElement message = json.getAsJsonObject().get(name);
+					if (message != null && message.isJsonPrimitive()) {
+						return message.getAsString();
+					}
+				}
+			} catch (JsonParseException e) {
+				// truncated or not JSON after all
+			}
+		}
+		return body;
+	}
+
+	/**
+	 * Reports timeouts as {@link TrelloTimeoutException} and failures caused
+	 * by cancellation as such.
+	 */
+	static TrelloException toTrelloException(TrelloRequest request, IOException e) {
+		String call = request.getMethod() + " " + stripQuery(request.getUrl());
+		if (request.isCancelled()) {
+			return new TrelloException("Request cancelled: " + call, e);
+		}
+		if (e instanceof SocketTimeoutException) {
+			return new TrelloTimeoutException("Request timed out: " + call + ": " + e.getMessage(), e);
+		}
+		return new TrelloException(e.getMessage(), e);
+	}
+
+	private static String appendQuery(String url, Map<String, String> map) {
+		return map == null ? url : appendQuery(url, new FormBody(map));
+	}
+
+	private static String appendQuery(String url, FormBody params) {
+		if (params == null || params.isEmpty()) {
+			return url;
+		}
+		StringBuilder sb = new StringBuilder(url).append(url.contains("?") ? '&' : '?');
+		params.appendTo(sb);
+		return sb.toString();
+	}
+
+	/**
+	 * Sends the request once a rate limit permit is available.
+	 * <p/>
+	 * Requests rejected with HTTP 429 are retried a bounded number of times,
+	 * holding back every request sharing the rate limiter in the meantime.
+	 * Connection failures and server errors are retried as allowed by the
+	 * retry policy, each attempt passing the circuit breaker of the endpoint
+	 * family.
+	 * 
+	 * @return the final response, which may still be an error
+	 */
+	private TrelloResponse execute(TrelloRequest request) throws IOException {
+		RetryPolicy policy = retryPolicy;
+		policy.onRequest();
+		CircuitBreakerRegistry breakers = circuitBreakers;
+		String family = request.getFamily();
+		CircuitBreaker breaker = breakers == null || family == null ? null : breakers.get(family);
+		int rateLimited = 0;
+		for (int attempt = 1;; attempt++) {
+			if (request.isCancelled()) {
+				throw new InterruptedIOException("Request cancelled");
+			}
+			if (breaker != null && !breaker.tryAcquire()) {
+				throw new TrelloCircuitOpenException(family, breaker.getRemainingOpenMillis());
+			}
+			RequestScheduler scheduler = requestScheduler;
+			RateLimiter limiter = scheduler != null ? scheduler.getRateLimiter() : rateLimiter;
+			boolean permitted = false;
+			try {
+				if (scheduler != null) {
+					if (!scheduler.acquire(priority, request.getRemainingMillis())) {
+						throw new SocketTimeoutException("Deadline exceeded waiting for Trello API rate limit");
+					}
+				} else if (limiter != null && !request.hasDeadline()) {
+					limiter.acquire();
+				} else if (limiter != null
+						&& !limiter.tryAcquire(request.getRemainingMillis(), TimeUnit.MILLISECONDS)) {
+					throw new SocketTimeoutException("Deadline exceeded waiting for Trello API rate limit");
+				}
+				permitted = true;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new TrelloException("Interrupted waiting for Trello API rate limit", e);
+			} finally {
+				if (!permitted && breaker != null) {
+					breaker.onIgnored();
+				}
+			}
+			HedgePolicy hedge = hedgePolicy;
+			long start = System.nanoTime();
+			TrelloResponse response;
+			try {
+				if (hedge != null && hedge.appliesTo(request)) {
+					response = HedgedRequest.execute(transport, request, hedge, limiter);
+				} else {
+					response = transport.execute(request);
+				}
+			} catch (IOException e) {
+				if (limiter != null) {
+					limiter.complete(null, null);
+				}
+				if (breaker != null && request.isCancelled()) {
+					breaker.onIgnored();
+				} else if (breaker != null) {
+					breaker.onFailure(System.nanoTime() - start);
+				}
+				if (!request.isCancelled() && policy.shouldRetry(request, attempt, e)) {
+					pause(request, policy.getDelayMillis(attempt));
+					continue;
+				}
+				throw e;
+			} catch (RuntimeException e) {
+				// a bug rather than a failure of Trello, but the permits are returned
+				if (limiter != null) {
+					limiter.complete(null, null);
+				}
+				if (breaker != null) {
+					breaker.onIgnored();
+				}
+				throw e;
+			}
+			if (limiter != null) {
+				limiter.complete(
+						getRateLimitStatus(response, RATE_LIMIT_API_KEY_HEADER),
+						getRateLimitStatus(response, RATE_LIMIT_TOKEN_HEADER));
+			}
+			int status = response.getStatusCode();
+			if (breaker != null && status == 429) {
+				breaker.onIgnored();
+			} else if (breaker != null && status >= 500) {
+				breaker.onFailure(System.nanoTime() - start);
+			} else if (breaker != null) {
+				breaker.onSuccess(System.nanoTime() - start);
+			}
+			if (status == 429 && rateLimited < MAX_RATE_LIMIT_RETRIES) {
+				// not processed by Trello, safe to send again for any method
+				closeStream(response.getBody());
+				long pause = getRateLimitPause(response, rateLimited++);
+				if (limiter != null) {
+					limiter.onRateLimited(pause);
+				} else {
+					pause(request, pause);
+				}
+				attempt--;
+			} else if (policy.shouldRetry(request, attempt, status)) {
+				closeStream(response.getBody());
+				pause(request, policy.getDelayMillis(attempt));
+			} else {
+				return response;
+			}
+		}
+	}
+
+	/**
+	 * Sleeps before the next attempt of a request, failing right away if the
+	 * request would miss its deadline.
+	 */
+	private static void pause(TrelloRequest request, long millis) throws SocketTimeoutException {
+		if (millis <= 0) {
+			return;
+		}
+		if (millis >= request.getRemainingMillis()) {
+			throw new SocketTimeoutException("Deadline exceeded before retry");
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TrelloException("Interrupted waiting to retry request", e);
+		}
+	}
+
+	private static RateLimitStatus getRateLimitStatus(TrelloResponse response, String prefix) {
+		return RateLimitStatus.fromHeaders(
+				response.getHeader(prefix + "max"),
+				response.getHeader(prefix + "remaining"),
+				response.getHeader(prefix + "interval-ms"));
+	}
+
+	private long getRateLimitPause(TrelloResponse response, int attempt) {
+		String retryAfter = response.getHeader("Retry-After");
+		if (retryAfter != null) {
+			try {
+				return Long.parseLong(retryAfter.trim()) * 1000;
+			} catch (NumberFormatException e) {
+				// HTTP date, fall back to the default pause
+			}
+		}
+		return RATE_LIMIT_PAUSE_MILLIS << attempt;
 	}
 
 	private void validateObjectId(String id) {
@@ -1443,23 +2016,22 @@ public class TrelloImpl implements Trello {
 		}
 	}
 
-	private InputStream getWrappedInputStream(InputStream is, boolean gzip)
-			throws IOException {
-		/*
-		 * TODO: What about this? ---------------------- "Java clients which use
-		 * java.util.zip.GZIPInputStream() and wrap it with a
-		 * java.io.BufferedReader() to read streaming API data will encounter
-		 * buffering on low volume streams, since GZIPInputStream's available()
-		 * method is not suitable for streaming purposes. To fix this, create a
-		 * subclass of GZIPInputStream() which overrides the available()
-		 * method."
-		 * 
-		 * https://dev.twitter.com/docs/streaming-api/concepts#gzip-compression
-		 */
-		if (gzip) {
-			return new BufferedInputStream(new GZIPInputStream(is));
-		} else {
-			return new BufferedInputStream(is);
+	/**
+	 * Removes the query string, which holds the API key and token, from an URL
+	 * before it ends up in a log or exception message.
+	 */
+	private static String stripQuery(String url) {
+		int query = url.indexOf('?');
+		return query == -1 ? url : url.substring(0, query);
+	}
+
+	private void closeStream(InputStream is) {
+		if (is != null) {
+			try {
+				is.close();
+			} catch (IOException e) {
+				// nothing left to read
+			}
 		}
 	}
 
@@ -1,23 +1,43 @@
 package org.trello4j;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
+import org.trello4j.gson.Iso8601DateAdapter;
+import org.trello4j.gson.LazyModelReader;
+import org.trello4j.gson.ModelTypeAdapterFactory;
 import org.trello4j.gson.PermissionTypeDeserializer;
 import org.trello4j.gson.TrelloTypeDeserializer;
+import org.trello4j.http.JsonBody;
+import org.trello4j.model.Action;
+import org.trello4j.model.Board;
 import org.trello4j.model.Board.PERMISSION_TYPE;
+import org.trello4j.model.Card;
+import org.trello4j.model.Checklist;
+import org.trello4j.model.Label;
+import org.trello4j.model.Member;
+import org.trello4j.model.Notification;
+import org.trello4j.model.Organization;
+import org.trello4j.model.Token;
 import org.trello4j.model.TrelloType;
+import org.trello4j.model.Type;
+import org.trello4j.model.Webhook;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
 /**
  * The Class TrelloObjectFactoryImpl.
@@ -25,12 +45,28 @@ import com.google.gson.reflect.TypeToken;
 public class TrelloObjectFactoryImpl {
 
 	private static final Charset UTF_8_CHAR_SET = Charset.forName("UTF-8");
-	private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
+
+	public static final String CAPTURE_PAYLOADS_PROPERTY = "org.trello4j.capturePayloads";
+
+	public static final String LAZY_DECODING_PROPERTY = "org.trello4j.lazyDecoding";
+
+	private static final int MAX_CAPTURED_BYTES = 64 * 1024;
+
+	private static final Class<?>[] MODEL_TYPES = { Action.class, Board.class,
+			Card.class, Checklist.class, Label.class, org.trello4j.model.List.class,
+			Member.class, Notification.class, Organization.class, Token.class,
+			Type.class, Webhook.class };
 
 	private final JsonParser parser = new JsonParser();
 
 	private Gson gson = null;
 
+	private LazyModelReader lazyReader = null;
+
+	private volatile boolean capturePayloads = Boolean.getBoolean(CAPTURE_PAYLOADS_PROPERTY);
+
+	private volatile boolean lazyDecoding = Boolean.getBoolean(LAZY_DECODING_PROPERTY);
+
 	/**
 	 * Creates the object.
 	 * 
@@ -47,12 +83,129 @@ public class TrelloObjectFactoryImpl {
 		if (jsonContent == null) {
 			return isList(typeToken) ? (T) Collections.emptyList() : null;
 		}
-		JsonElement toJson = unmarshallToJson(jsonContent);
+		CapturingInputStream capture = capturePayloads ? new CapturingInputStream(jsonContent) : null;
 		try {
-			return unmarshallToObj(typeToken, toJson);
-		} catch (JsonSyntaxException e) {
-			System.err.println("Error reading object: " + toJson.toString());
-			throw e;
+			if (lazyDecoding && getLazyReader().isLazy(typeToken.getType())) {
+				T object = (T) getLazyReader().read(
+						readFully(capture != null ? capture : jsonContent),
+						typeToken.getType());
+				if (object == null && isList(typeToken)) {
+					return (T) Collections.emptyList();
+				}
+				return object;
+			}
+			// binds while reading, no intermediate JsonElement tree
+			JsonReader reader = new JsonReader(new InputStreamReader(
+					capture != null ? capture : jsonContent,
+					UTF_8_CHAR_SET));
+			T object = (T) getGson().fromJson(reader, typeToken.getType());
+			if (object == null && isList(typeToken)) {
+				return (T) Collections.emptyList();
+			}
+			return object;
+		} catch (JsonParseException e) {
+			StringBuilder message = new StringBuilder("Malformed response for ")
+					.append(typeToken.getType()).append(": ").append(e.getMessage());
+			if (capture != null) {
+				message.append("\nPayload: ").append(capture.getCaptured());
+			}
+			throw new TrelloException(message.toString(), e);
+		} catch (IOException e) {
+			throw new TrelloException(e.getMessage(), e);
+		} finally {
+			closeStream(jsonContent);
+		}
+	}
+
+	public boolean isCapturePayloads() {
+		return capturePayloads;
+	}
+
+	/**
+	 * Keeps the first {@value #MAX_CAPTURED_BYTES} bytes of each response
+	 * while decoding, to include them in the exception if the response
+	 * cannot be decoded. Meant for debugging only, the payload ends up in
+	 * exception messages and logs. Defaults to the system property
+	 * <code>{@value #CAPTURE_PAYLOADS_PROPERTY}</code>.
+	 * 
+	 * @param capturePayloads
+	 *            whether to capture payloads
+	 */
+	public void setCapturePayloads(boolean capturePayloads) {
+		this.capturePayloads = capturePayloads;
+	}
+
+	public boolean isLazyDecoding() {
+		return lazyDecoding;
+	}
+
+	/**
+	 * Reads cards lazily: each card keeps the raw JSON of its object and
+	 * decodes its description, labels, attachments, badges and other
+	 * secondary fields only when their getters are first called, see
+	 * {@link LazyModelReader}. Saves decoding and heap when most fields are
+	 * never used, e.g. when scanning the cards of large boards; costs a scan
+	 * of the card's JSON per field when they are. Defaults to the system
+	 * property <code>{@value #LAZY_DECODING_PROPERTY}</code>.
+	 * 
+	 * @param lazyDecoding
+	 *            whether to read cards lazily
+	 */
+	public void setLazyDecoding(boolean lazyDecoding) {
+		this.lazyDecoding = lazyDecoding;
+	}
+
+	/**
+	 * Creates the object from an already parsed JSON element.
+	 * 
+	 * @param <T>
+	 *            the generic type
+	 * @param typeToken
+	 *            the type token
+	 * @param json
+	 *            the json element
+	 * @return the t
+	 */
+	public <T> T createObject(TypeToken<T> typeToken, JsonElement json) {
+		return unmarshallToObj(typeToken, json);
+	}
+
+	/**
+	 * Parses the json content without binding it to a type.
+	 * 
+	 * @param jsonContent
+	 *            the json content, may be null
+	 * @return the json element, or null if there is no content
+	 */
+	public JsonElement createJson(InputStream jsonContent) {
+		return jsonContent == null ? null : unmarshallToJson(jsonContent);
+	}
+
+	/**
+	 * Creates a request body serializing the value as JSON with the same Gson
+	 * instance, so models and dates are written as they are read.
+	 * 
+	 * @param value
+	 *            the value to send
+	 * @param typeToken
+	 *            the declared type of the value
+	 * @return the json body
+	 */
+	public JsonBody createJsonBody(Object value, TypeToken<?> typeToken) {
+		return new JsonBody(value, typeToken.getType(), getGson());
+	}
+
+	/**
+	 * Creates the Gson instance and the type adapters of all model classes,
+	 * which otherwise happens during the first calls.
+	 */
+	public void warmUp() {
+		Gson gson = getGson();
+		for (Class<?> type : MODEL_TYPES) {
+			gson.getAdapter(type);
+		}
+		if (lazyDecoding) {
+			getLazyReader();
 		}
 	}
 
@@ -76,6 +229,8 @@ public class TrelloObjectFactoryImpl {
 				throw new IllegalStateException(
 						"Unknown content found in response." + element);
 			}
+		} catch (TrelloException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new TrelloException(e.getMessage());
 		} finally {
@@ -100,14 +255,17 @@ public class TrelloObjectFactoryImpl {
 	}
 
 	/**
-	 * Gets the gson.
+	 * Gets the gson. Model classes are bound by the adapters of
+	 * {@link ModelTypeAdapterFactory}, everything else by reflection; dates
+	 * are ISO-8601 with milliseconds and time zone.
 	 * 
 	 * @return the gson
 	 */
 	private Gson getGson() {
 		if (gson == null) {
 			gson = new GsonBuilder()
-					.setDateFormat(DATE_FORMAT)
+					.registerTypeAdapter(Date.class, new Iso8601DateAdapter())
+					.registerTypeAdapterFactory(new ModelTypeAdapterFactory())
 					.registerTypeAdapter(
 							PERMISSION_TYPE.class,
 							new PermissionTypeDeserializer())
@@ -119,6 +277,29 @@ public class TrelloObjectFactoryImpl {
 		return gson;
 	}
 
+	private LazyModelReader getLazyReader() {
+		if (lazyReader == null) {
+			lazyReader = new LazyModelReader(getGson());
+		}
+		return lazyReader;
+	}
+
+	/**
+	 * Reads the rest of a response into an array.
+	 */
+	private static byte[] readFully(InputStream in) throws IOException {
+		byte[] buffer = new byte[8192];
+		int length = 0;
+		int n;
+		while ((n = in.read(buffer, length, buffer.length - length)) != -1) {
+			length += n;
+			if (length == buffer.length) {
+				buffer = Arrays.copyOf(buffer, buffer.length * 2);
+			}
+		}
+		return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+	}
+
 	/**
 	 * Close stream.
 	 * 
@@ -135,6 +316,52 @@ public class TrelloObjectFactoryImpl {
 		}
 	}
 
+	/**
+	 * Copies the bytes read from a response, up to a limit, for error
+	 * reports.
+	 */
+	private static final class CapturingInputStream extends FilterInputStream {
+
+		private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+		private boolean truncated = false;
+
+		CapturingInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = in.read();
+			if (b != -1) {
+				capture(new byte[] { (byte) b }, 0, 1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = in.read(b, off, len);
+			if (n > 0) {
+				capture(b, off, n);
+			}
+			return n;
+		}
+
+		private void capture(byte[] b, int off, int len) {
+			int room = MAX_CAPTURED_BYTES - captured.size();
+			if (len > room) {
+				truncated = true;
+			}
+			captured.write(b, off, Math.min(len, room));
+		}
+
+		String getCaptured() {
+			String payload = new String(captured.toByteArray(), UTF_8_CHAR_SET);
+			return truncated ? payload + "..." : payload;
+		}
+	}
+
 	/**
 	 * Checks if is list.
 	 * 
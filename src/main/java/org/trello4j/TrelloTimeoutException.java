@@ -0,0 +1,19 @@
+package org.trello4j;
+
+/**
+ * Thrown when a call did not complete within its connect or read timeout or
+ * its deadline. The connection the call was using has been closed.
+ */
+public class TrelloTimeoutException extends TrelloException {
+
+	private static final long serialVersionUID = -2961542063810471825L;
+
+	public TrelloTimeoutException(String msg) {
+		super(msg);
+	}
+
+	public TrelloTimeoutException(String msg, Throwable t) {
+		super(msg, t);
+	}
+
+}
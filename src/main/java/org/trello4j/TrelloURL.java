@@ -1,5 +1,6 @@
 package org.trello4j;
 
+import org.trello4j.http.FormBody;
 
 /**
  * The Class TrelloURL.
@@ -7,6 +8,8 @@ package org.trello4j;
 public class TrelloURL {
 	private static final String BASE_URL = "https://api.trello.com/1";
 
+	public static final String BATCH_URL = BASE_URL + "/batch";
+
 	public static final String ACTION_URL = BASE_URL + "/actions/{0}";
 	public static final String ACTION_BOARD_URL = BASE_URL + "/actions/{0}/board";
 	public static final String ACTION_CARD_URL = BASE_URL + "/actions/{0}/card";
@@ -98,6 +101,7 @@ public class TrelloURL {
 
 	private String[] filters = null;
 
+	private ReadOptions options = null;
 
     public static TrelloURL create(String apiKey, String url,
 			String... pathParams) {
@@ -120,6 +124,18 @@ public class TrelloURL {
 		return this;
 	}
 
+	/**
+	 * Sets the fields and nested resources to read; their filter, if any,
+	 * replaces the one set by {@link #filter(String...)}.
+	 */
+	public TrelloURL options(ReadOptions options) {
+		this.options = options;
+		if (options != null && options.getFilter() != null) {
+			this.filters = options.getFilter();
+		}
+		return this;
+	}
+
 	public String build() {
 		if (apiKey == null || url == null) {
 			throw new NullPointerException(
@@ -130,9 +146,73 @@ public class TrelloURL {
 				.append(createUrlWithPathParams())
 				.append(createAuthQueryString())
 				.append(createFilterQuery())
+				.append(createOptionsQuery('&'))
 				.toString();
 	}
 
+	/**
+	 * @return the URL of the API version all endpoints are below
+	 */
+	static String getBaseUrl() {
+		return BASE_URL;
+	}
+
+	/**
+	 * Gets the endpoint family of an API URL or URL template: the first path
+	 * segment below the API version, e.g. <code>boards</code> for
+	 * {@link #BOARD_CARDS_URL}.
+	 * 
+	 * @param url
+	 *            the URL or template
+	 * @return the family, or null if the URL is not a Trello API URL
+	 */
+	public static String getEndpointFamily(String url) {
+		if (url == null || !url.startsWith(BASE_URL + "/")) {
+			return null;
+		}
+		int start = BASE_URL.length() + 1;
+		int end = start;
+		while (end < url.length() && url.charAt(end) != '/' && url.charAt(end) != '?') {
+			end++;
+		}
+		return url.substring(start, end);
+	}
+
+	/**
+	 * Builds the path of this URL below the API version, without credentials,
+	 * as expected by the batch endpoint, e.g. <code>/cards/{id}</code>.
+	 * Commas are percent-encoded, see {@link #encodeRouteCommas(String)}.
+	 * 
+	 * @return the relative route
+	 */
+	public String buildRoute() {
+		if (url == null || !url.startsWith(BASE_URL)) {
+			throw new IllegalArgumentException("Not a Trello API URL: " + url);
+		}
+		String route = createUrlWithPathParams().substring(BASE_URL.length());
+		String filter = createFilterQuery();
+		String query = filter.length() == 0 ? createOptionsQuery('?') : "?" + filter.substring(1) + createOptionsQuery('&');
+		return encodeRouteCommas(route + query);
+	}
+
+	/**
+	 * Percent-encodes the commas of a route, e.g. those between filter
+	 * values, since the batch endpoint splits its <code>urls</code>
+	 * parameter on every comma.
+	 */
+	static String encodeRouteCommas(String route) {
+		return route.indexOf(',') == -1 ? route : route.replace(",", "%2C");
+	}
+
+	private String createOptionsQuery(char separator) {
+		if (options == null || options.getQuery().isEmpty()) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder().append(separator);
+		new FormBody(options.getQuery()).appendTo(sb);
+		return sb.toString();
+	}
+
 	private String createFilterQuery() {
 		String filterStr = "";
 		if (this.filters != null) {
@@ -0,0 +1,212 @@
+package org.trello4j.circuitbreaker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker guarding one endpoint family of the Trello API.
+ * <p/>
+ * <b>Closed</b>: calls pass and their outcome is recorded in a sliding
+ * window. When the failure or slow call rate of the window reaches its
+ * threshold the breaker opens. <b>Open</b>: calls are rejected without
+ * being sent. <b>Half-open</b>: once the open duration has passed, a few
+ * trial calls are let through; the breaker closes if they stay below the
+ * thresholds and opens again otherwise.
+ *
+ * @see CircuitBreakerConfig
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String name;
+
+	private final CircuitBreakerConfig config;
+
+	private final boolean[] failed;
+
+	private final boolean[] slow;
+
+	/** Next slot of the window to write. */
+	private int next = 0;
+
+	private int calls = 0;
+
+	private int failures = 0;
+
+	private int slowCalls = 0;
+
+	private State state = State.CLOSED;
+
+	private long openedAtNanos = 0;
+
+	private int trialsPermitted = 0;
+
+	private int trialsRecorded = 0;
+
+	private int trialFailures = 0;
+
+	private int trialSlowCalls = 0;
+
+	public CircuitBreaker(String name, CircuitBreakerConfig config) {
+		this.name = name;
+		this.config = config;
+		this.failed = new boolean[config.getWindowSize()];
+		this.slow = new boolean[config.getWindowSize()];
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public CircuitBreakerConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * Asks for permission to send a call. Every permitted call must be
+	 * followed by {@link #onSuccess}, {@link #onFailure} or
+	 * {@link #onIgnored()}.
+	 *
+	 * @return false if the breaker is open and the call must fail fast
+	 */
+	public boolean tryAcquire() {
+		return tryAcquire(System.nanoTime());
+	}
+
+	synchronized boolean tryAcquire(long nowNanos) {
+		if (state == State.CLOSED) {
+			return true;
+		}
+		if (state == State.OPEN) {
+			if (nowNanos - openedAtNanos < TimeUnit.MILLISECONDS.toNanos(config.getOpenDurationMillis())) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			trialsPermitted = 0;
+			trialsRecorded = 0;
+			trialFailures = 0;
+			trialSlowCalls = 0;
+		}
+		if (trialsPermitted < config.getHalfOpenCalls()) {
+			trialsPermitted++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Records a call that got a usable response.
+	 *
+	 * @param durationNanos
+	 *            time spent waiting for the response
+	 */
+	public void onSuccess(long durationNanos) {
+		record(false, durationNanos, System.nanoTime());
+	}
+
+	/**
+	 * Records a call that failed because of the server or the network.
+	 *
+	 * @param durationNanos
+	 *            time spent before the call failed
+	 */
+	public void onFailure(long durationNanos) {
+		record(true, durationNanos, System.nanoTime());
+	}
+
+	/**
+	 * Returns the permit of a call whose outcome says nothing about the
+	 * endpoint's health, such as a cancelled or rate limited call.
+	 */
+	public synchronized void onIgnored() {
+		if (state == State.HALF_OPEN && trialsPermitted > trialsRecorded) {
+			trialsPermitted--;
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * @return milliseconds until trial calls are let through, 0 unless open
+	 */
+	public synchronized long getRemainingOpenMillis() {
+		if (state != State.OPEN) {
+			return 0;
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - openedAtNanos);
+		return Math.max(0, config.getOpenDurationMillis() - elapsed);
+	}
+
+	/**
+	 * @return share of failed calls in the current window
+	 */
+	public synchronized float getFailureRate() {
+		return calls == 0 ? 0 : (float) failures / calls;
+	}
+
+	/**
+	 * @return share of slow calls in the current window
+	 */
+	public synchronized float getSlowCallRate() {
+		return calls == 0 ? 0 : (float) slowCalls / calls;
+	}
+
+	private synchronized void record(boolean failure, long durationNanos, long nowNanos) {
+		boolean slowCall = durationNanos >= TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationMillis());
+		if (state == State.CLOSED) {
+			if (calls == failed.length) {
+				failures -= failed[next] ? 1 : 0;
+				slowCalls -= slow[next] ? 1 : 0;
+			} else {
+				calls++;
+			}
+			failed[next] = failure;
+			slow[next] = slowCall;
+			failures += failure ? 1 : 0;
+			slowCalls += slowCall ? 1 : 0;
+			next = (next + 1) % failed.length;
+			if (calls >= config.getMinimumCalls() && exceedsThresholds(failures, slowCalls, calls)) {
+				open(nowNanos);
+			}
+		} else if (state == State.HALF_OPEN && trialsRecorded < trialsPermitted) {
+			trialsRecorded++;
+			trialFailures += failure ? 1 : 0;
+			trialSlowCalls += slowCall ? 1 : 0;
+			if (trialsRecorded == config.getHalfOpenCalls()) {
+				if (exceedsThresholds(trialFailures, trialSlowCalls, trialsRecorded)) {
+					open(nowNanos);
+				} else {
+					close();
+				}
+			}
+		}
+		// outcomes of calls permitted before the breaker opened are dropped
+	}
+
+	private boolean exceedsThresholds(int failures, int slowCalls, int calls) {
+		return failures >= config.getFailureRateThreshold() * calls
+				|| slowCalls >= config.getSlowCallRateThreshold() * calls;
+	}
+
+	private void open(long nowNanos) {
+		state = State.OPEN;
+		openedAtNanos = nowNanos;
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		next = 0;
+		calls = 0;
+		failures = 0;
+		slowCalls = 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "CircuitBreaker " + name + " " + state;
+	}
+}
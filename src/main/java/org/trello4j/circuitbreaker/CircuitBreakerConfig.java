@@ -0,0 +1,126 @@
+package org.trello4j.circuitbreaker;
+
+/**
+ * Thresholds of a {@link CircuitBreaker}.
+ * <p/>
+ * A breaker looks at the outcome of the last <code>windowSize</code> calls.
+ * Once at least <code>minimumCalls</code> have been recorded, it opens when
+ * the share of failed calls reaches <code>failureRateThreshold</code> or the
+ * share of calls slower than <code>slowCallDurationMillis</code> reaches
+ * <code>slowCallRateThreshold</code>. It stays open for
+ * <code>openDurationMillis</code>, then lets <code>halfOpenCalls</code> trial
+ * calls through and closes again if they stay below the thresholds.
+ * <p/>
+ * Instances are immutable, the <code>with</code> methods return modified
+ * copies.
+ */
+public class CircuitBreakerConfig {
+
+	public static final float DEFAULT_FAILURE_RATE_THRESHOLD = 0.5f;
+	public static final float DEFAULT_SLOW_CALL_RATE_THRESHOLD = 0.8f;
+	public static final long DEFAULT_SLOW_CALL_DURATION_MILLIS = 10000;
+	public static final int DEFAULT_WINDOW_SIZE = 50;
+	public static final int DEFAULT_MINIMUM_CALLS = 10;
+	public static final long DEFAULT_OPEN_DURATION_MILLIS = 30000;
+	public static final int DEFAULT_HALF_OPEN_CALLS = 3;
+
+	private final float failureRateThreshold;
+
+	private final float slowCallRateThreshold;
+
+	private final long slowCallDurationMillis;
+
+	private final int windowSize;
+
+	private final int minimumCalls;
+
+	private final long openDurationMillis;
+
+	private final int halfOpenCalls;
+
+	public CircuitBreakerConfig() {
+		this(DEFAULT_FAILURE_RATE_THRESHOLD, DEFAULT_SLOW_CALL_RATE_THRESHOLD,
+				DEFAULT_SLOW_CALL_DURATION_MILLIS, DEFAULT_WINDOW_SIZE,
+				DEFAULT_MINIMUM_CALLS, DEFAULT_OPEN_DURATION_MILLIS,
+				DEFAULT_HALF_OPEN_CALLS);
+	}
+
+	public CircuitBreakerConfig(float failureRateThreshold,
+			float slowCallRateThreshold, long slowCallDurationMillis,
+			int windowSize, int minimumCalls, long openDurationMillis,
+			int halfOpenCalls) {
+		if (failureRateThreshold <= 0 || failureRateThreshold > 1
+				|| slowCallRateThreshold <= 0 || slowCallRateThreshold > 1) {
+			throw new IllegalArgumentException("Rate thresholds must be in (0, 1]");
+		}
+		if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+			throw new IllegalArgumentException("Window size, minimum calls and half-open calls must be positive");
+		}
+		this.failureRateThreshold = failureRateThreshold;
+		this.slowCallRateThreshold = slowCallRateThreshold;
+		this.slowCallDurationMillis = slowCallDurationMillis;
+		this.windowSize = windowSize;
+		this.minimumCalls = Math.min(minimumCalls, windowSize);
+		this.openDurationMillis = openDurationMillis;
+		this.halfOpenCalls = halfOpenCalls;
+	}
+
+	public CircuitBreakerConfig withFailureRateThreshold(float failureRateThreshold) {
+		return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDurationMillis,
+				windowSize, minimumCalls, openDurationMillis, halfOpenCalls);
+	}
+
+	/**
+	 * @param slowCallRateThreshold
+	 *            share of slow calls that opens the breaker
+	 * @param slowCallDurationMillis
+	 *            calls waiting longer than this for the response are slow
+	 */
+	public CircuitBreakerConfig withSlowCallThreshold(float slowCallRateThreshold, long slowCallDurationMillis) {
+		return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDurationMillis,
+				windowSize, minimumCalls, openDurationMillis, halfOpenCalls);
+	}
+
+	public CircuitBreakerConfig withWindow(int windowSize, int minimumCalls) {
+		return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDurationMillis,
+				windowSize, minimumCalls, openDurationMillis, halfOpenCalls);
+	}
+
+	public CircuitBreakerConfig withOpenDuration(long openDurationMillis) {
+		return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDurationMillis,
+				windowSize, minimumCalls, openDurationMillis, halfOpenCalls);
+	}
+
+	public CircuitBreakerConfig withHalfOpenCalls(int halfOpenCalls) {
+		return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDurationMillis,
+				windowSize, minimumCalls, openDurationMillis, halfOpenCalls);
+	}
+
+	public float getFailureRateThreshold() {
+		return failureRateThreshold;
+	}
+
+	public float getSlowCallRateThreshold() {
+		return slowCallRateThreshold;
+	}
+
+	public long getSlowCallDurationMillis() {
+		return slowCallDurationMillis;
+	}
+
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+	public int getMinimumCalls() {
+		return minimumCalls;
+	}
+
+	public long getOpenDurationMillis() {
+		return openDurationMillis;
+	}
+
+	public int getHalfOpenCalls() {
+		return halfOpenCalls;
+	}
+}
@@ -0,0 +1,59 @@
+package org.trello4j.circuitbreaker;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One {@link CircuitBreaker} per endpoint family (<code>boards</code>,
+ * <code>cards</code>, <code>members</code>, ...), created on first use with
+ * a shared configuration. Share a registry between clients to let them trip
+ * the same breakers.
+ */
+public class CircuitBreakerRegistry {
+
+	private final CircuitBreakerConfig config;
+
+	private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<String, CircuitBreaker>();
+
+	public CircuitBreakerRegistry() {
+		this(new CircuitBreakerConfig());
+	}
+
+	public CircuitBreakerRegistry(CircuitBreakerConfig config) {
+		if (config == null) {
+			throw new NullPointerException("Circuit breaker config must be set");
+		}
+		this.config = config;
+	}
+
+	public CircuitBreakerConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * @param family
+	 *            the endpoint family
+	 * @return the breaker of the family
+	 */
+	public CircuitBreaker get(String family) {
+		CircuitBreaker breaker = breakers.get(family);
+		if (breaker == null) {
+			CircuitBreaker created = new CircuitBreaker(family, config);
+			breaker = breakers.putIfAbsent(family, created);
+			if (breaker == null) {
+				breaker = created;
+			}
+		}
+		return breaker;
+	}
+
+	/**
+	 * @return the breakers created so far, by family
+	 */
+	public Map<String, CircuitBreaker> getAll() {
+		return Collections.unmodifiableMap(new TreeMap<String, CircuitBreaker>(breakers));
+	}
+}
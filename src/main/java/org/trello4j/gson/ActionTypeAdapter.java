@@ -0,0 +1,116 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+import java.util.Date;
+
+import org.trello4j.model.Action;
+import org.trello4j.model.Action.Data;
+import org.trello4j.model.Board;
+import org.trello4j.model.Card;
+import org.trello4j.model.Member;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+class ActionTypeAdapter extends ModelTypeAdapter<Action> {
+
+	private final TypeAdapter<Date> dateAdapter;
+
+	private final TypeAdapter<Member> memberAdapter;
+
+	private final DataTypeAdapter dataAdapter;
+
+	ActionTypeAdapter(Gson gson) {
+		this.dateAdapter = gson.getAdapter(Date.class);
+		this.memberAdapter = gson.getAdapter(Member.class);
+		this.dataAdapter = new DataTypeAdapter(gson);
+	}
+
+	@Override
+	protected Action create() {
+		return new Action();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, Action action)
+			throws IOException {
+		if ("id".equals(name)) {
+			action.setId(readString(in));
+		} else if ("idMemberCreator".equals(name)) {
+			action.setIdMemberCreator(readString(in));
+		} else if ("type".equals(name)) {
+			action.setType(readString(in));
+		} else if ("date".equals(name)) {
+			action.setDate(dateAdapter.read(in));
+		} else if ("memberCreator".equals(name)) {
+			action.setMemberCreator(memberAdapter.read(in));
+		} else if ("data".equals(name)) {
+			action.setData(dataAdapter.read(in, action));
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Action action)
+			throws IOException {
+		write(out, "id", action.getId());
+		write(out, "idMemberCreator", action.getIdMemberCreator());
+		write(out, "type", action.getType());
+		write(out, "date", action.getDate(), dateAdapter);
+		write(out, "memberCreator", action.getMemberCreator(), memberAdapter);
+		write(out, "data", action.getData(), dataAdapter);
+	}
+
+	static class DataTypeAdapter extends ModelTypeAdapter<Data> {
+
+		private final TypeAdapter<Board> boardAdapter;
+
+		private final TypeAdapter<Card> cardAdapter;
+
+		DataTypeAdapter(Gson gson) {
+			this.boardAdapter = gson.getAdapter(Board.class);
+			this.cardAdapter = gson.getAdapter(Card.class);
+		}
+
+		@Override
+		protected Data create() {
+			return new Action().new Data();
+		}
+
+		Data read(JsonReader in, Action action) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			return readObject(in, action.new Data());
+		}
+
+		@Override
+		protected boolean readMember(JsonReader in, String name, Data data)
+				throws IOException {
+			if ("text".equals(name)) {
+				data.setText(readString(in));
+			} else if ("board".equals(name)) {
+				data.setBoard(boardAdapter.read(in));
+			} else if ("card".equals(name)) {
+				data.setCard(cardAdapter.read(in));
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		protected void writeMembers(JsonWriter out, Data data)
+				throws IOException {
+			write(out, "text", data.getText());
+			write(out, "board", data.getBoard(), boardAdapter);
+			write(out, "card", data.getCard(), cardAdapter);
+		}
+	}
+}
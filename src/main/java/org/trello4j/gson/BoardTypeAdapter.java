@@ -0,0 +1,138 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+
+import org.trello4j.model.Action;
+import org.trello4j.model.Board;
+import org.trello4j.model.Board.Prefs;
+import org.trello4j.model.Card;
+import org.trello4j.model.Checklist;
+import org.trello4j.model.Member;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+class BoardTypeAdapter extends ModelTypeAdapter<Board> {
+
+	private final PrefsTypeAdapter prefsAdapter = new PrefsTypeAdapter();
+
+	private final TypeAdapter<Card> cardAdapter;
+
+	private final TypeAdapter<org.trello4j.model.List> listAdapter;
+
+	private final TypeAdapter<Member> memberAdapter;
+
+	private final TypeAdapter<Checklist> checklistAdapter;
+
+	private final TypeAdapter<Action> actionAdapter;
+
+	BoardTypeAdapter(Gson gson) {
+		this.cardAdapter = gson.getAdapter(Card.class);
+		this.listAdapter = gson.getAdapter(org.trello4j.model.List.class);
+		this.memberAdapter = gson.getAdapter(Member.class);
+		this.checklistAdapter = gson.getAdapter(Checklist.class);
+		this.actionAdapter = gson.getAdapter(Action.class);
+	}
+
+	@Override
+	protected Board create() {
+		return new Board();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, Board board)
+			throws IOException {
+		if ("id".equals(name)) {
+			board.setId(readString(in));
+		} else if ("name".equals(name)) {
+			board.setName(readString(in));
+		} else if ("desc".equals(name)) {
+			board.setDesc(readString(in));
+		} else if ("closed".equals(name)) {
+			board.setClosed(readBoolean(in));
+		} else if ("invited".equals(name)) {
+			board.setInvited(readBoolean(in));
+		} else if ("idOrganization".equals(name)) {
+			board.setIdOrganization(readString(in));
+		} else if ("url".equals(name)) {
+			board.setUrl(readString(in));
+		} else if ("prefs".equals(name)) {
+			board.setPrefs(prefsAdapter.read(in, board));
+		} else if ("cards".equals(name)) {
+			board.setCards(readList(in, cardAdapter));
+		} else if ("lists".equals(name)) {
+			board.setLists(readList(in, listAdapter));
+		} else if ("members".equals(name)) {
+			board.setMembers(readList(in, memberAdapter));
+		} else if ("checklists".equals(name)) {
+			board.setChecklists(readList(in, checklistAdapter));
+		} else if ("actions".equals(name)) {
+			board.setActions(readList(in, actionAdapter));
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Board board) throws IOException {
+		write(out, "id", board.getId());
+		write(out, "name", board.getName());
+		write(out, "desc", board.getDesc());
+		out.name("closed").value(board.isClosed());
+		out.name("invited").value(board.isInvited());
+		write(out, "idOrganization", board.getIdOrganization());
+		write(out, "url", board.getUrl());
+		write(out, "prefs", board.getPrefs(), prefsAdapter);
+		writeList(out, "cards", board.getCards(), cardAdapter);
+		writeList(out, "lists", board.getLists(), listAdapter);
+		writeList(out, "members", board.getMembers(), memberAdapter);
+		writeList(out, "checklists", board.getChecklists(), checklistAdapter);
+		writeList(out, "actions", board.getActions(), actionAdapter);
+	}
+
+	static class PrefsTypeAdapter extends ModelTypeAdapter<Prefs> {
+
+		@Override
+		protected Prefs create() {
+			return new Board().new Prefs();
+		}
+
+		Prefs read(JsonReader in, Board board) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			return readObject(in, board.new Prefs());
+		}
+
+		@Override
+		protected boolean readMember(JsonReader in, String name, Prefs prefs)
+				throws IOException {
+			if ("voting".equals(name)) {
+				prefs.setVoting(PermissionTypeDeserializer.parse(readString(in)));
+			} else if ("permissionLevel".equals(name)) {
+				prefs.setPermissionLevel(PermissionTypeDeserializer.parse(readString(in)));
+			} else if ("invitations".equals(name)) {
+				prefs.setInvitations(PermissionTypeDeserializer.parse(readString(in)));
+			} else if ("comments".equals(name)) {
+				prefs.setComments(PermissionTypeDeserializer.parse(readString(in)));
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		protected void writeMembers(JsonWriter out, Prefs prefs)
+				throws IOException {
+			write(out, "voting", prefs.getVoting());
+			write(out, "permissionLevel", prefs.getPermissionLevel());
+			write(out, "invitations", prefs.getInvitations());
+			write(out, "comments", prefs.getComments());
+		}
+	}
+}
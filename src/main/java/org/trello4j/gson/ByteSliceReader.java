@@ -0,0 +1,101 @@
+package org.trello4j.gson;
+
+import java.io.Reader;
+
+/**
+ * Reads the characters of UTF-8 encoded bytes, without the buffers of an
+ * <code>InputStreamReader</code>. Malformed sequences are read as
+ * <code>U+FFFD</code>.
+ */
+class ByteSliceReader extends Reader {
+
+	private final byte[] bytes;
+
+	private final int end;
+
+	private int pos;
+
+	/** Low surrogate of a supplementary character, 0 if none is pending. */
+	private char pendingLow;
+
+	ByteSliceReader(byte[] bytes, int offset, int length) {
+		this.bytes = bytes;
+		this.pos = offset;
+		this.end = offset + length;
+	}
+
+	@Override
+	public int read(char[] buffer, int offset, int length) {
+		if (length == 0) {
+			return 0;
+		}
+		int n = 0;
+		if (pendingLow != 0) {
+			buffer[offset + n++] = pendingLow;
+			pendingLow = 0;
+		}
+		while (n < length && pos < end) {
+			int b = bytes[pos];
+			if (b >= 0) {
+				buffer[offset + n++] = (char) b;
+				pos++;
+				continue;
+			}
+			int codePoint = decode();
+			if (codePoint >= 0x10000) {
+				buffer[offset + n++] = (char) ((codePoint >>> 10) + (0xD800 - (0x10000 >>> 10)));
+				char low = (char) ((codePoint & 0x3FF) + 0xDC00);
+				if (n < length) {
+					buffer[offset + n++] = low;
+				} else {
+					pendingLow = low;
+				}
+			} else {
+				buffer[offset + n++] = (char) codePoint;
+			}
+		}
+		return n == 0 ? -1 : n;
+	}
+
+	/**
+	 * @return the code point of the multi-byte sequence at the position,
+	 *         which is advanced past it
+	 */
+	private int decode() {
+		int b = bytes[pos++] & 0xff;
+		int count;
+		int min;
+		int codePoint;
+		if ((b & 0xe0) == 0xc0) {
+			count = 1;
+			min = 0x80;
+			codePoint = b & 0x1f;
+		} else if ((b & 0xf0) == 0xe0) {
+			count = 2;
+			min = 0x800;
+			codePoint = b & 0x0f;
+		} else if ((b & 0xf8) == 0xf0) {
+			count = 3;
+			min = 0x10000;
+			codePoint = b & 0x07;
+		} else {
+			return 0xfffd;
+		}
+		for (int i = 0; i < count; i++) {
+			if (pos == end || (bytes[pos] & 0xc0) != 0x80) {
+				return 0xfffd;
+			}
+			codePoint = codePoint << 6 | bytes[pos++] & 0x3f;
+		}
+		if (codePoint < min || codePoint > Character.MAX_CODE_POINT
+				|| (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+			return 0xfffd;
+		}
+		return codePoint;
+	}
+
+	@Override
+	public void close() {
+		// nothing to release
+	}
+}
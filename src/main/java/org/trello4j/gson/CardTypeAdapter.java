@@ -0,0 +1,256 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.trello4j.model.Action;
+import org.trello4j.model.Card;
+import org.trello4j.model.Card.Attachment;
+import org.trello4j.model.Card.Badges;
+import org.trello4j.model.Checklist;
+import org.trello4j.model.Label;
+import org.trello4j.model.Member;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+class CardTypeAdapter extends ModelTypeAdapter<Card> {
+
+	private final TypeAdapter<Date> dateAdapter;
+
+	private final TypeAdapter<Label> labelAdapter;
+
+	private final BadgesTypeAdapter badgesAdapter;
+
+	private final AttachmentTypeAdapter attachmentAdapter;
+
+	private final TypeAdapter<Member> memberAdapter;
+
+	private final TypeAdapter<Checklist> checklistAdapter;
+
+	private final TypeAdapter<Action> actionAdapter;
+
+	CardTypeAdapter(Gson gson) {
+		this.dateAdapter = gson.getAdapter(Date.class);
+		this.labelAdapter = gson.getAdapter(Label.class);
+		this.memberAdapter = gson.getAdapter(Member.class);
+		this.checklistAdapter = gson.getAdapter(Checklist.class);
+		this.actionAdapter = gson.getAdapter(Action.class);
+		this.badgesAdapter = new BadgesTypeAdapter(dateAdapter);
+		this.attachmentAdapter = new AttachmentTypeAdapter(dateAdapter);
+	}
+
+	@Override
+	protected Card create() {
+		return new Card();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, Card card)
+			throws IOException {
+		if ("id".equals(name)) {
+			card.setId(readString(in));
+		} else if ("name".equals(name)) {
+			card.setName(readString(in));
+		} else if ("desc".equals(name)) {
+			card.setDesc(readString(in));
+		} else if ("closed".equals(name)) {
+			card.setClosed(readBoolean(in));
+		} else if ("idShort".equals(name)) {
+			card.setIdShort(in.nextLong());
+		} else if ("idList".equals(name)) {
+			card.setIdList(readString(in));
+		} else if ("idBoard".equals(name)) {
+			card.setIdBoard(readString(in));
+		} else if ("idChecklists".equals(name)) {
+			card.setIdChecklists(readIds(in));
+		} else if ("idMembers".equals(name)) {
+			card.setIdMembers(readIds(in));
+		} else if ("attachments".equals(name)) {
+			card.setAttachments(readAttachments(in, card));
+		} else if ("labels".equals(name)) {
+			card.setLabels(readList(in, labelAdapter));
+		} else if ("url".equals(name)) {
+			card.setUrl(readString(in));
+		} else if ("pos".equals(name)) {
+			card.setPos(in.nextDouble());
+		} else if ("due".equals(name)) {
+			card.setDue(dateAdapter.read(in));
+		} else if ("dueComplete".equals(name)) {
+			card.setDueComplete(readBoolean(in));
+		} else if ("badges".equals(name)) {
+			card.setBadges(badgesAdapter.read(in, card));
+		} else if ("members".equals(name)) {
+			card.setMembers(readList(in, memberAdapter));
+		} else if ("checklists".equals(name)) {
+			card.setChecklists(readList(in, checklistAdapter));
+		} else if ("actions".equals(name)) {
+			card.setActions(readList(in, actionAdapter));
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	private List<Attachment> readAttachments(JsonReader in, Card card)
+			throws IOException {
+		List<Attachment> attachments = new ArrayList<Attachment>();
+		in.beginArray();
+		while (in.hasNext()) {
+			attachments.add(attachmentAdapter.read(in, card));
+		}
+		in.endArray();
+		return attachments;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Card card) throws IOException {
+		write(out, "id", card.getId());
+		write(out, "name", card.getName());
+		write(out, "desc", card.getDesc());
+		out.name("closed").value(card.isClosed());
+		write(out, "idShort", card.getIdShort());
+		write(out, "idList", card.getIdList());
+		write(out, "idBoard", card.getIdBoard());
+		writeStrings(out, "idChecklists", card.getIdChecklists());
+		writeStrings(out, "idMembers", card.getIdMembers());
+		writeList(out, "attachments", card.getAttachments(), attachmentAdapter);
+		writeList(out, "labels", card.getLabels(), labelAdapter);
+		write(out, "url", card.getUrl());
+		out.name("pos").value(card.getPos());
+		write(out, "due", card.getDue(), dateAdapter);
+		out.name("dueComplete").value(card.isDueComplete());
+		write(out, "badges", card.getBadges(), badgesAdapter);
+		writeList(out, "members", card.getMembers(), memberAdapter);
+		writeList(out, "checklists", card.getChecklists(), checklistAdapter);
+		writeList(out, "actions", card.getActions(), actionAdapter);
+	}
+
+	static class BadgesTypeAdapter extends ModelTypeAdapter<Badges> {
+
+		private final TypeAdapter<Date> dateAdapter;
+
+		BadgesTypeAdapter(TypeAdapter<Date> dateAdapter) {
+			this.dateAdapter = dateAdapter;
+		}
+
+		@Override
+		protected Badges create() {
+			return new Card().new Badges();
+		}
+
+		Badges read(JsonReader in, Card card) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			return readObject(in, card.new Badges());
+		}
+
+		@Override
+		protected boolean readMember(JsonReader in, String name, Badges badges)
+				throws IOException {
+			if ("votes".equals(name)) {
+				badges.setVotes(in.nextLong());
+			} else if ("checkItems".equals(name)) {
+				badges.setCheckItems(in.nextLong());
+			} else if ("checkItemsChecked".equals(name)) {
+				badges.setCheckItemsChecked(in.nextLong());
+			} else if ("comments".equals(name)) {
+				badges.setComments(in.nextLong());
+			} else if ("attachments".equals(name)) {
+				badges.setAttachments(in.nextLong());
+			} else if ("due".equals(name)) {
+				badges.setDue(dateAdapter.read(in));
+			} else if ("fogbugz".equals(name)) {
+				badges.setFogbugz(readString(in));
+			} else if ("viewingMemberVoted".equals(name)) {
+				badges.setViewingMemberVoted(readBoolean(in));
+			} else if ("subscribed".equals(name)) {
+				badges.setSubscribed(readBoolean(in));
+			} else if ("description".equals(name)) {
+				badges.setDescription(readBoolean(in));
+			} else if ("dueComplete".equals(name)) {
+				badges.setDueComplete(readBoolean(in));
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		protected void writeMembers(JsonWriter out, Badges badges)
+				throws IOException {
+			write(out, "votes", badges.getVotes());
+			write(out, "checkItems", badges.getCheckItems());
+			write(out, "checkItemsChecked", badges.getCheckItemsChecked());
+			write(out, "comments", badges.getComments());
+			write(out, "attachments", badges.getAttachments());
+			write(out, "due", badges.getDue(), dateAdapter);
+			write(out, "fogbugz", badges.getFogbugz());
+			out.name("viewingMemberVoted").value(badges.isViewingMemberVoted());
+			out.name("subscribed").value(badges.isSubscribed());
+			out.name("description").value(badges.isDescription());
+			out.name("dueComplete").value(badges.isDueComplete());
+		}
+	}
+
+	static class AttachmentTypeAdapter extends ModelTypeAdapter<Attachment> {
+
+		private final TypeAdapter<Date> dateAdapter;
+
+		AttachmentTypeAdapter(TypeAdapter<Date> dateAdapter) {
+			this.dateAdapter = dateAdapter;
+		}
+
+		@Override
+		protected Attachment create() {
+			return new Card().new Attachment();
+		}
+
+		Attachment read(JsonReader in, Card card) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			return readObject(in, card.new Attachment());
+		}
+
+		@Override
+		protected boolean readMember(JsonReader in, String name,
+				Attachment attachment) throws IOException {
+			if ("_id".equals(name)) {
+				attachment.set_id(readString(in));
+			} else if ("bytes".equals(name)) {
+				attachment.setBytes(readString(in));
+			} else if ("date".equals(name)) {
+				attachment.setDate(dateAdapter.read(in));
+			} else if ("url".equals(name)) {
+				attachment.setUrl(readString(in));
+			} else if ("name".equals(name)) {
+				attachment.setName(readString(in));
+			} else if ("idMember".equals(name)) {
+				attachment.setIdMember(readString(in));
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		protected void writeMembers(JsonWriter out, Attachment attachment)
+				throws IOException {
+			write(out, "_id", attachment.get_id());
+			write(out, "bytes", attachment.getBytes());
+			write(out, "date", attachment.getDate(), dateAdapter);
+			write(out, "url", attachment.getUrl());
+			write(out, "name", attachment.getName());
+			write(out, "idMember", attachment.getIdMember());
+		}
+	}
+}
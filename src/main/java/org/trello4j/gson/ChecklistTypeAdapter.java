@@ -0,0 +1,96 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.trello4j.model.Checklist;
+import org.trello4j.model.Checklist.CheckItem;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+class ChecklistTypeAdapter extends ModelTypeAdapter<Checklist> {
+
+	private final CheckItemTypeAdapter checkItemAdapter = new CheckItemTypeAdapter();
+
+	@Override
+	protected Checklist create() {
+		return new Checklist();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, Checklist checklist)
+			throws IOException {
+		if ("id".equals(name)) {
+			checklist.setId(readString(in));
+		} else if ("name".equals(name)) {
+			checklist.setName(readString(in));
+		} else if ("idBoard".equals(name)) {
+			checklist.setIdBoard(readString(in));
+		} else if ("checkItems".equals(name)) {
+			List<CheckItem> checkItems = new ArrayList<CheckItem>();
+			in.beginArray();
+			while (in.hasNext()) {
+				checkItems.add(checkItemAdapter.read(in, checklist));
+			}
+			in.endArray();
+			checklist.setCheckItems(checkItems);
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Checklist checklist)
+			throws IOException {
+		write(out, "id", checklist.getId());
+		write(out, "name", checklist.getName());
+		write(out, "idBoard", checklist.getIdBoard());
+		writeList(out, "checkItems", checklist.getCheckItems(), checkItemAdapter);
+	}
+
+	static class CheckItemTypeAdapter extends ModelTypeAdapter<CheckItem> {
+
+		@Override
+		protected CheckItem create() {
+			return new Checklist().new CheckItem();
+		}
+
+		CheckItem read(JsonReader in, Checklist checklist) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			return readObject(in, checklist.new CheckItem());
+		}
+
+		@Override
+		protected boolean readMember(JsonReader in, String name,
+				CheckItem checkItem) throws IOException {
+			if ("id".equals(name)) {
+				checkItem.setId(readString(in));
+			} else if ("name".equals(name)) {
+				checkItem.setName(readString(in));
+			} else if ("type".equals(name)) {
+				checkItem.setType(readString(in));
+			} else if ("pos".equals(name)) {
+				checkItem.setPos(in.nextDouble());
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		protected void writeMembers(JsonWriter out, CheckItem checkItem)
+				throws IOException {
+			write(out, "id", checkItem.getId());
+			write(out, "name", checkItem.getName());
+			write(out, "type", checkItem.getType());
+			out.name("pos").value(checkItem.getPos());
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+import java.util.Date;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Reads and writes dates in the ISO-8601 form Trello uses, e.g.
+ * <code>2011-12-14T00:46:24.534Z</code>, keeping the milliseconds and the
+ * time zone.
+ * <p/>
+ * Dates are parsed from the characters straight into epoch milliseconds,
+ * without a <code>SimpleDateFormat</code> or <code>Calendar</code>. Accepted
+ * are a date alone, or with a time of minutes, seconds and any number of
+ * fraction digits, followed by <code>Z</code>, an offset such as
+ * <code>+01:00</code>, <code>+0100</code> or <code>+01</code>, or nothing for
+ * UTC. Numbers are taken as epoch milliseconds. Dates are written in UTC with
+ * milliseconds.
+ */
+public class Iso8601DateAdapter extends TypeAdapter<Date> {
+
+	private static final long MILLIS_PER_MINUTE = 60 * 1000L;
+	private static final long MILLIS_PER_DAY = 24 * 60 * MILLIS_PER_MINUTE;
+
+	/** Days from 0000-03-01 to 1970-01-01. */
+	private static final long EPOCH_DAY_OFFSET = 719468;
+	private static final long DAYS_PER_ERA = 146097;
+
+	@Override
+	public Date read(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+		if (token == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (token == JsonToken.NUMBER) {
+			return new Date(in.nextLong());
+		}
+		String value = in.nextString();
+		long millis = parse(value);
+		if (millis == Long.MIN_VALUE) {
+			throw new JsonSyntaxException("Unparseable date: \"" + value + "\"");
+		}
+		return new Date(millis);
+	}
+
+	@Override
+	public void write(JsonWriter out, Date value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+		} else {
+			out.value(format(value.getTime()));
+		}
+	}
+
+	/**
+	 * @return the epoch milliseconds of the date, {@link Long#MIN_VALUE} if it
+	 *         is not in a supported form
+	 */
+	public static long parse(String s) {
+		int length = s.length();
+		if (length < 10 || s.charAt(4) != '-' || s.charAt(7) != '-') {
+			return Long.MIN_VALUE;
+		}
+		int year = digits(s, 0, 4);
+		int month = digits(s, 5, 2);
+		int day = digits(s, 8, 2);
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)) {
+			return Long.MIN_VALUE;
+		}
+		long millis = days(year, month, day) * MILLIS_PER_DAY;
+		int i = 10;
+		if (i == length) {
+			return millis;
+		}
+		if (s.charAt(i) != 'T' && s.charAt(i) != 't' && s.charAt(i) != ' ') {
+			return Long.MIN_VALUE;
+		}
+		if (length < i + 6 || s.charAt(i + 3) != ':') {
+			return Long.MIN_VALUE;
+		}
+		int hour = digits(s, i + 1, 2);
+		int minute = digits(s, i + 4, 2);
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+			return Long.MIN_VALUE;
+		}
+		millis += hour * 60 * MILLIS_PER_MINUTE + minute * MILLIS_PER_MINUTE;
+		i += 6;
+		if (i < length && s.charAt(i) == ':') {
+			int second = digits(s, i + 1, 2);
+			if (second < 0 || second > 59) {
+				return Long.MIN_VALUE;
+			}
+			millis += second * 1000L;
+			i += 3;
+			if (i < length && (s.charAt(i) == '.' || s.charAt(i) == ',')) {
+				int start = ++i;
+				int fraction = 0;
+				while (i < length && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+					// digits beyond milliseconds are truncated
+					if (i - start < 3) {
+						fraction = fraction * 10 + s.charAt(i) - '0';
+					}
+					i++;
+				}
+				if (i == start) {
+					return Long.MIN_VALUE;
+				}
+				for (int n = i - start; n < 3; n++) {
+					fraction *= 10;
+				}
+				millis += fraction;
+			}
+		}
+		if (i == length) {
+			return millis;
+		}
+		char zone = s.charAt(i);
+		if (zone == 'Z' || zone == 'z') {
+			return i + 1 == length ? millis : Long.MIN_VALUE;
+		}
+		if (zone != '+' && zone != '-') {
+			return Long.MIN_VALUE;
+		}
+		int offsetHours = digits(s, i + 1, 2);
+		int offsetMinutes = 0;
+		i += 3;
+		if (i < length) {
+			if (s.charAt(i) == ':') {
+				i++;
+			}
+			offsetMinutes = digits(s, i, 2);
+			i += 2;
+		}
+		if (i != length || offsetHours < 0 || offsetHours > 23 || offsetMinutes < 0 || offsetMinutes > 59) {
+			return Long.MIN_VALUE;
+		}
+		long offset = (offsetHours * 60 + offsetMinutes) * MILLIS_PER_MINUTE;
+		return zone == '+' ? millis - offset : millis + offset;
+	}
+
+	/**
+	 * @return the date as <code>yyyy-MM-ddTHH:mm:ss.SSSZ</code> in UTC
+	 */
+	public static String format(long millis) {
+		long days = millis / MILLIS_PER_DAY;
+		long millisOfDay = millis % MILLIS_PER_DAY;
+		if (millisOfDay < 0) {
+			days--;
+			millisOfDay += MILLIS_PER_DAY;
+		}
+		// civil date from days, see days()
+		long z = days + EPOCH_DAY_OFFSET;
+		long era = (z >= 0 ? z : z - (DAYS_PER_ERA - 1)) / DAYS_PER_ERA;
+		long dayOfEra = z - era * DAYS_PER_ERA;
+		long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		long shiftedMonth = (5 * dayOfYear + 2) / 153;
+		int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+		int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+		long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+		StringBuilder sb = new StringBuilder(24);
+		if (year >= 0 && year <= 9999) {
+			pad(sb, (int) year, 4);
+		} else {
+			sb.append(year);
+		}
+		sb.append('-');
+		pad(sb, month, 2);
+		sb.append('-');
+		pad(sb, day, 2);
+		sb.append('T');
+		int time = (int) millisOfDay;
+		pad(sb, time / 3600000, 2);
+		sb.append(':');
+		pad(sb, time / 60000 % 60, 2);
+		sb.append(':');
+		pad(sb, time / 1000 % 60, 2);
+		sb.append('.');
+		pad(sb, time % 1000, 3);
+		return sb.append('Z').toString();
+	}
+
+	/**
+	 * @return the value of <code>count</code> decimal digits at
+	 *         <code>offset</code>, -1 if they are not all digits
+	 */
+	private static int digits(String s, int offset, int count) {
+		if (offset + count > s.length()) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = offset; i < offset + count; i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + c - '0';
+		}
+		return value;
+	}
+
+	private static int daysInMonth(int year, int month) {
+		if (month == 2) {
+			return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		}
+		return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+	}
+
+	/**
+	 * @return days since 1970-01-01 of a date in the proleptic Gregorian
+	 *         calendar, counting years from March so leap days come last
+	 */
+	private static long days(int year, int month, int day) {
+		long y = month <= 2 ? year - 1 : year;
+		long era = (y >= 0 ? y : y - 399) / 400;
+		long yearOfEra = y - era * 400;
+		long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * DAYS_PER_ERA + dayOfEra - EPOCH_DAY_OFFSET;
+	}
+
+	private static void pad(StringBuilder sb, int value, int width) {
+		for (int limit = 10, n = 1; n < width; limit *= 10, n++) {
+			if (value < limit) {
+				sb.append('0');
+			}
+		}
+		sb.append(value);
+	}
+}
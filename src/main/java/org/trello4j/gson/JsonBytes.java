@@ -0,0 +1,130 @@
+package org.trello4j.gson;
+
+import java.util.Arrays;
+
+import com.google.gson.JsonSyntaxException;
+
+/**
+ * Finds the bounds of JSON values in UTF-8 encoded bytes without decoding
+ * them. Only the structure needed to find the end of a value is checked, the
+ * values themselves are checked when they are decoded.
+ */
+final class JsonBytes {
+
+	private JsonBytes() {
+	}
+
+	static int skipWhitespace(byte[] json, int i, int end) {
+		while (i < end && (json[i] == ' ' || json[i] == '\n'
+				|| json[i] == '\r' || json[i] == '\t')) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * @return the index after the value starting at the index
+	 */
+	static int skipValue(byte[] json, int start, int end) {
+		if (start == end) {
+			throw new JsonSyntaxException("Expected a value at byte " + start);
+		}
+		byte b = json[start];
+		if (b == '"') {
+			return skipString(json, start, end);
+		}
+		if (b == '{' || b == '[') {
+			int depth = 0;
+			for (int i = start; i < end; i++) {
+				b = json[i];
+				if (b == '"') {
+					i = skipString(json, i, end) - 1;
+				} else if (b == '{' || b == '[') {
+					depth++;
+				} else if ((b == '}' || b == ']') && --depth == 0) {
+					return i + 1;
+				}
+			}
+			throw new JsonSyntaxException("Unterminated value at byte " + start);
+		}
+		int i = start;
+		while (i < end && b != ',' && b != '}' && b != ']' && b != ' '
+				&& b != '\n' && b != '\r' && b != '\t') {
+			if (++i < end) {
+				b = json[i];
+			}
+		}
+		if (i == start) {
+			throw new JsonSyntaxException("Expected a value at byte " + start);
+		}
+		return i;
+	}
+
+	/**
+	 * @return the index after the string starting at the index
+	 */
+	static int skipString(byte[] json, int start, int end) {
+		for (int i = start + 1; i < end; i++) {
+			if (json[i] == '\\') {
+				i++;
+			} else if (json[i] == '"') {
+				return i + 1;
+			}
+		}
+		throw new JsonSyntaxException("Unterminated string at byte " + start);
+	}
+
+	static boolean isNull(byte[] json, int i, int end) {
+		return i + 4 <= end && json[i] == 'n' && json[i + 1] == 'u'
+				&& json[i + 2] == 'l' && json[i + 3] == 'l'
+				&& (i + 4 == end || skipWhitespace(json, i + 4, end) > i + 4
+						|| json[i + 4] == ',' || json[i + 4] == '}' || json[i + 4] == ']');
+	}
+
+	/**
+	 * @return whether the bytes in the range are the ASCII characters of the
+	 *         string
+	 */
+	static boolean equals(byte[] json, int start, int end, String s) {
+		if (end - start != s.length()) {
+			return false;
+		}
+		for (int i = 0; i < s.length(); i++) {
+			if (json[start + i] != s.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Growable array the bytes of JSON values are copied into.
+	 */
+	static final class Buffer {
+
+		byte[] bytes;
+
+		int length;
+
+		Buffer(int capacity) {
+			bytes = new byte[capacity];
+		}
+
+		void append(byte b) {
+			ensure(1);
+			bytes[length++] = b;
+		}
+
+		void append(byte[] source, int start, int end) {
+			ensure(end - start);
+			System.arraycopy(source, start, bytes, length, end - start);
+			length += end - start;
+		}
+
+		private void ensure(int size) {
+			if (length + size > bytes.length) {
+				bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + size));
+			}
+		}
+	}
+}
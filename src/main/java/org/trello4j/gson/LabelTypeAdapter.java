@@ -0,0 +1,38 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+
+import org.trello4j.model.Label;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+class LabelTypeAdapter extends ModelTypeAdapter<Label> {
+
+	@Override
+	protected Label create() {
+		return new Label();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, Label label)
+			throws IOException {
+		if ("id".equals(name)) {
+			label.setId(readString(in));
+		} else if ("color".equals(name)) {
+			label.setColor(readString(in));
+		} else if ("name".equals(name)) {
+			label.setName(readString(in));
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Label label) throws IOException {
+		write(out, "id", label.getId());
+		write(out, "color", label.getColor());
+		write(out, "name", label.getName());
+	}
+}
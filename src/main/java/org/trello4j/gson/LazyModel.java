@@ -0,0 +1,270 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+
+import org.trello4j.model.TrelloObject;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Reads objects of a model class from their raw JSON, decoding the members
+ * named lazy only when their getters are first called.
+ * <p/>
+ * Members are found by a scan of the bytes: eager members are copied out to
+ * be read by the adapter of the class, lazy members into a compact object
+ * kept by the object read, and all others are dropped without being
+ * tokenized.
+ */
+class LazyModel<T extends TrelloObject> {
+
+	private final ModelTypeAdapter<T> adapter;
+
+	private final String[] eagerNames;
+
+	/** Names of the lazy members, by bit index in the pending masks. */
+	private final String[] lazyNames;
+
+	LazyModel(ModelTypeAdapter<T> adapter, String[] eagerNames, String[] lazyNames) {
+		if (lazyNames.length > 64) {
+			throw new IllegalArgumentException("At most 64 lazy members");
+		}
+		this.adapter = adapter;
+		this.eagerNames = eagerNames;
+		this.lazyNames = lazyNames;
+	}
+
+	/**
+	 * Splits the JSON of an object: appends an object of its eager members to
+	 * the buffer and keeps its lazy ones.
+	 *
+	 * @return the lazy members to set on the object once it is read, null if
+	 *         there are none
+	 */
+	TrelloObject.LazyFields split(byte[] json, int start, int end, JsonBytes.Buffer eager) {
+		long pending = 0;
+		int[] ranges = null;
+		int eagerStart = eager.length;
+		eager.append((byte) '{');
+		Members members = new Members(json, start, end);
+		while (members.next()) {
+			int nameStart = members.nameStart + 1;
+			int nameEnd = members.nameEnd - 1;
+			int index = indexOf(lazyNames, json, nameStart, nameEnd);
+			if (index >= 0) {
+				// the last of repeated members counts, as when read eagerly
+				if (JsonBytes.isNull(json, members.valueStart, members.valueEnd)) {
+					pending &= ~(1L << index);
+				} else {
+					if (ranges == null) {
+						ranges = new int[lazyNames.length * 2];
+					}
+					pending |= 1L << index;
+					ranges[index * 2] = members.nameStart;
+					ranges[index * 2 + 1] = members.valueEnd;
+				}
+			} else if (indexOf(eagerNames, json, nameStart, nameEnd) >= 0) {
+				if (eager.length > eagerStart + 1) {
+					eager.append((byte) ',');
+				}
+				eager.append(json, members.nameStart, members.valueEnd);
+			}
+		}
+		eager.append((byte) '}');
+		if (pending == 0) {
+			return null;
+		}
+		int size = 1;
+		for (int i = 0; i < lazyNames.length; i++) {
+			if ((pending & 1L << i) != 0) {
+				size += ranges[i * 2 + 1] - ranges[i * 2] + 1;
+			}
+		}
+		byte[] lazy = new byte[size];
+		int length = 0;
+		lazy[length++] = '{';
+		for (int i = 0; i < lazyNames.length; i++) {
+			if ((pending & 1L << i) != 0) {
+				if (length > 1) {
+					lazy[length++] = ',';
+				}
+				System.arraycopy(json, ranges[i * 2], lazy, length, ranges[i * 2 + 1] - ranges[i * 2]);
+				length += ranges[i * 2 + 1] - ranges[i * 2];
+			}
+		}
+		lazy[length] = '}';
+		return new SliceFields(lazy, pending);
+	}
+
+	/**
+	 * Reads an object of eager members appended by
+	 * {@link #split(byte[], int, int, JsonBytes.Buffer)}.
+	 */
+	T read(JsonReader in, TrelloObject.LazyFields lazyFields) throws IOException {
+		T object = adapter.readObject(in, adapter.create());
+		object.setLazyFields(lazyFields);
+		return object;
+	}
+
+	private static int indexOf(String[] names, byte[] json, int start, int end) {
+		for (int i = 0; i < names.length; i++) {
+			if (JsonBytes.equals(json, start, end, names[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int indexOf(String name) {
+		for (int i = 0; i < lazyNames.length; i++) {
+			if (lazyNames[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	static JsonReader reader(byte[] json, int start, int end) {
+		JsonReader in = new JsonReader(new ByteSliceReader(json, start, end - start));
+		in.setLenient(true);
+		return in;
+	}
+
+	/**
+	 * Iterates the members of a JSON object.
+	 */
+	private static final class Members {
+
+		private final byte[] json;
+
+		private final int end;
+
+		private int pos;
+
+		int nameStart;
+
+		int nameEnd;
+
+		int valueStart;
+
+		int valueEnd;
+
+		Members(byte[] json, int start, int end) {
+			this.json = json;
+			this.end = end;
+			this.pos = JsonBytes.skipWhitespace(json, start, end);
+			if (pos == end || json[pos] != '{') {
+				throw new JsonSyntaxException("Expected an object at byte " + pos);
+			}
+			pos = JsonBytes.skipWhitespace(json, pos + 1, end);
+			if (pos < end && json[pos] == '}') {
+				pos = -1;
+			}
+		}
+
+		/**
+		 * @return false after the last member
+		 */
+		boolean next() {
+			if (pos == -1) {
+				return false;
+			}
+			if (pos == end || json[pos] != '"') {
+				throw new JsonSyntaxException("Expected a name at byte " + pos);
+			}
+			nameStart = pos;
+			nameEnd = JsonBytes.skipString(json, pos, end);
+			int i = JsonBytes.skipWhitespace(json, nameEnd, end);
+			if (i == end || json[i] != ':') {
+				throw new JsonSyntaxException("Expected : at byte " + i);
+			}
+			valueStart = JsonBytes.skipWhitespace(json, i + 1, end);
+			valueEnd = JsonBytes.skipValue(json, valueStart, end);
+			i = JsonBytes.skipWhitespace(json, valueEnd, end);
+			if (i < end && json[i] == ',') {
+				pos = JsonBytes.skipWhitespace(json, i + 1, end);
+			} else if (i < end && json[i] == '}') {
+				pos = -1;
+			} else {
+				throw new JsonSyntaxException("Expected , or } at byte " + i);
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * The lazy members of one object not decoded yet, as a JSON object of
+	 * only these members.
+	 */
+	private class SliceFields implements TrelloObject.LazyFields {
+
+		private byte[] json;
+
+		private long pending;
+
+		SliceFields(byte[] json, long pending) {
+			this.json = json;
+			this.pending = pending;
+		}
+
+		public synchronized void decode(TrelloObject object, String field) {
+			int index = indexOf(field);
+			if (index >= 0 && (pending & 1L << index) != 0) {
+				read(object, index);
+			}
+		}
+
+		public synchronized void skip(TrelloObject object, String field) {
+			int index = indexOf(field);
+			if (index >= 0 && (pending & 1L << index) != 0) {
+				pending &= ~(1L << index);
+				releaseIfDone(object);
+			}
+		}
+
+		public synchronized void decodeAll(TrelloObject object) {
+			if (pending != 0) {
+				read(object, -1);
+			}
+		}
+
+		/**
+		 * Decodes the pending lazy member of the index, or all pending ones
+		 * for -1.
+		 */
+		@SuppressWarnings("unchecked")
+		private void read(TrelloObject object, int index) {
+			byte[] json = this.json;
+			Members members = new Members(json, 0, json.length);
+			try {
+				while (pending != 0 && members.next()) {
+					int i = indexOf(lazyNames, json, members.nameStart + 1, members.nameEnd - 1);
+					if (i < 0 || (index >= 0 && i != index) || (pending & 1L << i) == 0) {
+						continue;
+					}
+					// cleared first, the setter called while decoding checks it
+					pending &= ~(1L << i);
+					JsonReader in = reader(json, members.valueStart, members.valueEnd);
+					adapter.readMember(in, lazyNames[i], (T) object);
+					if (index >= 0) {
+						break;
+					}
+				}
+			} catch (IOException e) {
+				throw new JsonSyntaxException(e);
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			} finally {
+				pending = index >= 0 ? pending & ~(1L << index) : 0;
+				releaseIfDone(object);
+			}
+		}
+
+		private void releaseIfDone(TrelloObject object) {
+			if (pending == 0 && json != null) {
+				json = null;
+				object.setLazyFields(null);
+			}
+		}
+	}
+}
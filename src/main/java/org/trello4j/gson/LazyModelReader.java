@@ -0,0 +1,156 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.trello4j.model.Card;
+import org.trello4j.model.TrelloObject;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Reads cards and lists of cards lazily: each card keeps the raw JSON of its
+ * own object and decodes the fields below only when their getters are first
+ * called, each at most once. The fields a card is identified and placed by,
+ * <code>id</code>, <code>name</code>, <code>idList</code>,
+ * <code>idBoard</code>, <code>closed</code> and <code>pos</code>, are read
+ * right away.
+ * <p/>
+ * Lazy fields: <code>desc</code>, <code>idShort</code>,
+ * <code>idChecklists</code>, <code>idMembers</code>,
+ * <code>attachments</code>, <code>labels</code>, <code>url</code>,
+ * <code>due</code>, <code>dueComplete</code>, <code>badges</code> and the
+ * embedded <code>members</code>, <code>checklists</code> and
+ * <code>actions</code>.
+ * <p/>
+ * The response is split into objects by a scan of its bytes, so the fields
+ * never accessed are not decoded at all, and a card holds a single byte array
+ * instead of its strings, lists and nested objects until they are used.
+ */
+public class LazyModelReader {
+
+	private final LazyModel<Card> cards;
+
+	public LazyModelReader(Gson gson) {
+		this.cards = new LazyModel<Card>(new CardTypeAdapter(gson),
+				new String[] { "id", "name", "idList", "idBoard", "closed", "pos" },
+				new String[] { "desc", "idShort", "idChecklists", "idMembers",
+						"attachments", "labels", "url", "due", "dueComplete", "badges",
+						"members", "checklists", "actions" });
+	}
+
+	/**
+	 * @return whether the type is read lazily: {@link Card} or a list of
+	 *         cards
+	 */
+	public boolean isLazy(Type type) {
+		if (type == Card.class) {
+			return true;
+		}
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterized = (ParameterizedType) type;
+			return parameterized.getRawType() == List.class
+					&& parameterized.getActualTypeArguments()[0] == Card.class;
+		}
+		return false;
+	}
+
+	/**
+	 * Reads a response of a type read lazily.
+	 *
+	 * @param json
+	 *            the UTF-8 encoded response
+	 * @param type
+	 *            the type, see {@link #isLazy(Type)}
+	 * @return the card or list of cards, null for a JSON null
+	 * @throws JsonParseException
+	 *             if the response is not of the type
+	 */
+	public Object read(byte[] json, Type type) {
+		int end = json.length;
+		try {
+			int start = JsonBytes.skipWhitespace(json, 0, end);
+			if (JsonBytes.isNull(json, start, end)) {
+				checkEnd(json, start + 4);
+				return null;
+			}
+			JsonBytes.Buffer eager = new JsonBytes.Buffer(Math.min(end, 64 * 1024));
+			if (type == Card.class) {
+				int valueEnd = skipObject(json, start);
+				checkEnd(json, valueEnd);
+				TrelloObject.LazyFields lazyFields = cards.split(json, start, valueEnd, eager);
+				return cards.read(LazyModel.reader(eager.bytes, 0, eager.length), lazyFields);
+			}
+			if (start == end || json[start] != '[') {
+				throw new JsonSyntaxException("Expected an array at byte " + start);
+			}
+			// splits all cards first, so one reader reads all eager members
+			List<TrelloObject.LazyFields> lazyFields = new ArrayList<TrelloObject.LazyFields>();
+			eager.append((byte) '[');
+			int i = JsonBytes.skipWhitespace(json, start + 1, end);
+			boolean more = i == end || json[i] != ']';
+			while (more) {
+				if (lazyFields.size() > 0) {
+					eager.append((byte) ',');
+				}
+				if (JsonBytes.isNull(json, i, end)) {
+					eager.append(json, i, i + 4);
+					lazyFields.add(null);
+					i += 4;
+				} else {
+					int valueEnd = skipObject(json, i);
+					lazyFields.add(cards.split(json, i, valueEnd, eager));
+					i = valueEnd;
+				}
+				i = JsonBytes.skipWhitespace(json, i, end);
+				if (i < end && json[i] == ',') {
+					i = JsonBytes.skipWhitespace(json, i + 1, end);
+				} else if (i < end && json[i] == ']') {
+					more = false;
+				} else {
+					throw new JsonSyntaxException("Expected , or ] at byte " + i);
+				}
+			}
+			checkEnd(json, i + 1);
+			eager.append((byte) ']');
+
+			List<Card> values = new ArrayList<Card>(lazyFields.size());
+			JsonReader in = LazyModel.reader(eager.bytes, 0, eager.length);
+			in.beginArray();
+			for (TrelloObject.LazyFields fields : lazyFields) {
+				if (in.peek() == JsonToken.NULL) {
+					in.nextNull();
+					values.add(null);
+				} else {
+					values.add(cards.read(in, fields));
+				}
+			}
+			in.endArray();
+			return values;
+		} catch (IOException e) {
+			throw new JsonSyntaxException(e);
+		} catch (IllegalStateException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static int skipObject(byte[] json, int start) {
+		if (start == json.length || json[start] != '{') {
+			throw new JsonSyntaxException("Expected an object at byte " + start);
+		}
+		return JsonBytes.skipValue(json, start, json.length);
+	}
+
+	private static void checkEnd(byte[] json, int i) {
+		if (JsonBytes.skipWhitespace(json, i, json.length) != json.length) {
+			throw new JsonSyntaxException("Unexpected content at byte " + i);
+		}
+	}
+}
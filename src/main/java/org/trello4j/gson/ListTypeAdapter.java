@@ -0,0 +1,44 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+
+import org.trello4j.model.List;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+class ListTypeAdapter extends ModelTypeAdapter<List> {
+
+	@Override
+	protected List create() {
+		return new List();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, List list)
+			throws IOException {
+		if ("id".equals(name)) {
+			list.setId(readString(in));
+		} else if ("name".equals(name)) {
+			list.setName(readString(in));
+		} else if ("closed".equals(name)) {
+			list.setClosed(readBoolean(in));
+		} else if ("idBoard".equals(name)) {
+			list.setIdBoard(readString(in));
+		} else if ("pos".equals(name)) {
+			list.setPos(in.nextDouble());
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, List list) throws IOException {
+		write(out, "id", list.getId());
+		write(out, "name", list.getName());
+		out.name("closed").value(list.isClosed());
+		write(out, "idBoard", list.getIdBoard());
+		out.name("pos").value(list.getPos());
+	}
+}
@@ -0,0 +1,89 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+
+import org.trello4j.model.Action;
+import org.trello4j.model.Card;
+import org.trello4j.model.Member;
+import org.trello4j.model.Member.Status;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+class MemberTypeAdapter extends ModelTypeAdapter<Member> {
+
+	private final TypeAdapter<Card> cardAdapter;
+
+	private final TypeAdapter<Action> actionAdapter;
+
+	MemberTypeAdapter(Gson gson) {
+		this.cardAdapter = gson.getAdapter(Card.class);
+		this.actionAdapter = gson.getAdapter(Action.class);
+	}
+
+	@Override
+	protected Member create() {
+		return new Member();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, Member member)
+			throws IOException {
+		if ("id".equals(name)) {
+			member.setId(readString(in));
+		} else if ("avatarHash".equals(name)) {
+			member.setAvatarHash(readString(in));
+		} else if ("fullName".equals(name)) {
+			member.setFullName(readString(in));
+		} else if ("initials".equals(name)) {
+			member.setInitials(readString(in));
+		} else if ("status".equals(name)) {
+			member.setStatus(parseStatus(readString(in)));
+		} else if ("url".equals(name)) {
+			member.setUrl(readString(in));
+		} else if ("username".equals(name)) {
+			member.setUsername(readString(in));
+		} else if ("idOrganizations".equals(name)) {
+			member.setIdOrganizations(readIds(in));
+		} else if ("idBoards".equals(name)) {
+			member.setIdBoards(readIds(in));
+		} else if ("cards".equals(name)) {
+			member.setCards(readList(in, cardAdapter));
+		} else if ("actions".equals(name)) {
+			member.setActions(readList(in, actionAdapter));
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Member member)
+			throws IOException {
+		write(out, "id", member.getId());
+		write(out, "avatarHash", member.getAvatarHash());
+		write(out, "fullName", member.getFullName());
+		write(out, "initials", member.getInitials());
+		write(out, "status", member.getStatus());
+		write(out, "url", member.getUrl());
+		write(out, "username", member.getUsername());
+		writeStrings(out, "idOrganizations", member.getIdOrganizations());
+		writeStrings(out, "idBoards", member.getIdBoards());
+		writeList(out, "cards", member.getCards(), cardAdapter);
+		writeList(out, "actions", member.getActions(), actionAdapter);
+	}
+
+	/**
+	 * @return the status, null if unknown as with Gson's enum adapter
+	 */
+	private static Status parseStatus(String value) {
+		for (Status status : Status.values()) {
+			if (status.name().equals(value)) {
+				return status;
+			}
+		}
+		return null;
+	}
+}
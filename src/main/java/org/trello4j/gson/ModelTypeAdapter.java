@@ -0,0 +1,212 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.trello4j.model.ObjectId;
+import org.trello4j.model.ObjectIdList;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Base of the hand-written adapters of the model classes. Reads members by
+ * name through setters, skipping unknown members and leaving fields at their
+ * defaults for JSON nulls; writes the non-null fields.
+ * <p/>
+ * Value conversions follow Gson's own adapters, e.g. numbers are accepted
+ * for strings and strings for booleans.
+ */
+abstract class ModelTypeAdapter<T> extends TypeAdapter<T> {
+
+	/**
+	 * @return a new, empty instance
+	 */
+	protected abstract T create();
+
+	/**
+	 * Reads the value of a member into the object.
+	 *
+	 * @return false if the member is unknown, its value is then skipped
+	 */
+	protected abstract boolean readMember(JsonReader in, String name, T object)
+			throws IOException;
+
+	protected abstract void writeMembers(JsonWriter out, T value)
+			throws IOException;
+
+	@Override
+	public T read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return readObject(in, create());
+	}
+
+	/**
+	 * Reads the members of the next JSON object into the given instance.
+	 */
+	final T readObject(JsonReader in, T object) throws IOException {
+		in.beginObject();
+		while (in.hasNext()) {
+			String name = in.nextName();
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+			} else if (!readMember(in, name, object)) {
+				in.skipValue();
+			}
+		}
+		in.endObject();
+		return object;
+	}
+
+	@Override
+	public void write(JsonWriter out, T value) throws IOException {
+		if (value == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginObject();
+		writeMembers(out, value);
+		out.endObject();
+	}
+
+	static String readString(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.BOOLEAN) {
+			return Boolean.toString(in.nextBoolean());
+		}
+		return in.nextString();
+	}
+
+	static boolean readBoolean(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.STRING) {
+			return Boolean.parseBoolean(in.nextString());
+		}
+		return in.nextBoolean();
+	}
+
+	static List<String> readStrings(JsonReader in) throws IOException {
+		List<String> values = new ArrayList<String>();
+		in.beginArray();
+		while (in.hasNext()) {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				values.add(null);
+			} else {
+				values.add(readString(in));
+			}
+		}
+		in.endArray();
+		return values;
+	}
+
+	/**
+	 * Reads an array of ids into an {@link ObjectIdList}, or a plain list if
+	 * it holds ids that cannot be packed or nulls.
+	 */
+	static List<String> readIds(JsonReader in) throws IOException {
+		ObjectIdList ids = new ObjectIdList();
+		List<String> values = null;
+		in.beginArray();
+		while (in.hasNext()) {
+			String id;
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				id = null;
+			} else {
+				id = readString(in);
+			}
+			if (values == null && ObjectId.isPackable(id)) {
+				ids.add(id);
+			} else {
+				if (values == null) {
+					values = new ArrayList<String>(ids);
+				}
+				values.add(id);
+			}
+		}
+		in.endArray();
+		if (values != null) {
+			return values;
+		}
+		ids.trimToSize();
+		return ids;
+	}
+
+	static <E> List<E> readList(JsonReader in, TypeAdapter<E> adapter)
+			throws IOException {
+		List<E> values = new ArrayList<E>();
+		in.beginArray();
+		while (in.hasNext()) {
+			values.add(adapter.read(in));
+		}
+		in.endArray();
+		return values;
+	}
+
+	static void write(JsonWriter out, String name, String value)
+			throws IOException {
+		if (value != null) {
+			out.name(name).value(value);
+		}
+	}
+
+	static void write(JsonWriter out, String name, Number value)
+			throws IOException {
+		if (value != null) {
+			out.name(name).value(value);
+		}
+	}
+
+	static void write(JsonWriter out, String name, Boolean value)
+			throws IOException {
+		if (value != null) {
+			out.name(name).value(value.booleanValue());
+		}
+	}
+
+	static void write(JsonWriter out, String name, Enum<?> value)
+			throws IOException {
+		if (value != null) {
+			out.name(name).value(value.name());
+		}
+	}
+
+	static <V> void write(JsonWriter out, String name, V value, TypeAdapter<V> adapter)
+			throws IOException {
+		if (value != null) {
+			out.name(name);
+			adapter.write(out, value);
+		}
+	}
+
+	static void writeStrings(JsonWriter out, String name, List<String> values)
+			throws IOException {
+		if (values != null) {
+			out.name(name).beginArray();
+			for (String value : values) {
+				if (value == null) {
+					out.nullValue();
+				} else {
+					out.value(value);
+				}
+			}
+			out.endArray();
+		}
+	}
+
+	static <E> void writeList(JsonWriter out, String name, List<E> values,
+			TypeAdapter<E> adapter) throws IOException {
+		if (values != null) {
+			out.name(name).beginArray();
+			for (E value : values) {
+				adapter.write(out, value);
+			}
+			out.endArray();
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package org.trello4j.gson;
+
+import org.trello4j.model.Action;
+import org.trello4j.model.Board;
+import org.trello4j.model.Card;
+import org.trello4j.model.Checklist;
+import org.trello4j.model.Label;
+import org.trello4j.model.Member;
+import org.trello4j.model.Notification;
+import org.trello4j.model.Organization;
+import org.trello4j.model.Token;
+import org.trello4j.model.Type;
+import org.trello4j.model.Webhook;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Supplies hand-written adapters for the model classes, which read members
+ * straight into the objects through their setters instead of going through
+ * Gson's reflective field binding.
+ * <p/>
+ * Other types, including subclasses of the model classes, are left to the
+ * adapters Gson would otherwise use.
+ */
+public class ModelTypeAdapterFactory implements TypeAdapterFactory {
+
+	@SuppressWarnings("unchecked")
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+		TypeAdapter<?> adapter;
+		if (rawType == Action.class) {
+			adapter = new ActionTypeAdapter(gson);
+		} else if (rawType == Board.class) {
+			adapter = new BoardTypeAdapter(gson);
+		} else if (rawType == Card.class) {
+			adapter = new CardTypeAdapter(gson);
+		} else if (rawType == Checklist.class) {
+			adapter = new ChecklistTypeAdapter();
+		} else if (rawType == Label.class) {
+			adapter = new LabelTypeAdapter();
+		} else if (rawType == org.trello4j.model.List.class) {
+			adapter = new ListTypeAdapter();
+		} else if (rawType == Member.class) {
+			adapter = new MemberTypeAdapter(gson);
+		} else if (rawType == Notification.class) {
+			adapter = new NotificationTypeAdapter(gson);
+		} else if (rawType == Organization.class) {
+			adapter = new OrganizationTypeAdapter();
+		} else if (rawType == Token.class) {
+			adapter = new TokenTypeAdapter(gson);
+		} else if (rawType == Type.class) {
+			adapter = new TypeTypeAdapter();
+		} else if (rawType == Webhook.class) {
+			adapter = new WebhookTypeAdapter();
+		} else {
+			return null;
+		}
+		return (TypeAdapter<T>) adapter;
+	}
+}
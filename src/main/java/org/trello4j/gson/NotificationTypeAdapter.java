@@ -0,0 +1,44 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+
+import org.trello4j.model.Notification;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Reads and writes the members of {@link Notification} on top of those of the
+ * action it extends.
+ */
+class NotificationTypeAdapter extends ModelTypeAdapter<Notification> {
+
+	private final ActionTypeAdapter actionAdapter;
+
+	NotificationTypeAdapter(Gson gson) {
+		this.actionAdapter = new ActionTypeAdapter(gson);
+	}
+
+	@Override
+	protected Notification create() {
+		return new Notification();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name,
+			Notification notification) throws IOException {
+		if ("unread".equals(name)) {
+			notification.setUnread(readBoolean(in));
+			return true;
+		}
+		return actionAdapter.readMember(in, name, notification);
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Notification notification)
+			throws IOException {
+		out.name("unread").value(notification.isUnread());
+		actionAdapter.writeMembers(out, notification);
+	}
+}
@@ -0,0 +1,48 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+
+import org.trello4j.model.Organization;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+class OrganizationTypeAdapter extends ModelTypeAdapter<Organization> {
+
+	@Override
+	protected Organization create() {
+		return new Organization();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name,
+			Organization organization) throws IOException {
+		if ("id".equals(name)) {
+			organization.setId(readString(in));
+		} else if ("name".equals(name)) {
+			organization.setName(readString(in));
+		} else if ("displayName".equals(name)) {
+			organization.setDisplayName(readString(in));
+		} else if ("desc".equals(name)) {
+			organization.setDesc(readString(in));
+		} else if ("website".equals(name)) {
+			organization.setWebsite(readString(in));
+		} else if ("url".equals(name)) {
+			organization.setUrl(readString(in));
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Organization organization)
+			throws IOException {
+		write(out, "id", organization.getId());
+		write(out, "name", organization.getName());
+		write(out, "displayName", organization.getDisplayName());
+		write(out, "desc", organization.getDesc());
+		write(out, "website", organization.getWebsite());
+		write(out, "url", organization.getUrl());
+	}
+}
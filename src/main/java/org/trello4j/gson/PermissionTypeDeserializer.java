@@ -29,7 +29,15 @@ public class PermissionTypeDeserializer implements
 	public PERMISSION_TYPE deserialize(JsonElement json, Type typeOfT,
 			JsonDeserializationContext context) throws JsonParseException {
 
-		final String jsonStr = json.getAsString().toUpperCase();
+		return parse(json.getAsString());
+	}
+
+	/**
+	 * @return the permission type named by the string in any case, null if
+	 *         unknown
+	 */
+	static PERMISSION_TYPE parse(String value) {
+		final String jsonStr = value.toUpperCase();
 
 		PERMISSION_TYPE[] permissionTypes = PERMISSION_TYPE.values();
 		for (PERMISSION_TYPE permissionType : permissionTypes) {
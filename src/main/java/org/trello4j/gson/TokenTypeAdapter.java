@@ -0,0 +1,107 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.trello4j.model.Token;
+import org.trello4j.model.Token.Permission;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+class TokenTypeAdapter extends ModelTypeAdapter<Token> {
+
+	private final TypeAdapter<Date> dateAdapter;
+
+	private final PermissionTypeAdapter permissionAdapter = new PermissionTypeAdapter();
+
+	TokenTypeAdapter(Gson gson) {
+		this.dateAdapter = gson.getAdapter(Date.class);
+	}
+
+	@Override
+	protected Token create() {
+		return new Token();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, Token token)
+			throws IOException {
+		if ("id".equals(name)) {
+			token.setId(readString(in));
+		} else if ("idMember".equals(name)) {
+			token.setIdMember(readString(in));
+		} else if ("dateCreated".equals(name)) {
+			token.setDateCreated(dateAdapter.read(in));
+		} else if ("dateExpires".equals(name)) {
+			token.setDateExpires(dateAdapter.read(in));
+		} else if ("permissions".equals(name)) {
+			List<Permission> permissions = new ArrayList<Permission>();
+			in.beginArray();
+			while (in.hasNext()) {
+				permissions.add(permissionAdapter.read(in, token));
+			}
+			in.endArray();
+			token.setPermissions(permissions);
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Token token) throws IOException {
+		write(out, "id", token.getId());
+		write(out, "idMember", token.getIdMember());
+		write(out, "dateCreated", token.getDateCreated(), dateAdapter);
+		write(out, "dateExpires", token.getDateExpires(), dateAdapter);
+		writeList(out, "permissions", token.getPermissions(), permissionAdapter);
+	}
+
+	static class PermissionTypeAdapter extends ModelTypeAdapter<Permission> {
+
+		@Override
+		protected Permission create() {
+			return new Token().new Permission();
+		}
+
+		Permission read(JsonReader in, Token token) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			return readObject(in, token.new Permission());
+		}
+
+		@Override
+		protected boolean readMember(JsonReader in, String name,
+				Permission permission) throws IOException {
+			if ("idModel".equals(name)) {
+				permission.setIdModel(readString(in));
+			} else if ("modelType".equals(name)) {
+				permission.setModelType(readString(in));
+			} else if ("read".equals(name)) {
+				permission.setRead(readBoolean(in));
+			} else if ("write".equals(name)) {
+				permission.setWrite(readBoolean(in));
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		protected void writeMembers(JsonWriter out, Permission permission)
+				throws IOException {
+			write(out, "idModel", permission.getIdModel());
+			write(out, "modelType", permission.getModelType());
+			out.name("read").value(permission.isRead());
+			out.name("write").value(permission.isWrite());
+		}
+	}
+}
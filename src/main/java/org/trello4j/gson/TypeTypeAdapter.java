@@ -0,0 +1,36 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+
+import org.trello4j.model.TrelloType;
+import org.trello4j.model.Type;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+class TypeTypeAdapter extends ModelTypeAdapter<Type> {
+
+	@Override
+	protected Type create() {
+		return new Type();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, Type type)
+			throws IOException {
+		if ("id".equals(name)) {
+			type.setId(readString(in));
+		} else if ("type".equals(name)) {
+			type.setType(TrelloType.fromString(readString(in)));
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Type type) throws IOException {
+		write(out, "id", type.getId());
+		write(out, "type", type.getType());
+	}
+}
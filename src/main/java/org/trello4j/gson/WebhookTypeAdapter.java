@@ -0,0 +1,45 @@
+package org.trello4j.gson;
+
+import java.io.IOException;
+
+import org.trello4j.model.Webhook;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+class WebhookTypeAdapter extends ModelTypeAdapter<Webhook> {
+
+	@Override
+	protected Webhook create() {
+		return new Webhook();
+	}
+
+	@Override
+	protected boolean readMember(JsonReader in, String name, Webhook webhook)
+			throws IOException {
+		if ("id".equals(name)) {
+			webhook.setId(readString(in));
+		} else if ("description".equals(name)) {
+			webhook.setDescription(readString(in));
+		} else if ("callbackURL".equals(name)) {
+			webhook.setCallbackURL(readString(in));
+		} else if ("idModel".equals(name)) {
+			webhook.setIdModel(readString(in));
+		} else if ("active".equals(name)) {
+			webhook.setActive(readBoolean(in));
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected void writeMembers(JsonWriter out, Webhook webhook)
+			throws IOException {
+		write(out, "id", webhook.getId());
+		write(out, "description", webhook.getDescription());
+		write(out, "callbackURL", webhook.getCallbackURL());
+		write(out, "idModel", webhook.getIdModel());
+		write(out, "active", webhook.getActive());
+	}
+}
@@ -0,0 +1,247 @@
+package org.trello4j.http;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Response body framed on top of a pooled connection. Once the body has been
+ * read to its end (or drained on close) the connection goes back to the
+ * pool; bodies that cannot be completed cheaply close the connection
+ * instead. Every read is bounded by the read timeout and deadline of the
+ * request.
+ */
+abstract class BodyInputStream extends InputStream {
+
+	/** Max number of unread bytes skipped on close to save a connection. */
+	private static final int DRAIN_LIMIT = 64 * 1024;
+
+	protected final HttpConnection connection;
+
+	protected final InputStream in;
+
+	private final ConnectionPool pool;
+
+	private final TrelloRequest request;
+
+	private final boolean keepAlive;
+
+	private final byte[] single = new byte[1];
+
+	private boolean eof = false;
+
+	private boolean released = false;
+
+	private boolean closed = false;
+
+	BodyInputStream(ConnectionPool pool, HttpConnection connection,
+			TrelloRequest request, boolean keepAlive) {
+		this.pool = pool;
+		this.connection = connection;
+		this.request = request;
+		this.in = connection.getInputStream();
+		this.keepAlive = keepAlive;
+	}
+
+	/**
+	 * Reads from the framed body.
+	 *
+	 * @return number of bytes read or -1 at the end of the body
+	 */
+	protected abstract int readBody(byte[] b, int off, int len)
+			throws IOException;
+
+	/**
+	 * @return true if reading until end of body leaves the connection
+	 *         positioned at the next response
+	 */
+	protected boolean isFramed() {
+		return true;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int n = read(single, 0, 1);
+		return n == -1 ? -1 : single[0] & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (closed) {
+			throw new IOException("Response body is closed");
+		}
+		if (eof) {
+			return -1;
+		}
+		if (len == 0) {
+			return 0;
+		}
+		int n;
+		try {
+			connection.setReadTimeout(request.remainingTimeout(request.getReadTimeout()));
+			n = readBody(b, off, len);
+		} catch (IOException e) {
+			release(false);
+			throw e;
+		}
+		if (n == -1) {
+			eof = true;
+			release(keepAlive && isFramed());
+		}
+		return n;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (released) {
+			return;
+		}
+		if (keepAlive && isFramed()) {
+			drain();
+		}
+		release(eof && keepAlive && isFramed());
+	}
+
+	private void drain() {
+		byte[] buffer = new byte[2048];
+		int skipped = 0;
+		try {
+			connection.setReadTimeout(request.remainingTimeout(request.getReadTimeout()));
+			while (skipped < DRAIN_LIMIT) {
+				int n = readBody(buffer, 0, buffer.length);
+				if (n == -1) {
+					eof = true;
+					return;
+				}
+				skipped += n;
+			}
+		} catch (IOException e) {
+			// connection is discarded below
+		}
+	}
+
+	private void release(boolean reusable) {
+		if (!released) {
+			released = true;
+			if (request.getCancellation() != null) {
+				request.getCancellation().unregister(connection);
+			}
+			pool.release(connection, reusable && !request.isCancelled());
+		}
+	}
+
+	/**
+	 * Body delimited by a Content-Length header.
+	 */
+	static final class FixedLength extends BodyInputStream {
+
+		private long remaining;
+
+		FixedLength(ConnectionPool pool, HttpConnection connection,
+				TrelloRequest request, boolean keepAlive, long length) {
+			super(pool, connection, request, keepAlive);
+			this.remaining = length;
+		}
+
+		@Override
+		protected int readBody(byte[] b, int off, int len) throws IOException {
+			if (remaining == 0) {
+				return -1;
+			}
+			int n = in.read(b, off, (int) Math.min(len, remaining));
+			if (n == -1) {
+				throw new EOFException("Unexpected end of response body");
+			}
+			remaining -= n;
+			return n;
+		}
+	}
+
+	/**
+	 * Body sent with chunked transfer encoding.
+	 */
+	static final class Chunked extends BodyInputStream {
+
+		/** Bytes left in the current chunk, -1 before the first chunk. */
+		private long chunkRemaining = -1;
+
+		private boolean done = false;
+
+		Chunked(ConnectionPool pool, HttpConnection connection,
+				TrelloRequest request, boolean keepAlive) {
+			super(pool, connection, request, keepAlive);
+		}
+
+		@Override
+		protected int readBody(byte[] b, int off, int len) throws IOException {
+			if (done) {
+				return -1;
+			}
+			if (chunkRemaining == 0) {
+				// CRLF terminating the previous chunk
+				connection.readLine();
+				chunkRemaining = -1;
+			}
+			if (chunkRemaining == -1) {
+				chunkRemaining = readChunkSize();
+				if (chunkRemaining == 0) {
+					skipTrailers();
+					done = true;
+					return -1;
+				}
+			}
+			int n = in.read(b, off, (int) Math.min(len, chunkRemaining));
+			if (n == -1) {
+				throw new EOFException("Unexpected end of chunked response body");
+			}
+			chunkRemaining -= n;
+			return n;
+		}
+
+		private long readChunkSize() throws IOException {
+			String line = connection.readLine();
+			if (line == null) {
+				throw new EOFException("Unexpected end of chunked response body");
+			}
+			int ext = line.indexOf(';');
+			String size = (ext == -1 ? line : line.substring(0, ext)).trim();
+			try {
+				return Long.parseLong(size, 16);
+			} catch (NumberFormatException e) {
+				throw new IOException("Invalid chunk size: " + line);
+			}
+		}
+
+		private void skipTrailers() throws IOException {
+			String line;
+			while ((line = connection.readLine()) != null && line.length() > 0) {
+				// trailers are not used by the Trello API
+			}
+		}
+	}
+
+	/**
+	 * Body without framing, terminated by the server closing the connection.
+	 */
+	static final class UntilClose extends BodyInputStream {
+
+		UntilClose(ConnectionPool pool, HttpConnection connection,
+				TrelloRequest request) {
+			super(pool, connection, request, false);
+		}
+
+		@Override
+		protected int readBody(byte[] b, int off, int len) throws IOException {
+			return in.read(b, off, len);
+		}
+
+		@Override
+		protected boolean isFramed() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package org.trello4j.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cancels the requests it is attached to. Cancelling closes the connections
+ * those requests are using, so threads blocked reading a response fail
+ * right away instead of waiting for the server.
+ * <p/>
+ * A token may be shared by any number of requests and cannot be reset. A
+ * token created with a parent is also cancelled by it.
+ *
+ * @see TrelloRequest#cancellation(CancellationToken)
+ */
+public class CancellationToken {
+
+	private final List<Closeable> resources = new ArrayList<Closeable>(2);
+
+	private final CancellationToken parent;
+
+	private volatile boolean cancelled = false;
+
+	public CancellationToken() {
+		this(null);
+	}
+
+	/**
+	 * @param parent
+	 *            token that cancels this one as well, may be null
+	 */
+	public CancellationToken(CancellationToken parent) {
+		this.parent = parent;
+	}
+
+	public boolean isCancelled() {
+		return cancelled || (parent != null && parent.isCancelled());
+	}
+
+	/**
+	 * Cancels the requests using this token and closes their connections.
+	 */
+	public void cancel() {
+		List<Closeable> toClose;
+		synchronized (resources) {
+			if (cancelled) {
+				return;
+			}
+			cancelled = true;
+			toClose = new ArrayList<Closeable>(resources);
+			resources.clear();
+		}
+		for (Closeable resource : toClose) {
+			closeQuietly(resource);
+		}
+	}
+
+	/**
+	 * Registers a resource to be closed on cancellation. Used by transports
+	 * for the connection a request is running on.
+	 *
+	 * @return false if the token is already cancelled, the resource is then
+	 *         left untouched
+	 */
+	public boolean register(Closeable resource) {
+		synchronized (resources) {
+			if (cancelled || (parent != null && !parent.register(resource))) {
+				return false;
+			}
+			resources.add(resource);
+			return true;
+		}
+	}
+
+	/**
+	 * Removes a resource once the request no longer uses it.
+	 */
+	public void unregister(Closeable resource) {
+		synchronized (resources) {
+			resources.remove(resource);
+		}
+		if (parent != null) {
+			parent.unregister(resource);
+		}
+	}
+
+	private static void closeQuietly(Closeable resource) {
+		try {
+			resource.close();
+		} catch (IOException e) {
+			// cancelled anyway
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package org.trello4j.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes a request body of unknown length with chunked transfer encoding.
+ * {@link #finish()} writes the terminating chunk but leaves the connection
+ * open.
+ */
+final class ChunkedOutputStream extends OutputStream {
+
+	private static final byte[] CRLF = { '\r', '\n' };
+	private static final byte[] LAST_CHUNK = { '0', '\r', '\n', '\r', '\n' };
+
+	private final OutputStream out;
+
+	private final byte[] buffer;
+
+	private int count = 0;
+
+	ChunkedOutputStream(OutputStream out, int chunkSize) {
+		this.out = out;
+		this.buffer = new byte[chunkSize];
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (count == buffer.length) {
+			flushChunk();
+		}
+		buffer[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		while (len > 0) {
+			if (count == buffer.length) {
+				flushChunk();
+			}
+			int n = Math.min(len, buffer.length - count);
+			System.arraycopy(b, off, buffer, count, n);
+			count += n;
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		// chunks are written when full, the connection is flushed by the caller
+	}
+
+	/**
+	 * Writes any buffered data followed by the last chunk.
+	 */
+	void finish() throws IOException {
+		flushChunk();
+		out.write(LAST_CHUNK);
+	}
+
+	@Override
+	public void close() {
+		// the underlying connection stays open
+	}
+
+	private void flushChunk() throws IOException {
+		if (count > 0) {
+			out.write(Integer.toHexString(count).getBytes("ISO-8859-1"));
+			out.write(CRLF);
+			out.write(buffer, 0, count);
+			out.write(CRLF);
+			count = 0;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package org.trello4j.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pool of keep-alive connections.
+ * <p/>
+ * The number of connections open to a single host (in use or idle) is capped
+ * by <code>maxConnectionsPerHost</code>; callers wait up to
+ * <code>acquireTimeoutMillis</code> for a free slot. Idle connections are
+ * evicted once they have been unused for <code>keepAliveMillis</code> or when
+ * more than <code>maxIdleConnections</code> are parked, oldest first.
+ * Eviction runs whenever a connection is acquired or released, and can be
+ * triggered explicitly with {@link #evictIdleConnections()}.
+ */
+public class ConnectionPool {
+
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 8;
+	public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 16;
+	public static final long DEFAULT_KEEP_ALIVE_MILLIS = 30000;
+	public static final long DEFAULT_ACQUIRE_TIMEOUT_MILLIS = 30000;
+
+	private final int maxConnectionsPerHost;
+
+	private final int maxIdleConnections;
+
+	private final long keepAliveMillis;
+
+	private final long acquireTimeoutMillis;
+
+	private final ConcurrentMap<String, Semaphore> permits = new ConcurrentHashMap<String, Semaphore>();
+
+	/** Idle connections, least recently used first. */
+	private final LinkedList<HttpConnection> idle = new LinkedList<HttpConnection>();
+
+	private boolean closed = false;
+
+	public ConnectionPool() {
+		this(DEFAULT_MAX_CONNECTIONS_PER_HOST, DEFAULT_MAX_IDLE_CONNECTIONS,
+				DEFAULT_KEEP_ALIVE_MILLIS, DEFAULT_ACQUIRE_TIMEOUT_MILLIS);
+	}
+
+	public ConnectionPool(int maxConnectionsPerHost, int maxIdleConnections,
+			long keepAliveMillis, long acquireTimeoutMillis) {
+		if (maxConnectionsPerHost < 1) {
+			throw new IllegalArgumentException("maxConnectionsPerHost must be positive");
+		}
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+		this.maxIdleConnections = Math.max(0, maxIdleConnections);
+		this.keepAliveMillis = keepAliveMillis;
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+	}
+
+	public int getMaxConnectionsPerHost() {
+		return maxConnectionsPerHost;
+	}
+
+	public int getMaxIdleConnections() {
+		return maxIdleConnections;
+	}
+
+	public synchronized int getIdleConnectionCount() {
+		return idle.size();
+	}
+
+	/**
+	 * Reserves a connection slot for the route and returns a healthy idle
+	 * connection if one is available.
+	 *
+	 * @param maxWaitMillis
+	 *            upper bound for waiting on a free slot, lowering the
+	 *            configured acquire timeout
+	 * @param probe
+	 *            true to check idle connections on the socket however briefly
+	 *            they were idle, see {@link HttpConnection#isHealthy}
+	 * @return a pooled connection, or null if the caller must open a new one
+	 *         (the slot stays reserved until {@link #release} or
+	 *         {@link #abort} is called)
+	 */
+	HttpConnection acquire(String route, long maxWaitMillis, boolean probe)
+			throws IOException {
+		Semaphore semaphore = permits(route);
+		try {
+			long wait = Math.min(acquireTimeoutMillis, maxWaitMillis);
+			if (!semaphore.tryAcquire(wait, TimeUnit.MILLISECONDS)) {
+				throw new SocketTimeoutException("Timed out waiting for a connection to " + route);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted waiting for a connection to " + route);
+		}
+		while (true) {
+			HttpConnection connection = pollIdle(route);
+			if (connection == null) {
+				return null;
+			}
+			if (connection.isHealthy(System.currentTimeMillis(), probe)) {
+				return connection;
+			}
+			connection.close();
+		}
+	}
+
+	/**
+	 * Returns a connection obtained through {@link #acquire} and frees its
+	 * slot.
+	 *
+	 * @param reusable
+	 *            true if the response was fully consumed and the connection
+	 *            may carry another request
+	 */
+	void release(HttpConnection connection, boolean reusable) {
+		try {
+			boolean parked = false;
+			if (reusable) {
+				synchronized (this) {
+					if (!closed && maxIdleConnections > 0) {
+						long now = System.currentTimeMillis();
+						connection.markIdle(now);
+						idle.addLast(connection);
+						parked = true;
+						evictIdle(now);
+					}
+				}
+			}
+			if (!parked) {
+				connection.close();
+			}
+		} finally {
+			permits(connection.getRoute()).release();
+		}
+	}
+
+	/**
+	 * Frees a slot reserved by {@link #acquire} when no connection could be
+	 * opened.
+	 */
+	void abort(String route) {
+		permits(route).release();
+	}
+
+	/**
+	 * Closes connections that exceeded the keep-alive time.
+	 */
+	public synchronized void evictIdleConnections() {
+		evictIdle(System.currentTimeMillis());
+	}
+
+	/**
+	 * Closes every idle connection. Connections released afterwards are
+	 * closed instead of pooled.
+	 */
+	public synchronized void close() {
+		closed = true;
+		for (HttpConnection connection : idle) {
+			connection.close();
+		}
+		idle.clear();
+	}
+
+	private synchronized HttpConnection pollIdle(String route) {
+		evictIdle(System.currentTimeMillis());
+		// most recently used first, those are the least likely to be stale
+		Iterator<HttpConnection> it = idle.descendingIterator();
+		while (it.hasNext()) {
+			HttpConnection connection = it.next();
+			if (connection.getRoute().equals(route)) {
+				it.remove();
+				return connection;
+			}
+		}
+		return null;
+	}
+
+	private void evictIdle(long now) {
+		Iterator<HttpConnection> it = idle.iterator();
+		while (it.hasNext()) {
+			HttpConnection connection = it.next();
+			if (now - connection.getIdleSince() >= keepAliveMillis
+					|| idle.size() > maxIdleConnections) {
+				it.remove();
+				connection.close();
+			}
+		}
+	}
+
+	private Semaphore permits(String route) {
+		Semaphore semaphore = permits.get(route);
+		if (semaphore == null) {
+			Semaphore created = new Semaphore(maxConnectionsPerHost, true);
+			semaphore = permits.putIfAbsent(route, created);
+			if (semaphore == null) {
+				semaphore = created;
+			}
+		}
+		return semaphore;
+	}
+}
@@ -0,0 +1,318 @@
+package org.trello4j.http;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Decodes <code>gzip</code> and <code>deflate</code> response bodies with
+ * {@link Inflater} instances and buffers taken from a pool, instead of
+ * allocating a new <code>GZIPInputStream</code> and its native state for
+ * every response. Both are returned to the pool when the decoded stream is
+ * closed.
+ * <p/>
+ * <code>deflate</code> bodies are accepted both zlib-wrapped, as the HTTP
+ * specification requires, and raw, as some servers send them. A decoder is
+ * thread-safe and is usually shared by all clients.
+ */
+public class ContentDecoder {
+
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	/** Most inflaters and buffers kept each, the rest is released. */
+	private static final int MAX_POOLED = 16;
+
+	/** Compression method of gzip and zlib streams. */
+	private static final int DEFLATED = 8;
+
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private static final ContentDecoder DEFAULT = new ContentDecoder(DEFAULT_BUFFER_SIZE);
+
+	private final int bufferSize;
+
+	private final ArrayDeque<Inflater> zlibInflaters = new ArrayDeque<Inflater>();
+
+	private final ArrayDeque<Inflater> rawInflaters = new ArrayDeque<Inflater>();
+
+	private final ArrayDeque<byte[]> buffers = new ArrayDeque<byte[]>();
+
+	/**
+	 * @param bufferSize
+	 *            size of the buffer for compressed input of each stream
+	 */
+	public ContentDecoder(int bufferSize) {
+		if (bufferSize < 512) {
+			throw new IllegalArgumentException("Buffer size must be at least 512 bytes");
+		}
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * @return the decoder shared by clients not configured otherwise
+	 */
+	public static ContentDecoder getDefault() {
+		return DEFAULT;
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * @return number of buffers kept for reuse
+	 */
+	int getPooledBufferCount() {
+		synchronized (buffers) {
+			return buffers.size();
+		}
+	}
+
+	/**
+	 * Wraps a response body to decode its content encoding.
+	 *
+	 * @param body
+	 *            the body as received
+	 * @param contentEncoding
+	 *            the <code>Content-Encoding</code> of the response, may be
+	 *            null
+	 * @return the decoded body, or <code>body</code> if it is not encoded
+	 * @throws IOException
+	 *             if the gzip header cannot be read; the body is then closed
+	 */
+	public InputStream decode(InputStream body, String contentEncoding) throws IOException {
+		boolean gzip = "gzip".equalsIgnoreCase(contentEncoding) || "x-gzip".equalsIgnoreCase(contentEncoding);
+		if (!gzip && !"deflate".equalsIgnoreCase(contentEncoding)) {
+			return body;
+		}
+		byte[] buffer = takeBuffer();
+		boolean done = false;
+		try {
+			InputStream decoded;
+			if (gzip) {
+				readGzipHeader(body);
+				decoded = new DecodingInputStream(body, takeInflater(true), true, buffer, 0, true);
+			} else {
+				// zlib wrapped or raw is told by the first two bytes
+				int length = 0;
+				int n;
+				while (length < 2 && (n = body.read(buffer, length, 2 - length)) != -1) {
+					length += n;
+				}
+				boolean zlib = length == 2 && (buffer[0] & 0x0f) == DEFLATED
+						&& (((buffer[0] & 0xff) << 8) | (buffer[1] & 0xff)) % 31 == 0;
+				decoded = new DecodingInputStream(body, takeInflater(!zlib), !zlib, buffer, length, false);
+			}
+			done = true;
+			return decoded;
+		} finally {
+			if (!done) {
+				returnBuffer(buffer);
+				body.close();
+			}
+		}
+	}
+
+	private Inflater takeInflater(boolean raw) {
+		ArrayDeque<Inflater> pool = raw ? rawInflaters : zlibInflaters;
+		synchronized (pool) {
+			Inflater inflater = pool.poll();
+			if (inflater != null) {
+				return inflater;
+			}
+		}
+		return new Inflater(raw);
+	}
+
+	private void returnInflater(Inflater inflater, boolean raw) {
+		inflater.reset();
+		ArrayDeque<Inflater> pool = raw ? rawInflaters : zlibInflaters;
+		synchronized (pool) {
+			if (pool.size() < MAX_POOLED) {
+				pool.push(inflater);
+				return;
+			}
+		}
+		inflater.end();
+	}
+
+	private byte[] takeBuffer() {
+		synchronized (buffers) {
+			byte[] buffer = buffers.poll();
+			if (buffer != null) {
+				return buffer;
+			}
+		}
+		return new byte[bufferSize];
+	}
+
+	private void returnBuffer(byte[] buffer) {
+		synchronized (buffers) {
+			if (buffers.size() < MAX_POOLED) {
+				buffers.push(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Skips the gzip member header, see RFC 1952.
+	 */
+	private static void readGzipHeader(InputStream in) throws IOException {
+		if (readUByte(in) != 0x1f || readUByte(in) != 0x8b) {
+			throw new ZipException("Not in GZIP format");
+		}
+		if (readUByte(in) != DEFLATED) {
+			throw new ZipException("Unsupported compression method");
+		}
+		int flags = readUByte(in);
+		skip(in, 6);
+		if ((flags & FEXTRA) != 0) {
+			skip(in, readUByte(in) | (readUByte(in) << 8));
+		}
+		if ((flags & FNAME) != 0) {
+			while (readUByte(in) != 0) {
+				// skip file name
+			}
+		}
+		if ((flags & FCOMMENT) != 0) {
+			while (readUByte(in) != 0) {
+				// skip comment
+			}
+		}
+		if ((flags & FHCRC) != 0) {
+			skip(in, 2);
+		}
+	}
+
+	private static int readUByte(InputStream in) throws IOException {
+		int b = in.read();
+		if (b == -1) {
+			throw new EOFException("Unexpected end of GZIP input");
+		}
+		return b;
+	}
+
+	private static void skip(InputStream in, int n) throws IOException {
+		for (int i = 0; i < n; i++) {
+			readUByte(in);
+		}
+	}
+
+	/**
+	 * Inflating stream on a pooled inflater and buffer, verifying the gzip
+	 * trailer at the end of a gzip body.
+	 */
+	private final class DecodingInputStream extends InflaterInputStream {
+
+		private final boolean raw;
+
+		private final boolean gzip;
+
+		private final CRC32 crc;
+
+		private final byte[] single = new byte[1];
+
+		/** Position of the unread gzip trailer bytes in the buffer. */
+		private int trailerOffset = -1;
+
+		private boolean eof = false;
+
+		private boolean closed = false;
+
+		/**
+		 * @param raw
+		 *            whether the inflater expects raw deflate data
+		 * @param prefetched
+		 *            number of body bytes already read into the buffer
+		 */
+		DecodingInputStream(InputStream in, Inflater inflater, boolean raw,
+				byte[] buffer, int prefetched, boolean gzip) {
+			super(in, inflater, 1);
+			this.buf = buffer;
+			this.raw = raw;
+			this.gzip = gzip;
+			this.crc = gzip ? new CRC32() : null;
+			if (prefetched > 0) {
+				this.len = prefetched;
+				inflater.setInput(buffer, 0, prefetched);
+			} else if (!gzip) {
+				// empty body
+				eof = true;
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (closed) {
+				throw new IOException("Stream closed");
+			}
+			if (eof) {
+				return -1;
+			}
+			int n = super.read(b, off, len);
+			if (n == -1) {
+				eof = true;
+				if (gzip) {
+					readTrailer();
+				}
+			} else if (gzip) {
+				crc.update(b, off, n);
+			}
+			return n;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return eof || closed ? 0 : super.available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			returnInflater(inf, raw);
+			returnBuffer(buf);
+			buf = null;
+			in.close();
+		}
+
+		/**
+		 * Checks CRC-32 and size of the data, which follow the deflate data
+		 * partly in the buffer and partly still in the body.
+		 */
+		private void readTrailer() throws IOException {
+			long expectedCrc = readTrailerInt();
+			long expectedSize = readTrailerInt();
+			if (expectedCrc != crc.getValue() || expectedSize != (inf.getBytesWritten() & 0xffffffffL)) {
+				throw new ZipException("Corrupt GZIP trailer");
+			}
+		}
+
+		private long readTrailerInt() throws IOException {
+			if (trailerOffset == -1) {
+				trailerOffset = len - inf.getRemaining();
+			}
+			long value = 0;
+			for (int i = 0; i < 4; i++) {
+				int b = trailerOffset < len ? buf[trailerOffset++] & 0xff : readUByte(in);
+				value |= (long) b << (8 * i);
+			}
+			return value;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package org.trello4j.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * URL-encoded form body built from key-value pairs.
+ */
+public class FormBody implements RequestBody {
+
+	public static final String CONTENT_TYPE = "application/x-www-form-urlencoded; charset=UTF-8";
+
+	private final String[] names;
+
+	private final String[] values;
+
+	/**
+	 * @param params
+	 *            the parameters, copied in iteration order; null values are
+	 *            sent as empty strings
+	 */
+	public FormBody(Map<String, String> params) {
+		names = new String[params.size()];
+		values = new String[params.size()];
+		int i = 0;
+		for (Map.Entry<String, String> param : params.entrySet()) {
+			names[i] = param.getKey();
+			values[i] = param.getValue() == null ? "" : param.getValue();
+			i++;
+		}
+	}
+
+	public boolean isEmpty() {
+		return names.length == 0;
+	}
+
+	@Override
+	public String getContentType() {
+		return CONTENT_TYPE;
+	}
+
+	@Override
+	public long getContentLength() {
+		long length = 0;
+		for (int i = 0; i < names.length; i++) {
+			length += (i > 0 ? 1 : 0)
+					+ FormEncoder.encodedLength(names[i]) + 1
+					+ FormEncoder.encodedLength(values[i]);
+		}
+		return length;
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		for (int i = 0; i < names.length; i++) {
+			if (i > 0) {
+				out.write('&');
+			}
+			FormEncoder.encode(names[i], out);
+			out.write('=');
+			FormEncoder.encode(values[i], out);
+		}
+	}
+
+	/**
+	 * Appends the parameters as query string, without leading separator.
+	 */
+	public void appendTo(StringBuilder sb) {
+		for (int i = 0; i < names.length; i++) {
+			if (i > 0) {
+				sb.append('&');
+			}
+			FormEncoder.encode(names[i], sb);
+			sb.append('=');
+			FormEncoder.encode(values[i], sb);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package org.trello4j.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <code>application/x-www-form-urlencoded</code> encoder writing UTF-8
+ * percent-encoded output directly to its destination, without the
+ * intermediate strings and byte arrays of {@link java.net.URLEncoder}.
+ * Output is identical to <code>URLEncoder.encode(s, "UTF-8")</code>.
+ */
+public final class FormEncoder {
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	private FormEncoder() {
+	}
+
+	/**
+	 * Appends the encoded string, e.g. to build a query string.
+	 */
+	public static void encode(String s, StringBuilder sb) {
+		byte[] utf8 = new byte[4];
+		for (int i = 0; i < s.length();) {
+			int codePoint = s.codePointAt(i);
+			i += Character.charCount(codePoint);
+			int n = toUtf8(codePoint, utf8);
+			for (int j = 0; j < n; j++) {
+				int b = utf8[j] & 0xff;
+				if (isUnreserved(b)) {
+					sb.append((char) b);
+				} else if (b == ' ') {
+					sb.append('+');
+				} else {
+					sb.append('%').append(HEX[b >> 4]).append(HEX[b & 0xf]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the encoded string to a stream.
+	 */
+	public static void encode(String s, OutputStream out) throws IOException {
+		byte[] utf8 = new byte[4];
+		for (int i = 0; i < s.length();) {
+			int codePoint = s.codePointAt(i);
+			i += Character.charCount(codePoint);
+			int n = toUtf8(codePoint, utf8);
+			for (int j = 0; j < n; j++) {
+				int b = utf8[j] & 0xff;
+				if (isUnreserved(b)) {
+					out.write(b);
+				} else if (b == ' ') {
+					out.write('+');
+				} else {
+					out.write('%');
+					out.write(HEX[b >> 4]);
+					out.write(HEX[b & 0xf]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of bytes the encoded string takes
+	 */
+	public static long encodedLength(String s) {
+		byte[] utf8 = new byte[4];
+		long length = 0;
+		for (int i = 0; i < s.length();) {
+			int codePoint = s.codePointAt(i);
+			i += Character.charCount(codePoint);
+			int n = toUtf8(codePoint, utf8);
+			for (int j = 0; j < n; j++) {
+				int b = utf8[j] & 0xff;
+				length += isUnreserved(b) || b == ' ' ? 1 : 3;
+			}
+		}
+		return length;
+	}
+
+	private static boolean isUnreserved(int b) {
+		return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z')
+				|| (b >= '0' && b <= '9') || b == '-' || b == '_' || b == '.'
+				|| b == '*';
+	}
+
+	private static int toUtf8(int codePoint, byte[] out) {
+		if (codePoint < 0x80) {
+			out[0] = (byte) codePoint;
+			return 1;
+		} else if (codePoint < 0x800) {
+			out[0] = (byte) (0xc0 | (codePoint >> 6));
+			out[1] = (byte) (0x80 | (codePoint & 0x3f));
+			return 2;
+		} else if (codePoint < 0x10000) {
+			if (codePoint >= 0xd800 && codePoint <= 0xdfff) {
+				// unpaired surrogate, encoded as '?' like URLEncoder
+				out[0] = '?';
+				return 1;
+			}
+			out[0] = (byte) (0xe0 | (codePoint >> 12));
+			out[1] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+			out[2] = (byte) (0x80 | (codePoint & 0x3f));
+			return 3;
+		} else {
+			out[0] = (byte) (0xf0 | (codePoint >> 18));
+			out[1] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+			out[2] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+			out[3] = (byte) (0x80 | (codePoint & 0x3f));
+			return 4;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package org.trello4j.http;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides when a GET that has not been answered yet is sent a second time,
+ * the first response of either request being used.
+ * <p/>
+ * The hedge delay is a percentile of the recently observed response times,
+ * by default the 95th: only the slowest 5% of calls are hedged. Until
+ * <code>minSamples</code> responses have been seen nothing is hedged. Hedges
+ * are capped to a share of all calls by a {@link RetryBudget}, so a slow
+ * server does not get twice the traffic.
+ * <p/>
+ * Both requests run on the policy's executor while the caller waits.
+ * Instances are immutable, the <code>with</code> methods return modified
+ * copies sharing the latency history and budget.
+ */
+public class HedgePolicy {
+
+	public static final double DEFAULT_PERCENTILE = 0.95;
+	public static final long DEFAULT_MIN_DELAY_MILLIS = 50;
+	public static final int DEFAULT_MIN_SAMPLES = 20;
+	public static final double DEFAULT_HEDGE_RATIO = 0.1;
+
+	private static final int WINDOW_SIZE = 256;
+
+	private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(r, "trello4j-hedge-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private final double percentile;
+
+	private final long minDelayMillis;
+
+	private final int minSamples;
+
+	private final Executor executor;
+
+	private final RetryBudget budget;
+
+	private final LatencyWindow latencies;
+
+	public HedgePolicy() {
+		this(DEFAULT_PERCENTILE, DEFAULT_MIN_DELAY_MILLIS, DEFAULT_MIN_SAMPLES,
+				DEFAULT_EXECUTOR, new RetryBudget(DEFAULT_HEDGE_RATIO, RetryBudget.DEFAULT_MIN_RETRIES));
+	}
+
+	/**
+	 * @param percentile
+	 *            share of calls answered before a hedge is sent, in (0, 1)
+	 * @param minDelayMillis
+	 *            lower bound of the hedge delay
+	 * @param minSamples
+	 *            responses to observe before hedging
+	 * @param executor
+	 *            runs the requests of hedged calls
+	 * @param budget
+	 *            caps the share of hedged calls
+	 */
+	public HedgePolicy(double percentile, long minDelayMillis, int minSamples,
+			Executor executor, RetryBudget budget) {
+		this(percentile, minDelayMillis, minSamples, executor, budget, new LatencyWindow(WINDOW_SIZE));
+	}
+
+	private HedgePolicy(double percentile, long minDelayMillis, int minSamples,
+			Executor executor, RetryBudget budget, LatencyWindow latencies) {
+		if (percentile <= 0 || percentile >= 1) {
+			throw new IllegalArgumentException("Percentile must be in (0, 1)");
+		}
+		if (executor == null || budget == null) {
+			throw new NullPointerException("Executor and budget must be set");
+		}
+		this.percentile = percentile;
+		this.minDelayMillis = minDelayMillis;
+		this.minSamples = Math.max(1, minSamples);
+		this.executor = executor;
+		this.budget = budget;
+		this.latencies = latencies;
+	}
+
+	public HedgePolicy withPercentile(double percentile) {
+		return new HedgePolicy(percentile, minDelayMillis, minSamples, executor, budget, latencies);
+	}
+
+	public HedgePolicy withMinDelay(long minDelayMillis) {
+		return new HedgePolicy(percentile, minDelayMillis, minSamples, executor, budget, latencies);
+	}
+
+	public HedgePolicy withMinSamples(int minSamples) {
+		return new HedgePolicy(percentile, minDelayMillis, minSamples, executor, budget, latencies);
+	}
+
+	public HedgePolicy withExecutor(Executor executor) {
+		return new HedgePolicy(percentile, minDelayMillis, minSamples, executor, budget, latencies);
+	}
+
+	public HedgePolicy withBudget(RetryBudget budget) {
+		return new HedgePolicy(percentile, minDelayMillis, minSamples, executor, budget, latencies);
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public RetryBudget getBudget() {
+		return budget;
+	}
+
+	/**
+	 * @param request
+	 *            the request about to be sent
+	 * @return true if the request may be hedged, only GETs are
+	 */
+	public boolean appliesTo(TrelloRequest request) {
+		return TrelloRequest.METHOD_GET.equals(request.getMethod());
+	}
+
+	/**
+	 * Must be called once per hedgeable call, feeds the hedge budget.
+	 */
+	public void onRequest() {
+		budget.deposit();
+	}
+
+	/**
+	 * @return milliseconds to wait for a response before hedging, or -1 if
+	 *         not enough responses have been observed yet
+	 */
+	public long getDelayMillis() {
+		if (latencies.getCount() < minSamples) {
+			return -1;
+		}
+		long delay = TimeUnit.NANOSECONDS.toMillis(latencies.getPercentile(percentile));
+		return Math.max(minDelayMillis, delay);
+	}
+
+	/**
+	 * Takes a hedge from the budget.
+	 *
+	 * @return false if the budget is exhausted
+	 */
+	public boolean tryHedge() {
+		return budget.tryWithdraw();
+	}
+
+	/**
+	 * Records how long a request took until its response headers arrived.
+	 */
+	public void recordLatency(long latencyNanos) {
+		latencies.record(latencyNanos);
+	}
+}
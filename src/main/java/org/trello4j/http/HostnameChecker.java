@@ -0,0 +1,159 @@
+package org.trello4j.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateParsingException;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+import javax.naming.ldap.Rdn;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * Checks that the certificate a TLS server presented was issued for the
+ * host that was connected to, as in RFC 2818: the DNS names of the subject
+ * alternative names, or the most specific common name when there are none,
+ * and the IP addresses for IP literals. A wildcard is only accepted as the
+ * whole left-most label and matches exactly one label.
+ */
+final class HostnameChecker {
+
+	private static final int SAN_DNS_NAME = 2;
+	private static final int SAN_IP_ADDRESS = 7;
+
+	private HostnameChecker() {
+	}
+
+	/**
+	 * @throws SSLPeerUnverifiedException
+	 *             if the peer is not authenticated or its certificate does
+	 *             not name the host
+	 */
+	static void verify(String host, SSLSession session)
+			throws SSLPeerUnverifiedException {
+		Certificate[] certificates = session.getPeerCertificates();
+		if (certificates.length == 0 || !(certificates[0] instanceof X509Certificate)) {
+			throw new SSLPeerUnverifiedException("No X.509 certificate from " + host);
+		}
+		if (!matches(host, (X509Certificate) certificates[0])) {
+			throw new SSLPeerUnverifiedException("Certificate does not match host " + host);
+		}
+	}
+
+	static boolean matches(String host, X509Certificate certificate) {
+		if (isIpAddress(host)) {
+			for (String address : subjectAltNames(certificate, SAN_IP_ADDRESS)) {
+				if (sameAddress(host, address)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		List<String> names = subjectAltNames(certificate, SAN_DNS_NAME);
+		if (names.isEmpty()) {
+			String commonName = commonName(certificate.getSubjectX500Principal());
+			return commonName != null && matches(host, commonName);
+		}
+		for (String name : names) {
+			if (matches(host, name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param pattern
+	 *            a DNS name, possibly starting with a <code>*</code> label
+	 */
+	static boolean matches(String host, String pattern) {
+		host = normalize(host);
+		pattern = normalize(pattern);
+		if (host.length() == 0 || pattern.length() == 0) {
+			return false;
+		}
+		if (!pattern.startsWith("*.")) {
+			return pattern.indexOf('*') == -1 && host.equals(pattern);
+		}
+		String suffix = pattern.substring(1);
+		// no wildcards for top level and public suffixes such as *.com
+		if (suffix.indexOf('*') != -1 || suffix.indexOf('.', 1) == -1) {
+			return false;
+		}
+		int dot = host.indexOf('.');
+		return dot > 0 && host.substring(dot).equals(suffix);
+	}
+
+	private static String normalize(String name) {
+		name = name.trim().toLowerCase(Locale.ENGLISH);
+		return name.endsWith(".") ? name.substring(0, name.length() - 1) : name;
+	}
+
+	private static List<String> subjectAltNames(X509Certificate certificate, int type) {
+		List<String> names = new ArrayList<String>();
+		Collection<List<?>> entries;
+		try {
+			entries = certificate.getSubjectAlternativeNames();
+		} catch (CertificateParsingException e) {
+			return names;
+		}
+		if (entries != null) {
+			for (List<?> entry : entries) {
+				if (entry.size() >= 2 && Integer.valueOf(type).equals(entry.get(0))
+						&& entry.get(1) instanceof String) {
+					names.add((String) entry.get(1));
+				}
+			}
+		}
+		return names;
+	}
+
+	private static String commonName(X500Principal subject) {
+		try {
+			String commonName = null;
+			// the RDNs are listed from the least specific, the last CN wins
+			for (Rdn rdn : new LdapName(subject.getName(X500Principal.RFC2253)).getRdns()) {
+				if ("CN".equalsIgnoreCase(rdn.getType()) && rdn.getValue() instanceof String) {
+					commonName = (String) rdn.getValue();
+				}
+			}
+			return commonName;
+		} catch (InvalidNameException e) {
+			return null;
+		}
+	}
+
+	static boolean isIpAddress(String host) {
+		if (host.indexOf(':') != -1) {
+			return true;
+		}
+		for (int i = 0; i < host.length(); i++) {
+			char c = host.charAt(i);
+			if ((c < '0' || c > '9') && c != '.') {
+				return false;
+			}
+		}
+		return host.length() > 0;
+	}
+
+	private static boolean sameAddress(String host, String address) {
+		if (host.startsWith("[") && host.endsWith("]")) {
+			host = host.substring(1, host.length() - 1);
+		}
+		try {
+			// literals only, neither name is looked up
+			return isIpAddress(address)
+					&& InetAddress.getByName(host).equals(InetAddress.getByName(address));
+		} catch (UnknownHostException e) {
+			return false;
+		}
+	}
+}
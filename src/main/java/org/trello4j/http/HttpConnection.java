@@ -0,0 +1,149 @@
+package org.trello4j.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * A keep-alive socket to a single host, owned by a {@link ConnectionPool}.
+ */
+final class HttpConnection implements Closeable {
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final int MAX_LINE_LENGTH = 8192;
+
+	/**
+	 * Connections idle for less than this are assumed to be alive without
+	 * probing the socket.
+	 */
+	private static final long HEALTH_CHECK_IDLE_MILLIS = 10000;
+
+	private final String route;
+
+	private final Socket socket;
+
+	private final InputStream in;
+
+	private final OutputStream out;
+
+	private long idleSince = System.currentTimeMillis();
+
+	private int soTimeout = 0;
+
+	HttpConnection(String route, Socket socket) throws IOException {
+		this.route = route;
+		this.socket = socket;
+		this.in = new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE);
+		this.out = new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE);
+	}
+
+	String getRoute() {
+		return route;
+	}
+
+	InputStream getInputStream() {
+		return in;
+	}
+
+	OutputStream getOutputStream() {
+		return out;
+	}
+
+	long getIdleSince() {
+		return idleSince;
+	}
+
+	/**
+	 * Sets the timeout of subsequent reads, skipping the system call when it
+	 * is unchanged.
+	 */
+	void setReadTimeout(int millis) throws IOException {
+		if (millis != soTimeout) {
+			socket.setSoTimeout(millis);
+			soTimeout = millis;
+		}
+	}
+
+	void markIdle(long now) {
+		this.idleSince = now;
+	}
+
+	/**
+	 * Reads a CRLF (or LF) terminated line using ISO-8859-1.
+	 *
+	 * @return the line without terminator, or null at end of stream
+	 */
+	String readLine() throws IOException {
+		StringBuilder sb = new StringBuilder(64);
+		int c;
+		while ((c = in.read()) != -1) {
+			if (c == '\n') {
+				int len = sb.length();
+				if (len > 0 && sb.charAt(len - 1) == '\r') {
+					sb.setLength(len - 1);
+				}
+				return sb.toString();
+			}
+			if (sb.length() >= MAX_LINE_LENGTH) {
+				throw new IOException("Response line too long");
+			}
+			sb.append((char) c);
+		}
+		if (sb.length() > 0) {
+			throw new IOException("Unexpected end of stream");
+		}
+		return null;
+	}
+
+	/**
+	 * Checks that a pooled connection has not been closed by the server while
+	 * it was idle.
+	 *
+	 * @param probe
+	 *            true to read from the socket even if the connection was idle
+	 *            only briefly, for requests that cannot be sent again
+	 */
+	boolean isHealthy(long now, boolean probe) {
+		if (socket.isClosed() || socket.isInputShutdown()
+				|| socket.isOutputShutdown()) {
+			return false;
+		}
+		if (!probe && now - idleSince < HEALTH_CHECK_IDLE_MILLIS) {
+			return true;
+		}
+		try {
+			try {
+				socket.setSoTimeout(1);
+				in.mark(1);
+				// any byte (or EOF) on an idle connection means it is unusable
+				in.read();
+				return false;
+			} finally {
+				socket.setSoTimeout(soTimeout);
+			}
+		} catch (SocketTimeoutException e) {
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// ignore, connection is discarded anyway
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "HttpConnection " + route;
+	}
+}
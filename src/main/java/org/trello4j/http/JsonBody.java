@@ -0,0 +1,76 @@
+package org.trello4j.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * JSON body serialized by Gson while it is written to the connection, so the
+ * document is never held in memory as a whole. Its length is not known up
+ * front, the body is sent chunked.
+ * <p/>
+ * The UTF-8 writer and its buffer are kept per thread and reused by all
+ * bodies, see {@link org.trello4j.TrelloObjectFactoryImpl#createJsonBody} for
+ * bodies serialized like the responses are read.
+ */
+public class JsonBody implements RequestBody {
+
+	public static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+
+	private static final ThreadLocal<Utf8Writer> WRITERS = new ThreadLocal<Utf8Writer>() {
+		@Override
+		protected Utf8Writer initialValue() {
+			return new Utf8Writer();
+		}
+	};
+
+	private final Object value;
+
+	private final Type type;
+
+	private final Gson gson;
+
+	public JsonBody(Object value, Gson gson) {
+		this(value, value == null ? Object.class : value.getClass(), gson);
+	}
+
+	/**
+	 * @param value
+	 *            the value to serialize
+	 * @param type
+	 *            the declared type of the value, for generic collections
+	 * @param gson
+	 *            the Gson instance to serialize with
+	 */
+	public JsonBody(Object value, Type type, Gson gson) {
+		this.value = value;
+		this.type = type;
+		this.gson = gson;
+	}
+
+	@Override
+	public String getContentType() {
+		return CONTENT_TYPE;
+	}
+
+	@Override
+	public long getContentLength() {
+		return -1;
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		Utf8Writer writer = WRITERS.get();
+		writer.reset(out);
+		try {
+			gson.toJson(value, type, new JsonWriter(writer));
+			// flush only, closing would close the connection
+			writer.flush();
+		} finally {
+			writer.reset(null);
+		}
+	}
+}
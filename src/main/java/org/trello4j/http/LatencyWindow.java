@@ -0,0 +1,60 @@
+package org.trello4j.http;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of the most recent responses, for deriving percentiles.
+ */
+final class LatencyWindow {
+
+	/** Percentiles are recomputed after this many new samples. */
+	private static final int REFRESH_INTERVAL = 16;
+
+	private final long[] samples;
+
+	private int next = 0;
+
+	private int count = 0;
+
+	private int sinceRefresh = 0;
+
+	private double cachedPercentile = -1;
+
+	private long cachedValue = -1;
+
+	LatencyWindow(int size) {
+		this.samples = new long[size];
+	}
+
+	synchronized void record(long latencyNanos) {
+		samples[next] = latencyNanos;
+		next = (next + 1) % samples.length;
+		if (count < samples.length) {
+			count++;
+		}
+		sinceRefresh++;
+	}
+
+	synchronized int getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the latency below which the given share of samples fall, or -1
+	 *         if there are no samples
+	 */
+	synchronized long getPercentile(double percentile) {
+		if (count == 0) {
+			return -1;
+		}
+		if (percentile != cachedPercentile || sinceRefresh >= REFRESH_INTERVAL || cachedValue < 0) {
+			long[] sorted = Arrays.copyOf(samples, count);
+			Arrays.sort(sorted);
+			int index = (int) Math.ceil(percentile * count) - 1;
+			cachedValue = sorted[Math.max(0, Math.min(count - 1, index))];
+			cachedPercentile = percentile;
+			sinceRefresh = 0;
+		}
+		return cachedValue;
+	}
+}
@@ -0,0 +1,443 @@
+package org.trello4j.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * Default {@link TrelloTransport}: HTTP/1.1 over keep-alive sockets kept in a
+ * {@link ConnectionPool}, so consecutive calls to the same host skip the TCP
+ * and TLS handshakes.
+ * <p/>
+ * HTTPS through an HTTP proxy is tunneled with <code>CONNECT</code>, using
+ * basic proxy authentication when credentials are given.
+ * <p/>
+ * Connect and read timeouts and the deadline of a request bound every
+ * blocking step, from waiting for a pooled connection to reading the last
+ * byte of the body. Cancelling a request closes its connection.
+ */
+public class PooledTransport implements TrelloTransport {
+
+	private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+	private static final String CRLF = "\r\n";
+	private static final int CHUNK_SIZE = 8192;
+
+	/**
+	 * Retries of idempotent requests on a fresh socket when a pooled one
+	 * turns out to be closed. Other requests may have reached the server
+	 * already, their failure is left to the {@link RetryPolicy}; their
+	 * pooled connection is probed before they are sent instead.
+	 */
+	private static final int MAX_STALE_RETRIES = 2;
+
+	private final ConnectionPool pool;
+
+	private final Proxy proxy;
+
+	private final String proxyAuthorization;
+
+	private final SSLSocketFactory sslSocketFactory;
+
+	public PooledTransport() {
+		this(new ConnectionPool());
+	}
+
+	public PooledTransport(ConnectionPool pool) {
+		this(pool, null, null, null);
+	}
+
+	/**
+	 * @param pool
+	 *            the pool to keep connections in
+	 * @param proxy
+	 *            optional HTTP proxy, null for direct connections
+	 * @param proxyUser
+	 *            optional proxy user
+	 * @param proxyPassword
+	 *            password of the proxy user
+	 */
+	public PooledTransport(ConnectionPool pool, Proxy proxy, String proxyUser,
+			String proxyPassword) {
+		if (proxy != null && proxy.type() != Proxy.Type.HTTP
+				&& proxy.type() != Proxy.Type.DIRECT) {
+			throw new IllegalArgumentException("Unsupported proxy type: " + proxy.type());
+		}
+		this.pool = pool;
+		this.proxy = proxy == null || proxy.type() == Proxy.Type.DIRECT ? null : proxy;
+		this.proxyAuthorization = proxyUser == null || proxyUser.trim().isEmpty()
+				? null
+				: "Basic " + base64((proxyUser + ":" + (proxyPassword == null ? "" : proxyPassword)).getBytes(ISO_8859_1));
+		this.sslSocketFactory = (SSLSocketFactory) SSLSocketFactory.getDefault();
+	}
+
+	public ConnectionPool getConnectionPool() {
+		return pool;
+	}
+
+	@Override
+	public TrelloResponse execute(TrelloRequest request) throws IOException {
+		URL url = new URL(request.getUrl());
+		boolean secure = "https".equalsIgnoreCase(url.getProtocol());
+		String host = url.getHost();
+		int port = url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+		String route = (secure ? "https://" : "http://") + host + ":" + port;
+
+		CancellationToken cancellation = request.getCancellation();
+		for (int attempt = 0;; attempt++) {
+			checkCancelled(request);
+			// a request that is not resent must not go out on a closed connection
+			HttpConnection connection = pool.acquire(route, request.getRemainingMillis(),
+					!request.isIdempotent());
+			boolean reused = connection != null;
+			if (connection == null) {
+				connection = openConnection(route, host, port, secure, request);
+			}
+			if (cancellation != null && !cancellation.register(connection)) {
+				pool.release(connection, reused);
+				checkCancelled(request);
+			}
+			boolean handedOff = false;
+			try {
+				String statusLine;
+				try {
+					connection.setReadTimeout(request.remainingTimeout(request.getReadTimeout()));
+					writeRequest(connection, request, url, secure);
+					statusLine = connection.readLine();
+				} catch (IOException e) {
+					if (reused && request.isIdempotent() && attempt < MAX_STALE_RETRIES
+							&& !(e instanceof SocketTimeoutException) && !request.isCancelled()) {
+						continue;
+					}
+					throw e;
+				}
+				if (statusLine == null) {
+					if (reused && request.isIdempotent() && attempt < MAX_STALE_RETRIES) {
+						continue;
+					}
+					throw new IOException("Connection closed before response from " + route);
+				}
+				TrelloResponse response = readResponse(connection, request, statusLine);
+				handedOff = true;
+				return response;
+			} finally {
+				if (!handedOff) {
+					if (cancellation != null) {
+						cancellation.unregister(connection);
+					}
+					pool.release(connection, false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Opens connections to the host of the URL ahead of the first calls, so
+	 * that those find DNS, TCP and TLS already done. The first handshake
+	 * fills the TLS session cache, the following ones resume the session.
+	 * <p/>
+	 * The connections are parked in the pool, at most as many as it allows
+	 * per host and keeps idle, and are closed once they exceed its
+	 * keep-alive time unused.
+	 *
+	 * @param url
+	 *            any URL on the host
+	 * @param connections
+	 *            number of connections to have ready
+	 * @param connectTimeoutMillis
+	 *            timeout for each connection, including the TLS handshake
+	 * @return number of connections ready in the pool
+	 * @throws IOException
+	 *             if a connection could not be opened, those opened before
+	 *             stay pooled
+	 */
+	public int warmUp(String url, int connections, int connectTimeoutMillis)
+			throws IOException {
+		URL parsed = new URL(url);
+		boolean secure = "https".equalsIgnoreCase(parsed.getProtocol());
+		String host = parsed.getHost();
+		int port = parsed.getPort() == -1 ? parsed.getDefaultPort() : parsed.getPort();
+		String route = (secure ? "https://" : "http://") + host + ":" + port;
+		TrelloRequest request = new TrelloRequest(TrelloRequest.METHOD_GET, url)
+				.connectTimeout(connectTimeoutMillis)
+				.readTimeout(connectTimeoutMillis);
+
+		int count = Math.min(connections,
+				Math.min(pool.getMaxConnectionsPerHost(), pool.getMaxIdleConnections()));
+		List<HttpConnection> ready = new ArrayList<HttpConnection>(count);
+		try {
+			for (int i = 0; i < count; i++) {
+				HttpConnection connection = pool.acquire(route, request.getRemainingMillis(), false);
+				if (connection == null) {
+					connection = openConnection(route, host, port, secure, request);
+				}
+				ready.add(connection);
+			}
+		} finally {
+			for (HttpConnection connection : ready) {
+				pool.release(connection, true);
+			}
+		}
+		return ready.size();
+	}
+
+	@Override
+	public void close() {
+		pool.close();
+	}
+
+	private HttpConnection openConnection(String route, String host,
+			int port, boolean secure, TrelloRequest request) throws IOException {
+		Socket socket = null;
+		try {
+			socket = new Socket();
+			int connectTimeout = request.remainingTimeout(request.getConnectTimeout());
+			if (proxy != null) {
+				socket.connect(proxy.address(), connectTimeout);
+			} else {
+				socket.connect(new InetSocketAddress(host, port), connectTimeout);
+			}
+			// bounds the proxy tunnel and TLS handshake
+			socket.setSoTimeout(request.remainingTimeout(request.getReadTimeout()));
+			if (proxy != null && secure) {
+				tunnel(socket, host, port);
+			}
+			socket.setTcpNoDelay(true);
+			socket.setKeepAlive(true);
+			if (secure) {
+				SSLSocket sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket, host, port, true);
+				socket = sslSocket;
+				sslSocket.startHandshake();
+				HostnameChecker.verify(host, sslSocket.getSession());
+			}
+			return new HttpConnection(route, socket);
+		} catch (IOException e) {
+			closeQuietly(socket);
+			pool.abort(route);
+			throw e;
+		} catch (RuntimeException e) {
+			closeQuietly(socket);
+			pool.abort(route);
+			throw e;
+		}
+	}
+
+	private void tunnel(Socket socket, String host, int port)
+			throws IOException {
+		StringBuilder head = new StringBuilder(128)
+				.append("CONNECT ").append(host).append(':').append(port).append(" HTTP/1.1").append(CRLF)
+				.append("Host: ").append(host).append(':').append(port).append(CRLF);
+		if (proxyAuthorization != null) {
+			head.append("Proxy-Authorization: ").append(proxyAuthorization).append(CRLF);
+		}
+		head.append(CRLF);
+		OutputStream out = socket.getOutputStream();
+		out.write(head.toString().getBytes(ISO_8859_1));
+		out.flush();
+
+		// read unbuffered, the TLS handshake continues on the same stream
+		InputStream in = socket.getInputStream();
+		String statusLine = readRawLine(in);
+		int status = parseStatusCode(statusLine);
+		String line;
+		while ((line = readRawLine(in)) != null && line.length() > 0) {
+			// proxy headers are not needed
+		}
+		if (status != 200) {
+			throw new IOException("Proxy refused tunnel to " + host + ":" + port + ": " + statusLine);
+		}
+	}
+
+	private void writeRequest(HttpConnection connection,
+			TrelloRequest request, URL url, boolean secure) throws IOException {
+		String target;
+		if (proxy != null && !secure) {
+			target = url.toExternalForm();
+		} else {
+			target = url.getFile().length() == 0 ? "/" : url.getFile();
+		}
+		StringBuilder head = new StringBuilder(256)
+				.append(request.getMethod()).append(' ').append(target).append(" HTTP/1.1").append(CRLF)
+				.append("Host: ").append(url.getHost());
+		if (url.getPort() != -1 && url.getPort() != url.getDefaultPort()) {
+			head.append(':').append(url.getPort());
+		}
+		head.append(CRLF);
+		for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+			head.append(header.getKey()).append(": ").append(header.getValue()).append(CRLF);
+		}
+		if (!secure && proxy != null && proxyAuthorization != null) {
+			head.append("Proxy-Authorization: ").append(proxyAuthorization).append(CRLF);
+		}
+		RequestBody body = request.getBody();
+		long contentLength = body == null ? 0 : body.getContentLength();
+		if (body != null) {
+			head.append("Content-Type: ").append(body.getContentType()).append(CRLF);
+		}
+		if (contentLength >= 0) {
+			if (body != null || request.hasOutput()) {
+				head.append("Content-Length: ").append(contentLength).append(CRLF);
+			}
+		} else {
+			head.append("Transfer-Encoding: chunked").append(CRLF);
+		}
+		head.append(CRLF);
+
+		OutputStream out = connection.getOutputStream();
+		out.write(head.toString().getBytes(ISO_8859_1));
+		if (body != null) {
+			if (contentLength >= 0) {
+				body.writeTo(out);
+			} else {
+				ChunkedOutputStream chunked = new ChunkedOutputStream(out, CHUNK_SIZE);
+				body.writeTo(chunked);
+				chunked.finish();
+			}
+		}
+		out.flush();
+	}
+
+	private TrelloResponse readResponse(HttpConnection connection,
+			TrelloRequest request, String statusLine) throws IOException {
+		int status = parseStatusCode(statusLine);
+		Map<String, List<String>> headers = readHeaders(connection);
+		// skip interim responses such as 100 Continue
+		while (status >= 100 && status < 200) {
+			statusLine = connection.readLine();
+			if (statusLine == null) {
+				throw new IOException("Connection closed before final response");
+			}
+			status = parseStatusCode(statusLine);
+			headers = readHeaders(connection);
+		}
+
+		boolean keepAlive = !statusLine.startsWith("HTTP/1.0")
+				&& !containsToken(headers, "connection", "close");
+
+		BodyInputStream body;
+		if ("HEAD".equals(request.getMethod()) || status == 204 || status == 304) {
+			body = new BodyInputStream.FixedLength(pool, connection, request, keepAlive, 0);
+		} else if (containsToken(headers, "transfer-encoding", "chunked")) {
+			body = new BodyInputStream.Chunked(pool, connection, request, keepAlive);
+		} else if (headers.containsKey("content-length")) {
+			long length;
+			try {
+				length = Long.parseLong(headers.get("content-length").get(0).trim());
+			} catch (NumberFormatException e) {
+				throw new IOException("Invalid Content-Length: " + headers.get("content-length"));
+			}
+			body = new BodyInputStream.FixedLength(pool, connection, request, keepAlive, length);
+		} else {
+			body = new BodyInputStream.UntilClose(pool, connection, request);
+		}
+		return new TrelloResponse(status, headers, body);
+	}
+
+	private static Map<String, List<String>> readHeaders(
+			HttpConnection connection) throws IOException {
+		Map<String, List<String>> headers = new LinkedHashMap<String, List<String>>();
+		String line;
+		while ((line = connection.readLine()) != null && line.length() > 0) {
+			int colon = line.indexOf(':');
+			if (colon <= 0) {
+				continue;
+			}
+			String name = line.substring(0, colon).trim().toLowerCase(Locale.ENGLISH);
+			List<String> values = headers.get(name);
+			if (values == null) {
+				values = new ArrayList<String>(1);
+				headers.put(name, values);
+			}
+			values.add(line.substring(colon + 1).trim());
+		}
+		return headers;
+	}
+
+	private static boolean containsToken(Map<String, List<String>> headers,
+			String name, String token) {
+		List<String> values = headers.get(name);
+		if (values != null) {
+			for (String value : values) {
+				for (String part : value.split(",")) {
+					if (part.trim().equalsIgnoreCase(token)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void checkCancelled(TrelloRequest request)
+			throws InterruptedIOException {
+		if (request.isCancelled()) {
+			throw new InterruptedIOException("Request cancelled");
+		}
+	}
+
+	private static int parseStatusCode(String statusLine) throws IOException {
+		// HTTP/1.1 200 OK
+		if (statusLine != null && statusLine.startsWith("HTTP/")) {
+			int start = statusLine.indexOf(' ');
+			if (start != -1 && statusLine.length() >= start + 4) {
+				try {
+					return Integer.parseInt(statusLine.substring(start + 1, start + 4));
+				} catch (NumberFormatException e) {
+					// fall through
+				}
+			}
+		}
+		throw new IOException("Invalid status line: " + statusLine);
+	}
+
+	private static String readRawLine(InputStream in) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		int c;
+		while ((c = in.read()) != -1 && c != '\n') {
+			if (c != '\r') {
+				sb.append((char) c);
+			}
+		}
+		return c == -1 && sb.length() == 0 ? null : sb.toString();
+	}
+
+	private static void closeQuietly(Socket socket) {
+		if (socket != null) {
+			try {
+				socket.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	private static final char[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+
+	private static String base64(byte[] data) {
+		StringBuilder sb = new StringBuilder((data.length + 2) / 3 * 4);
+		for (int i = 0; i < data.length; i += 3) {
+			int b0 = data[i] & 0xff;
+			int b1 = i + 1 < data.length ? data[i + 1] & 0xff : 0;
+			int b2 = i + 2 < data.length ? data[i + 2] & 0xff : 0;
+			sb.append(BASE64[b0 >> 2]);
+			sb.append(BASE64[((b0 & 0x03) << 4) | (b1 >> 4)]);
+			sb.append(i + 1 < data.length ? BASE64[((b1 & 0x0f) << 2) | (b2 >> 6)] : '=');
+			sb.append(i + 2 < data.length ? BASE64[b2 & 0x3f] : '=');
+		}
+		return sb.toString();
+	}
+}
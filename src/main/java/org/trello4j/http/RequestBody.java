@@ -0,0 +1,33 @@
+package org.trello4j.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Body of a POST or PUT request, written straight into the connection.
+ * <p/>
+ * Bodies must be repeatable: {@link #writeTo(OutputStream)} may be called
+ * again when a request is retried.
+ */
+public interface RequestBody {
+
+	/**
+	 * @return the value of the Content-Type header
+	 */
+	String getContentType();
+
+	/**
+	 * @return the number of bytes {@link #writeTo(OutputStream)} writes, or -1
+	 *         if unknown, in which case the body is sent chunked
+	 */
+	long getContentLength();
+
+	/**
+	 * Writes the encoded body.
+	 *
+	 * @param out
+	 *            the connection stream, must not be closed
+	 */
+	void writeTo(OutputStream out) throws IOException;
+
+}
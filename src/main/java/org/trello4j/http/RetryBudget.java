@@ -0,0 +1,66 @@
+package org.trello4j.http;
+
+/**
+ * Caps the share of retries across all calls of a client, so a degraded
+ * server is not hit with a multiple of the normal traffic.
+ * <p/>
+ * Every request deposits <code>retryRatio</code> into the budget and every
+ * retry withdraws one. The budget starts with <code>minRetries</code>, so a
+ * client can retry before it has sent many requests; once those are spent,
+ * retries are only available as requests deposit them.
+ */
+public class RetryBudget {
+
+	public static final double DEFAULT_RETRY_RATIO = 0.2;
+	public static final int DEFAULT_MIN_RETRIES = 10;
+
+	private final double retryRatio;
+
+	private final double maxBalance;
+
+	private double balance;
+
+	public RetryBudget() {
+		this(DEFAULT_RETRY_RATIO, DEFAULT_MIN_RETRIES);
+	}
+
+	/**
+	 * @param retryRatio
+	 *            retries allowed per request, e.g. 0.2 for one retry every
+	 *            five requests
+	 * @param minRetries
+	 *            retries available at the start
+	 */
+	public RetryBudget(double retryRatio, int minRetries) {
+		if (retryRatio < 0 || minRetries < 0) {
+			throw new IllegalArgumentException("Retry ratio and min retries must not be negative");
+		}
+		this.retryRatio = retryRatio;
+		this.maxBalance = minRetries + retryRatio * 1000;
+		this.balance = minRetries;
+	}
+
+	/**
+	 * Records a request.
+	 */
+	public synchronized void deposit() {
+		balance = Math.min(maxBalance, balance + retryRatio);
+	}
+
+	/**
+	 * Takes a retry from the budget.
+	 *
+	 * @return true if the retry may be done
+	 */
+	public synchronized boolean tryWithdraw() {
+		if (balance >= 1) {
+			balance -= 1;
+			return true;
+		}
+		return false;
+	}
+
+	public synchronized double getBalance() {
+		return balance;
+	}
+}
@@ -0,0 +1,150 @@
+package org.trello4j.http;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.Random;
+
+/**
+ * Decides whether a failed request is sent again and how long to wait
+ * before doing so.
+ * <p/>
+ * Connection failures and 5xx responses (except 501) are retried with
+ * exponential backoff and full jitter: the n-th retry waits a random time
+ * between 0 and <code>min(maxDelay, baseDelay * 2^(n-1))</code>. Each call
+ * gets at most <code>maxAttempts</code> attempts, and all calls sharing the
+ * policy draw from one {@link RetryBudget}.
+ * <p/>
+ * Only idempotent methods (GET, PUT, DELETE) are retried, since repeating a
+ * POST may create a second card, comment or webhook. POSTs are retried when
+ * the connection could not be opened at all, or when enabled with
+ * {@link #withNonIdempotentRetries(boolean)}.
+ * <p/>
+ * Instances are immutable, the <code>with</code> methods return modified
+ * copies sharing the retry budget.
+ */
+public class RetryPolicy {
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+	public static final long DEFAULT_BASE_DELAY_MILLIS = 200;
+	public static final long DEFAULT_MAX_DELAY_MILLIS = 5000;
+
+	/** Policy that never retries. */
+	public static final RetryPolicy NONE = new RetryPolicy(1, 0, 0, new RetryBudget(0, 0), false);
+
+	private static final Random RANDOM = new Random();
+
+	private final int maxAttempts;
+
+	private final long baseDelayMillis;
+
+	private final long maxDelayMillis;
+
+	private final RetryBudget budget;
+
+	private final boolean retryNonIdempotent;
+
+	public RetryPolicy() {
+		this(DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS, new RetryBudget(), false);
+	}
+
+	public RetryPolicy(int maxAttempts, long baseDelayMillis,
+			long maxDelayMillis, RetryBudget budget, boolean retryNonIdempotent) {
+		if (maxAttempts < 1) {
+			throw new IllegalArgumentException("maxAttempts must be at least 1");
+		}
+		if (budget == null) {
+			throw new NullPointerException("Retry budget must be set");
+		}
+		this.maxAttempts = maxAttempts;
+		this.baseDelayMillis = baseDelayMillis;
+		this.maxDelayMillis = maxDelayMillis;
+		this.budget = budget;
+		this.retryNonIdempotent = retryNonIdempotent;
+	}
+
+	public RetryPolicy withMaxAttempts(int maxAttempts) {
+		return new RetryPolicy(maxAttempts, baseDelayMillis, maxDelayMillis, budget, retryNonIdempotent);
+	}
+
+	public RetryPolicy withBackoff(long baseDelayMillis, long maxDelayMillis) {
+		return new RetryPolicy(maxAttempts, baseDelayMillis, maxDelayMillis, budget, retryNonIdempotent);
+	}
+
+	public RetryPolicy withBudget(RetryBudget budget) {
+		return new RetryPolicy(maxAttempts, baseDelayMillis, maxDelayMillis, budget, retryNonIdempotent);
+	}
+
+	/**
+	 * Opts in to retrying non-idempotent requests such as
+	 * <code>createCard</code> or <code>addCommentToCard</code>, accepting
+	 * that a retry may create a duplicate.
+	 */
+	public RetryPolicy withNonIdempotentRetries(boolean retryNonIdempotent) {
+		return new RetryPolicy(maxAttempts, baseDelayMillis, maxDelayMillis, budget, retryNonIdempotent);
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public RetryBudget getBudget() {
+		return budget;
+	}
+
+	/**
+	 * Must be called once per call, feeds the retry budget.
+	 */
+	public void onRequest() {
+		budget.deposit();
+	}
+
+	/**
+	 * @param request
+	 *            the failed request
+	 * @param attempt
+	 *            number of attempts made so far, starting at 1
+	 * @param e
+	 *            the failure
+	 * @return true if the request should be sent again, the retry is then
+	 *         taken from the budget
+	 */
+	public boolean shouldRetry(TrelloRequest request, int attempt, IOException e) {
+		boolean safe = e instanceof ConnectException || isIdempotent(request);
+		return safe && attempt < maxAttempts && budget.tryWithdraw();
+	}
+
+	/**
+	 * @param request
+	 *            the request
+	 * @param attempt
+	 *            number of attempts made so far, starting at 1
+	 * @param statusCode
+	 *            the response status
+	 * @return true if the request should be sent again, the retry is then
+	 *         taken from the budget
+	 */
+	public boolean shouldRetry(TrelloRequest request, int attempt, int statusCode) {
+		return isRetryableStatus(statusCode) && isIdempotent(request)
+				&& attempt < maxAttempts && budget.tryWithdraw();
+	}
+
+	/**
+	 * @param attempt
+	 *            number of attempts made so far, starting at 1
+	 * @return the jittered delay before the next attempt
+	 */
+	public long getDelayMillis(int attempt) {
+		int shift = Math.min(attempt - 1, 30);
+		// compared before shifting, which could overflow
+		long ceiling = baseDelayMillis > maxDelayMillis >> shift ? maxDelayMillis : baseDelayMillis << shift;
+		return ceiling <= 0 ? 0 : (long) (RANDOM.nextDouble() * ceiling);
+	}
+
+	private boolean isIdempotent(TrelloRequest request) {
+		return retryNonIdempotent || !TrelloRequest.METHOD_POST.equals(request.getMethod());
+	}
+
+	private static boolean isRetryableStatus(int statusCode) {
+		return statusCode >= 500 && statusCode != 501;
+	}
+}
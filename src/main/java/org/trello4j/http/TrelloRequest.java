@@ -0,0 +1,241 @@
+package org.trello4j.http;
+
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single HTTP request to the Trello API.
+ */
+public class TrelloRequest {
+
+	public static final String METHOD_DELETE = "DELETE";
+	public static final String METHOD_GET = "GET";
+	public static final String METHOD_POST = "POST";
+	public static final String METHOD_PUT = "PUT";
+
+	private final String method;
+
+	private final String url;
+
+	private String endpoint = null;
+
+	private String family = null;
+
+	private final Map<String, String> headers = new LinkedHashMap<String, String>();
+
+	private RequestBody body = null;
+
+	private int connectTimeoutMillis = 0;
+
+	private int readTimeoutMillis = 0;
+
+	/** {@link System#nanoTime()} by which the call must complete, if set. */
+	private long deadlineNanos = 0;
+
+	private boolean hasDeadline = false;
+
+	private CancellationToken cancellation = null;
+
+	public TrelloRequest(String method, String url) {
+		if (method == null || url == null) {
+			throw new NullPointerException("Request method and URL must be set");
+		}
+		this.method = method;
+		this.url = url;
+	}
+
+	/**
+	 * @return a request with the same method, URL, endpoint, family, headers,
+	 *         body, timeouts, deadline and cancellation
+	 */
+	public TrelloRequest copy() {
+		TrelloRequest copy = new TrelloRequest(method, url);
+		copy.endpoint = endpoint;
+		copy.family = family;
+		copy.headers.putAll(headers);
+		copy.body = body;
+		copy.connectTimeoutMillis = connectTimeoutMillis;
+		copy.readTimeoutMillis = readTimeoutMillis;
+		copy.deadlineNanos = deadlineNanos;
+		copy.hasDeadline = hasDeadline;
+		copy.cancellation = cancellation;
+		return copy;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	/**
+	 * Names the API endpoint the request calls, e.g.
+	 * <code>/boards/{0}/cards</code>, so it can be reported without the ids
+	 * and credentials in the URL.
+	 */
+	public TrelloRequest endpoint(String endpoint) {
+		this.endpoint = endpoint;
+		return this;
+	}
+
+	/**
+	 * @return the endpoint path template, null if not set
+	 */
+	public String getEndpoint() {
+		return endpoint;
+	}
+
+	/**
+	 * Names the family of endpoints the request calls, e.g.
+	 * <code>boards</code>, which shares a circuit breaker.
+	 */
+	public TrelloRequest family(String family) {
+		this.family = family;
+		return this;
+	}
+
+	/**
+	 * @return the endpoint family, null if not set
+	 */
+	public String getFamily() {
+		return family;
+	}
+
+	public TrelloRequest header(String name, String value) {
+		headers.put(name, value);
+		return this;
+	}
+
+	public Map<String, String> getHeaders() {
+		return Collections.unmodifiableMap(headers);
+	}
+
+	public TrelloRequest body(RequestBody body) {
+		this.body = body;
+		return this;
+	}
+
+	public RequestBody getBody() {
+		return body;
+	}
+
+	/**
+	 * @param millis
+	 *            timeout for establishing the connection, 0 for none
+	 */
+	public TrelloRequest connectTimeout(int millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Timeout must not be negative");
+		}
+		this.connectTimeoutMillis = millis;
+		return this;
+	}
+
+	public int getConnectTimeout() {
+		return connectTimeoutMillis;
+	}
+
+	/**
+	 * @param millis
+	 *            timeout for any single read from the connection, 0 for none
+	 */
+	public TrelloRequest readTimeout(int millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Timeout must not be negative");
+		}
+		this.readTimeoutMillis = millis;
+		return this;
+	}
+
+	public int getReadTimeout() {
+		return readTimeoutMillis;
+	}
+
+	/**
+	 * Sets the time from now by which the whole exchange, including reading
+	 * the response body, must be done. It bounds the connect and read
+	 * timeouts.
+	 */
+	public TrelloRequest deadline(long timeout, TimeUnit unit) {
+		this.deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+		this.hasDeadline = true;
+		return this;
+	}
+
+	public boolean hasDeadline() {
+		return hasDeadline;
+	}
+
+	/**
+	 * @return milliseconds left until the deadline, {@link Long#MAX_VALUE} if
+	 *         there is none
+	 */
+	public long getRemainingMillis() {
+		if (!hasDeadline) {
+			return Long.MAX_VALUE;
+		}
+		return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+	}
+
+	/**
+	 * Bounds a socket timeout by the time left until the deadline.
+	 *
+	 * @param timeoutMillis
+	 *            the timeout, 0 for none
+	 * @return the timeout to use, 0 for none
+	 * @throws SocketTimeoutException
+	 *             if the deadline has passed
+	 */
+	public int remainingTimeout(int timeoutMillis) throws SocketTimeoutException {
+		if (!hasDeadline) {
+			return timeoutMillis;
+		}
+		long remaining = getRemainingMillis();
+		if (remaining <= 0) {
+			throw new SocketTimeoutException("Deadline exceeded");
+		}
+		return (int) (timeoutMillis == 0 ? Math.min(remaining, Integer.MAX_VALUE) : Math.min(remaining, timeoutMillis));
+	}
+
+	/**
+	 * Attaches a token that cancels this request, closing its connection.
+	 */
+	public TrelloRequest cancellation(CancellationToken cancellation) {
+		this.cancellation = cancellation;
+		return this;
+	}
+
+	public CancellationToken getCancellation() {
+		return cancellation;
+	}
+
+	public boolean isCancelled() {
+		return cancellation != null && cancellation.isCancelled();
+	}
+
+	/**
+	 * @return true if the method carries a request body.
+	 */
+	public boolean hasOutput() {
+		return METHOD_POST.equals(method) || METHOD_PUT.equals(method);
+	}
+
+	/**
+	 * @return true if sending the request twice has the same effect as
+	 *         sending it once (GET, HEAD, PUT and DELETE).
+	 */
+	public boolean isIdempotent() {
+		return METHOD_GET.equals(method) || "HEAD".equals(method)
+				|| METHOD_PUT.equals(method) || METHOD_DELETE.equals(method);
+	}
+
+	@Override
+	public String toString() {
+		return method + " " + url;
+	}
+}
@@ -0,0 +1,73 @@
+package org.trello4j.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Status, headers and body of a response returned by a
+ * {@link TrelloTransport}.
+ * <p/>
+ * The body must be closed (either directly or through {@link #close()}) so
+ * that the transport can reuse the connection.
+ */
+public class TrelloResponse implements Closeable {
+
+	private final int statusCode;
+
+	private final Map<String, List<String>> headers;
+
+	private final InputStream body;
+
+	/**
+	 * @param statusCode
+	 *            the HTTP status code
+	 * @param headers
+	 *            response headers keyed by lower case name
+	 * @param body
+	 *            the response body, never null
+	 */
+	public TrelloResponse(int statusCode, Map<String, List<String>> headers,
+			InputStream body) {
+		this.statusCode = statusCode;
+		this.headers = Collections.unmodifiableMap(headers);
+		this.body = body;
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	public Map<String, List<String>> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Gets the first value of a header.
+	 *
+	 * @param name
+	 *            case insensitive header name
+	 * @return the value or null if the header is missing
+	 */
+	public String getHeader(String name) {
+		List<String> values = headers.get(name.toLowerCase(Locale.ENGLISH));
+		return values == null || values.isEmpty() ? null : values.get(0);
+	}
+
+	public String getContentEncoding() {
+		return getHeader("Content-Encoding");
+	}
+
+	public InputStream getBody() {
+		return body;
+	}
+
+	@Override
+	public void close() throws IOException {
+		body.close();
+	}
+}
@@ -0,0 +1,31 @@
+package org.trello4j.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * SPI for the HTTP layer used by {@link org.trello4j.TrelloImpl}.
+ * <p/>
+ * Implementations must be thread safe, a single transport is shared by every
+ * call made through a client. The caller is responsible for closing the
+ * returned {@link TrelloResponse}, which hands the underlying connection back
+ * to the transport.
+ *
+ * @see PooledTransport
+ */
+public interface TrelloTransport extends Closeable {
+
+	/**
+	 * Executes the request and returns as soon as the status line and headers
+	 * have been read.
+	 *
+	 * @param request
+	 *            the request to send
+	 * @return the response, the body is not yet consumed
+	 * @throws IOException
+	 *             if the request could not be sent or the response could not
+	 *             be read
+	 */
+	TrelloResponse execute(TrelloRequest request) throws IOException;
+
+}
@@ -0,0 +1,114 @@
+package org.trello4j.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * Writer encoding to UTF-8 into a stream that can be replaced, so one
+ * instance and its buffer serve any number of bodies. Unpaired surrogates are
+ * written as <code>?</code>, as by <code>OutputStreamWriter</code>.
+ * <p/>
+ * {@link #flush()} and {@link #close()} write the buffered bytes but neither
+ * flush nor close the stream, which belongs to the connection.
+ */
+final class Utf8Writer extends Writer {
+
+	private final byte[] buffer = new byte[8192];
+
+	private int count = 0;
+
+	private char pendingHigh = 0;
+
+	private OutputStream out;
+
+	/**
+	 * Starts writing to another stream, dropping anything not yet written.
+	 */
+	void reset(OutputStream out) {
+		this.out = out;
+		this.count = 0;
+		this.pendingHigh = 0;
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		encode((char) c);
+	}
+
+	@Override
+	public void write(char[] chars, int off, int len) throws IOException {
+		for (int i = off; i < off + len; i++) {
+			encode(chars[i]);
+		}
+	}
+
+	@Override
+	public void write(String s, int off, int len) throws IOException {
+		for (int i = off; i < off + len; i++) {
+			encode(s.charAt(i));
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (pendingHigh != 0) {
+			pendingHigh = 0;
+			put('?');
+		}
+		if (count > 0) {
+			out.write(buffer, 0, count);
+			count = 0;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+	private void encode(char c) throws IOException {
+		if (pendingHigh != 0) {
+			char high = pendingHigh;
+			pendingHigh = 0;
+			if (Character.isLowSurrogate(c)) {
+				int codePoint = Character.toCodePoint(high, c);
+				ensure(4);
+				buffer[count++] = (byte) (0xf0 | codePoint >> 18);
+				buffer[count++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+				buffer[count++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+				buffer[count++] = (byte) (0x80 | codePoint & 0x3f);
+				return;
+			}
+			put('?');
+		}
+		if (c < 0x80) {
+			put(c);
+		} else if (c < 0x800) {
+			ensure(2);
+			buffer[count++] = (byte) (0xc0 | c >> 6);
+			buffer[count++] = (byte) (0x80 | c & 0x3f);
+		} else if (Character.isHighSurrogate(c)) {
+			pendingHigh = c;
+		} else if (Character.isLowSurrogate(c)) {
+			put('?');
+		} else {
+			ensure(3);
+			buffer[count++] = (byte) (0xe0 | c >> 12);
+			buffer[count++] = (byte) (0x80 | c >> 6 & 0x3f);
+			buffer[count++] = (byte) (0x80 | c & 0x3f);
+		}
+	}
+
+	private void put(char ascii) throws IOException {
+		ensure(1);
+		buffer[count++] = (byte) ascii;
+	}
+
+	private void ensure(int size) throws IOException {
+		if (count + size > buffer.length) {
+			out.write(buffer, 0, count);
+			count = 0;
+		}
+	}
+}
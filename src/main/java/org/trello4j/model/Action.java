@@ -153,7 +153,7 @@ public class Action extends TrelloObject {
 	@Override
 	public String toString() {
 		return "Action [idMemberCreator=" + idMemberCreator + ", type=" + type + ", date=" + date + ", memberCreator="
-				+ memberCreator + ", data=" + data + ", id=" + id + "]";
+				+ memberCreator + ", data=" + data + ", id=" + getId() + "]";
 	}
 
 }
@@ -16,6 +16,12 @@ public class Board extends TrelloObject {
 	private String idOrganization;
 	private String url;
 	private Prefs prefs;
+	// embedded when asked for, see ReadOptions
+	private java.util.List<Card> cards;
+	private java.util.List<List> lists;
+	private java.util.List<Member> members;
+	private java.util.List<Checklist> checklists;
+	private java.util.List<Action> actions;
 
 	
 	public String getName() {
@@ -74,6 +80,46 @@ public class Board extends TrelloObject {
 		this.invited = invited;
 	}
 
+	public java.util.List<Card> getCards() {
+		return cards;
+	}
+
+	public void setCards(java.util.List<Card> cards) {
+		this.cards = cards;
+	}
+
+	public java.util.List<List> getLists() {
+		return lists;
+	}
+
+	public void setLists(java.util.List<List> lists) {
+		this.lists = lists;
+	}
+
+	public java.util.List<Member> getMembers() {
+		return members;
+	}
+
+	public void setMembers(java.util.List<Member> members) {
+		this.members = members;
+	}
+
+	public java.util.List<Checklist> getChecklists() {
+		return checklists;
+	}
+
+	public void setChecklists(java.util.List<Checklist> checklists) {
+		this.checklists = checklists;
+	}
+
+	public java.util.List<Action> getActions() {
+		return actions;
+	}
+
+	public void setActions(java.util.List<Action> actions) {
+		this.actions = actions;
+	}
+
 	public class Prefs {
 
 		private PERMISSION_TYPE voting;
@@ -124,6 +170,8 @@ public class Board extends TrelloObject {
 	@Override
 	public String toString() {
 		return "Board [name=" + name + ", desc=" + desc + ", closed=" + closed + ", invited=" + invited
-				+ ", idOrganization=" + idOrganization + ", url=" + url + ", prefs=" + prefs + "]";
+				+ ", idOrganization=" + idOrganization + ", url=" + url + ", prefs=" + prefs + ", cards=" + cards
+				+ ", lists=" + lists + ", members=" + members + ", checklists=" + checklists + ", actions=" + actions
+				+ "]";
 	}
 }
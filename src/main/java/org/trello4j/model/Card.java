@@ -14,6 +14,13 @@ public class Card extends TrelloObject {
 	private Long idShort;
 	private String idList;
 	private String idBoard;
+	// ids of list and board when packed, as the id in TrelloObject
+	private transient long idListHigh;
+	private transient int idListLow;
+	private transient boolean idListPacked;
+	private transient long idBoardHigh;
+	private transient int idBoardLow;
+	private transient boolean idBoardPacked;
 	private List<String> idChecklists;
 	private List<String> idMembers;
 	private List<Attachment> attachments;
@@ -23,6 +30,10 @@ public class Card extends TrelloObject {
 	private Date due;
 	private boolean dueComplete;
 	private Badges badges;
+	// embedded when asked for, see ReadOptions
+	private List<Member> members;
+	private List<Checklist> checklists;
+	private List<Action> actions;
 
     public String getName() {
 		return name;
@@ -33,10 +44,12 @@ public class Card extends TrelloObject {
 	}
 
 	public String getDesc() {
+		decodeField("desc");
 		return desc;
 	}
 
 	public void setDesc(String desc) {
+		skipField("desc");
 		this.desc = desc;
 	}
 
@@ -49,42 +62,62 @@ public class Card extends TrelloObject {
 	}
 
 	public Long getIdShort() {
+		decodeField("idShort");
 		return idShort;
 	}
 
 	public void setIdShort(Long idShort) {
+		skipField("idShort");
 		this.idShort = idShort;
 	}
 
 	public String getIdList() {
-		return idList;
+		return idListPacked ? ObjectId.toString(idListHigh, idListLow) : idList;
 	}
 
 	public void setIdList(String idList) {
-		this.idList = idList;
+		idListPacked = ObjectId.isPackable(idList);
+		if (idListPacked) {
+			idListHigh = ObjectId.parseHigh(idList);
+			idListLow = ObjectId.parseLow(idList);
+			this.idList = null;
+		} else {
+			this.idList = idList;
+		}
 	}
 
 	public String getIdBoard() {
-		return idBoard;
+		return idBoardPacked ? ObjectId.toString(idBoardHigh, idBoardLow) : idBoard;
 	}
 
 	public void setIdBoard(String idBoard) {
-		this.idBoard = idBoard;
+		idBoardPacked = ObjectId.isPackable(idBoard);
+		if (idBoardPacked) {
+			idBoardHigh = ObjectId.parseHigh(idBoard);
+			idBoardLow = ObjectId.parseLow(idBoard);
+			this.idBoard = null;
+		} else {
+			this.idBoard = idBoard;
+		}
 	}
 
 	public List<String> getIdMembers() {
+		decodeField("idMembers");
 		return idMembers;
 	}
 
 	public void setIdMembers(List<String> idMembers) {
-		this.idMembers = idMembers;
+		skipField("idMembers");
+		this.idMembers = ObjectIdList.copyOf(idMembers);
 	}
 
 	public String getUrl() {
+		decodeField("url");
 		return url;
 	}
 
 	public void setUrl(String url) {
+		skipField("url");
 		this.url = url;
 	}
 
@@ -97,18 +130,22 @@ public class Card extends TrelloObject {
 	}
 
 	public List<Attachment> getAttachments() {
+		decodeField("attachments");
 		return attachments;
 	}
 
 	public void setAttachments(List<Attachment> attachments) {
+		skipField("attachments");
 		this.attachments = attachments;
 	}
 
 	public List<Label> getLabels() {
+		decodeField("labels");
 		return labels;
 	}
 
 	public void setLabels(List<Label> labels) {
+		skipField("labels");
 		this.labels = labels;
 	}
 	
@@ -264,42 +301,82 @@ public class Card extends TrelloObject {
 	}
 
 	public Date getDue() {
+		decodeField("due");
 		return due;
 	}
 
 	public void setDue(Date due) {
+		skipField("due");
 		this.due = due;
 	}
 
 	public boolean isDueComplete() {
+		decodeField("dueComplete");
 		return dueComplete;
 	}
 
 	public void setDueComplete(boolean dueComplete) {
+		skipField("dueComplete");
 		this.dueComplete = dueComplete;
 	}
 
 	public List<String> getIdChecklists() {
+		decodeField("idChecklists");
 		return idChecklists;
 	}
 
 	public void setIdChecklists(List<String> idChecklists) {
-		this.idChecklists = idChecklists;
+		skipField("idChecklists");
+		this.idChecklists = ObjectIdList.copyOf(idChecklists);
 	}
 
 	public Badges getBadges() {
+		decodeField("badges");
 		return badges;
 	}
 
 	public void setBadges(Badges badges) {
+		skipField("badges");
 		this.badges = badges;
 	}
 
+	public List<Member> getMembers() {
+		decodeField("members");
+		return members;
+	}
+
+	public void setMembers(List<Member> members) {
+		skipField("members");
+		this.members = members;
+	}
+
+	public List<Checklist> getChecklists() {
+		decodeField("checklists");
+		return checklists;
+	}
+
+	public void setChecklists(List<Checklist> checklists) {
+		skipField("checklists");
+		this.checklists = checklists;
+	}
+
+	public List<Action> getActions() {
+		decodeField("actions");
+		return actions;
+	}
+
+	public void setActions(List<Action> actions) {
+		skipField("actions");
+		this.actions = actions;
+	}
+
 	@Override
 	public String toString() {
+		decodeFields();
 		return "Card [name=" + name + ", desc=" + desc + ", closed=" + closed + ", idShort=" + idShort + ", idList="
-				+ idList + ", idBoard=" + idBoard + ", idChecklists=" + idChecklists + ", idMembers=" + idMembers
+				+ getIdList() + ", idBoard=" + getIdBoard() + ", idChecklists=" + idChecklists + ", idMembers=" + idMembers
 				+ ", attachments=" + attachments + ", labels=" + labels + ", url=" + url + ", pos=" + pos + ", due="
-				+ due + ", dueComplete=" + dueComplete + ", badges=" + badges + ", id=" + id + "]";
+				+ due + ", dueComplete=" + dueComplete + ", badges=" + badges + ", members=" + members + ", checklists="
+				+ checklists + ", actions=" + actions + ", id=" + getId() + "]";
 	}
 }
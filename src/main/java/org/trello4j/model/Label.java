@@ -23,6 +23,6 @@ public class Label extends TrelloObject {
 
 	@Override
 	public String toString() {
-		return "Label [color=" + color + ", name=" + name + ", id=" + id + "]";
+		return "Label [color=" + color + ", name=" + name + ", id=" + getId() + "]";
 	}
 }
@@ -106,7 +106,7 @@ public class List extends TrelloObject {
 
 	@Override
 	public String toString() {
-		return "List [name=" + name + ", closed=" + closed + ", idBoard=" + idBoard + ", pos=" + pos + ", id=" + id + "]";
+		return "List [name=" + name + ", closed=" + closed + ", idBoard=" + idBoard + ", pos=" + pos + ", id=" + getId() + "]";
 	}
 
 }
@@ -44,6 +44,10 @@ public class Member extends TrelloObject {
 
 	private List<String> idBoards;
 
+	// embedded when asked for, see ReadOptions
+	private List<Card> cards;
+
+	private List<Action> actions;
 
     public String getAvatarHash() {
 		return avatarHash;
@@ -98,7 +102,7 @@ public class Member extends TrelloObject {
 	}
 
 	public void setIdOrganizations(List<String> idOrganizations) {
-		this.idOrganizations = idOrganizations;
+		this.idOrganizations = ObjectIdList.copyOf(idOrganizations);
 	}
 
 	public List<String> getIdBoards() {
@@ -106,14 +110,30 @@ public class Member extends TrelloObject {
 	}
 
 	public void setIdBoards(List<String> idBoards) {
-		this.idBoards = idBoards;
+		this.idBoards = ObjectIdList.copyOf(idBoards);
+	}
+
+	public List<Card> getCards() {
+		return cards;
+	}
+
+	public void setCards(List<Card> cards) {
+		this.cards = cards;
+	}
+
+	public List<Action> getActions() {
+		return actions;
+	}
+
+	public void setActions(List<Action> actions) {
+		this.actions = actions;
 	}
 
 	@Override
 	public String toString() {
 		return "Member [avatarHash=" + avatarHash + ", fullName=" + fullName + ", initials=" + initials + ", status="
 				+ status + ", url=" + url + ", username=" + username + ", idOrganizations=" + idOrganizations
-				+ ", idBoards=" + idBoards + "]";
+				+ ", idBoards=" + idBoards + ", cards=" + cards + ", actions=" + actions + "]";
 	}
 
 }
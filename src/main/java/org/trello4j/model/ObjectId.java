@@ -0,0 +1,138 @@
+package org.trello4j.model;
+
+import org.trello4j.TrelloUtil;
+
+/**
+ * The id of a Trello object: 12 bytes, written as 24 hex digits, kept in two
+ * primitives instead of a string of 24 characters.
+ * <p/>
+ * Model classes store the ids they read this way and create the strings of
+ * their <code>String</code> accessors on each call. Ids that are not valid
+ * object ids, or are not in lower case as Trello writes them, are kept as
+ * strings, so the accessors return exactly the ids set.
+ */
+public final class ObjectId implements Comparable<ObjectId> {
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/** The first 8 bytes. */
+	private final long high;
+
+	/** The last 4 bytes. */
+	private final int low;
+
+	public ObjectId(long high, int low) {
+		this.high = high;
+		this.low = low;
+	}
+
+	/**
+	 * @param s
+	 *            24 hex digits
+	 * @return the id
+	 * @throws IllegalArgumentException
+	 *             if the string is not a valid object id
+	 * @see TrelloUtil#isObjectIdValid(String)
+	 */
+	public static ObjectId parse(String s) {
+		if (!TrelloUtil.isObjectIdValid(s)) {
+			throw new IllegalArgumentException("Invalid object id: " + s);
+		}
+		return new ObjectId(parseHigh(s), parseLow(s));
+	}
+
+	/**
+	 * @return whether the string is a valid object id in lower case, which
+	 *         {@link #toString()} gives back unchanged
+	 */
+	public static boolean isPackable(String s) {
+		if (!TrelloUtil.isObjectIdValid(s)) {
+			return false;
+		}
+		for (int i = 0; i < 24; i++) {
+			if (s.charAt(i) >= 'A' && s.charAt(i) <= 'F') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the first 8 bytes of a valid object id
+	 */
+	static long parseHigh(String s) {
+		long high = 0;
+		for (int i = 0; i < 16; i++) {
+			high = high << 4 | Character.digit(s.charAt(i), 16);
+		}
+		return high;
+	}
+
+	/**
+	 * @return the last 4 bytes of a valid object id
+	 */
+	static int parseLow(String s) {
+		int low = 0;
+		for (int i = 16; i < 24; i++) {
+			low = low << 4 | Character.digit(s.charAt(i), 16);
+		}
+		return low;
+	}
+
+	/**
+	 * @return the 24 hex digits of an id
+	 */
+	public static String toString(long high, int low) {
+		char[] chars = new char[24];
+		for (int i = 15; i >= 0; i--) {
+			chars[i] = HEX_DIGITS[(int) high & 0xf];
+			high >>>= 4;
+		}
+		for (int i = 23; i >= 16; i--) {
+			chars[i] = HEX_DIGITS[low & 0xf];
+			low >>>= 4;
+		}
+		return new String(chars);
+	}
+
+	public long getHigh() {
+		return high;
+	}
+
+	public int getLow() {
+		return low;
+	}
+
+	@Override
+	public int compareTo(ObjectId other) {
+		if (high != other.high) {
+			return high + Long.MIN_VALUE < other.high + Long.MIN_VALUE ? -1 : 1;
+		}
+		if (low != other.low) {
+			return low + Integer.MIN_VALUE < other.low + Integer.MIN_VALUE ? -1 : 1;
+		}
+		return 0;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (!(obj instanceof ObjectId)) {
+			return false;
+		}
+		ObjectId other = (ObjectId) obj;
+		return high == other.high && low == other.low;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (high ^ high >>> 32) * 31 + low;
+	}
+
+	/**
+	 * @return the 24 hex digits of the id
+	 */
+	@Override
+	public String toString() {
+		return toString(high, low);
+	}
+}
@@ -0,0 +1,200 @@
+package org.trello4j.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.trello4j.TrelloUtil;
+
+/**
+ * A list of object ids kept in two primitive arrays, 12 bytes per id, read
+ * and written as strings.
+ * <p/>
+ * The list can be modified and accepts any id. Once it holds an id that
+ * {@link ObjectId} cannot give back unchanged, such as null or an upper case
+ * id, it keeps all ids as strings instead. Model classes copy lists only when
+ * all ids can be packed, see {@link #copyOf(List)}.
+ */
+public final class ObjectIdList extends AbstractList<String> implements RandomAccess {
+
+	private long[] highs;
+
+	private int[] lows;
+
+	private int size;
+
+	/** All ids once one of them cannot be packed, null before. */
+	private ArrayList<String> unpacked;
+
+	public ObjectIdList() {
+		this(10);
+	}
+
+	public ObjectIdList(int capacity) {
+		highs = new long[capacity];
+		lows = new int[capacity];
+	}
+
+	/**
+	 * Copies a list of ids into an id list, unless it holds ids that cannot
+	 * be packed or nulls.
+	 *
+	 * @return the id list, the list itself if it is one already or cannot be
+	 *         copied, null for null
+	 */
+	public static List<String> copyOf(List<String> ids) {
+		if (ids == null || ids instanceof ObjectIdList) {
+			return ids;
+		}
+		for (String id : ids) {
+			if (!ObjectId.isPackable(id)) {
+				return ids;
+			}
+		}
+		ObjectIdList list = new ObjectIdList(ids.size());
+		list.addAll(ids);
+		return list;
+	}
+
+	@Override
+	public String get(int index) {
+		if (unpacked != null) {
+			return unpacked.get(index);
+		}
+		checkIndex(index);
+		return ObjectId.toString(highs[index], lows[index]);
+	}
+
+	/**
+	 * @return the id, null if it is not a valid object id
+	 */
+	public ObjectId getObjectId(int index) {
+		if (unpacked != null) {
+			String id = unpacked.get(index);
+			return TrelloUtil.isObjectIdValid(id) ? ObjectId.parse(id) : null;
+		}
+		checkIndex(index);
+		return new ObjectId(highs[index], lows[index]);
+	}
+
+	@Override
+	public int size() {
+		return unpacked != null ? unpacked.size() : size;
+	}
+
+	@Override
+	public String set(int index, String id) {
+		checkIndex(index);
+		if (unpacked == null && !ObjectId.isPackable(id)) {
+			unpack();
+		}
+		if (unpacked != null) {
+			return unpacked.set(index, id);
+		}
+		String previous = get(index);
+		highs[index] = ObjectId.parseHigh(id);
+		lows[index] = ObjectId.parseLow(id);
+		return previous;
+	}
+
+	@Override
+	public void add(int index, String id) {
+		if (index < 0 || index > size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+		if (unpacked == null && !ObjectId.isPackable(id)) {
+			unpack();
+		}
+		if (unpacked != null) {
+			unpacked.add(index, id);
+			modCount++;
+			return;
+		}
+		if (size == highs.length) {
+			int capacity = Math.max(size * 2, 4);
+			highs = Arrays.copyOf(highs, capacity);
+			lows = Arrays.copyOf(lows, capacity);
+		}
+		System.arraycopy(highs, index, highs, index + 1, size - index);
+		System.arraycopy(lows, index, lows, index + 1, size - index);
+		highs[index] = ObjectId.parseHigh(id);
+		lows[index] = ObjectId.parseLow(id);
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public String remove(int index) {
+		if (unpacked != null) {
+			modCount++;
+			return unpacked.remove(index);
+		}
+		String previous = get(index);
+		System.arraycopy(highs, index + 1, highs, index, size - index - 1);
+		System.arraycopy(lows, index + 1, lows, index, size - index - 1);
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	/**
+	 * Compares the ids without creating their strings.
+	 */
+	@Override
+	public int indexOf(Object o) {
+		if (unpacked != null) {
+			return unpacked.indexOf(o);
+		}
+		if (!(o instanceof String) || !ObjectId.isPackable((String) o)) {
+			return -1;
+		}
+		long high = ObjectId.parseHigh((String) o);
+		int low = ObjectId.parseLow((String) o);
+		for (int i = 0; i < size; i++) {
+			if (highs[i] == high && lows[i] == low) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * Releases the capacity beyond the size.
+	 */
+	public void trimToSize() {
+		if (unpacked != null) {
+			unpacked.trimToSize();
+		} else if (highs.length > size) {
+			highs = Arrays.copyOf(highs, size);
+			lows = Arrays.copyOf(lows, size);
+		}
+	}
+
+	/**
+	 * Moves the ids into a plain list, once for the first id that cannot be
+	 * packed.
+	 */
+	private void unpack() {
+		ArrayList<String> ids = new ArrayList<String>(Math.max(size * 2, 4));
+		for (int i = 0; i < size; i++) {
+			ids.add(ObjectId.toString(highs[i], lows[i]));
+		}
+		unpacked = ids;
+		highs = null;
+		lows = null;
+		size = 0;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+	}
+}
@@ -55,7 +55,7 @@ public class Organization extends TrelloObject {
 	@Override
 	public String toString() {
 		return "Organization [name=" + name + ", displayName=" + displayName + ", desc=" + desc + ", website=" + website
-				+ ", url=" + url + ", id=" + id + "]";
+				+ ", url=" + url + ", id=" + getId() + "]";
 	}
 
 }
@@ -93,6 +93,25 @@ public class Token extends TrelloObject {
 		this.dateExpires = dateExpires;
 	}
 
+	/**
+	 * Gets the permissions.
+	 *
+	 * @return the permissions
+	 */
+	public java.util.List<Permission> getPermissions() {
+		return permissions;
+	}
+
+	/**
+	 * Sets the permissions.
+	 *
+	 * @param permissions
+	 *            the new permissions
+	 */
+	public void setPermissions(java.util.List<Permission> permissions) {
+		this.permissions = permissions;
+	}
+
 	/**
 	 * The Class Permission.
 	 */
@@ -1,25 +1,136 @@
 package org.trello4j.model;
 
+import org.trello4j.TrelloUtil;
+
 /**
  * Base class for a Trello object.
  */
 public abstract class TrelloObject {
 
+	/**
+	 * The id, when it is not packed. Classes bound by reflection read and
+	 * write it here.
+	 * 
+	 * @deprecated use {@link #getId()} and {@link #setId(String)}, packed ids
+	 *             are not stored here; an id assigned here directly is still
+	 *             returned by {@link #getId()}
+	 */
+	@Deprecated
 	protected String id;
 
+	/** The id, when it is packed; see {@link ObjectId}. */
+	private transient long idHigh;
+
+	private transient int idLow;
+
+	private transient boolean idPacked;
+
+	/** Decodes the fields not read yet, null once all are decoded. */
+	private transient volatile LazyFields lazyFields;
+
 	public String getId() {
-		return id;
+		return idPacked && id == null ? ObjectId.toString(idHigh, idLow) : id;
 	}
 
 	public void setId(String id) {
-		this.id = id;
+		idPacked = ObjectId.isPackable(id);
+		if (idPacked) {
+			idHigh = ObjectId.parseHigh(id);
+			idLow = ObjectId.parseLow(id);
+			this.id = null;
+		} else {
+			this.id = id;
+		}
+	}
+
+	/**
+	 * @return the id, null if it is not set or not a valid object id
+	 */
+	public ObjectId getObjectId() {
+		if (idPacked && id == null) {
+			return new ObjectId(idHigh, idLow);
+		}
+		return TrelloUtil.isObjectIdValid(id) ? ObjectId.parse(id) : null;
+	}
+
+	public void setObjectId(ObjectId id) {
+		idPacked = id != null;
+		if (idPacked) {
+			idHigh = id.getHigh();
+			idLow = id.getLow();
+		}
+		this.id = null;
+	}
+
+	/**
+	 * Sets the decoder of the fields left undecoded when the object was read,
+	 * see {@link LazyFields}.
+	 */
+	public final void setLazyFields(LazyFields lazyFields) {
+		this.lazyFields = lazyFields;
+	}
+
+	/**
+	 * Decodes a field left undecoded, called by its getter before reading it.
+	 */
+	protected final void decodeField(String field) {
+		LazyFields lazyFields = this.lazyFields;
+		if (lazyFields != null) {
+			lazyFields.decode(this, field);
+		}
+	}
+
+	/**
+	 * Drops the undecoded value of a field, called by its setter so the value
+	 * set is not replaced later.
+	 */
+	protected final void skipField(String field) {
+		LazyFields lazyFields = this.lazyFields;
+		if (lazyFields != null) {
+			lazyFields.skip(this, field);
+		}
+	}
+
+	/**
+	 * Decodes all fields left undecoded.
+	 */
+	protected final void decodeFields() {
+		LazyFields lazyFields = this.lazyFields;
+		if (lazyFields != null) {
+			lazyFields.decodeAll(this);
+		}
 	}
 
 	@Override
 	public String toString() {
 		return new StringBuilder(getClass().getSimpleName())
 				.append(" ")
-				.append(id)
+				.append(getId())
 				.toString();
 	}
+
+	/**
+	 * The raw JSON of fields not decoded when an object was read, decoded on
+	 * first access instead. Implementations are thread safe, decode each
+	 * field at most once and detach themselves from the object once all
+	 * fields are decoded.
+	 */
+	public interface LazyFields {
+
+		/**
+		 * Decodes the field into the object, unless it was decoded or
+		 * skipped before.
+		 */
+		void decode(TrelloObject object, String field);
+
+		/**
+		 * Marks the field as decoded without decoding it.
+		 */
+		void skip(TrelloObject object, String field);
+
+		/**
+		 * Decodes all fields not decoded or skipped yet.
+		 */
+		void decodeAll(TrelloObject object);
+	}
 }
@@ -0,0 +1,212 @@
+package org.trello4j.ratelimit;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket whose state lives in a memory-mapped file, so that every
+ * process on the host using the same file draws from one budget.
+ * <p/>
+ * Each operation locks the file, loads the shared state, applies the change
+ * of {@link TokenBucket} and writes the state back. Refill times are stored
+ * on the wall clock, since {@link System#nanoTime()} is not comparable
+ * between processes. Requests in flight and the last reported status stay
+ * local to the process.
+ * <p/>
+ * If the file cannot be locked, the bucket carries on with the state it
+ * loaded last, throttling this process alone until the file is usable again.
+ * Use one instance per file and JVM, as handed out by
+ * {@link RateLimiter#forCredentials(String, String, File)}.
+ */
+public class MappedTokenBucket extends TokenBucket {
+
+	private static final int MAGIC = 0x54524c42;
+	private static final int VERSION = 1;
+
+	private static final int CAPACITY = 8;
+	private static final int NOMINAL_RATE = 16;
+	private static final int RATE = 24;
+	private static final int AVAILABLE = 32;
+	private static final int LAST_REFILL = 40;
+	private static final int SIZE = 48;
+
+	private final File file;
+
+	/** Reopened when closed by an interrupt, the mapping stays valid. */
+	private FileChannel channel;
+
+	private final MappedByteBuffer buffer;
+
+	/** Converts {@link System#nanoTime()} to wall clock nanoseconds. */
+	private final long wallClockOffsetNanos;
+
+	/**
+	 * Opens the bucket stored in the file, creating a full one if the file
+	 * does not hold a bucket yet.
+	 *
+	 * @throws IOException
+	 *             if the file cannot be opened or mapped
+	 */
+	public MappedTokenBucket(File file, int capacity, long interval, TimeUnit unit)
+			throws IOException {
+		super(capacity, interval, unit);
+		this.file = file;
+		this.wallClockOffsetNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis())
+				- System.nanoTime();
+		this.channel = new RandomAccessFile(file, "rw").getChannel();
+		boolean mapped = false;
+		try {
+			this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SIZE);
+			mapped = true;
+		} finally {
+			if (!mapped) {
+				channel.close();
+			}
+		}
+		FileLock lock = channel.lock(0, SIZE, false);
+		try {
+			if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION) {
+				load();
+			} else {
+				buffer.putInt(0, MAGIC);
+				buffer.putInt(4, VERSION);
+				store();
+			}
+		} finally {
+			lock.release();
+		}
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	@Override
+	public synchronized long reserve(long nowNanos) {
+		FileLock lock = lock();
+		try {
+			return super.reserve(nowNanos);
+		} finally {
+			unlock(lock);
+		}
+	}
+
+	@Override
+	public synchronized boolean tryAcquire(long nowNanos) {
+		FileLock lock = lock();
+		try {
+			return super.tryAcquire(nowNanos);
+		} finally {
+			unlock(lock);
+		}
+	}
+
+	@Override
+	public synchronized void refund() {
+		FileLock lock = lock();
+		try {
+			super.refund();
+		} finally {
+			unlock(lock);
+		}
+	}
+
+	@Override
+	public synchronized void adapt(long nowNanos, RateLimitStatus status) {
+		FileLock lock = lock();
+		try {
+			super.adapt(nowNanos, status);
+		} finally {
+			unlock(lock);
+		}
+	}
+
+	@Override
+	public synchronized void pause(long nowNanos, long pauseNanos) {
+		FileLock lock = lock();
+		try {
+			super.pause(nowNanos, pauseNanos);
+		} finally {
+			unlock(lock);
+		}
+	}
+
+	@Override
+	public synchronized int getAvailable(long nowNanos) {
+		FileLock lock = lock();
+		try {
+			return super.getAvailable(nowNanos);
+		} finally {
+			unlock(lock);
+		}
+	}
+
+	@Override
+	public synchronized int getCapacity() {
+		FileLock lock = lock();
+		try {
+			return super.getCapacity();
+		} finally {
+			unlock(lock);
+		}
+	}
+
+	/**
+	 * Locks the file and loads the shared state.
+	 *
+	 * @return the lock, null if the file could not be locked
+	 */
+	private FileLock lock() {
+		FileLock lock;
+		try {
+			if (!channel.isOpen()) {
+				channel = new RandomAccessFile(file, "rw").getChannel();
+			}
+			lock = channel.lock(0, SIZE, false);
+		} catch (IOException e) {
+			// e.g. closed by an interrupt, reopened on the next call
+			return null;
+		}
+		load();
+		return lock;
+	}
+
+	/**
+	 * Writes the state back and releases the lock.
+	 */
+	private void unlock(FileLock lock) {
+		if (lock == null) {
+			return;
+		}
+		try {
+			store();
+		} finally {
+			try {
+				lock.release();
+			} catch (IOException e) {
+				// released when the channel is closed
+			}
+		}
+	}
+
+	private void load() {
+		capacity = buffer.getDouble(CAPACITY);
+		nominalPermitsPerNano = buffer.getDouble(NOMINAL_RATE);
+		permitsPerNano = buffer.getDouble(RATE);
+		available = buffer.getDouble(AVAILABLE);
+		lastRefillNanos = buffer.getLong(LAST_REFILL) - wallClockOffsetNanos;
+	}
+
+	private void store() {
+		buffer.putDouble(CAPACITY, capacity);
+		buffer.putDouble(NOMINAL_RATE, nominalPermitsPerNano);
+		buffer.putDouble(RATE, permitsPerNano);
+		buffer.putDouble(AVAILABLE, available);
+		buffer.putLong(LAST_REFILL, lastRefillNanos + wallClockOffsetNanos);
+	}
+}
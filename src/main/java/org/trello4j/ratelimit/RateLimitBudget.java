@@ -0,0 +1,65 @@
+package org.trello4j.ratelimit;
+
+/**
+ * Snapshot of the request budget of a client, for schedulers that want to
+ * plan their work around the rate limit.
+ */
+public class RateLimitBudget {
+
+	private final int availablePermits;
+
+	private final RateLimitStatus apiKeyStatus;
+
+	private final RateLimitStatus tokenStatus;
+
+	public RateLimitBudget(int availablePermits, RateLimitStatus apiKeyStatus,
+			RateLimitStatus tokenStatus) {
+		this.availablePermits = availablePermits;
+		this.apiKeyStatus = apiKeyStatus;
+		this.tokenStatus = tokenStatus;
+	}
+
+	/**
+	 * @return number of requests that can be sent right now without waiting
+	 */
+	public int getAvailablePermits() {
+		return availablePermits;
+	}
+
+	/**
+	 * @return last status reported for the API key, null if none yet
+	 */
+	public RateLimitStatus getApiKeyStatus() {
+		return apiKeyStatus;
+	}
+
+	/**
+	 * @return last status reported for the token, null if none yet or the
+	 *         client has no token
+	 */
+	public RateLimitStatus getTokenStatus() {
+		return tokenStatus;
+	}
+
+	/**
+	 * @return the lowest remaining count reported by Trello, -1 if nothing
+	 *         has been reported yet
+	 */
+	public int getRemaining() {
+		int remaining = -1;
+		if (apiKeyStatus != null) {
+			remaining = apiKeyStatus.getRemaining();
+		}
+		if (tokenStatus != null && (remaining == -1 || tokenStatus.getRemaining() < remaining)) {
+			remaining = tokenStatus.getRemaining();
+		}
+		return remaining;
+	}
+
+	@Override
+	public String toString() {
+		return "RateLimitBudget [availablePermits=" + availablePermits
+				+ ", apiKeyStatus=" + apiKeyStatus + ", tokenStatus="
+				+ tokenStatus + "]";
+	}
+}
@@ -0,0 +1,83 @@
+package org.trello4j.ratelimit;
+
+/**
+ * Rate limit state of one scope (API key or token) as reported by Trello in
+ * the <code>x-rate-limit-*</code> response headers.
+ */
+public class RateLimitStatus {
+
+	private final int limit;
+
+	private final int remaining;
+
+	private final long intervalMillis;
+
+	private final long reportedAt;
+
+	public RateLimitStatus(int limit, int remaining, long intervalMillis) {
+		this(limit, remaining, intervalMillis, System.currentTimeMillis());
+	}
+
+	public RateLimitStatus(int limit, int remaining, long intervalMillis,
+			long reportedAt) {
+		this.limit = limit;
+		this.remaining = remaining;
+		this.intervalMillis = intervalMillis;
+		this.reportedAt = reportedAt;
+	}
+
+	/**
+	 * Parses the header values of one scope.
+	 *
+	 * @return the status, or null if the remaining count is missing or
+	 *         malformed
+	 */
+	public static RateLimitStatus fromHeaders(String limit, String remaining,
+			String intervalMillis) {
+		if (remaining == null) {
+			return null;
+		}
+		try {
+			return new RateLimitStatus(
+					limit == null ? -1 : Integer.parseInt(limit.trim()),
+					Integer.parseInt(remaining.trim()),
+					intervalMillis == null ? -1 : Long.parseLong(intervalMillis.trim()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return max requests per interval, -1 if not reported
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * @return requests left in the current interval
+	 */
+	public int getRemaining() {
+		return remaining;
+	}
+
+	/**
+	 * @return length of the rate limit interval, -1 if not reported
+	 */
+	public long getIntervalMillis() {
+		return intervalMillis;
+	}
+
+	/**
+	 * @return when the status was reported, in epoch millis
+	 */
+	public long getReportedAt() {
+		return reportedAt;
+	}
+
+	@Override
+	public String toString() {
+		return "RateLimitStatus [limit=" + limit + ", remaining=" + remaining
+				+ ", intervalMillis=" + intervalMillis + "]";
+	}
+}
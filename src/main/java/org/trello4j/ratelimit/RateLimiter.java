@@ -0,0 +1,278 @@
+package org.trello4j.ratelimit;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client side throttle applied before each request is sent.
+ * <p/>
+ * Trello limits every API key to 300 requests and every token to 100
+ * requests per 10 seconds. A request needs a permit from the API key bucket
+ * and, if there is one, the token bucket, so it is delayed until the tightest
+ * limit allows it. Limiters created with
+ * {@link #forCredentials(String, String)} share their buckets with every
+ * other client using the same key or token.
+ * <p/>
+ * Every permit must be followed by a call to
+ * {@link #complete(RateLimitStatus, RateLimitStatus)} once the response (or
+ * failure) is known; the reported statuses let the buckets pace requests at
+ * the real remaining budget.
+ */
+public class RateLimiter {
+
+	public static final int API_KEY_LIMIT = 300;
+	public static final int TOKEN_LIMIT = 100;
+	public static final long LIMIT_INTERVAL_MILLIS = 10000;
+
+	private static final ConcurrentMap<String, TokenBucket> SHARED_BUCKETS = new ConcurrentHashMap<String, TokenBucket>();
+
+	private final TokenBucket apiKeyBucket;
+
+	private final TokenBucket tokenBucket;
+
+	/**
+	 * @param apiKeyBucket
+	 *            bucket of the API key
+	 * @param tokenBucket
+	 *            bucket of the token, null for clients without token
+	 */
+	public RateLimiter(TokenBucket apiKeyBucket, TokenBucket tokenBucket) {
+		if (apiKeyBucket == null) {
+			throw new IllegalArgumentException("API key bucket is required");
+		}
+		this.apiKeyBucket = apiKeyBucket;
+		this.tokenBucket = tokenBucket;
+	}
+
+	/**
+	 * Gets a limiter enforcing Trello's per-key and per-token limits, sharing
+	 * state with all limiters created for the same credentials in this JVM.
+	 *
+	 * @param apiKey
+	 *            the API key
+	 * @param token
+	 *            the token, may be null
+	 */
+	public static RateLimiter forCredentials(String apiKey, String token) {
+		return new RateLimiter(
+				sharedBucket("key:" + apiKey, API_KEY_LIMIT),
+				token == null ? null : sharedBucket("token:" + token, TOKEN_LIMIT));
+	}
+
+	/**
+	 * Gets a limiter enforcing Trello's per-key and per-token limits, sharing
+	 * state with every process on the host that uses the same directory.
+	 * <p/>
+	 * The bucket of each credential is kept in a memory-mapped file in the
+	 * directory, named after a hash of the key or token.
+	 *
+	 * @param apiKey
+	 *            the API key
+	 * @param token
+	 *            the token, may be null
+	 * @param directory
+	 *            directory for the bucket files, e.g. the temp directory
+	 * @throws IOException
+	 *             if a bucket file cannot be opened
+	 */
+	public static RateLimiter forCredentials(String apiKey, String token, File directory)
+			throws IOException {
+		return new RateLimiter(
+				mappedBucket(new File(directory, "trello-key-" + sha1(apiKey) + ".bucket"), API_KEY_LIMIT),
+				token == null ? null : mappedBucket(new File(directory, "trello-token-" + sha1(token) + ".bucket"), TOKEN_LIMIT));
+	}
+
+	/**
+	 * Waits until a request may be sent.
+	 *
+	 * @throws InterruptedException
+	 *             if interrupted while waiting, the permit is then released
+	 */
+	public void acquire() throws InterruptedException {
+		long now = System.nanoTime();
+		long wait = apiKeyBucket.reserve(now);
+		if (tokenBucket != null) {
+			wait = Math.max(wait, tokenBucket.reserve(now));
+		}
+		if (wait > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			} catch (InterruptedException e) {
+				complete(null, null);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Waits until a request may be sent, unless that takes longer than the
+	 * timeout.
+	 *
+	 * @return true if a permit was taken, false if the wait would exceed the
+	 *         timeout, which is then returned right away
+	 * @throws InterruptedException
+	 *             if interrupted while waiting, the permit is then released
+	 */
+	public boolean tryAcquire(long timeout, TimeUnit unit)
+			throws InterruptedException {
+		long now = System.nanoTime();
+		long wait = apiKeyBucket.reserve(now);
+		if (tokenBucket != null) {
+			wait = Math.max(wait, tokenBucket.reserve(now));
+		}
+		if (wait > unit.toNanos(timeout)) {
+			apiKeyBucket.refund();
+			if (tokenBucket != null) {
+				tokenBucket.refund();
+			}
+			return false;
+		}
+		if (wait > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(wait);
+			} catch (InterruptedException e) {
+				complete(null, null);
+				throw e;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Takes a permit only if the request can be sent right away.
+	 *
+	 * @return true if a permit was taken
+	 */
+	public boolean tryAcquire() {
+		long now = System.nanoTime();
+		if (!apiKeyBucket.tryAcquire(now)) {
+			return false;
+		}
+		if (tokenBucket != null && !tokenBucket.tryAcquire(now)) {
+			apiKeyBucket.refund();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Releases a permit once the request finished.
+	 *
+	 * @param apiKeyStatus
+	 *            status of the API key reported with the response, or null
+	 * @param tokenStatus
+	 *            status of the token reported with the response, or null
+	 */
+	public void complete(RateLimitStatus apiKeyStatus,
+			RateLimitStatus tokenStatus) {
+		long now = System.nanoTime();
+		apiKeyBucket.complete();
+		if (apiKeyStatus != null) {
+			apiKeyBucket.adapt(now, apiKeyStatus);
+		}
+		if (tokenBucket != null) {
+			tokenBucket.complete();
+			if (tokenStatus != null) {
+				tokenBucket.adapt(now, tokenStatus);
+			}
+		}
+	}
+
+	/**
+	 * Called when Trello answered with HTTP 429, holds back every request
+	 * sharing this limiter.
+	 *
+	 * @param pauseMillis
+	 *            how long to hold back requests
+	 */
+	public void onRateLimited(long pauseMillis) {
+		long now = System.nanoTime();
+		long pauseNanos = TimeUnit.MILLISECONDS.toNanos(pauseMillis);
+		apiKeyBucket.pause(now, pauseNanos);
+		if (tokenBucket != null) {
+			tokenBucket.pause(now, pauseNanos);
+		}
+	}
+
+	/**
+	 * @return number of requests that can be sent right now without waiting
+	 */
+	public int getAvailablePermits() {
+		long now = System.nanoTime();
+		int available = apiKeyBucket.getAvailable(now);
+		if (tokenBucket != null) {
+			available = Math.min(available, tokenBucket.getAvailable(now));
+		}
+		return available;
+	}
+
+	/**
+	 * @return the burst size of the tightest bucket
+	 */
+	public int getCapacity() {
+		int capacity = apiKeyBucket.getCapacity();
+		if (tokenBucket != null) {
+			capacity = Math.min(capacity, tokenBucket.getCapacity());
+		}
+		return capacity;
+	}
+
+	/**
+	 * @return the current budget, combining local permits with the limits
+	 *         last reported by Trello
+	 */
+	public RateLimitBudget getBudget() {
+		return new RateLimitBudget(
+				getAvailablePermits(),
+				apiKeyBucket.getLastStatus(),
+				tokenBucket == null ? null : tokenBucket.getLastStatus());
+	}
+
+	private static TokenBucket sharedBucket(String name, int limit) {
+		TokenBucket bucket = SHARED_BUCKETS.get(name);
+		if (bucket == null) {
+			TokenBucket created = new TokenBucket(limit, LIMIT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+			bucket = SHARED_BUCKETS.putIfAbsent(name, created);
+			if (bucket == null) {
+				bucket = created;
+			}
+		}
+		return bucket;
+	}
+
+	private static TokenBucket mappedBucket(File file, int limit) throws IOException {
+		String name = "file:" + file.getCanonicalPath();
+		synchronized (SHARED_BUCKETS) {
+			TokenBucket bucket = SHARED_BUCKETS.get(name);
+			if (bucket == null) {
+				bucket = new MappedTokenBucket(file, limit, LIMIT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+				SHARED_BUCKETS.put(name, bucket);
+			}
+			return bucket;
+		}
+	}
+
+	/**
+	 * Keeps credentials out of file names.
+	 */
+	private static String sha1(String value) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(value.getBytes("UTF-8"));
+			StringBuilder hex = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package org.trello4j.ratelimit;
+
+/**
+ * Priority class of a call, used by the {@link RequestScheduler}.
+ */
+public enum RequestPriority {
+
+	/** Calls a user is waiting for, the default. */
+	INTERACTIVE,
+
+	/** Bulk and sync work that can wait for interactive calls. */
+	BACKGROUND
+}
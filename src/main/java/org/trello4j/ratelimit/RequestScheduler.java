@@ -0,0 +1,183 @@
+package org.trello4j.ratelimit;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands out the permits of a {@link RateLimiter} by priority class.
+ * <p/>
+ * Waiting calls are kept in one queue per {@link RequestPriority} and served
+ * by weighted fair queuing: when both classes are backlogged, interactive
+ * calls get <code>interactiveWeight</code> permits for every
+ * <code>backgroundWeight</code> background permits. While no interactive
+ * call waits, background calls leave the last <code>reservedShare</code> of
+ * the limiter's capacity untouched, so a bulk crawl cannot drain the budget
+ * the next user-facing call needs.
+ * <p/>
+ * Permits are taken one call at a time, so background work yields to newly
+ * arrived interactive calls at every request boundary.
+ */
+public class RequestScheduler {
+
+	public static final int DEFAULT_INTERACTIVE_WEIGHT = 4;
+	public static final int DEFAULT_BACKGROUND_WEIGHT = 1;
+	public static final double DEFAULT_RESERVED_SHARE = 0.2;
+
+	/** How often background calls held back by the reserve look again. */
+	private static final long RESERVE_POLL_MILLIS = 50;
+
+	private final RateLimiter limiter;
+
+	private final int[] weights;
+
+	private final int reservedPermits;
+
+	private final List<LinkedList<Ticket>> queues = new ArrayList<LinkedList<Ticket>>();
+
+	/** Finish tag of the last ticket enqueued per class. */
+	private final double[] lastFinish = new double[RequestPriority.values().length];
+
+	private double virtualTime = 0;
+
+	private boolean dispatching = false;
+
+	public RequestScheduler(RateLimiter limiter) {
+		this(limiter, DEFAULT_INTERACTIVE_WEIGHT, DEFAULT_BACKGROUND_WEIGHT, DEFAULT_RESERVED_SHARE);
+	}
+
+	/**
+	 * @param limiter
+	 *            the limiter whose permits are scheduled
+	 * @param interactiveWeight
+	 *            share of interactive calls when both classes wait
+	 * @param backgroundWeight
+	 *            share of background calls when both classes wait
+	 * @param reservedShare
+	 *            share of the limiter capacity kept for interactive calls
+	 */
+	public RequestScheduler(RateLimiter limiter, int interactiveWeight,
+			int backgroundWeight, double reservedShare) {
+		if (limiter == null) {
+			throw new NullPointerException("Rate limiter must be set");
+		}
+		if (interactiveWeight < 1 || backgroundWeight < 1) {
+			throw new IllegalArgumentException("Weights must be positive");
+		}
+		if (reservedShare < 0 || reservedShare >= 1) {
+			throw new IllegalArgumentException("Reserved share must be in [0, 1)");
+		}
+		this.limiter = limiter;
+		this.weights = new int[RequestPriority.values().length];
+		this.weights[RequestPriority.INTERACTIVE.ordinal()] = interactiveWeight;
+		this.weights[RequestPriority.BACKGROUND.ordinal()] = backgroundWeight;
+		this.reservedPermits = (int) Math.ceil(limiter.getCapacity() * reservedShare);
+		for (int i = 0; i < RequestPriority.values().length; i++) {
+			queues.add(new LinkedList<Ticket>());
+		}
+	}
+
+	public RateLimiter getRateLimiter() {
+		return limiter;
+	}
+
+	/**
+	 * Waits for the turn of the call and then for a permit of the limiter.
+	 * The permit must be completed through the limiter as usual.
+	 *
+	 * @param priority
+	 *            the priority class of the call
+	 * @param timeoutMillis
+	 *            longest time to wait, {@link Long#MAX_VALUE} for no limit
+	 * @return false if no permit could be obtained in time
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public boolean acquire(RequestPriority priority, long timeoutMillis)
+			throws InterruptedException {
+		boolean unbounded = timeoutMillis == Long.MAX_VALUE;
+		long deadline = unbounded ? 0 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		synchronized (this) {
+			Ticket ticket = enqueue(priority);
+			try {
+				while (dispatching || next() != ticket) {
+					long wait = unbounded ? 0 : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+					if (!unbounded && wait <= 0) {
+						queues.get(priority.ordinal()).remove(ticket);
+						notifyAll();
+						return false;
+					}
+					if (!dispatching && isHeldByReserve()) {
+						wait = wait == 0 ? RESERVE_POLL_MILLIS : Math.min(wait, RESERVE_POLL_MILLIS);
+					}
+					wait(wait);
+				}
+			} catch (InterruptedException e) {
+				queues.get(priority.ordinal()).remove(ticket);
+				notifyAll();
+				throw e;
+			}
+			queues.get(priority.ordinal()).removeFirst();
+			virtualTime = ticket.finish;
+			dispatching = true;
+		}
+		try {
+			if (unbounded) {
+				limiter.acquire();
+				return true;
+			}
+			return limiter.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		} finally {
+			synchronized (this) {
+				dispatching = false;
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * @return number of calls waiting in the given class
+	 */
+	public synchronized int getQueueLength(RequestPriority priority) {
+		return queues.get(priority.ordinal()).size();
+	}
+
+	private Ticket enqueue(RequestPriority priority) {
+		int index = priority.ordinal();
+		double start = Math.max(virtualTime, lastFinish[index]);
+		Ticket ticket = new Ticket(start + 1.0 / weights[index]);
+		lastFinish[index] = ticket.finish;
+		queues.get(index).addLast(ticket);
+		return ticket;
+	}
+
+	/**
+	 * @return the queue head with the smallest finish tag, or null if only
+	 *         background calls wait and the reserve is reached
+	 */
+	private Ticket next() {
+		Ticket interactive = queues.get(RequestPriority.INTERACTIVE.ordinal()).peek();
+		Ticket background = queues.get(RequestPriority.BACKGROUND.ordinal()).peek();
+		if (background == null) {
+			return interactive;
+		}
+		if (interactive == null) {
+			return limiter.getAvailablePermits() > reservedPermits ? background : null;
+		}
+		return interactive.finish <= background.finish ? interactive : background;
+	}
+
+	private boolean isHeldByReserve() {
+		return next() == null;
+	}
+
+	private static final class Ticket {
+
+		private final double finish;
+
+		Ticket(double finish) {
+			this.finish = finish;
+		}
+	}
+}
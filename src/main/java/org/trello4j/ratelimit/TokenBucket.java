@@ -0,0 +1,175 @@
+package org.trello4j.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket that refills <code>capacity</code> permits evenly over an
+ * interval.
+ * <p/>
+ * Permits are reserved rather than waited for: {@link #reserve(long)} takes a
+ * permit immediately, letting the bucket go into debt, and returns how long
+ * the caller has to wait before using it. The lock is therefore only held for
+ * a few arithmetic operations and concurrent callers are spaced out evenly
+ * instead of all waking up at once.
+ * <p/>
+ * The bucket adapts to the limits reported by the server, see
+ * {@link #adapt(long, RateLimitStatus)}.
+ */
+public class TokenBucket {
+
+	/**
+	 * Below this share of the limit left, the refill rate is lowered so the
+	 * remaining requests are spread out instead of running into HTTP 429.
+	 */
+	private static final double LOW_WATERMARK = 0.2;
+
+	/** Lowest refill rate, relative to the nominal one, when almost empty. */
+	private static final double MIN_RATE_FACTOR = 0.25;
+
+	// package-private, shared through a file by MappedTokenBucket
+	double capacity;
+
+	double nominalPermitsPerNano;
+
+	double permitsPerNano;
+
+	double available;
+
+	long lastRefillNanos;
+
+	/** Permits handed out whose response has not been seen yet. */
+	private int inFlight = 0;
+
+	private RateLimitStatus lastStatus = null;
+
+	/**
+	 * Creates a full bucket.
+	 *
+	 * @param capacity
+	 *            max number of permits, also the burst size
+	 * @param interval
+	 *            the time it takes to refill an empty bucket
+	 * @param unit
+	 *            unit of <code>interval</code>
+	 */
+	public TokenBucket(int capacity, long interval, TimeUnit unit) {
+		if (capacity < 1 || interval <= 0) {
+			throw new IllegalArgumentException("Capacity and interval must be positive");
+		}
+		this.capacity = capacity;
+		this.nominalPermitsPerNano = capacity / (double) unit.toNanos(interval);
+		this.permitsPerNano = nominalPermitsPerNano;
+		this.available = capacity;
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	/**
+	 * Takes a permit.
+	 *
+	 * @param nowNanos
+	 *            current {@link System#nanoTime()}
+	 * @return nanoseconds to wait before the permit may be used, 0 if it can
+	 *         be used right away
+	 */
+	public synchronized long reserve(long nowNanos) {
+		refill(nowNanos);
+		available -= 1;
+		inFlight++;
+		return available >= 0 ? 0 : (long) Math.ceil(-available / permitsPerNano);
+	}
+
+	/**
+	 * Takes a permit only if one is available right now.
+	 */
+	public synchronized boolean tryAcquire(long nowNanos) {
+		refill(nowNanos);
+		if (available >= 1) {
+			available -= 1;
+			inFlight++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Gives back a permit taken by {@link #tryAcquire(long)} or
+	 * {@link #reserve(long)} that was not used.
+	 */
+	public synchronized void refund() {
+		available = Math.min(capacity, available + 1);
+		inFlight = Math.max(0, inFlight - 1);
+	}
+
+	/**
+	 * Marks a request sent with a permit of this bucket as finished.
+	 */
+	public synchronized void complete() {
+		inFlight = Math.max(0, inFlight - 1);
+	}
+
+	/**
+	 * Aligns the bucket with the state reported by the server. The server
+	 * count wins over the local estimate in both directions: permits are
+	 * freed when other clients used less than assumed, and withdrawn when
+	 * they used more. The refill rate follows the reported limit and is
+	 * lowered once less than a fifth of it is left.
+	 *
+	 * @param nowNanos
+	 *            current {@link System#nanoTime()}
+	 * @param status
+	 *            the reported status
+	 */
+	public synchronized void adapt(long nowNanos, RateLimitStatus status) {
+		refill(nowNanos);
+		if (status.getLimit() > 0 && status.getIntervalMillis() > 0) {
+			capacity = status.getLimit();
+			nominalPermitsPerNano = capacity / (double) TimeUnit.MILLISECONDS.toNanos(status.getIntervalMillis());
+		}
+		// requests still in flight are not part of the reported count yet
+		double reported = status.getRemaining() - inFlight;
+		available = Math.min(capacity, reported);
+
+		double lowWatermark = capacity * LOW_WATERMARK;
+		double factor = status.getRemaining() >= lowWatermark
+				? 1
+				: Math.max(MIN_RATE_FACTOR, status.getRemaining() / lowWatermark);
+		permitsPerNano = nominalPermitsPerNano * factor;
+		lastStatus = status;
+	}
+
+	/**
+	 * Blocks new permits for the given time, e.g. after the server reported
+	 * that the limit was exceeded.
+	 */
+	public synchronized void pause(long nowNanos, long pauseNanos) {
+		refill(nowNanos);
+		available = Math.min(available, -pauseNanos * permitsPerNano);
+	}
+
+	/**
+	 * @return number of permits that can be taken without waiting
+	 */
+	public synchronized int getAvailable(long nowNanos) {
+		refill(nowNanos);
+		return available <= 0 ? 0 : (int) available;
+	}
+
+	public synchronized int getCapacity() {
+		return (int) capacity;
+	}
+
+	/**
+	 * @return the status last passed to {@link #adapt}, null if none
+	 */
+	public synchronized RateLimitStatus getLastStatus() {
+		return lastStatus;
+	}
+
+	private void refill(long nowNanos) {
+		long elapsed = nowNanos - lastRefillNanos;
+		if (elapsed > 0) {
+			available = Math.min(capacity, available + elapsed * permitsPerNano);
+			lastRefillNanos = nowNanos;
+		}
+	}
+}
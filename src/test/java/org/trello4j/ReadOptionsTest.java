@@ -0,0 +1,77 @@
+package org.trello4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.trello4j.model.Board;
+import org.trello4j.model.Card;
+import org.trello4j.model.Member;
+
+public class ReadOptionsTest {
+
+	private static final String BOARD_ID = "4d5ea62fd76aa1136000000c";
+
+	private static final String CARD_ID = "4eea4ffc91e31d1746000046";
+
+	@Test
+	public void testBoardEmbedsResources() throws Exception {
+		RecordingTransport transport = new RecordingTransport("{\"id\":\"" + BOARD_ID + "\",\"name\":\"b\","
+				+ "\"cards\":[{\"id\":\"" + CARD_ID + "\",\"name\":\"c\"}],"
+				+ "\"lists\":[{\"id\":\"l1\",\"name\":\"To do\"},{\"id\":\"l2\",\"name\":\"Done\"}],"
+				+ "\"members\":[{\"id\":\"m1\",\"username\":\"joe\"}],"
+				+ "\"checklists\":[{\"id\":\"k1\",\"name\":\"k\"}],"
+				+ "\"actions\":[{\"id\":\"a1\",\"data\":{\"board\":{\"id\":\"" + BOARD_ID + "\"}}}]}");
+		Trello trello = new TrelloImpl("KEY", "TOKEN", transport);
+		Board board = trello.getBoard(BOARD_ID, ReadOptions.fields("name")
+				.withCards("open", "name").withLists("open", "id", "name")
+				.withMembers("all").withChecklists("all").withActions("all"));
+
+		assertEquals("name", transport.lastQueryParameter("fields"));
+		assertEquals("open", transport.lastQueryParameter("lists"));
+		assertEquals("id,name", transport.lastQueryParameter("list_fields"));
+		assertNull(transport.lastQueryParameter("member_fields"));
+		assertEquals("c", board.getCards().get(0).getName());
+		assertEquals(2, board.getLists().size());
+		assertEquals("Done", board.getLists().get(1).getName());
+		assertEquals("joe", board.getMembers().get(0).getUsername());
+		assertEquals("k", board.getChecklists().get(0).getName());
+		assertEquals(BOARD_ID, board.getActions().get(0).getData().getBoard().getId());
+	}
+
+	@Test
+	public void testBoardWithoutResources() throws Exception {
+		Trello trello = new TrelloImpl("KEY", "TOKEN", new RecordingTransport("{\"name\":\"b\"}"));
+		Board board = trello.getBoard(BOARD_ID, ReadOptions.fields("name"));
+		assertNull(board.getCards());
+		assertNull(board.getLists());
+	}
+
+	@Test
+	public void testCardEmbedsResources() throws Exception {
+		String json = "{\"id\":\"" + CARD_ID + "\",\"members\":[{\"id\":\"m1\",\"username\":\"joe\"}],"
+				+ "\"checklists\":[{\"id\":\"k1\",\"name\":\"k\"}],\"actions\":[{\"id\":\"a1\"}]}";
+		for (boolean lazy : new boolean[] { false, true }) {
+			TrelloImpl trello = new TrelloImpl("KEY", "TOKEN", new RecordingTransport(json));
+			trello.getObjectFactory().setLazyDecoding(lazy);
+			Card card = trello.getCard(CARD_ID, ReadOptions.DEFAULT.withMembers("all")
+					.withChecklists("all").withActions("all"));
+			assertEquals("joe", card.getMembers().get(0).getUsername());
+			assertEquals("k", card.getChecklists().get(0).getName());
+			assertEquals("a1", card.getActions().get(0).getId());
+		}
+	}
+
+	@Test
+	public void testMemberEmbedsResources() throws Exception {
+		RecordingTransport transport = new RecordingTransport("{\"id\":\"m1\",\"username\":\"joe\","
+				+ "\"cards\":[{\"id\":\"" + CARD_ID + "\",\"name\":\"c\"}],\"actions\":[{\"id\":\"a1\"}]}");
+		Trello trello = new TrelloImpl("KEY", "TOKEN", transport);
+		Member member = trello.getMember("joe", ReadOptions.DEFAULT.withCards("open").withActions("all"));
+
+		assertEquals("open", transport.lastQueryParameter("cards"));
+		assertNull(transport.lastQueryParameter("card_fields"));
+		assertEquals("c", member.getCards().get(0).getName());
+		assertEquals("a1", member.getActions().get(0).getId());
+	}
+}
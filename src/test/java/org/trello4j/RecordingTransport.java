@@ -0,0 +1,60 @@
+package org.trello4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.trello4j.http.TrelloRequest;
+import org.trello4j.http.TrelloResponse;
+import org.trello4j.http.TrelloTransport;
+
+/**
+ * Transport that records the requests sent and answers each with the same
+ * JSON body.
+ */
+class RecordingTransport implements TrelloTransport {
+
+	final List<TrelloRequest> requests = new ArrayList<TrelloRequest>();
+
+	private final String body;
+
+	RecordingTransport(String body) {
+		this.body = body;
+	}
+
+	public TrelloResponse execute(TrelloRequest request) throws IOException {
+		requests.add(request);
+		return new TrelloResponse(200, Collections.<String, List<String>> emptyMap(),
+				new ByteArrayInputStream(body.getBytes("UTF-8")));
+	}
+
+	public void close() {
+	}
+
+	TrelloRequest last() {
+		return requests.get(requests.size() - 1);
+	}
+
+	/**
+	 * @return the decoded value of a query parameter of the last request,
+	 *         null if it has none
+	 */
+	String lastQueryParameter(String name) throws UnsupportedEncodingException {
+		String url = last().getUrl();
+		int query = url.indexOf('?');
+		if (query == -1) {
+			return null;
+		}
+		for (String pair : url.substring(query + 1).split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq != -1 && pair.substring(0, eq).equals(name)) {
+				return URLDecoder.decode(pair.substring(eq + 1), "UTF-8");
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,61 @@
+package org.trello4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+import org.trello4j.http.CancellationToken;
+
+public class TrelloAsyncImplTest {
+
+	private static final String BOARD_ID = "4d5ea62fd76aa1136000000c";
+
+	/** Runs the calls in the submitting thread, when they are started. */
+	private static final Executor DIRECT = new Executor() {
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	@Test
+	public void testViewTokenCancelsCalls() throws Exception {
+		RecordingTransport transport = new RecordingTransport("{}");
+		CancellationToken outer = new CancellationToken();
+		TrelloImpl view = new TrelloImpl("KEY", "TOKEN", transport).withCancellation(outer);
+		TrelloAsync async = new TrelloAsyncImpl(view, DIRECT);
+
+		async.getBoard(BOARD_ID).get();
+		assertEquals(1, transport.requests.size());
+		outer.cancel();
+		try {
+			async.getBoard(BOARD_ID).get();
+			fail("Expected the call to be cancelled");
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof TrelloException);
+		}
+		assertEquals(1, transport.requests.size());
+	}
+
+	@Test
+	public void testFutureTokenLeavesViewToken() throws Exception {
+		RecordingTransport transport = new RecordingTransport("{}");
+		CancellationToken outer = new CancellationToken();
+		TrelloImpl view = new TrelloImpl("KEY", "TOKEN", transport).withCancellation(outer);
+		TrelloAsync async = new TrelloAsyncImpl(view, new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				// never started
+			}
+		});
+		assertTrue(async.getBoard(BOARD_ID).cancel(true));
+		assertFalse(outer.isCancelled());
+		view.getBoard(BOARD_ID);
+		assertEquals(1, transport.requests.size());
+	}
+}
@@ -0,0 +1,42 @@
+package org.trello4j;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.trello4j.model.Card;
+
+import com.google.gson.reflect.TypeToken;
+
+public class TrelloBatchTest {
+
+	@Test
+	public void testRouteEncodesFilterCommas() {
+		String route = TrelloURL.create("KEY", TrelloURL.BOARD_CARDS_URL, "b1")
+				.token("TOKEN").filter("open", "closed").buildRoute();
+		assertEquals("/boards/b1/cards?filter=open%2Cclosed", route);
+	}
+
+	@Test
+	public void testUrlsParameterSplitsIntoRoutes() throws Exception {
+		RecordingTransport transport = new RecordingTransport("[{\"200\":[]},{\"200\":{\"id\":\"c1\"}}]");
+		TrelloBatch batch = new TrelloImpl("KEY", "TOKEN", transport).batch();
+		TrelloBatch.Result<List<Card>> cards = batch.add(
+				TrelloURL.create("KEY", TrelloURL.BOARD_CARDS_URL, "b1").filter("open", "closed"),
+				new TypeToken<List<Card>>() {
+				});
+		TrelloBatch.Result<Card> card = batch.add(TrelloURL.create("KEY", TrelloURL.CARD_URL, "c1"),
+				new TypeToken<Card>() {
+				});
+		batch.execute();
+
+		// Trello splits on every comma, then decodes each route
+		String urls = transport.lastQueryParameter("urls");
+		assertEquals(Arrays.asList("/boards/b1/cards?filter=open%2Cclosed", "/cards/c1"),
+				Arrays.asList(urls.split(",")));
+		assertEquals(0, cards.get().size());
+		assertEquals("c1", card.get().getId());
+	}
+}
@@ -0,0 +1,84 @@
+package org.trello4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TrelloEndpointTest {
+
+	@Test
+	public void testUrlsMatchTrelloUrl() throws Exception {
+		List<TrelloEndpoint<?>> endpoints = endpoints();
+		assertTrue(endpoints.size() > 50);
+		for (TrelloEndpoint<?> endpoint : endpoints) {
+			String[] pathParams = pathParams(endpoint);
+			for (String[] filter : new String[][] { null, { "open" }, { "open", "closed" } }) {
+				TrelloURL url = TrelloURL.create("KEY", endpoint.getUrlTemplate(), pathParams).token("TOKEN");
+				if (filter != null) {
+					url.filter(filter);
+				}
+				assertEquals(endpoint.toString(), url.build(),
+						endpoint.url("KEY", "TOKEN", filter, pathParams));
+				assertEquals(endpoint.toString(), url.buildRoute(), endpoint.route(filter, pathParams));
+			}
+		}
+	}
+
+	@Test
+	public void testRouteEncodesFilterCommas() {
+		assertEquals("/boards/b1/cards?filter=open%2Cclosed",
+				TrelloEndpoints.GET_CARDS_BY_BOARD.route(new String[] { "open", "closed" }, "b1"));
+	}
+
+	@Test
+	public void testBatchSplitsIntoRoutes() throws Exception {
+		RecordingTransport transport = new RecordingTransport("[{\"200\":[]},{\"200\":[]}]");
+		TrelloBatch batch = new TrelloImpl("KEY", "TOKEN", transport).batch();
+		batch.add(TrelloEndpoints.GET_CARDS_BY_BOARD, new String[] { "open", "closed" }, "b1");
+		batch.add(TrelloEndpoints.GET_CARDS_BY_BOARD, new String[] { "all" }, "b2");
+		batch.execute();
+
+		String[] routes = transport.lastQueryParameter("urls").split(",");
+		assertEquals(2, routes.length);
+		assertEquals("/boards/b1/cards?filter=open%2Cclosed", routes[0]);
+		assertEquals("/boards/b2/cards?filter=all", routes[1]);
+	}
+
+	@Test
+	public void testRequestNamesEndpoint() {
+		RecordingTransport transport = new RecordingTransport("{}");
+		new TrelloImpl("KEY", "TOKEN", transport).getBoard("4d5ea62fd76aa1136000000c");
+		assertEquals("/boards/{0}", transport.last().getEndpoint());
+		assertEquals("boards", transport.last().getFamily());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPathParamCountIsChecked() {
+		TrelloEndpoints.GET_CARDS_BY_BOARD.url("KEY", "TOKEN", null);
+	}
+
+	private static List<TrelloEndpoint<?>> endpoints() throws IllegalAccessException {
+		List<TrelloEndpoint<?>> endpoints = new ArrayList<TrelloEndpoint<?>>();
+		for (Field field : TrelloEndpoints.class.getFields()) {
+			if (Modifier.isStatic(field.getModifiers())
+					&& TrelloEndpoint.class.isAssignableFrom(field.getType())) {
+				endpoints.add((TrelloEndpoint<?>) field.get(null));
+			}
+		}
+		return endpoints;
+	}
+
+	private static String[] pathParams(TrelloEndpoint<?> endpoint) {
+		String[] values = new String[endpoint.getPathParamCount()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = "4eea4ffc91e31d1746000" + (100 + i);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,113 @@
+package org.trello4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.trello4j.circuitbreaker.CircuitBreaker;
+import org.trello4j.circuitbreaker.CircuitBreakerConfig;
+import org.trello4j.circuitbreaker.CircuitBreakerRegistry;
+import org.trello4j.http.RetryPolicy;
+import org.trello4j.http.TrelloRequest;
+import org.trello4j.http.TrelloResponse;
+import org.trello4j.ratelimit.RateLimiter;
+import org.trello4j.ratelimit.TokenBucket;
+
+public class TrelloImplTest {
+
+	private static final String BOARD_ID = "4d5ea62fd76aa1136000000c";
+
+	@Test
+	public void testRuntimeExceptionReturnsPermits() {
+		FailingTransport transport = new FailingTransport();
+		CountingBucket bucket = new CountingBucket();
+		TrelloImpl trello = new TrelloImpl("KEY", "TOKEN", transport);
+		trello.setRetryPolicy(RetryPolicy.NONE);
+		trello.setRateLimiter(new RateLimiter(bucket, null));
+		// one failure opens the breaker, the next call is a half-open trial
+		trello.setCircuitBreakers(new CircuitBreakerRegistry(
+				new CircuitBreakerConfig(0.5f, 1f, 10000, 1, 1, 0, 1)));
+
+		transport.failure = new IOException("down");
+		getBoard(trello);
+		CircuitBreaker breaker = trello.getCircuitBreakers().get("boards");
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+		transport.failure = new IllegalStateException("bug");
+		for (int i = 0; i < 3; i++) {
+			try {
+				trello.getBoard(BOARD_ID);
+				fail("Expected the failure of the transport");
+			} catch (IllegalStateException e) {
+				// the trial permit was returned, the next call is let through
+			}
+		}
+		assertEquals(4, transport.calls);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		assertEquals(bucket.reserved, bucket.completed);
+	}
+
+	private static void getBoard(Trello trello) {
+		try {
+			trello.getBoard(BOARD_ID);
+			fail("Expected the failure of the transport");
+		} catch (TrelloException e) {
+			// expected
+		}
+	}
+
+	private static class FailingTransport extends RecordingTransport {
+
+		Exception failure;
+
+		int calls;
+
+		FailingTransport() {
+			super("{}");
+		}
+
+		@Override
+		public TrelloResponse execute(TrelloRequest request) throws IOException {
+			calls++;
+			if (failure instanceof IOException) {
+				throw (IOException) failure;
+			}
+			throw (RuntimeException) failure;
+		}
+	}
+
+	private static class CountingBucket extends TokenBucket {
+
+		int reserved;
+
+		int completed;
+
+		CountingBucket() {
+			super(100, 10, TimeUnit.SECONDS);
+		}
+
+		@Override
+		public synchronized long reserve(long nowNanos) {
+			reserved++;
+			return super.reserve(nowNanos);
+		}
+
+		@Override
+		public synchronized boolean tryAcquire(long nowNanos) {
+			boolean acquired = super.tryAcquire(nowNanos);
+			if (acquired) {
+				reserved++;
+			}
+			return acquired;
+		}
+
+		@Override
+		public synchronized void complete() {
+			completed++;
+			super.complete();
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package org.trello4j.gson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+
+public class Iso8601DateAdapterTest {
+
+	private static final long DEC_14_2011 = 1323823584534L;
+
+	@Test
+	public void testTrelloDates() {
+		assertEquals(DEC_14_2011, Iso8601DateAdapter.parse("2011-12-14T00:46:24.534Z"));
+		assertEquals(DEC_14_2011, Iso8601DateAdapter.parse("2011-12-14t00:46:24.534z"));
+		assertEquals(DEC_14_2011, Iso8601DateAdapter.parse("2011-12-14 00:46:24.534"));
+		assertEquals("2011-12-14T00:46:24.534Z", Iso8601DateAdapter.format(DEC_14_2011));
+	}
+
+	@Test
+	public void testOffsets() {
+		assertEquals(DEC_14_2011, Iso8601DateAdapter.parse("2011-12-14T01:46:24.534+01:00"));
+		assertEquals(DEC_14_2011, Iso8601DateAdapter.parse("2011-12-14T01:46:24.534+0100"));
+		assertEquals(DEC_14_2011, Iso8601DateAdapter.parse("2011-12-14T01:46:24.534+01"));
+		assertEquals(DEC_14_2011, Iso8601DateAdapter.parse("2011-12-13T19:16:24.534-05:30"));
+		// crossing into the previous year
+		assertEquals(utc(2011, 12, 31, 23, 30, 0, 0), Iso8601DateAdapter.parse("2012-01-01T00:30+01:00"));
+		assertEquals(Long.MIN_VALUE, Iso8601DateAdapter.parse("2011-12-14T00:46:24+24:00"));
+		assertEquals(Long.MIN_VALUE, Iso8601DateAdapter.parse("2011-12-14T00:46:24+01:60"));
+		assertEquals(Long.MIN_VALUE, Iso8601DateAdapter.parse("2011-12-14T00:46:24+1"));
+		assertEquals(Long.MIN_VALUE, Iso8601DateAdapter.parse("2011-12-14T00:46:24Z+01"));
+	}
+
+	@Test
+	public void testFractions() {
+		long seconds = utc(2011, 12, 14, 0, 46, 24, 0);
+		assertEquals(seconds, Iso8601DateAdapter.parse("2011-12-14T00:46:24Z"));
+		assertEquals(seconds + 500, Iso8601DateAdapter.parse("2011-12-14T00:46:24.5Z"));
+		assertEquals(seconds + 50, Iso8601DateAdapter.parse("2011-12-14T00:46:24.05Z"));
+		assertEquals(seconds + 534, Iso8601DateAdapter.parse("2011-12-14T00:46:24,534Z"));
+		// digits beyond milliseconds are truncated, not rounded
+		assertEquals(seconds + 999, Iso8601DateAdapter.parse("2011-12-14T00:46:24.999999999Z"));
+		assertEquals(seconds - 24000, Iso8601DateAdapter.parse("2011-12-14T00:46Z"));
+		assertEquals(Long.MIN_VALUE, Iso8601DateAdapter.parse("2011-12-14T00:46:24.Z"));
+	}
+
+	@Test
+	public void testLeapDays() {
+		assertEquals(utc(2012, 2, 29, 0, 0, 0, 0), Iso8601DateAdapter.parse("2012-02-29"));
+		assertEquals(utc(2000, 2, 29, 12, 0, 0, 0), Iso8601DateAdapter.parse("2000-02-29T12:00Z"));
+		assertEquals("2000-02-29T12:00:00.000Z", Iso8601DateAdapter.format(utc(2000, 2, 29, 12, 0, 0, 0)));
+		assertEquals("2000-03-01T00:00:00.000Z", Iso8601DateAdapter.format(utc(2000, 2, 29, 0, 0, 0, 0)
+				+ 24 * 3600 * 1000L));
+		assertEquals(Long.MIN_VALUE, Iso8601DateAdapter.parse("2011-02-29"));
+		assertEquals(Long.MIN_VALUE, Iso8601DateAdapter.parse("1900-02-29"));
+		assertEquals(Long.MIN_VALUE, Iso8601DateAdapter.parse("2100-02-29T00:00Z"));
+		assertEquals(Long.MIN_VALUE, Iso8601DateAdapter.parse("2011-04-31"));
+	}
+
+	@Test
+	public void testBefore1970() {
+		assertEquals(-1L, Iso8601DateAdapter.parse("1969-12-31T23:59:59.999Z"));
+		assertEquals("1969-12-31T23:59:59.999Z", Iso8601DateAdapter.format(-1L));
+		assertEquals(utc(1900, 1, 1, 0, 0, 0, 0), Iso8601DateAdapter.parse("1900-01-01"));
+		assertEquals("1600-02-29T06:07:08.009Z", Iso8601DateAdapter.format(utc(1600, 2, 29, 6, 7, 8, 9)));
+		assertEquals(utc(1, 1, 1, 0, 0, 0, 0), Iso8601DateAdapter.parse("0001-01-01T00:00:00.000Z"));
+	}
+
+	@Test
+	public void testEveryDayAgainstCalendar() {
+		GregorianCalendar calendar = calendar();
+		calendar.clear();
+		calendar.set(1599, Calendar.JANUARY, 1, 13, 14, 15);
+		calendar.set(Calendar.MILLISECOND, 16);
+		for (int i = 0; i < 366 * 820; i++) {
+			long millis = calendar.getTimeInMillis();
+			String formatted = Iso8601DateAdapter.format(millis);
+			int date = calendar.get(Calendar.YEAR) * 10000 + (calendar.get(Calendar.MONTH) + 1) * 100
+					+ calendar.get(Calendar.DAY_OF_MONTH);
+			assertEquals(formatted, date, Integer.parseInt(formatted.substring(0, 4) + formatted.substring(5, 7)
+					+ formatted.substring(8, 10)));
+			assertEquals("T13:14:15.016Z", formatted.substring(10));
+			assertEquals(formatted, millis, Iso8601DateAdapter.parse(formatted));
+			calendar.add(Calendar.DAY_OF_MONTH, 1);
+		}
+	}
+
+	@Test
+	public void testMalformed() {
+		for (String s : new String[] { "", "2011", "2011-12", "2011/12/14", "2011-13-01", "2011-00-10",
+				"2011-12-00", "2011-12-14T", "2011-12-14T24:00Z", "2011-12-14T00:60Z", "2011-12-14T00:46:60Z",
+				"2011-12-14X00:46Z", "2011-12-14T0:46Z", "2011-12-14T00:46:24.534Zx", "-011-12-14" }) {
+			assertEquals(s, Long.MIN_VALUE, Iso8601DateAdapter.parse(s));
+		}
+	}
+
+	@Test
+	public void testRead() throws Exception {
+		Iso8601DateAdapter adapter = new Iso8601DateAdapter();
+		assertEquals(new Date(DEC_14_2011), adapter.read(reader("\"2011-12-14T00:46:24.534Z\"")));
+		assertEquals(new Date(DEC_14_2011), adapter.read(reader(Long.toString(DEC_14_2011))));
+		assertNull(adapter.read(reader("null")));
+	}
+
+	@Test(expected = JsonSyntaxException.class)
+	public void testReadMalformed() throws Exception {
+		new Iso8601DateAdapter().read(reader("\"14/12/2011\""));
+	}
+
+	@Test
+	public void testWrite() {
+		Gson gson = new GsonBuilder().registerTypeAdapter(Date.class, new Iso8601DateAdapter()).create();
+		assertEquals("[\"2011-12-14T00:46:24.534Z\"]", gson.toJson(new Date[] { new Date(DEC_14_2011) }));
+	}
+
+	private static JsonReader reader(String json) {
+		JsonReader in = new JsonReader(new StringReader("[" + json + "]"));
+		try {
+			in.beginArray();
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		return in;
+	}
+
+	/**
+	 * @return the epoch milliseconds of a UTC date in the proleptic
+	 *         Gregorian calendar
+	 */
+	private static long utc(int year, int month, int day, int hour, int minute, int second, int millis) {
+		GregorianCalendar calendar = calendar();
+		calendar.clear();
+		calendar.set(year, month - 1, day, hour, minute, second);
+		calendar.set(Calendar.MILLISECOND, millis);
+		return calendar.getTimeInMillis();
+	}
+
+	private static GregorianCalendar calendar() {
+		GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+		calendar.setGregorianChange(new Date(Long.MIN_VALUE));
+		return calendar;
+	}
+}
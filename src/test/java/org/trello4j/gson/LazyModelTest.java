@@ -0,0 +1,129 @@
+package org.trello4j.gson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.trello4j.model.Card;
+import org.trello4j.model.TrelloObject;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+
+public class LazyModelTest {
+
+	private final LazyModel<Card> cards;
+
+	public LazyModelTest() {
+		Gson gson = new GsonBuilder()
+				.registerTypeAdapter(Date.class, new Iso8601DateAdapter())
+				.registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+				.create();
+		cards = new LazyModel<Card>(new CardTypeAdapter(gson),
+				new String[] { "id", "name" },
+				new String[] { "desc", "url", "idMembers" });
+	}
+
+	@Test
+	public void testEscapedStrings() throws Exception {
+		Card card = read("{\"id\":\"c1\",\"name\":\"a \\\"}\\\", \\\\\",\"skipped\":\"\\\"desc\\\":\","
+				+ "\"desc\":\"x\\u0041\\n\\\"}\",\"url\":\"u\"}");
+		assertEquals("a \"}\", \\", card.getName());
+		assertEquals("xA\n\"}", card.getDesc());
+		assertEquals("u", card.getUrl());
+	}
+
+	@Test
+	public void testSupplementaryCharacters() throws Exception {
+		// four byte UTF-8 sequences, decoded from the bytes into surrogate pairs
+		String desc = "\uD83D\uDE00 and \uD834\uDD1E";
+		Card card = read("{\"id\":\"c1\",\"desc\":\"" + desc + "\"}");
+		assertEquals(desc, card.getDesc());
+
+		// long enough for pairs to be split across the reads of the parser
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			sb.append(i % 3 == 0 ? "a" : "").append(desc);
+		}
+		card = read("{\"id\":\"c1\",\"desc\":\"" + sb + "\"}");
+		assertEquals(sb.toString(), card.getDesc());
+	}
+
+	@Test
+	public void testNulls() throws Exception {
+		Card card = read("{\"id\":\"c1\",\"name\":null,\"desc\":null,\"url\":null}");
+		assertNull(card.getName());
+		assertNull(card.getDesc());
+		assertNull(card.getUrl());
+	}
+
+	@Test
+	public void testLastOfDuplicateKeysWins() throws Exception {
+		Card card = read("{\"id\":\"c1\",\"name\":\"a\",\"desc\":\"d1\",\"url\":\"u1\","
+				+ "\"idMembers\":null,\"name\":\"b\",\"desc\":\"d2\",\"url\":null,\"idMembers\":[\"m1\"]}");
+		assertEquals("b", card.getName());
+		assertEquals("d2", card.getDesc());
+		assertNull(card.getUrl());
+		assertEquals(Arrays.asList("m1"), card.getIdMembers());
+	}
+
+	@Test
+	public void testEagerMembersOnly() {
+		JsonBytes.Buffer eager = new JsonBytes.Buffer(16);
+		byte[] json = utf8(" { \"id\" : \"c1\" , \"closed\":true, \"labels\":[{\"name\":\"}\"}] } ");
+		assertNull(cards.split(json, 0, json.length, eager));
+		assertEquals("{\"id\" : \"c1\"}", new String(eager.bytes, 0, eager.length));
+	}
+
+	@Test
+	public void testEmptyObject() throws Exception {
+		Card card = read("{ }");
+		assertNull(card.getId());
+		assertNull(card.getDesc());
+	}
+
+	@Test
+	public void testListOfCards() {
+		@SuppressWarnings("unchecked")
+		List<Card> values = (List<Card>) new LazyModelReader(new Gson()).read(
+				utf8("[{\"id\":\"c1\",\"desc\":\"d\"}, null, {\"id\":\"c2\"}]"),
+				new TypeToken<List<Card>>() {
+				}.getType());
+		assertEquals(3, values.size());
+		assertEquals("d", values.get(0).getDesc());
+		assertNull(values.get(1));
+		assertEquals("c2", values.get(2).getId());
+	}
+
+	@Test(expected = JsonSyntaxException.class)
+	public void testUnterminatedString() throws Exception {
+		read("{\"id\":\"c1}");
+	}
+
+	@Test(expected = JsonSyntaxException.class)
+	public void testMissingColon() throws Exception {
+		read("{\"id\" \"c1\"}");
+	}
+
+	private Card read(String json) throws Exception {
+		byte[] bytes = utf8(json);
+		JsonBytes.Buffer eager = new JsonBytes.Buffer(16);
+		TrelloObject.LazyFields lazyFields = cards.split(bytes, 0, bytes.length, eager);
+		return cards.read(LazyModel.reader(eager.bytes, 0, eager.length), lazyFields);
+	}
+
+	private static byte[] utf8(String json) {
+		try {
+			return json.getBytes("UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			throw new AssertionError(e);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package org.trello4j.gson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.trello4j.model.Action;
+import org.trello4j.model.Board;
+import org.trello4j.model.Board.PERMISSION_TYPE;
+import org.trello4j.model.Card;
+import org.trello4j.model.Checklist;
+import org.trello4j.model.Label;
+import org.trello4j.model.Member;
+import org.trello4j.model.Notification;
+import org.trello4j.model.Organization;
+import org.trello4j.model.Token;
+import org.trello4j.model.TrelloType;
+import org.trello4j.model.Webhook;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Compares the hand-written adapters with Gson's reflective binding they
+ * replace.
+ */
+public class ModelTypeAdapterTest {
+
+	private static final String CARD = "{\"id\":\"c1\",\"name\":\"n\",\"desc\":\"d\",\"closed\":true,\"idShort\":12,"
+			+ "\"idList\":\"l\",\"idBoard\":\"b\",\"idChecklists\":[\"x\",\"y\"],\"idMembers\":[],"
+			+ "\"unknown\":{\"a\":[1,2,{}]},\"attachments\":[{\"_id\":\"a1\",\"bytes\":1234,"
+			+ "\"date\":\"2012-01-02T03:04:05.123Z\",\"url\":\"u\",\"name\":\"f\",\"idMember\":\"m\"}],"
+			+ "\"labels\":[{\"color\":\"green\",\"name\":\"L\"}],\"url\":\"http://x\",\"pos\":65535.5,"
+			+ "\"due\":null,\"dueComplete\":false,\"badges\":{\"votes\":1,\"checkItems\":2,\"checkItemsChecked\":1,"
+			+ "\"comments\":0,\"attachments\":1,\"due\":\"2012-02-02T00:00:00.000Z\",\"fogbugz\":\"\","
+			+ "\"viewingMemberVoted\":false,\"subscribed\":true,\"description\":true}}";
+
+	private static final String MEMBER = "{\"id\":\"m\",\"fullName\":\"F\",\"status\":\"active\","
+			+ "\"idBoards\":[\"b\"]}";
+
+	private static final String BOARD = "{\"id\":\"b\",\"name\":\"B\",\"invited\":true,"
+			+ "\"prefs\":{\"voting\":\"public\",\"permissionLevel\":\"org\",\"comments\":\"members\"}}";
+
+	private static final String ACTION = "{\"id\":\"a\",\"idMemberCreator\":\"m\",\"type\":\"createCard\","
+			+ "\"date\":\"2012-01-02T03:04:05.000Z\",\"memberCreator\":" + MEMBER + ","
+			+ "\"data\":{\"text\":\"t\",\"board\":" + BOARD + ",\"card\":" + CARD + "}}";
+
+	private static final String CHECKLIST = "{\"id\":\"cl\",\"name\":\"C\",\"idBoard\":\"b\","
+			+ "\"checkItems\":[{\"id\":\"i\",\"name\":\"n\",\"type\":\"check\",\"pos\":1}]}";
+
+	private final Gson reflective = builder().create();
+
+	private final Gson adapters = builder().registerTypeAdapterFactory(new ModelTypeAdapterFactory()).create();
+
+	@Test
+	public void testSameAsReflection() {
+		assertReadAsReflection(CARD, Card.class);
+		assertReadAsReflection(ACTION, Action.class);
+		assertReadAsReflection(ACTION.substring(0, ACTION.length() - 1) + ",\"unread\":true}",
+				Notification.class);
+		assertReadAsReflection(CHECKLIST, Checklist.class);
+		assertReadAsReflection(MEMBER, Member.class);
+		assertReadAsReflection(BOARD, Board.class);
+		assertReadAsReflection("{\"id\":\"t\",\"idMember\":\"m\","
+				+ "\"dateCreated\":\"2011-12-14T00:46:24.534Z\",\"dateExpires\":null,"
+				+ "\"permissions\":[{\"idModel\":\"*\",\"modelType\":\"*\",\"read\":true,\"write\":false}]}",
+				Token.class);
+		assertReadAsReflection("{\"id\":\"x\",\"type\":\"organization\"}", org.trello4j.model.Type.class);
+		assertReadAsReflection("{\"id\":\"w\",\"description\":\"d\",\"callbackURL\":\"c\",\"idModel\":\"m\","
+				+ "\"active\":true}", Webhook.class);
+		assertReadAsReflection("{\"id\":\"o\",\"name\":\"n\",\"displayName\":\"D\",\"desc\":\"\","
+				+ "\"website\":null,\"url\":\"u\"}", Organization.class);
+		assertReadAsReflection("{\"id\":\"l\",\"color\":\"red\"}", Label.class);
+		assertReadAsReflection("[{\"id\":\"l\",\"name\":\"L\",\"closed\":false,\"idBoard\":\"b\",\"pos\":3}]",
+				new TypeToken<List<org.trello4j.model.List>>() {
+				}.getType());
+	}
+
+	@Test
+	public void testEmbeddedResources() {
+		assertReadAsReflection(BOARD.substring(0, BOARD.length() - 1) + ",\"cards\":[" + CARD + "],"
+				+ "\"lists\":[{\"id\":\"l\"}],\"members\":[" + MEMBER + "],\"checklists\":[" + CHECKLIST + "],"
+				+ "\"actions\":[" + ACTION + "]}", Board.class);
+		assertReadAsReflection("{\"id\":\"c2\",\"members\":[" + MEMBER + "],\"checklists\":[" + CHECKLIST + "],"
+				+ "\"actions\":[" + ACTION + "]}", Card.class);
+		assertReadAsReflection(MEMBER.substring(0, MEMBER.length() - 1) + ",\"cards\":[" + CARD + "],"
+				+ "\"actions\":[" + ACTION + "]}", Member.class);
+	}
+
+	@Test
+	public void testLenientValues() {
+		Card card = adapters.fromJson("{\"name\":12,\"closed\":\"true\",\"idShort\":\"7\",\"pos\":\"1.5\"}",
+				Card.class);
+		assertEquals("12", card.getName());
+		assertTrue(card.isClosed());
+		assertEquals(Long.valueOf(7), card.getIdShort());
+		assertEquals(1.5, card.getPos(), 0);
+	}
+
+	@Test
+	public void testUnknownValues() {
+		Member member = adapters.fromJson("{\"status\":\"away\",\"username\":\"joe\"}", Member.class);
+		assertNull(member.getStatus());
+		assertEquals("joe", member.getUsername());
+		Board board = adapters.fromJson("{\"prefs\":{\"voting\":\"nobody\"}}", Board.class);
+		assertNull(board.getPrefs().getVoting());
+		assertFalse(board.isClosed());
+	}
+
+	/**
+	 * Asserts that the adapters read the JSON into the same objects as
+	 * reflection, and read back what they write.
+	 */
+	private void assertReadAsReflection(String json, Type type) {
+		String expected = reflective.toJson(reflective.fromJson(json, type));
+		Object read = adapters.fromJson(json, type);
+		assertEquals(type.toString(), expected, reflective.toJson(read));
+		assertEquals(type.toString(), expected, reflective.toJson(adapters.fromJson(adapters.toJson(read), type)));
+	}
+
+	private static GsonBuilder builder() {
+		return new GsonBuilder()
+				.registerTypeAdapter(Date.class, new Iso8601DateAdapter())
+				.registerTypeAdapter(PERMISSION_TYPE.class, new PermissionTypeDeserializer())
+				.registerTypeAdapter(TrelloType.class, new TrelloTypeDeserializer());
+	}
+}
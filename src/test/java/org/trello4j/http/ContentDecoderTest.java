@@ -0,0 +1,228 @@
+package org.trello4j.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import org.junit.Test;
+
+public class ContentDecoderTest {
+
+	private final ContentDecoder decoder = new ContentDecoder(512);
+
+	/** Compresses well, fits in one buffer once compressed. */
+	private static final byte[] TEXT = text(2000);
+
+	/** Hardly compresses, takes several buffers. */
+	private static final byte[] RANDOM = random(5000);
+
+	@Test
+	public void testGzip() throws IOException {
+		for (byte[] data : new byte[][] { TEXT, RANDOM }) {
+			assertArrayEquals(data, decode(gzip(data), "gzip", Integer.MAX_VALUE));
+			assertArrayEquals(data, decode(gzip(data), "x-gzip", 1));
+		}
+	}
+
+	@Test
+	public void testGzipHeaderFields() throws IOException {
+		byte[] gzip = gzip(TEXT);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		// FEXTRA, FNAME and FCOMMENT, then the header CRC with FHCRC
+		out.write(new byte[] { 0x1f, (byte) 0x8b, 8, 4 | 8 | 16 | 2, 0, 0, 0, 0, 0, 3 });
+		out.write(new byte[] { 5, 0, 'A', 'B', 1, 0, 'x' });
+		out.write("name.json\0".getBytes("US-ASCII"));
+		out.write("comment\0".getBytes("US-ASCII"));
+		out.write(new byte[] { 0x12, 0x34 });
+		out.write(gzip, 10, gzip.length - 10);
+		assertArrayEquals(TEXT, decode(out.toByteArray(), "gzip", Integer.MAX_VALUE));
+		assertArrayEquals(TEXT, decode(out.toByteArray(), "gzip", 1));
+	}
+
+	@Test
+	public void testTrailerSplitAcrossReads() throws IOException {
+		byte[] gzip = gzip(TEXT);
+		// the first read ends in the last deflate bytes or in the trailer
+		for (int split = gzip.length - 12; split < gzip.length; split++) {
+			InputStream in = decoder.decode(new SequenceInputStream(
+					new ByteArrayInputStream(gzip, 0, split),
+					new ByteArrayInputStream(gzip, split, gzip.length - split)), "gzip");
+			assertArrayEquals("split at " + split, TEXT, readFully(in));
+			in.close();
+		}
+	}
+
+	@Test
+	public void testDeflate() throws IOException {
+		for (byte[] data : new byte[][] { TEXT, RANDOM }) {
+			assertArrayEquals(data, decode(deflate(data, false), "deflate", Integer.MAX_VALUE));
+			assertArrayEquals(data, decode(deflate(data, false), "deflate", 1));
+			assertArrayEquals(data, decode(deflate(data, true), "deflate", Integer.MAX_VALUE));
+			assertArrayEquals(data, decode(deflate(data, true), "deflate", 1));
+		}
+	}
+
+	@Test
+	public void testEmpty() throws IOException {
+		assertArrayEquals(new byte[0], decode(new byte[0], "deflate", Integer.MAX_VALUE));
+		assertArrayEquals(new byte[0], decode(deflate(new byte[0], false), "deflate", 1));
+		assertArrayEquals(new byte[0], decode(deflate(new byte[0], true), "deflate", 1));
+		assertArrayEquals(new byte[0], decode(gzip(new byte[0]), "gzip", 1));
+		try {
+			decoder.decode(new ByteArrayInputStream(new byte[0]), "gzip");
+			fail("Expected a missing gzip header");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testNotEncoded() throws IOException {
+		InputStream body = new ByteArrayInputStream(TEXT);
+		assertSame(body, decoder.decode(body, null));
+		assertSame(body, decoder.decode(body, "identity"));
+	}
+
+	@Test
+	public void testCorruptTrailer() throws IOException {
+		byte[] crc = gzip(TEXT);
+		crc[crc.length - 8] ^= 1;
+		byte[] size = gzip(TEXT);
+		size[size.length - 1] ^= 1;
+		for (byte[] gzip : new byte[][] { crc, size }) {
+			try {
+				decode(gzip, "gzip", Integer.MAX_VALUE);
+				fail("Expected a corrupt trailer");
+			} catch (ZipException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testPoolReuseAfterClose() throws IOException {
+		InputStream first = decoder.decode(new ByteArrayInputStream(gzip(RANDOM)), "gzip");
+		// closed in the middle of the data, the inflater is reset for the next
+		first.read(new byte[100]);
+		first.close();
+		first.close();
+		assertEquals(1, decoder.getPooledBufferCount());
+		try {
+			first.read();
+			fail("Expected a closed stream");
+		} catch (IOException e) {
+			// expected
+		}
+
+		InputStream second = decoder.decode(new ByteArrayInputStream(gzip(TEXT)), "gzip");
+		assertEquals(0, decoder.getPooledBufferCount());
+		assertArrayEquals(TEXT, readFully(second));
+		second.close();
+		assertEquals(1, decoder.getPooledBufferCount());
+		assertArrayEquals(RANDOM, decode(gzip(RANDOM), "gzip", Integer.MAX_VALUE));
+		assertEquals(1, decoder.getPooledBufferCount());
+	}
+
+	@Test
+	public void testBufferReturnedOnBadHeader() throws IOException {
+		try {
+			decoder.decode(new ByteArrayInputStream(new byte[] { 1, 2, 3 }), "gzip");
+			fail("Expected a bad gzip header");
+		} catch (ZipException e) {
+			// expected
+		}
+		assertEquals(1, decoder.getPooledBufferCount());
+	}
+
+	/**
+	 * Decodes the body read at most <code>chunk</code> bytes at a time, and
+	 * checks that the pooled buffer is returned.
+	 */
+	private byte[] decode(byte[] body, String encoding, int chunk) throws IOException {
+		InputStream in = decoder.decode(new ChunkedInputStream(body, chunk), encoding);
+		try {
+			if (chunk == 1) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				int b;
+				while ((b = in.read()) != -1) {
+					out.write(b);
+				}
+				return out.toByteArray();
+			}
+			return readFully(in);
+		} finally {
+			in.close();
+			assertEquals(1, decoder.getPooledBufferCount());
+		}
+	}
+
+	private static byte[] readFully(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[700];
+		int n;
+		while ((n = in.read(buffer)) != -1) {
+			out.write(buffer, 0, n);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] gzip(byte[] data) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		GZIPOutputStream gzip = new GZIPOutputStream(out);
+		gzip.write(data);
+		gzip.close();
+		return out.toByteArray();
+	}
+
+	private static byte[] deflate(byte[] data, boolean raw) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DeflaterOutputStream deflate = new DeflaterOutputStream(out, new Deflater(Deflater.DEFAULT_COMPRESSION, raw));
+		deflate.write(data);
+		deflate.close();
+		return out.toByteArray();
+	}
+
+	private static byte[] text(int length) {
+		byte[] text = new byte[length];
+		for (int i = 0; i < length; i++) {
+			text[i] = (byte) ('a' + i % 7 + i / 100 % 3);
+		}
+		return text;
+	}
+
+	private static byte[] random(int length) {
+		byte[] bytes = new byte[length];
+		new Random(17).nextBytes(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Body returning at most <code>chunk</code> bytes per read.
+	 */
+	private static final class ChunkedInputStream extends ByteArrayInputStream {
+
+		private final int chunk;
+
+		ChunkedInputStream(byte[] bytes, int chunk) {
+			super(bytes);
+			this.chunk = chunk;
+		}
+
+		@Override
+		public synchronized int read(byte[] b, int off, int len) {
+			return super.read(b, off, Math.min(len, chunk));
+		}
+	}
+}
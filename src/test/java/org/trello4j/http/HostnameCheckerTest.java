@@ -0,0 +1,89 @@
+package org.trello4j.http;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+
+import org.junit.Test;
+
+public class HostnameCheckerTest {
+
+	/** CN=cn.example.com, SAN dns:api.trello.com, dns:*.trello.net, ip:127.0.0.1 */
+	private static final String SAN_CERTIFICATE = "-----BEGIN CERTIFICATE-----\n"
+			+ "MIIBlzCCAT6gAwIBAgIIHNtEpF/Wi9QwCgYIKoZIzj0EAwIwKDENMAsGA1UEChME\n"
+			+ "VGVzdDEXMBUGA1UEAxMOY24uZXhhbXBsZS5jb20wIBcNMjYxMDE3MTg0NjA3WhgP\n"
+			+ "MjEyNjA5MjMxODQ2MDdaMCgxDTALBgNVBAoTBFRlc3QxFzAVBgNVBAMTDmNuLmV4\n"
+			+ "YW1wbGUuY29tMFkwEwYHKoZIzj0CAQYIKoZIzj0DAQcDQgAErn2zBOPc7Vr72rm2\n"
+			+ "vc+pYKUV28b9ZRuCaTzgHoDPFmpCjtusVUiX2hKBEUi+vSJn5q0DVlyWMveF0/0f\n"
+			+ "JHSOT6NQME4wHQYDVR0OBBYEFDg5wfindgBSvXy6C1dugJuI89J6MC0GA1UdEQQm\n"
+			+ "MCSCDmFwaS50cmVsbG8uY29tggwqLnRyZWxsby5uZXSHBH8AAAEwCgYIKoZIzj0E\n"
+			+ "AwIDRwAwRAIgJKY7NdGczvb9jzIoPQmx1ZuJ/HNAQsLqhWu8oojxzVACIAidl64/\n"
+			+ "B8sBgSbPhSswM4L5V7Oaggzgs5oxD9Qfc36a\n"
+			+ "-----END CERTIFICATE-----\n";
+
+	/** CN=outer.example.com, OU=x, CN=api.trello.com, no SAN */
+	private static final String CN_CERTIFICATE = "-----BEGIN CERTIFICATE-----\n"
+			+ "MIIBmzCCAUGgAwIBAgIIY8DPmEcZsNUwCgYIKoZIzj0EAwIwQTEXMBUGA1UEAxMO\n"
+			+ "YXBpLnRyZWxsby5jb20xCjAIBgNVBAsTAXgxGjAYBgNVBAMTEW91dGVyLmV4YW1w\n"
+			+ "bGUuY29tMCAXDTI2MTAxNzE4NDYwOVoYDzIxMjYwOTIzMTg0NjA5WjBBMRcwFQYD\n"
+			+ "VQQDEw5hcGkudHJlbGxvLmNvbTEKMAgGA1UECxMBeDEaMBgGA1UEAxMRb3V0ZXIu\n"
+			+ "ZXhhbXBsZS5jb20wWTATBgcqhkjOPQIBBggqhkjOPQMBBwNCAAQ4Nj0XpHlbAipt\n"
+			+ "VEUa8XVzp6+LEcLDGP7QlwY4L/2ARC4p71RKcwPJ4kzQTiLMeOZsaz4e3EzmV17H\n"
+			+ "pQd2A9lJoyEwHzAdBgNVHQ4EFgQUBVXPwtMZPWKM9ryWAS4/DsyOGDwwCgYIKoZI\n"
+			+ "zj0EAwIDSAAwRQIhAKD1gXgWbjIRonwoLD7ig6HSB2uC7DEGK+qJuwvou6FvAiBk\n"
+			+ "FQl5j6M7xiYof6yUMLe0XwjWtwr1Vh+D8Q6ppJgPqQ==\n"
+			+ "-----END CERTIFICATE-----\n";
+
+	@Test
+	public void testExactNames() {
+		assertTrue(HostnameChecker.matches("api.trello.com", "api.trello.com"));
+		assertTrue(HostnameChecker.matches("API.Trello.com.", "api.trello.com"));
+		assertFalse(HostnameChecker.matches("trello.com", "api.trello.com"));
+		assertFalse(HostnameChecker.matches("", ""));
+	}
+
+	@Test
+	public void testWildcards() {
+		assertTrue(HostnameChecker.matches("api.trello.com", "*.trello.com"));
+		assertFalse(HostnameChecker.matches("trello.com", "*.trello.com"));
+		assertFalse(HostnameChecker.matches("a.api.trello.com", "*.trello.com"));
+		assertFalse(HostnameChecker.matches("example.com", "*.com"));
+		assertFalse(HostnameChecker.matches("api.trello.com", "a*.trello.com"));
+		assertFalse(HostnameChecker.matches("api.trello.com", "*.*.com"));
+	}
+
+	@Test
+	public void testSubjectAlternativeNames() throws Exception {
+		X509Certificate certificate = certificate(SAN_CERTIFICATE);
+		assertTrue(HostnameChecker.matches("api.trello.com", certificate));
+		assertTrue(HostnameChecker.matches("x.trello.net", certificate));
+		assertTrue(HostnameChecker.matches("127.0.0.1", certificate));
+		// the common name is ignored when there are DNS names
+		assertFalse(HostnameChecker.matches("cn.example.com", certificate));
+		assertFalse(HostnameChecker.matches("127.0.0.2", certificate));
+		assertFalse(HostnameChecker.matches("trello.com", certificate));
+	}
+
+	@Test
+	public void testMostSpecificCommonName() throws Exception {
+		X509Certificate certificate = certificate(CN_CERTIFICATE);
+		assertTrue(HostnameChecker.matches("outer.example.com", certificate));
+		assertFalse(HostnameChecker.matches("api.trello.com", certificate));
+	}
+
+	@Test
+	public void testIpAddresses() {
+		assertTrue(HostnameChecker.isIpAddress("10.0.0.1"));
+		assertTrue(HostnameChecker.isIpAddress("::1"));
+		assertTrue(HostnameChecker.isIpAddress("[::1]"));
+		assertFalse(HostnameChecker.isIpAddress("api.trello.com"));
+	}
+
+	private static X509Certificate certificate(String pem) throws Exception {
+		return (X509Certificate) CertificateFactory.getInstance("X.509")
+				.generateCertificate(new ByteArrayInputStream(pem.getBytes("US-ASCII")));
+	}
+}
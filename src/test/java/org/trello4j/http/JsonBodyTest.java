@@ -0,0 +1,73 @@
+package org.trello4j.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.trello4j.TrelloObjectFactoryImpl;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+public class JsonBodyTest {
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void testSameAsGson() throws IOException {
+		assertWrittenAsGson("plain");
+		assertWrittenAsGson("\u00e9t\u00e9 \u20ac \ud83d\ude00");
+		// unpaired surrogates, in the middle and at the end
+		assertWrittenAsGson("a\uD83Db\uDE00c");
+		assertWrittenAsGson("a\uD83D");
+		assertWrittenAsGson(null);
+		assertWrittenAsGson(Arrays.asList(1, 2, 3));
+	}
+
+	@Test
+	public void testLargerThanBuffer() throws IOException {
+		List<String> values = new ArrayList<String>();
+		for (int i = 0; i < 3000; i++) {
+			// crosses the buffer at every offset of the multi-byte sequences
+			values.add(i + "\u00e9\u20ac\ud83d\ude00");
+		}
+		assertWrittenAsGson(values);
+		// the writer of this thread is reused and starts empty
+		assertWrittenAsGson(values);
+		assertWrittenAsGson("short");
+	}
+
+	@Test
+	public void testHeaders() {
+		JsonBody body = new JsonBody("x", gson);
+		assertEquals(JsonBody.CONTENT_TYPE, body.getContentType());
+		assertEquals(-1, body.getContentLength());
+	}
+
+	@Test
+	public void testFactoryGson() throws IOException {
+		JsonBody body = new TrelloObjectFactoryImpl().createJsonBody(Arrays.asList(new Date(0)),
+				new TypeToken<List<Date>>() {
+				});
+		assertEquals("[\"1970-01-01T00:00:00.000Z\"]", write(body));
+	}
+
+	private void assertWrittenAsGson(Object value) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new JsonBody(value, gson).writeTo(out);
+		assertArrayEquals(gson.toJson(value).getBytes("UTF-8"), out.toByteArray());
+	}
+
+	private static String write(JsonBody body) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		body.writeTo(out);
+		return out.toString("UTF-8");
+	}
+}
@@ -0,0 +1,418 @@
+package org.trello4j.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+/**
+ * Framing of request and response bodies, against a server answering each
+ * request with the next scripted response.
+ */
+public class PooledTransportTest {
+
+	private ScriptedServer server;
+
+	private ConnectionPool pool;
+
+	private PooledTransport transport;
+
+	@Before
+	public void start() throws IOException {
+		server = new ScriptedServer();
+		pool = new ConnectionPool();
+		transport = new PooledTransport(pool);
+	}
+
+	@After
+	public void stop() throws IOException {
+		pool.close();
+		server.close();
+	}
+
+	@Test
+	public void testFixedLength() throws IOException {
+		server.respond("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nhello");
+		server.respond("HTTP/1.1 200 OK\r\ncontent-length: 0\r\n\r\n");
+		assertEquals("hello", get());
+		assertEquals("", get());
+		assertEquals(1, server.connections());
+	}
+
+	@Test
+	public void testChunked() throws IOException {
+		server.respond("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n"
+				+ "5;name=value\r\nhello\r\nA\r\n and more \r\n1 \r\n!\r\n0\r\nX-Trailer: t\r\n\r\n");
+		server.respond("HTTP/1.1 200 OK\r\nContent-Length: 4\r\n\r\nnext");
+		assertEquals("hello and more !", get());
+		// the trailers were consumed, the next response is read from the start
+		assertEquals("next", get());
+		assertEquals(1, server.connections());
+	}
+
+	@Test
+	public void testUnreadBodyIsDrained() throws IOException {
+		server.respond("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n3\r\nabc\r\n3\r\ndef\r\n0\r\n\r\n");
+		server.respond("HTTP/1.1 200 OK\r\nContent-Length: 4\r\n\r\nnext");
+		TrelloResponse response = execute(new TrelloRequest(TrelloRequest.METHOD_GET, server.url()));
+		assertEquals('a', response.getBody().read());
+		response.close();
+		assertEquals("next", get());
+		assertEquals(1, server.connections());
+	}
+
+	@Test
+	public void testTruncatedBody() throws IOException {
+		server.respondAndClose("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\nabc");
+		server.respond("HTTP/1.1 200 OK\r\nContent-Length: 4\r\n\r\nnext");
+		try {
+			get();
+			fail("Expected the end of the body");
+		} catch (EOFException e) {
+			// expected
+		}
+		assertEquals("next", get());
+		assertEquals(2, server.connections());
+	}
+
+	@Test
+	public void testTruncatedChunk() throws IOException {
+		server.respondAndClose("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n10\r\nabc");
+		try {
+			get();
+			fail("Expected the end of the body");
+		} catch (EOFException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidChunkSize() throws IOException {
+		server.respond("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\nxyz\r\nabc\r\n0\r\n\r\n");
+		get();
+	}
+
+	@Test
+	public void testUntilClose() throws IOException {
+		server.respondAndClose("HTTP/1.1 200 OK\r\nConnection: close\r\n\r\nuntil close");
+		server.respond("HTTP/1.1 204 No Content\r\n\r\n");
+		assertEquals("until close", get());
+		assertEquals("", get());
+		assertEquals(2, server.connections());
+	}
+
+	@Test
+	public void testPostAfterServerClosedConnection() throws Exception {
+		// keep-alive as far as the client can tell, then closed by the server
+		server.respondAndClose("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok");
+		server.respond("HTTP/1.1 201 Created\r\nContent-Length: 0\r\n\r\n");
+		assertEquals("ok", get());
+		server.awaitClosed(1);
+		assertEquals(1, pool.getIdleConnectionCount());
+
+		TrelloResponse response = execute(new TrelloRequest(TrelloRequest.METHOD_POST, server.url())
+				.body(new Body(bytes(10), true)));
+		response.close();
+		assertEquals(201, response.getStatusCode());
+		assertEquals(2, server.connections());
+		// sent once, on the new connection
+		assertEquals(2, server.bodies.size());
+	}
+
+	@Test
+	public void testFixedLengthRequestBody() throws IOException {
+		server.respond("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n");
+		byte[] body = bytes(100);
+		execute(new TrelloRequest(TrelloRequest.METHOD_POST, server.url()).body(new Body(body, true))).close();
+		assertTrue(server.heads.get(0).contains("\r\nContent-Length: 100\r\n"));
+		assertArrayEquals(body, server.bodies.get(0));
+	}
+
+	@Test
+	public void testChunkedRequestBody() throws IOException {
+		server.respond("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n");
+		server.respond("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n");
+		// more than two chunks of the transport
+		byte[] body = bytes(20000);
+		execute(new TrelloRequest(TrelloRequest.METHOD_PUT, server.url()).body(new Body(body, false))).close();
+		execute(new TrelloRequest(TrelloRequest.METHOD_PUT, server.url()).body(new Body(new byte[0], false))).close();
+		assertTrue(server.heads.get(0).contains("\r\nTransfer-Encoding: chunked\r\n"));
+		assertArrayEquals(body, server.bodies.get(0));
+		assertArrayEquals(new byte[0], server.bodies.get(1));
+		assertEquals(1, server.connections());
+	}
+
+	@Test
+	public void testJsonRequestBody() throws IOException {
+		server.respond("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n");
+		execute(new TrelloRequest(TrelloRequest.METHOD_POST, server.url()).body(
+				new JsonBody(Collections.singletonMap("name", "\u00e9"), new Gson()))).close();
+		assertTrue(server.heads.get(0).contains("\r\nContent-Type: " + JsonBody.CONTENT_TYPE + "\r\n"));
+		assertTrue(server.heads.get(0).contains("\r\nTransfer-Encoding: chunked\r\n"));
+		assertEquals("{\"name\":\"\u00e9\"}", new String(server.bodies.get(0), "UTF-8"));
+	}
+
+	@Test
+	public void testChunkedOutputStream() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ChunkedOutputStream chunked = new ChunkedOutputStream(out, 4);
+		chunked.write('a');
+		chunked.write("bcdefghij".getBytes("US-ASCII"), 0, 9);
+		chunked.write("0123456789abcdef".getBytes("US-ASCII"), 10, 6);
+		chunked.finish();
+		assertEquals("4\r\nabcd\r\n4\r\nefgh\r\n4\r\nijab\r\n4\r\ncdef\r\n0\r\n\r\n", out.toString("US-ASCII"));
+
+		out.reset();
+		new ChunkedOutputStream(out, 4).finish();
+		assertEquals("0\r\n\r\n", out.toString("US-ASCII"));
+	}
+
+	private String get() throws IOException {
+		TrelloResponse response = execute(new TrelloRequest(TrelloRequest.METHOD_GET, server.url()));
+		try {
+			return new String(read(response.getBody()), "UTF-8");
+		} finally {
+			response.close();
+		}
+	}
+
+	private TrelloResponse execute(TrelloRequest request) throws IOException {
+		return transport.execute(request.readTimeout(5000));
+	}
+
+	private static byte[] bytes(int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) (i * 31);
+		}
+		return bytes;
+	}
+
+	private static byte[] read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1024];
+		int n;
+		while ((n = in.read(buffer)) != -1) {
+			out.write(buffer, 0, n);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Body of a known or unknown length.
+	 */
+	private static final class Body implements RequestBody {
+
+		private final byte[] bytes;
+
+		private final boolean known;
+
+		Body(byte[] bytes, boolean known) {
+			this.bytes = bytes;
+			this.known = known;
+		}
+
+		public String getContentType() {
+			return "application/octet-stream";
+		}
+
+		public long getContentLength() {
+			return known ? bytes.length : -1;
+		}
+
+		public void writeTo(OutputStream out) throws IOException {
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * Serves the scripted responses in order over any number of
+	 * connections, recording the heads and the decoded bodies of the
+	 * requests.
+	 */
+	private static final class ScriptedServer implements Runnable {
+
+		final List<String> heads = Collections.synchronizedList(new ArrayList<String>());
+
+		final List<byte[]> bodies = Collections.synchronizedList(new ArrayList<byte[]>());
+
+		private final LinkedList<String> responses = new LinkedList<String>();
+
+		private final LinkedList<Boolean> closes = new LinkedList<Boolean>();
+
+		private final ServerSocket serverSocket;
+
+		private int connections;
+
+		private int closed;
+
+		ScriptedServer() throws IOException {
+			serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+			Thread thread = new Thread(this, "scripted-server");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		String url() {
+			return "http://127.0.0.1:" + serverSocket.getLocalPort() + "/1/test";
+		}
+
+		synchronized void respond(String response) {
+			responses.add(response);
+			closes.add(Boolean.FALSE);
+		}
+
+		synchronized void respondAndClose(String response) {
+			responses.add(response);
+			closes.add(Boolean.TRUE);
+		}
+
+		synchronized int connections() {
+			return connections;
+		}
+
+		/**
+		 * Waits until the server has closed the given number of connections.
+		 */
+		synchronized void awaitClosed(int count) throws InterruptedException {
+			long end = System.currentTimeMillis() + 5000;
+			while (closed < count && System.currentTimeMillis() < end) {
+				wait(end - System.currentTimeMillis());
+			}
+			assertEquals(count, closed);
+		}
+
+		public void run() {
+			while (!serverSocket.isClosed()) {
+				final Socket socket;
+				try {
+					socket = serverSocket.accept();
+				} catch (IOException e) {
+					return;
+				}
+				synchronized (this) {
+					connections++;
+				}
+				Thread thread = new Thread(new Runnable() {
+					public void run() {
+						serve(socket);
+					}
+				}, "scripted-connection");
+				thread.setDaemon(true);
+				thread.start();
+			}
+		}
+
+		private void serve(Socket socket) {
+			try {
+				InputStream in = socket.getInputStream();
+				OutputStream out = socket.getOutputStream();
+				String head;
+				while ((head = readHead(in)) != null) {
+					heads.add(head);
+					bodies.add(readBody(in, head));
+					String response;
+					boolean close;
+					synchronized (this) {
+						response = responses.removeFirst();
+						close = closes.removeFirst().booleanValue();
+					}
+					out.write(response.getBytes("ISO-8859-1"));
+					out.flush();
+					if (close) {
+						break;
+					}
+				}
+			} catch (IOException e) {
+				// the client went away
+			} finally {
+				try {
+					socket.close();
+				} catch (IOException e) {
+					// ignored
+				}
+				synchronized (this) {
+					closed++;
+					notifyAll();
+				}
+			}
+		}
+
+		void close() throws IOException {
+			serverSocket.close();
+		}
+
+		private static String readHead(InputStream in) throws IOException {
+			StringBuilder sb = new StringBuilder();
+			int c;
+			while ((c = in.read()) != -1) {
+				sb.append((char) c);
+				if (sb.length() >= 4 && sb.lastIndexOf("\r\n\r\n") == sb.length() - 4) {
+					return sb.toString();
+				}
+			}
+			return null;
+		}
+
+		private static byte[] readBody(InputStream in, String head) throws IOException {
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			String lower = head.toLowerCase();
+			int index = lower.indexOf("\r\ncontent-length:");
+			if (index != -1) {
+				int end = lower.indexOf("\r\n", index + 2);
+				copy(in, body, Integer.parseInt(head.substring(index + 17, end).trim()));
+			} else if (lower.contains("\r\ntransfer-encoding: chunked\r\n")) {
+				int size;
+				while ((size = Integer.parseInt(readLine(in), 16)) > 0) {
+					copy(in, body, size);
+					readLine(in);
+				}
+				readLine(in);
+			}
+			return body.toByteArray();
+		}
+
+		private static String readLine(InputStream in) throws IOException {
+			StringBuilder sb = new StringBuilder();
+			int c;
+			while ((c = in.read()) != '\n') {
+				if (c == -1) {
+					throw new EOFException();
+				}
+				if (c != '\r') {
+					sb.append((char) c);
+				}
+			}
+			return sb.toString();
+		}
+
+		private static void copy(InputStream in, OutputStream out, int length) throws IOException {
+			for (int i = 0; i < length; i++) {
+				int c = in.read();
+				if (c == -1) {
+					throw new EOFException();
+				}
+				out.write(c);
+			}
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package org.trello4j.http;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+
+import org.junit.Test;
+
+public class RetryPolicyTest {
+
+	private static final String URL = "https://api.trello.com/1/boards/b1";
+
+	private final TrelloRequest get = new TrelloRequest(TrelloRequest.METHOD_GET, URL);
+
+	private final TrelloRequest post = new TrelloRequest(TrelloRequest.METHOD_POST, URL);
+
+	@Test
+	public void testBackoffBounds() {
+		RetryPolicy policy = new RetryPolicy().withBackoff(100, 1000);
+		for (int attempt = 1; attempt <= 64; attempt++) {
+			long ceiling = Math.min(1000, attempt > 10 ? 1000 : 100L << (attempt - 1));
+			long max = 0;
+			for (int i = 0; i < 200; i++) {
+				long delay = policy.getDelayMillis(attempt);
+				assertTrue("attempt " + attempt + ": " + delay, delay >= 0 && delay < ceiling);
+				max = Math.max(max, delay);
+			}
+			// jittered over the whole range, not stuck at the low end
+			assertTrue("attempt " + attempt + ": " + max, max >= ceiling / 2);
+		}
+		// no overflow of the doubled delay
+		assertTrue(new RetryPolicy().withBackoff(1L << 40, 1000).getDelayMillis(30) < 1000);
+		assertEquals(0, new RetryPolicy().withBackoff(0, 1000).getDelayMillis(3));
+		assertEquals(0, RetryPolicy.NONE.getDelayMillis(1));
+	}
+
+	@Test
+	public void testBudget() {
+		RetryBudget budget = new RetryBudget(0.5, 2);
+		assertTrue(budget.tryWithdraw());
+		assertTrue(budget.tryWithdraw());
+		assertFalse(budget.tryWithdraw());
+		budget.deposit();
+		assertFalse(budget.tryWithdraw());
+		budget.deposit();
+		assertTrue(budget.tryWithdraw());
+		assertFalse(budget.tryWithdraw());
+
+		// capped at the start plus the deposits of 1000 requests
+		for (int i = 0; i < 5000; i++) {
+			budget.deposit();
+		}
+		assertEquals(502, budget.getBalance(), 0);
+	}
+
+	@Test
+	public void testBudgetExhausted() {
+		RetryPolicy policy = new RetryPolicy().withMaxAttempts(10).withBudget(new RetryBudget(0, 1));
+		assertTrue(policy.shouldRetry(get, 1, 503));
+		// the call has attempts left, the budget has none
+		assertFalse(policy.shouldRetry(get, 2, 503));
+		assertFalse(policy.shouldRetry(get, 1, new SocketTimeoutException()));
+	}
+
+	@Test
+	public void testMaxAttempts() {
+		RetryPolicy policy = new RetryPolicy().withMaxAttempts(3);
+		assertTrue(policy.shouldRetry(get, 2, 500));
+		assertFalse(policy.shouldRetry(get, 3, 500));
+		assertFalse(policy.shouldRetry(get, 1, 501));
+		assertFalse(policy.shouldRetry(get, 1, 404));
+		assertFalse(RetryPolicy.NONE.shouldRetry(get, 1, 503));
+	}
+
+	@Test
+	public void testNonIdempotentNotRetried() {
+		RetryBudget budget = new RetryBudget(0, 10);
+		RetryPolicy policy = new RetryPolicy().withBudget(budget);
+		assertFalse(policy.shouldRetry(post, 1, 503));
+		assertFalse(policy.shouldRetry(post, 1, new IOException("reset")));
+		assertFalse(policy.shouldRetry(post, 1, new SocketTimeoutException()));
+		// nothing taken from the budget for calls not retried
+		assertEquals(10, budget.getBalance(), 0);
+
+		// never sent
+		assertTrue(policy.shouldRetry(post, 1, new ConnectException()));
+		RetryPolicy optIn = policy.withNonIdempotentRetries(true);
+		assertTrue(optIn.shouldRetry(post, 1, 503));
+		assertTrue(optIn.shouldRetry(post, 1, new IOException("reset")));
+		assertEquals(7, budget.getBalance(), 0);
+	}
+}
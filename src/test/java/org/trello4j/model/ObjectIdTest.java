@@ -0,0 +1,192 @@
+package org.trello4j.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.trello4j.gson.ModelTypeAdapterFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+public class ObjectIdTest {
+
+	private static final String ID = "4eea4ffc91e31d1746000046";
+
+	private static final String MAX_ID = "ffffffffffffffffffffffff";
+
+	@Test
+	public void testRoundTrip() {
+		for (String id : new String[] { ID, MAX_ID, "000000000000000000000000", "8000000000000000800000ff" }) {
+			ObjectId objectId = ObjectId.parse(id);
+			assertEquals(id, objectId.toString());
+			assertEquals(objectId, new ObjectId(objectId.getHigh(), objectId.getLow()));
+			assertTrue(ObjectId.isPackable(id));
+		}
+		assertEquals(-1L, ObjectId.parse(MAX_ID).getHigh());
+		assertEquals(-1, ObjectId.parse(MAX_ID).getLow());
+	}
+
+	@Test
+	public void testUpperCase() {
+		String upper = ID.toUpperCase();
+		// a valid id, but toString() would not give it back
+		assertFalse(ObjectId.isPackable(upper));
+		assertEquals(ObjectId.parse(ID), ObjectId.parse(upper));
+		assertEquals(ID, ObjectId.parse(upper).toString());
+	}
+
+	@Test
+	public void testInvalidIds() {
+		for (String id : new String[] { null, "", "4eea4ffc91e31d174600004", "4eea4ffc91e31d17460000460",
+				"4eea4ffc91e31d174600004g", "4eea4ffc-1e31d1746000046" }) {
+			assertFalse(id, ObjectId.isPackable(id));
+			try {
+				ObjectId.parse(id);
+				fail("Expected an invalid id: " + id);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testCompareUnsigned() {
+		ObjectId low = ObjectId.parse("7fffffffffffffff7fffffff");
+		ObjectId high = ObjectId.parse("8000000000000000ffffffff");
+		assertTrue(low.compareTo(high) < 0);
+		assertTrue(high.compareTo(low) > 0);
+		assertTrue(ObjectId.parse("00000000000000007fffffff").compareTo(
+				ObjectId.parse("000000000000000080000000")) < 0);
+		assertEquals(0, low.compareTo(ObjectId.parse("7fffffffffffffff7fffffff")));
+		assertEquals(low.hashCode(), ObjectId.parse("7fffffffffffffff7fffffff").hashCode());
+	}
+
+	@Test
+	public void testList() {
+		ObjectIdList ids = new ObjectIdList(1);
+		ids.add(ID);
+		ids.add(MAX_ID);
+		ids.add(1, "000000000000000000000001");
+		assertEquals(Arrays.asList(ID, "000000000000000000000001", MAX_ID), ids);
+		assertEquals(2, ids.indexOf(MAX_ID));
+		assertEquals(-1, ids.indexOf(MAX_ID.toUpperCase()));
+		assertFalse(ids.contains(null));
+		assertEquals("000000000000000000000001", ids.set(1, ID));
+		assertEquals(ID, ids.remove(1));
+		ids.trimToSize();
+		assertEquals(Arrays.asList(ID, MAX_ID), ids);
+		assertEquals(ObjectId.parse(MAX_ID), ids.getObjectId(1));
+	}
+
+	@Test
+	public void testListFallsBack() {
+		for (String id : new String[] { null, ID.toUpperCase(), "b1" }) {
+			ObjectIdList ids = new ObjectIdList();
+			ids.add(ID);
+			ids.add(id);
+			ids.add(MAX_ID);
+			assertEquals(Arrays.asList(ID, id, MAX_ID), ids);
+			assertEquals(1, ids.indexOf(id));
+			assertEquals(ObjectId.parse(ID), ids.getObjectId(0));
+			assertEquals(ObjectId.parse(MAX_ID), ids.getObjectId(2));
+			assertEquals(id, ids.set(1, ID));
+			assertEquals(MAX_ID, ids.remove(2));
+			assertEquals(Arrays.asList(ID, ID), ids);
+		}
+		ObjectIdList ids = new ObjectIdList();
+		ids.add(ID);
+		assertEquals(ID, ids.set(0, "b1"));
+		assertTrue(ids.addAll(Arrays.asList(ID, null)));
+		assertEquals(Arrays.asList("b1", ID, null), ids);
+		assertNull(ids.getObjectId(0));
+		assertNull(ids.getObjectId(2));
+		ids.trimToSize();
+		assertEquals(3, ids.size());
+	}
+
+	@Test
+	public void testModelLists() {
+		Card card = new Card();
+		card.setIdMembers(Arrays.asList(ID));
+		assertTrue(card.getIdMembers() instanceof ObjectIdList);
+		card.getIdMembers().add(ID.toUpperCase());
+		card.getIdMembers().add(null);
+		assertEquals(Arrays.asList(ID, ID.toUpperCase(), null), card.getIdMembers());
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testDeprecatedIdField() {
+		Card card = new Card() {
+			{
+				setId(ID);
+				id = "b1";
+			}
+		};
+		assertEquals("b1", card.getId());
+		assertNull(card.getObjectId());
+	}
+
+	@Test
+	public void testCopyOf() {
+		List<String> ids = new ArrayList<String>(Arrays.asList(ID, MAX_ID));
+		List<String> copy = ObjectIdList.copyOf(ids);
+		assertTrue(copy instanceof ObjectIdList);
+		assertEquals(ids, copy);
+		assertSame(copy, ObjectIdList.copyOf(copy));
+		assertNull(ObjectIdList.copyOf(null));
+
+		// kept as they are when they cannot be given back unchanged
+		for (String id : new String[] { ID.toUpperCase(), null, "b1" }) {
+			List<String> mixed = new ArrayList<String>(Arrays.asList(ID, id));
+			assertSame(mixed, ObjectIdList.copyOf(mixed));
+		}
+	}
+
+	@Test
+	public void testModelIds() {
+		Card card = new Card();
+		for (String id : new String[] { ID, ID.toUpperCase(), "b1", null }) {
+			card.setId(id);
+			card.setIdBoard(id);
+			card.setIdList(id);
+			assertEquals(id, card.getId());
+			assertEquals(id, card.getIdBoard());
+			assertEquals(id, card.getIdList());
+		}
+		card.setId(ID.toUpperCase());
+		assertEquals(ObjectId.parse(ID), card.getObjectId());
+		card.setId("b1");
+		assertNull(card.getObjectId());
+		card.setObjectId(ObjectId.parse(MAX_ID));
+		assertEquals(MAX_ID, card.getId());
+	}
+
+	@Test
+	public void testJsonRoundTrip() {
+		Gson gson = new GsonBuilder().registerTypeAdapterFactory(new ModelTypeAdapterFactory()).create();
+		String json = "{\"id\":\"" + ID.toUpperCase() + "\",\"idBoard\":\"" + ID + "\",\"idMembers\":[\"" + ID
+				+ "\",\"" + MAX_ID + "\"],\"idChecklists\":[\"" + ID + "\",\"" + ID.toUpperCase() + "\",null]}";
+		Card card = gson.fromJson(json, Card.class);
+		assertEquals(ID.toUpperCase(), card.getId());
+		assertEquals(ID, card.getIdBoard());
+		assertTrue(card.getIdMembers() instanceof ObjectIdList);
+		assertEquals(Arrays.asList(ID, MAX_ID), card.getIdMembers());
+		assertFalse(card.getIdChecklists() instanceof ObjectIdList);
+		assertEquals(Arrays.asList(ID, ID.toUpperCase(), null), card.getIdChecklists());
+
+		Card copy = gson.fromJson(gson.toJson(card), Card.class);
+		assertEquals(card.getId(), copy.getId());
+		assertEquals(card.getIdMembers(), copy.getIdMembers());
+		assertEquals(card.getIdChecklists(), copy.getIdChecklists());
+	}
+}
@@ -0,0 +1,82 @@
+package org.trello4j.ratelimit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Runs against a bucket of 10 permits refilled once a day, so no permits come
+ * back while a test runs; 2 of them are reserved for interactive calls.
+ */
+public class RequestSchedulerTest {
+
+	private final RateLimiter limiter = new RateLimiter(new TokenBucket(10, 1, TimeUnit.DAYS), null);
+
+	private final RequestScheduler scheduler = new RequestScheduler(limiter, 4, 1, 0.2);
+
+	@Test
+	public void testBackgroundLeavesReserve() throws InterruptedException {
+		drainTo(3);
+		assertTrue(scheduler.acquire(RequestPriority.BACKGROUND, 1000));
+		assertEquals(2, limiter.getAvailablePermits());
+		// held back until its timeout, although the limiter has permits
+		assertFalse(scheduler.acquire(RequestPriority.BACKGROUND, 100));
+		assertEquals(0, scheduler.getQueueLength(RequestPriority.BACKGROUND));
+		assertTrue(scheduler.acquire(RequestPriority.INTERACTIVE, 1000));
+		assertTrue(scheduler.acquire(RequestPriority.INTERACTIVE, 1000));
+		assertEquals(0, limiter.getAvailablePermits());
+	}
+
+	@Test
+	public void testInteractiveAheadOfQueuedBackground() throws InterruptedException {
+		drainTo(2);
+		Waiter[] background = { new Waiter(), new Waiter() };
+		for (Waiter waiter : background) {
+			waiter.start();
+		}
+		long deadline = System.currentTimeMillis() + 5000;
+		while (scheduler.getQueueLength(RequestPriority.BACKGROUND) < background.length) {
+			assertTrue("Background calls not queued", System.currentTimeMillis() < deadline);
+			Thread.sleep(5);
+		}
+		// queued after the background calls, served before them
+		assertTrue(scheduler.acquire(RequestPriority.INTERACTIVE, 1000));
+		assertTrue(scheduler.acquire(RequestPriority.INTERACTIVE, 1000));
+		assertEquals(0, limiter.getAvailablePermits());
+		assertEquals(background.length, scheduler.getQueueLength(RequestPriority.BACKGROUND));
+
+		for (Waiter waiter : background) {
+			waiter.interrupt();
+			waiter.join(5000);
+			assertTrue(waiter.cancelled);
+		}
+		assertEquals(0, scheduler.getQueueLength(RequestPriority.BACKGROUND));
+	}
+
+	private void drainTo(int permits) {
+		while (limiter.getAvailablePermits() > permits) {
+			assertTrue(limiter.tryAcquire());
+		}
+	}
+
+	/**
+	 * Waits for a background permit without a timeout.
+	 */
+	private class Waiter extends Thread {
+
+		volatile boolean cancelled;
+
+		@Override
+		public void run() {
+			try {
+				scheduler.acquire(RequestPriority.BACKGROUND, Long.MAX_VALUE);
+			} catch (InterruptedException e) {
+				cancelled = true;
+			}
+		}
+	}
+}
@@ -0,0 +1,258 @@
+package org.trello4j.httpclient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.trello4j.http.CancellationToken;
+import org.trello4j.http.RequestBody;
+import org.trello4j.http.TrelloRequest;
+import org.trello4j.http.TrelloResponse;
+import org.trello4j.http.TrelloTransport;
+
+/**
+ * {@link TrelloTransport} on top of the <code>java.net.http.HttpClient</code>
+ * of Java 11, negotiating HTTP/2 so that concurrent requests are multiplexed
+ * as streams over a few connections instead of one socket each.
+ * <p/>
+ * Shipped in the separate <code>trello4j-httpclient</code> artifact, which
+ * requires Java 11. Select it when creating the client:
+ *
+ * <pre>
+ * Trello trello = new TrelloImpl(apiKey, token, new HttpClientTransport());
+ * </pre>
+ *
+ * The connect timeout is a setting of the <code>HttpClient</code>; the read
+ * timeout and deadline of a request bound the wait for the response
+ * headers, and the deadline also bounds reading the body. Request bodies are
+ * buffered before sending, they are small form documents.
+ */
+public class HttpClientTransport implements TrelloTransport {
+
+	public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+	private final HttpClient client;
+
+	public HttpClientTransport() {
+		this(HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.connectTimeout(DEFAULT_CONNECT_TIMEOUT)
+				.build());
+	}
+
+	/**
+	 * @param client
+	 *            the client to send requests with, configured for proxies,
+	 *            executor or TLS as needed
+	 */
+	public HttpClientTransport(HttpClient client) {
+		if (client == null) {
+			throw new NullPointerException("HttpClient must be set");
+		}
+		this.client = client;
+	}
+
+	public HttpClient getHttpClient() {
+		return client;
+	}
+
+	@Override
+	public TrelloResponse execute(final TrelloRequest request) throws IOException {
+		checkCancelled(request);
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()))
+				.method(request.getMethod(), bodyPublisher(request));
+		int timeout = request.remainingTimeout(request.getReadTimeout());
+		if (timeout > 0) {
+			builder.timeout(Duration.ofMillis(timeout));
+		}
+		for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+			builder.header(header.getKey(), header.getValue());
+		}
+		if (request.getBody() != null) {
+			builder.header("Content-Type", request.getBody().getContentType());
+		}
+
+		final CompletableFuture<HttpResponse<InputStream>> exchange = client.sendAsync(
+				builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+		CancellationToken cancellation = request.getCancellation();
+		Closeable abortExchange = new Closeable() {
+			@Override
+			public void close() {
+				exchange.cancel(true);
+			}
+		};
+		if (cancellation != null && !cancellation.register(abortExchange)) {
+			exchange.cancel(true);
+			checkCancelled(request);
+		}
+		HttpResponse<InputStream> response;
+		try {
+			response = exchange.get();
+		} catch (ExecutionException e) {
+			throw toIOException(request, e.getCause());
+		} catch (CancellationException e) {
+			throw new InterruptedIOException("Request cancelled");
+		} catch (InterruptedException e) {
+			exchange.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted waiting for response");
+		} finally {
+			if (cancellation != null) {
+				cancellation.unregister(abortExchange);
+			}
+		}
+
+		BodyStream body = new BodyStream(response.body(), request);
+		if (cancellation != null && !cancellation.register(body)) {
+			body.close();
+			checkCancelled(request);
+		}
+		if (request.hasDeadline()) {
+			final BodyStream expiring = body;
+			CompletableFuture.delayedExecutor(request.getRemainingMillis(), TimeUnit.MILLISECONDS)
+					.execute(new Runnable() {
+						@Override
+						public void run() {
+							expiring.expire();
+						}
+					});
+		}
+		return new TrelloResponse(response.statusCode(), headers(response), body);
+	}
+
+	/**
+	 * Nothing to release, the connections of the <code>HttpClient</code> are
+	 * closed once it is no longer referenced.
+	 */
+	@Override
+	public void close() {
+	}
+
+	private static HttpRequest.BodyPublisher bodyPublisher(TrelloRequest request)
+			throws IOException {
+		RequestBody body = request.getBody();
+		if (body == null) {
+			return HttpRequest.BodyPublishers.noBody();
+		}
+		long length = body.getContentLength();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(length > 0 ? (int) length : 1024);
+		body.writeTo(buffer);
+		return HttpRequest.BodyPublishers.ofByteArray(buffer.toByteArray());
+	}
+
+	private static Map<String, List<String>> headers(HttpResponse<?> response) {
+		Map<String, List<String>> headers = new LinkedHashMap<String, List<String>>();
+		for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+			String name = header.getKey().toLowerCase(Locale.ENGLISH);
+			List<String> values = headers.get(name);
+			if (values == null) {
+				values = new ArrayList<String>(header.getValue().size());
+				headers.put(name, values);
+			}
+			values.addAll(header.getValue());
+		}
+		return headers;
+	}
+
+	private static IOException toIOException(TrelloRequest request, Throwable cause) {
+		if (request.isCancelled()) {
+			return new InterruptedIOException("Request cancelled");
+		}
+		if (cause instanceof HttpTimeoutException) {
+			SocketTimeoutException timeout = new SocketTimeoutException(cause.getMessage());
+			timeout.initCause(cause);
+			return timeout;
+		}
+		if (cause instanceof IOException) {
+			return (IOException) cause;
+		}
+		return new IOException(cause);
+	}
+
+	private static void checkCancelled(TrelloRequest request)
+			throws InterruptedIOException {
+		if (request.isCancelled()) {
+			throw new InterruptedIOException("Request cancelled");
+		}
+	}
+
+	/**
+	 * Response body that resets its stream when closed early, cancelled or
+	 * past the deadline of the request.
+	 */
+	private static final class BodyStream extends FilterInputStream {
+
+		private final TrelloRequest request;
+
+		private volatile boolean expired = false;
+
+		BodyStream(InputStream in, TrelloRequest request) {
+			super(in);
+			this.request = request;
+		}
+
+		void expire() {
+			expired = true;
+			try {
+				in.close();
+			} catch (IOException e) {
+				// the reader fails with a timeout
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			try {
+				return in.read();
+			} catch (IOException e) {
+				throw translate(e);
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			try {
+				return in.read(b, off, len);
+			} catch (IOException e) {
+				throw translate(e);
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			CancellationToken cancellation = request.getCancellation();
+			if (cancellation != null) {
+				cancellation.unregister(this);
+			}
+			in.close();
+		}
+
+		private IOException translate(IOException e) {
+			if (expired) {
+				SocketTimeoutException timeout = new SocketTimeoutException("Deadline exceeded");
+				timeout.initCause(e);
+				return timeout;
+			}
+			return e;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package org.trello4j.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.trello4j.http.CancellationToken;
+import org.trello4j.http.FormBody;
+import org.trello4j.http.TrelloRequest;
+import org.trello4j.http.TrelloResponse;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpClientTransportTest {
+
+	private HttpServer server;
+
+	private String baseUrl;
+
+	private final HttpClientTransport transport = new HttpClientTransport();
+
+	@Before
+	public void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/echo", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				byte[] request = read(exchange.getRequestBody());
+				String reply = exchange.getRequestMethod() + " "
+						+ exchange.getRequestHeaders().getFirst("Content-Type") + " "
+						+ new String(request, "UTF-8");
+				byte[] body = reply.getBytes("UTF-8");
+				exchange.getResponseHeaders().add("X-Trello-Test", "yes");
+				exchange.sendResponseHeaders(201, body.length);
+				exchange.getResponseBody().write(body);
+				exchange.close();
+			}
+		});
+		server.createContext("/slow", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				try {
+					Thread.sleep(2000);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				exchange.sendResponseHeaders(200, -1);
+				exchange.close();
+			}
+		});
+		server.start();
+		baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@After
+	public void stopServer() {
+		server.stop(0);
+	}
+
+	@Test
+	public void testGet() throws IOException {
+		TrelloResponse response = transport.execute(new TrelloRequest(TrelloRequest.METHOD_GET, baseUrl + "/echo"));
+		assertEquals(201, response.getStatusCode());
+		assertEquals("yes", response.getHeaders().get("x-trello-test").get(0));
+		assertEquals("GET null ", new String(read(response.getBody()), "UTF-8"));
+	}
+
+	@Test
+	public void testPostFormBody() throws IOException {
+		Map<String, String> params = new LinkedHashMap<String, String>();
+		params.put("name", "a card");
+		params.put("desc", "x&y");
+		TrelloResponse response = transport.execute(new TrelloRequest(TrelloRequest.METHOD_POST, baseUrl + "/echo")
+				.body(new FormBody(params)));
+		assertEquals("POST " + FormBody.CONTENT_TYPE + " name=a+card&desc=x%26y",
+				new String(read(response.getBody()), "UTF-8"));
+	}
+
+	@Test
+	public void testReadTimeout() throws IOException {
+		try {
+			transport.execute(new TrelloRequest(TrelloRequest.METHOD_GET, baseUrl + "/slow").readTimeout(200));
+			fail("Expected a timeout");
+		} catch (SocketTimeoutException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testDeadline() throws IOException {
+		long start = System.nanoTime();
+		try {
+			transport.execute(new TrelloRequest(TrelloRequest.METHOD_GET, baseUrl + "/slow")
+					.deadline(300, TimeUnit.MILLISECONDS));
+			fail("Expected a timeout");
+		} catch (SocketTimeoutException e) {
+			assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1500));
+		}
+	}
+
+	@Test
+	public void testCancelledBeforeSending() throws IOException {
+		CancellationToken cancellation = new CancellationToken();
+		cancellation.cancel();
+		try {
+			transport.execute(new TrelloRequest(TrelloRequest.METHOD_GET, baseUrl + "/echo")
+					.cancellation(cancellation));
+			fail("Expected cancellation");
+		} catch (InterruptedIOException e) {
+			// expected
+		}
+	}
+
+	private static byte[] read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1024];
+		int n;
+		while ((n = in.read(buffer)) != -1) {
+			out.write(buffer, 0, n);
+		}
+		in.close();
+		return out.toByteArray();
+	}
+}